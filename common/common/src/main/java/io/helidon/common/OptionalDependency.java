@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common;
+
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Utility for modules with an optional ({@code requires static}) dependency.
+ * <p>
+ * A module checks the presence of the dependency once, and keeps all references to the types of the dependency
+ * in a nested class that is only loaded when the dependency is present:
+ * <pre>
+ * private static final boolean METRICS_AVAILABLE =
+ *         OptionalDependency.isAvailable("io.helidon.metrics.api.RegistryFactory", MyMetrics.class);
+ * </pre>
+ */
+public final class OptionalDependency {
+    private static final Logger LOGGER = Logger.getLogger(OptionalDependency.class.getName());
+
+    private OptionalDependency() {
+    }
+
+    /**
+     * Check whether a class of an optional dependency can be loaded by the class loader of the caller.
+     * The class is not initialized.
+     *
+     * @param className fully qualified name of a class of the dependency
+     * @param caller    class of the module with the optional dependency
+     * @return {@code true} if the class is available
+     */
+    public static boolean isAvailable(String className, Class<?> caller) {
+        Objects.requireNonNull(className, "className is null");
+        Objects.requireNonNull(caller, "caller is null");
+        try {
+            Class.forName(className, false, caller.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            LOGGER.log(Level.FINEST, e, () -> className + " is not available to " + caller.getName());
+            return false;
+        }
+    }
+}
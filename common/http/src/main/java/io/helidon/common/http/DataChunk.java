@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,9 +18,13 @@ package io.helidon.common.http;
 
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+import io.helidon.common.reactive.Multi;
 
 /**
  * The DataChunk represents a part of the HTTP body content.
@@ -123,6 +127,49 @@ public interface DataChunk extends Iterable<ByteBuffer> {
         return new ByteBufferDataChunk(flush, readOnly, releaseCallback, byteBuffers);
     }
 
+    /**
+     * Combines consecutive data chunks into larger chunks, so a stream of many small chunks is processed
+     * (for example written to a bulk endpoint) in fewer, larger operations. No data is copied, a combined chunk
+     * references the buffers of the original chunks and releases all of them when released.
+     * <p>
+     * A combined chunk is closed once it holds at least {@code maxBytes} bytes, or {@code maxChunks} chunks.
+     * Back-pressure is honored, see {@link Multi#buffer(int, long, java.util.function.ToLongFunction)}.
+     * Chunks received but not yet combined when the stream fails or is canceled are released.
+     *
+     * @param chunks    publisher of data chunks
+     * @param maxChunks maximal number of chunks to combine
+     * @param maxBytes  number of bytes that closes a combined chunk once reached
+     * @return publisher of combined chunks
+     * @throws IllegalArgumentException if {@code maxChunks} or {@code maxBytes} is not positive
+     */
+    static Multi<DataChunk> batch(Flow.Publisher<DataChunk> chunks, int maxChunks, long maxBytes) {
+        return Multi.create(chunks)
+                .buffer(maxChunks, maxBytes, DataChunk::remaining, DataChunk::release)
+                .map(DataChunk::combine);
+    }
+
+    private static DataChunk combine(List<DataChunk> chunks) {
+        if (chunks.size() == 1) {
+            return chunks.get(0);
+        }
+        int count = 0;
+        boolean flush = false;
+        boolean readOnly = true;
+        for (DataChunk chunk : chunks) {
+            count += chunk.data().length;
+            flush |= chunk.flush();
+            readOnly &= chunk.isReadOnly();
+        }
+        ByteBuffer[] buffers = new ByteBuffer[count];
+        int index = 0;
+        for (DataChunk chunk : chunks) {
+            ByteBuffer[] data = chunk.data();
+            System.arraycopy(data, 0, buffers, index, data.length);
+            index += data.length;
+        }
+        return create(flush, readOnly, () -> chunks.forEach(DataChunk::release), buffers);
+    }
+
     /**
      * Returns a representation of this chunk as an array of ByteBuffer.
      * <p>
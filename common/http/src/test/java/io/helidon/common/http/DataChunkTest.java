@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,13 +18,22 @@ package io.helidon.common.http;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import io.helidon.common.reactive.Multi;
 
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * Unit test for {@link DataChunk}.
@@ -74,4 +83,40 @@ class DataChunkTest {
         chunk.release();
         assertThat(chunk.isReleased(), is(true));
     }
+
+    @Test
+    public void testBatch() {
+        AtomicInteger released = new AtomicInteger();
+        Multi<DataChunk> chunks = Multi.just("a", "bc", "def", "g", "h")
+                .map(it -> DataChunk.create(false, released::incrementAndGet,
+                                            ByteBuffer.wrap(it.getBytes(StandardCharsets.UTF_8))));
+
+        List<DataChunk> batches = DataChunk.batch(chunks, 10, 3)
+                .collectList()
+                .await(Duration.ofSeconds(10));
+
+        assertThat(batches.stream()
+                           .map(it -> new String(it.bytes(), StandardCharsets.UTF_8))
+                           .collect(Collectors.toList()),
+                   contains("abc", "def", "gh"));
+
+        batches.forEach(DataChunk::release);
+        assertThat(released.get(), is(5));
+    }
+
+    @Test
+    public void testBatchReleasesOnError() {
+        AtomicInteger released = new AtomicInteger();
+        Multi<DataChunk> chunks = Multi.concat(
+                Multi.just("a", "b")
+                        .map(it -> DataChunk.create(false, released::incrementAndGet,
+                                                    ByteBuffer.wrap(it.getBytes(StandardCharsets.UTF_8)))),
+                Multi.error(new IllegalStateException("Failing on purpose")));
+
+        assertThrows(CompletionException.class, () -> DataChunk.batch(chunks, 10, 3)
+                .collectList()
+                .await(Duration.ofSeconds(10)));
+
+        assertThat(released.get(), is(2));
+    }
 }
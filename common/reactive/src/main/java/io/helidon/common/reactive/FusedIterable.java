@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Source iterable of {@link MultiFromIterable} with {@code map} and {@code filter} operators fused into it.
+ * <p>
+ * Subsequent operators are composed into a single transformation, see {@link MultiMapFilterPublisher}.
+ * The transformation is applied in the emission loop of {@link MultiFromIterable.IteratorSubscription}
+ * to each item returned by the source iterator, so an item is only transformed once it is requested.
+ *
+ * @param <S> the item type of the source iterable
+ * @param <T> the item type after the transformation
+ */
+final class FusedIterable<S, T> {
+
+    private final Iterable<? extends S> source;
+
+    private final Function<? super S, ? extends T> transform;
+
+    private FusedIterable(Iterable<? extends S> source, Function<? super S, ? extends T> transform) {
+        this.source = source;
+        this.transform = transform;
+    }
+
+    static <T, R> FusedIterable<T, R> map(Iterable<? extends T> source, Function<? super T, ? extends R> mapper) {
+        return new FusedIterable<>(source, MultiMapFilterPublisher.mapper(mapper));
+    }
+
+    static <T> FusedIterable<T, T> filter(Iterable<? extends T> source, Predicate<? super T> predicate) {
+        return new FusedIterable<>(source, MultiMapFilterPublisher.predicate(predicate));
+    }
+
+    <R> FusedIterable<S, R> map(Function<? super T, ? extends R> mapper) {
+        return new FusedIterable<>(source, MultiMapFilterPublisher.map(transform, mapper));
+    }
+
+    FusedIterable<S, T> filter(Predicate<? super T> predicate) {
+        return new FusedIterable<>(source, MultiMapFilterPublisher.filter(transform, predicate));
+    }
+
+    void subscribe(Flow.Subscriber<? super T> subscriber) {
+        MultiFromIterable.subscribe(subscriber, source, transform);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,7 @@
  */
 package io.helidon.common.reactive;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -36,6 +37,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 import java.util.logging.Level;
 import java.util.stream.Stream;
 
@@ -480,6 +482,113 @@ public interface Multi<T> extends Subscribable<T> {
     // Instance Operators
     // --------------------------------------------------------------------------------------------------------
 
+    /**
+     * Collect the items of this {@link Multi} into lists of {@code maxSize} items, the last list may be smaller.
+     * <p>
+     * Back-pressure is honored, requesting {@code n} lists requests {@code n * maxSize} items from upstream.
+     * <pre>{@code
+     * Multi.range(0, 5).buffer(2)     // [0, 1], [2, 3], [4]
+     * }</pre>
+     *
+     * @param maxSize number of items in each list
+     * @return Multi
+     * @throws IllegalArgumentException if {@code maxSize} is not positive
+     */
+    default Multi<List<T>> buffer(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        return new MultiBuffer<>(this, maxSize, 0L, null, 0L, null, null, null);
+    }
+
+    /**
+     * Collect the items of this {@link Multi} into lists of at most {@code maxSize} items, closing a list sooner
+     * when the total weight of its items reaches {@code maxWeight}, such as the number of bytes of data chunks.
+     * <p>
+     * As the number of items in a list is not known in advance, upstream is requested only enough items
+     * to fill the next requested list.
+     * <pre>{@code
+     * chunks.buffer(64, 64 * 1024, DataChunk::remaining)
+     * }</pre>
+     *
+     * @param maxSize   maximal number of items in each list
+     * @param maxWeight weight that closes a list once reached, a single item heavier than that forms its own list
+     * @param weigher   function computing the weight of an item
+     * @return Multi
+     * @throws IllegalArgumentException if {@code maxSize} or {@code maxWeight} is not positive
+     * @throws NullPointerException     if {@code weigher} is {@code null}
+     */
+    default Multi<List<T>> buffer(int maxSize, long maxWeight, ToLongFunction<? super T> weigher) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("maxWeight must be positive: " + maxWeight);
+        }
+        Objects.requireNonNull(weigher, "weigher is null");
+        return new MultiBuffer<>(this, maxSize, maxWeight, weigher, 0L, null, null, null);
+    }
+
+    /**
+     * Collect the items of this {@link Multi} into lists of at most {@code maxSize} items, closing a list sooner
+     * when the total weight of its items reaches {@code maxWeight}, and pass the items that are not emitted
+     * because upstream failed or downstream canceled to {@code onDiscard}.
+     * <p>
+     * Use this variant for items holding resources that must be released, such as pooled data chunks.
+     * <pre>{@code
+     * chunks.buffer(64, 64 * 1024, DataChunk::remaining, DataChunk::release)
+     * }</pre>
+     *
+     * @param maxSize   maximal number of items in each list
+     * @param maxWeight weight that closes a list once reached, a single item heavier than that forms its own list
+     * @param weigher   function computing the weight of an item
+     * @param onDiscard consumer of items received from upstream and never emitted downstream
+     * @return Multi
+     * @throws IllegalArgumentException if {@code maxSize} or {@code maxWeight} is not positive
+     * @throws NullPointerException     if {@code weigher} or {@code onDiscard} is {@code null}
+     */
+    default Multi<List<T>> buffer(int maxSize,
+                                  long maxWeight,
+                                  ToLongFunction<? super T> weigher,
+                                  Consumer<? super T> onDiscard) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("maxWeight must be positive: " + maxWeight);
+        }
+        Objects.requireNonNull(weigher, "weigher is null");
+        Objects.requireNonNull(onDiscard, "onDiscard is null");
+        return new MultiBuffer<>(this, maxSize, maxWeight, weigher, 0L, null, null, onDiscard);
+    }
+
+    /**
+     * Collect the items of this {@link Multi} into lists of at most {@code maxSize} items, closing a list sooner
+     * when {@code timeout} elapses since its first item was received, so a slow upstream does not delay items
+     * indefinitely.
+     * <p>
+     * A list closed by the timeout is signaled once downstream requests it. Upstream is requested only enough
+     * items to fill the next requested list.
+     *
+     * @param maxSize  maximal number of items in each list
+     * @param timeout  maximal time from receiving the first item of a list until the list is closed
+     * @param executor the executor to use for the timeout
+     * @return Multi
+     * @throws IllegalArgumentException if {@code maxSize} or {@code timeout} is not positive
+     * @throws NullPointerException     if {@code timeout} or {@code executor} is {@code null}
+     */
+    default Multi<List<T>> bufferTimeout(int maxSize, Duration timeout, ScheduledExecutorService executor) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        Objects.requireNonNull(timeout, "timeout is null");
+        Objects.requireNonNull(executor, "executor is null");
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive: " + timeout);
+        }
+        return new MultiBuffer<>(this, maxSize, 0L, null, timeout.toNanos(), TimeUnit.NANOSECONDS, executor, null);
+    }
+
     /**
      * Collect the items of this {@link Multi} instance into a {@link Single}.
      *
@@ -753,6 +862,52 @@ public interface Multi<T> extends Subscribable<T> {
         return new MultiObserveOn<>(this, executor, bufferSize, delayError);
     }
 
+    /**
+     * Distribute the items among the given number of rails processed in parallel on the given executor,
+     * prefetching {@link Flow#defaultBufferSize()} items for each rail.
+     *
+     * @param rails    number of rails, usually not more than the number of threads of the executor
+     * @param executor executor to process the rails on
+     * @return ParallelMulti
+     * @throws NullPointerException     if {@code executor} is {@code null}
+     * @throws IllegalArgumentException if {@code rails} is not positive
+     * @see #parallel(int, Executor, int)
+     */
+    default ParallelMulti<T> parallel(int rails, Executor executor) {
+        return parallel(rails, executor, Flow.defaultBufferSize());
+    }
+
+    /**
+     * Distribute the items among the given number of rails processed in parallel on the given executor.
+     * <p>
+     * Each item is processed on one of the rails, items of a rail are processed sequentially.
+     * Use {@link ParallelMulti#sequential()} or {@link ParallelMulti#ordered()} to merge the rails back.
+     * <pre>{@code
+     * Multi.range(0, 1_000_000)
+     *         .parallel(4, executor)
+     *         .map(this::decode)
+     *         .ordered()
+     * }</pre>
+     *
+     * @param rails    number of rails, usually not more than the number of threads of the executor
+     * @param executor executor to process the rails on
+     * @param prefetch the number of items to buffer for each rail, each rail requests 75% of this value
+     *                 from upstream after processing that many items
+     * @return ParallelMulti
+     * @throws NullPointerException     if {@code executor} is {@code null}
+     * @throws IllegalArgumentException if {@code rails} or {@code prefetch} is not positive
+     */
+    default ParallelMulti<T> parallel(int rails, Executor executor, int prefetch) {
+        Objects.requireNonNull(executor, "executor is null");
+        if (rails <= 0) {
+            throw new IllegalArgumentException("rails > 0 required");
+        }
+        if (prefetch <= 0) {
+            throw new IllegalArgumentException("prefetch > 0 required");
+        }
+        return MultiParallel.create(this, rails, executor, prefetch);
+    }
+
     /**
      * Executes given {@link java.lang.Runnable} when a cancel signal is received.
      *
@@ -1089,6 +1244,21 @@ public interface Multi<T> extends Subscribable<T> {
         return new MultiTimeout<>(this, timeout, unit, executor, fallback);
     }
 
+    /**
+     * Split the items of this {@link Multi} into windows of {@code maxSize} items, the last window may be smaller.
+     * <p>
+     * Each window is signaled once all its items were received (see {@link #buffer(int)}), so it can be subscribed
+     * to at any time and any number of times. Back-pressure is honored, requesting {@code n} windows requests
+     * {@code n * maxSize} items from upstream.
+     *
+     * @param maxSize number of items in each window
+     * @return Multi
+     * @throws IllegalArgumentException if {@code maxSize} is not positive
+     */
+    default Multi<Multi<T>> window(int maxSize) {
+        return buffer(maxSize).map(Multi::create);
+    }
+
     /**
      * Apply the given {@code converter} function to the current {@code Multi} instance
      * and return the value returned by this function.
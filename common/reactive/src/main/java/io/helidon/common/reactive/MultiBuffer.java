@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Collects upstream items into lists of at most the given size, optionally closing a list
+ * sooner when its total weight reaches a limit or when a time limit since its first item elapses.
+ * <p>
+ * When every list is full (no weight and no time limit), upstream is requested {@code maxSize} items
+ * for each requested list. Otherwise lists may be smaller, so upstream is requested only enough items to fill
+ * the next list, which bounds the number of items held by the operator to {@code maxSize} plus the lists
+ * waiting for downstream demand.
+ * <p>
+ * Items held by the operator when upstream fails or downstream cancels are passed to the discard
+ * consumer, if any, so resources such as pooled buffers can be released.
+ *
+ * @param <T> the element type
+ */
+final class MultiBuffer<T> implements Multi<List<T>> {
+
+    private final Multi<T> source;
+
+    private final int maxSize;
+
+    private final long maxWeight;
+
+    private final ToLongFunction<? super T> weigher;
+
+    private final long timeout;
+
+    private final TimeUnit unit;
+
+    private final ScheduledExecutorService executor;
+
+    private final Consumer<? super T> discard;
+
+    MultiBuffer(Multi<T> source, int maxSize, long maxWeight, ToLongFunction<? super T> weigher,
+                long timeout, TimeUnit unit, ScheduledExecutorService executor, Consumer<? super T> discard) {
+        this.source = source;
+        this.maxSize = maxSize;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.timeout = timeout;
+        this.unit = unit;
+        this.executor = executor;
+        this.discard = discard;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super List<T>> subscriber) {
+        source.subscribe(new BufferSubscriber<>(subscriber, maxSize, maxWeight, weigher, timeout, unit, executor,
+                                                discard));
+    }
+
+    static final class BufferSubscriber<T> extends AtomicInteger
+    implements Flow.Subscriber<T>, Flow.Subscription {
+
+        private final Flow.Subscriber<? super List<T>> downstream;
+
+        private final int maxSize;
+
+        private final long maxWeight;
+
+        private final ToLongFunction<? super T> weigher;
+
+        private final long timeout;
+
+        private final TimeUnit unit;
+
+        private final ScheduledExecutorService executor;
+
+        private final Consumer<? super T> discard;
+
+        private final boolean partialBuffers;
+
+        private final int capacity;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        // guarded by this.ready
+        private final ArrayDeque<List<T>> ready = new ArrayDeque<>();
+
+        // the following fields are guarded by this.ready
+        private List<T> buffer;
+        private long weight;
+        private long bufferIndex;
+        private Future<?> timer;
+        private long credit;
+
+        private Flow.Subscription upstream;
+
+        private Throwable error;
+        private volatile boolean done;
+
+        private volatile boolean canceled;
+
+        // accessed from the drain loop only
+        private long emitted;
+
+        BufferSubscriber(Flow.Subscriber<? super List<T>> downstream, int maxSize, long maxWeight,
+                         ToLongFunction<? super T> weigher, long timeout, TimeUnit unit,
+                         ScheduledExecutorService executor, Consumer<? super T> discard) {
+            this.downstream = downstream;
+            this.maxSize = maxSize;
+            this.maxWeight = maxWeight;
+            this.weigher = weigher;
+            this.timeout = timeout;
+            this.unit = unit;
+            this.executor = executor;
+            this.discard = discard;
+            this.partialBuffers = weigher != null || executor != null;
+            // buffers closed by weight or time are usually smaller than max size
+            this.capacity = partialBuffers ? Math.min(maxSize, 16) : maxSize;
+            this.buffer = new ArrayList<>(capacity);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            SubscriptionHelper.validate(upstream, subscription);
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                discard(item);
+                return;
+            }
+            RejectedExecutionException rejected = null;
+            synchronized (ready) {
+                if (buffer == null) {
+                    // canceled
+                    discard(item);
+                    return;
+                }
+                if (credit != Long.MAX_VALUE) {
+                    credit--;
+                }
+                buffer.add(item);
+                if (weigher != null) {
+                    weight += weigher.applyAsLong(item);
+                }
+                if (buffer.size() >= maxSize || (weigher != null && weight >= maxWeight)) {
+                    close();
+                } else if (executor != null && buffer.size() == 1) {
+                    long index = bufferIndex;
+                    try {
+                        timer = executor.schedule(() -> timeout(index), timeout, unit);
+                    } catch (RejectedExecutionException e) {
+                        rejected = e;
+                    }
+                }
+            }
+            if (rejected != null) {
+                // the buffer could never be closed by time
+                upstream.cancel();
+                onError(rejected);
+                return;
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (done) {
+                return;
+            }
+            // held items are dropped by the drain loop, so a concurrent drain never sees a cleared buffer
+            error = throwable;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            synchronized (ready) {
+                if (buffer != null && !buffer.isEmpty()) {
+                    close();
+                }
+                cancelTimer();
+            }
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0L) {
+                upstream.cancel();
+                onError(new IllegalArgumentException("Rule §3.9 violated: non-positive requests are forbidden"));
+            } else {
+                SubscriptionHelper.addRequest(requested, n);
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            canceled = true;
+            upstream.cancel();
+            drain();
+        }
+
+        void timeout(long index) {
+            synchronized (ready) {
+                if (index != bufferIndex || buffer == null || buffer.isEmpty()) {
+                    return;
+                }
+                timer = null;
+                close();
+            }
+            drain();
+        }
+
+        // drops all held items, passing them to the discard consumer outside of the lock
+        private void clear() {
+            List<T> current;
+            List<List<T>> closed;
+            synchronized (ready) {
+                cancelTimer();
+                current = buffer;
+                buffer = null;
+                if (ready.isEmpty()) {
+                    closed = List.of();
+                } else {
+                    closed = new ArrayList<>(ready);
+                    ready.clear();
+                }
+            }
+            if (discard == null) {
+                return;
+            }
+            for (List<T> items : closed) {
+                items.forEach(this::discard);
+            }
+            if (current != null) {
+                current.forEach(this::discard);
+            }
+        }
+
+        private void discard(T item) {
+            if (discard != null) {
+                discard.accept(item);
+            }
+        }
+
+        // must be called while holding the lock
+        private void close() {
+            cancelTimer();
+            ready.offer(buffer);
+            buffer = new ArrayList<>(capacity);
+            weight = 0;
+            bufferIndex++;
+        }
+
+        // must be called while holding the lock
+        private void cancelTimer() {
+            Future<?> current = timer;
+            if (current != null) {
+                timer = null;
+                current.cancel(false);
+            }
+        }
+
+        private void drain() {
+            if (getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            Flow.Subscriber<? super List<T>> downstream = this.downstream;
+            long emitted = this.emitted;
+
+            for (;;) {
+                if (canceled) {
+                    clear();
+                } else {
+                    long r = requested.get();
+                    boolean d = done;
+                    Throwable ex = error;
+                    if (d && ex != null) {
+                        clear();
+                        canceled = true;
+                        downstream.onError(ex);
+                        continue;
+                    }
+
+                    List<T> next = null;
+                    long toRequest = 0;
+                    boolean empty;
+                    synchronized (ready) {
+                        if (r != emitted) {
+                            next = ready.poll();
+                        }
+                        empty = ready.isEmpty();
+                        if (next == null && !d) {
+                            toRequest = toRequest(r == Long.MAX_VALUE ? Long.MAX_VALUE : r - emitted);
+                        }
+                    }
+
+                    if (next != null) {
+                        emitted++;
+                        downstream.onNext(next);
+                        continue;
+                    }
+                    if (d && empty) {
+                        canceled = true;
+                        downstream.onComplete();
+                        continue;
+                    }
+                    if (toRequest > 0) {
+                        upstream.request(toRequest);
+                    }
+                }
+
+                this.emitted = emitted;
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+                emitted = this.emitted;
+            }
+        }
+
+        // must be called while holding the lock, returns the number of items to request from upstream
+        private long toRequest(long demand) {
+            if (credit == Long.MAX_VALUE) {
+                return 0;
+            }
+            long buffers = demand - ready.size();
+            if (buffers <= 0) {
+                return 0;
+            }
+            if (partialBuffers) {
+                // buffers may be closed before they are full, do not request more than one buffer ahead
+                buffers = 1;
+            }
+            long items;
+            if (demand == Long.MAX_VALUE || buffers > Long.MAX_VALUE / maxSize) {
+                items = Long.MAX_VALUE;
+            } else {
+                items = buffers * maxSize - buffer.size() - credit;
+            }
+            if (items <= 0) {
+                return 0;
+            }
+            credit = items == Long.MAX_VALUE ? Long.MAX_VALUE : credit + items;
+            return items;
+        }
+    }
+}
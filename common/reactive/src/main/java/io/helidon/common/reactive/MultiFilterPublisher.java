@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package io.helidon.common.reactive;
 
 import java.util.Objects;
 import java.util.concurrent.Flow;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 final class MultiFilterPublisher<T> implements Multi<T> {
@@ -36,6 +37,23 @@ final class MultiFilterPublisher<T> implements Multi<T> {
         source.subscribe(new FilterSubscriber<>(subscriber, predicate));
     }
 
+    // fuse filter∘filter into a single subscriber
+    @Override
+    public Multi<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Predicate<? super T> first = this.predicate;
+        return new MultiFilterPublisher<>(source, item -> first.test(item) && predicate.test(item));
+    }
+
+    // fuse filter∘map into a single subscriber
+    @Override
+    public <U> Multi<U> map(Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return new MultiMapFilterPublisher<>(source,
+                                             MultiMapFilterPublisher.map(MultiMapFilterPublisher.predicate(predicate),
+                                                                         mapper));
+    }
+
     static final class FilterSubscriber<T> implements Flow.Subscriber<T>, Flow.Subscription {
 
         private final Flow.Subscriber<? super T> downstream;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Map each upstream item into an Iterable and stream their values.
@@ -35,6 +36,9 @@ final class MultiFlatMapIterable<T, R> implements Multi<R> {
 
     private final Function<? super T, ? extends Iterable<? extends R>> mapper;
 
+    // operators fused into the iteration of the inner iterables, used instead of mapper when not null
+    private final FusedMapper<T, ?, R> fused;
+
     private final int prefetch;
 
     MultiFlatMapIterable(Multi<T> source,
@@ -42,21 +46,84 @@ final class MultiFlatMapIterable<T, R> implements Multi<R> {
                          int prefetch) {
         this.source = source;
         this.mapper = mapper;
+        this.fused = null;
+        this.prefetch = prefetch;
+    }
+
+    private MultiFlatMapIterable(Multi<T> source, FusedMapper<T, ?, R> fused, int prefetch) {
+        this.source = source;
+        this.mapper = null;
+        this.fused = fused;
         this.prefetch = prefetch;
     }
 
     @Override
     public void subscribe(Flow.Subscriber<? super R> subscriber) {
-        source.subscribe(new FlatMapIterableSubscriber<>(subscriber, mapper, prefetch));
+        if (fused == null) {
+            source.subscribe(new FlatMapIterableSubscriber<T, R, R>(subscriber, mapper, null, prefetch));
+        } else {
+            source.subscribe(fused.subscriber(subscriber, prefetch));
+        }
+    }
+
+    // apply the operator while iterating the inner iterables instead of in a separate subscriber
+    @Override
+    public <U> Multi<U> map(Function<? super R, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        if (fused == null) {
+            return new MultiFlatMapIterable<>(source,
+                                              new FusedMapper<>(this.mapper, MultiMapFilterPublisher.mapper(mapper)),
+                                              prefetch);
+        }
+        return new MultiFlatMapIterable<>(source, fused.map(mapper), prefetch);
+    }
+
+    @Override
+    public Multi<R> filter(Predicate<? super R> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        if (fused == null) {
+            return new MultiFlatMapIterable<>(source,
+                                              new FusedMapper<>(mapper, MultiMapFilterPublisher.predicate(predicate)),
+                                              prefetch);
+        }
+        return new MultiFlatMapIterable<>(source, fused.filter(predicate), prefetch);
+    }
+
+    private static final class FusedMapper<T, S, R> {
+
+        private final Function<? super T, ? extends Iterable<? extends S>> mapper;
+
+        private final Function<? super S, ? extends R> transform;
+
+        FusedMapper(Function<? super T, ? extends Iterable<? extends S>> mapper,
+                    Function<? super S, ? extends R> transform) {
+            this.mapper = mapper;
+            this.transform = transform;
+        }
+
+        <U> FusedMapper<T, S, U> map(Function<? super R, ? extends U> mapper) {
+            return new FusedMapper<>(this.mapper, MultiMapFilterPublisher.map(transform, mapper));
+        }
+
+        FusedMapper<T, S, R> filter(Predicate<? super R> predicate) {
+            return new FusedMapper<>(mapper, MultiMapFilterPublisher.filter(transform, predicate));
+        }
+
+        Flow.Subscriber<T> subscriber(Flow.Subscriber<? super R> downstream, int prefetch) {
+            return new FlatMapIterableSubscriber<>(downstream, mapper, transform, prefetch);
+        }
     }
 
-    static final class FlatMapIterableSubscriber<T, R>
+    static final class FlatMapIterableSubscriber<T, S, R>
             extends AtomicInteger
             implements Flow.Subscriber<T>, Flow.Subscription {
 
         private final Flow.Subscriber<? super R> downstream;
 
-        private final Function<? super T, ? extends Iterable<? extends R>> mapper;
+        private final Function<? super T, ? extends Iterable<? extends S>> mapper;
+
+        // fused operators returning null for the items to drop, null when no operator is fused
+        private final Function<? super S, ? extends R> transform;
 
         private final int prefetch;
 
@@ -77,15 +144,17 @@ final class MultiFlatMapIterable<T, R> implements Multi<R> {
 
         private volatile boolean canceled;
 
-        private Iterator<? extends R> currentIterator;
+        private Iterator<? extends S> currentIterator;
 
         private int upstreamConsumed;
 
         FlatMapIterableSubscriber(Flow.Subscriber<? super R> downstream,
-                                  Function<? super T, ? extends Iterable<? extends R>> mapper,
+                                  Function<? super T, ? extends Iterable<? extends S>> mapper,
+                                  Function<? super S, ? extends R> transform,
                                   int prefetch) {
             this.downstream = downstream;
             this.mapper = mapper;
+            this.transform = transform;
             this.prefetch = prefetch;
             this.requested = new AtomicLong();
             this.queue = new AtomicReferenceArray<>(roundToPowerOfTwo(prefetch));
@@ -148,7 +217,7 @@ final class MultiFlatMapIterable<T, R> implements Multi<R> {
                 return;
             }
 
-            Iterator<? extends R> iterator = currentIterator;
+            Iterator<? extends S> iterator = currentIterator;
             Flow.Subscriber<? super R> downstream = this.downstream;
             long e = emitted;
             int limit = prefetch - (prefetch >> 2);
@@ -226,8 +295,8 @@ final class MultiFlatMapIterable<T, R> implements Multi<R> {
                             R result;
 
                             try {
-                                result = Objects.requireNonNull(iterator.next(),
-                                        "The iterator returned a null item");
+                                result = apply(Objects.requireNonNull(iterator.next(),
+                                        "The iterator returned a null item"));
                             } catch (Throwable ex) {
                                 canceled = true;
                                 upstream.cancel();
@@ -239,11 +308,13 @@ final class MultiFlatMapIterable<T, R> implements Multi<R> {
                                 continue outer;
                             }
 
-                            downstream.onNext(result);
-                            e++;
+                            if (result != null) {
+                                downstream.onNext(result);
+                                e++;
 
-                            if (canceled) {
-                                continue outer;
+                                if (canceled) {
+                                    continue outer;
+                                }
                             }
 
                             boolean hasNext;
@@ -277,6 +348,11 @@ final class MultiFlatMapIterable<T, R> implements Multi<R> {
             }
         }
 
+        @SuppressWarnings("unchecked")
+        private R apply(S item) {
+            return transform == null ? (R) item : transform.apply(item);
+        }
+
         void offer(T item) {
             AtomicReferenceArray<T> queue = this.queue;
             AtomicLong producerIndex = this.producerIndex;
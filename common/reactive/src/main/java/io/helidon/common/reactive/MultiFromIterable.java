@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,8 @@ import java.util.Iterator;
 import java.util.Objects;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Publisher from iterable, implemented as trampoline stack-less recursion.
@@ -30,16 +32,36 @@ final class MultiFromIterable<T> implements Multi<T> {
 
     private final Iterable<T> iterable;
 
+    // operators fused into the iterable, used instead of iterable when not null
+    private final FusedIterable<?, T> fused;
+
     MultiFromIterable(Iterable<T> iterable) {
         Objects.requireNonNull(iterable, "iterable is null");
         this.iterable = iterable;
+        this.fused = null;
+    }
+
+    private MultiFromIterable(FusedIterable<?, T> fused) {
+        this.iterable = null;
+        this.fused = fused;
     }
 
     @Override
     public void subscribe(Flow.Subscriber<? super T> subscriber) {
         Objects.requireNonNull(subscriber, "subscriber is null");
 
-        Iterator<T> iterator;
+        if (fused == null) {
+            subscribe(subscriber, iterable, null);
+        } else {
+            fused.subscribe(subscriber);
+        }
+    }
+
+    // transform is null when no operator is fused, S is then the same as T
+    static <S, T> void subscribe(Flow.Subscriber<? super T> subscriber,
+                                 Iterable<? extends S> iterable,
+                                 Function<? super S, ? extends T> transform) {
+        Iterator<? extends S> iterator;
         boolean hasFirst;
         try {
             iterator = iterable.iterator();
@@ -56,23 +78,48 @@ final class MultiFromIterable<T> implements Multi<T> {
             return;
         }
 
-        subscriber.onSubscribe(new IteratorSubscription<>(subscriber, iterator));
+        subscriber.onSubscribe(new IteratorSubscription<>(subscriber, iterator, transform));
     }
 
-    static final class IteratorSubscription<T> extends AtomicLong implements Flow.Subscription {
+    // apply the operator while iterating instead of in a separate subscriber
+    @Override
+    public <U> Multi<U> map(Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        if (fused == null) {
+            return new MultiFromIterable<>(FusedIterable.map(iterable, mapper));
+        }
+        return new MultiFromIterable<>(fused.map(mapper));
+    }
+
+    @Override
+    public Multi<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        if (fused == null) {
+            return new MultiFromIterable<>(FusedIterable.filter(iterable, predicate));
+        }
+        return new MultiFromIterable<>(fused.filter(predicate));
+    }
+
+    static final class IteratorSubscription<S, T> extends AtomicLong implements Flow.Subscription {
 
         private final Flow.Subscriber<? super T> downstream;
 
-        private Iterator<T> iterator;
+        // fused operators, returning null for the items to drop
+        private final Function<? super S, ? extends T> transform;
+
+        private Iterator<? extends S> iterator;
 
         private volatile int canceled;
 
         static final int NORMAL_CANCEL = 1;
         static final int BAD_REQUEST = 2;
 
-        IteratorSubscription(Flow.Subscriber<? super T> downstream, Iterator<T> iterator) {
+        IteratorSubscription(Flow.Subscriber<? super T> downstream,
+                             Iterator<? extends S> iterator,
+                             Function<? super S, ? extends T> transform) {
             this.downstream = downstream;
             this.iterator = iterator;
+            this.transform = transform;
         }
 
         @Override
@@ -104,8 +151,8 @@ final class MultiFromIterable<T> implements Multi<T> {
                     T value;
 
                     try {
-                        value = Objects.requireNonNull(iterator.next(),
-                                "The iterator returned a null value");
+                        value = apply(Objects.requireNonNull(iterator.next(),
+                                "The iterator returned a null value"));
                     } catch (Throwable ex) {
                         iterator = null;
                         canceled = NORMAL_CANCEL;
@@ -117,10 +164,12 @@ final class MultiFromIterable<T> implements Multi<T> {
                         continue;
                     }
 
-                    downstream.onNext(value);
+                    if (value != null) {
+                        downstream.onNext(value);
 
-                    if (canceled != 0) {
-                        continue;
+                        if (canceled != 0) {
+                            continue;
+                        }
                     }
 
                     boolean hasNext;
@@ -144,7 +193,9 @@ final class MultiFromIterable<T> implements Multi<T> {
                         return;
                     }
 
-                    emitted++;
+                    if (value != null) {
+                        emitted++;
+                    }
                 }
 
                 n = get();
@@ -163,5 +214,10 @@ final class MultiFromIterable<T> implements Multi<T> {
             canceled = NORMAL_CANCEL;
             request(1); // for cleanup
         }
+
+        @SuppressWarnings("unchecked")
+        private T apply(S item) {
+            return transform == null ? (T) item : transform.apply(item);
+        }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -43,6 +43,14 @@ final class MultiLimitPublisher<T> implements Multi<T> {
         source.subscribe(new LimitSubscriber<>(subscriber, limit));
     }
 
+    @Override
+    public Multi<T> limit(long limit) {
+        if (limit < 0L) {
+            throw new IllegalArgumentException("limit is negative");
+        }
+        return new MultiLimitPublisher<>(source, Math.min(this.limit, limit));
+    }
+
     static final class LimitSubscriber<T> implements Flow.Subscriber<T>, Flow.Subscription {
 
         private final Flow.Subscriber<? super T> downstream;
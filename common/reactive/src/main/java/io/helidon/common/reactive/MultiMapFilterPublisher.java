@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Adjacent {@code map} and {@code filter} operators fused into a single transformation
+ * returning {@code null} for the items to drop.
+ *
+ * @param <T> the upstream value type
+ * @param <R> the result value type
+ */
+final class MultiMapFilterPublisher<T, R> implements Multi<R> {
+
+    private final Flow.Publisher<T> source;
+
+    private final Function<? super T, ? extends R> transform;
+
+    MultiMapFilterPublisher(Flow.Publisher<T> source, Function<? super T, ? extends R> transform) {
+        this.source = source;
+        this.transform = transform;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super R> subscriber) {
+        source.subscribe(new MapFilterSubscriber<>(subscriber, transform));
+    }
+
+    @Override
+    public <U> Multi<U> map(Function<? super R, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return new MultiMapFilterPublisher<>(source, map(transform, mapper));
+    }
+
+    @Override
+    public Multi<R> filter(Predicate<? super R> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return new MultiMapFilterPublisher<>(source, filter(transform, predicate));
+    }
+
+    static <T, R> Function<T, R> mapper(Function<? super T, ? extends R> mapper) {
+        return item -> Objects.requireNonNull(mapper.apply(item), "The mapper returned a null value.");
+    }
+
+    static <T> Function<T, T> predicate(Predicate<? super T> predicate) {
+        return item -> predicate.test(item) ? item : null;
+    }
+
+    static <T, R, U> Function<T, U> map(Function<? super T, ? extends R> transform,
+                                        Function<? super R, ? extends U> mapper) {
+        return item -> {
+            R value = transform.apply(item);
+            if (value == null) {
+                return null;
+            }
+            return Objects.requireNonNull(mapper.apply(value), "The mapper returned a null value.");
+        };
+    }
+
+    static <T, R> Function<T, R> filter(Function<? super T, ? extends R> transform,
+                                        Predicate<? super R> predicate) {
+        return item -> {
+            R value = transform.apply(item);
+            if (value == null || !predicate.test(value)) {
+                return null;
+            }
+            return value;
+        };
+    }
+
+    static final class MapFilterSubscriber<T, R> implements Flow.Subscriber<T>, Flow.Subscription {
+
+        private final Flow.Subscriber<? super R> downstream;
+
+        private final Function<? super T, ? extends R> transform;
+
+        private Flow.Subscription upstream;
+
+        MapFilterSubscriber(Flow.Subscriber<? super R> downstream, Function<? super T, ? extends R> transform) {
+            this.downstream = downstream;
+            this.transform = transform;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            SubscriptionHelper.validate(this.upstream, subscription);
+            this.upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            Flow.Subscription s = upstream;
+            if (s != SubscriptionHelper.CANCELED) {
+                R result;
+                try {
+                    result = transform.apply(item);
+                } catch (Throwable ex) {
+                    s.cancel();
+                    onError(ex);
+                    return;
+                }
+
+                if (result != null) {
+                    downstream.onNext(result);
+                } else {
+                    s.request(1L);
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (upstream != SubscriptionHelper.CANCELED) {
+                upstream = SubscriptionHelper.CANCELED;
+                downstream.onError(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (upstream != SubscriptionHelper.CANCELED) {
+                upstream = SubscriptionHelper.CANCELED;
+                downstream.onComplete();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            upstream.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            upstream.cancel();
+            upstream = SubscriptionHelper.CANCELED;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package io.helidon.common.reactive;
 import java.util.Objects;
 import java.util.concurrent.Flow;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import io.helidon.common.mapper.Mapper;
 
@@ -42,6 +43,24 @@ final class MultiMapperPublisher<T, R> implements Multi<R> {
         source.subscribe(new MapperSubscriber<>(subscriber, mapper));
     }
 
+    // fuse map∘map into a single subscriber
+    @Override
+    public <U> Multi<U> map(Function<? super R, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        Function<? super T, ? extends R> first = this.mapper;
+        return new MultiMapperPublisher<T, U>(source, item -> mapper.apply(
+                Objects.requireNonNull(first.apply(item), "The mapper returned a null value.")));
+    }
+
+    // fuse map∘filter into a single subscriber
+    @Override
+    public Multi<R> filter(Predicate<? super R> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return new MultiMapFilterPublisher<>(source,
+                                             MultiMapFilterPublisher.filter(MultiMapFilterPublisher.mapper(mapper),
+                                                                            predicate));
+    }
+
     static final class MapperSubscriber<T, R> implements Flow.Subscriber<T>, Flow.Subscription {
 
         private final Flow.Subscriber<? super R> downstream;
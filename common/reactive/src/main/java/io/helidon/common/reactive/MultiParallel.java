@@ -0,0 +1,610 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Distribute the upstream items among rails processed on the given executor.
+ * <p>
+ * The operators of the rails are fused into a single function applied by the rail to each item,
+ * a {@code null} result meaning the item was filtered out. Each rail has a single producer single consumer
+ * input queue filled by the upstream and an output queue drained by the merge, both of {@code prefetch} items.
+ * Upstream is requested {@code rails * prefetch} items upfront, then each rail requests 75% of its prefetch
+ * after processing that many items, and the rest once it becomes idle.
+ *
+ * @param <S> the element type of the upstream
+ * @param <T> the element type of the rails
+ */
+final class MultiParallel<S, T> implements ParallelMulti<T> {
+
+    private final Multi<S> source;
+
+    private final int rails;
+
+    private final Executor executor;
+
+    private final int prefetch;
+
+    private final Function<? super S, ? extends T> transform;
+
+    private MultiParallel(Multi<S> source, int rails, Executor executor, int prefetch,
+                          Function<? super S, ? extends T> transform) {
+        this.source = source;
+        this.rails = rails;
+        this.executor = executor;
+        this.prefetch = prefetch;
+        this.transform = transform;
+    }
+
+    static <T> MultiParallel<T, T> create(Multi<T> source, int rails, Executor executor, int prefetch) {
+        return new MultiParallel<>(source, rails, executor, prefetch, Function.identity());
+    }
+
+    @Override
+    public int rails() {
+        return rails;
+    }
+
+    @Override
+    public <U> ParallelMulti<U> map(Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        Function<? super S, ? extends T> transform = this.transform;
+        return new MultiParallel<S, U>(source, rails, executor, prefetch, item -> {
+            T value = transform.apply(item);
+            if (value == null) {
+                return null;
+            }
+            return Objects.requireNonNull(mapper.apply(value), "The mapper returned a null value.");
+        });
+    }
+
+    @Override
+    public ParallelMulti<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Function<? super S, ? extends T> transform = this.transform;
+        return new MultiParallel<S, T>(source, rails, executor, prefetch, item -> {
+            T value = transform.apply(item);
+            if (value == null || !predicate.test(value)) {
+                return null;
+            }
+            return value;
+        });
+    }
+
+    @Override
+    public Single<T> reduce(BiFunction<T, T, T> reducer) {
+        Objects.requireNonNull(reducer, "reducer is null");
+        return new ParallelMerge<>(this, false, reducer).reduce(reducer);
+    }
+
+    @Override
+    public Multi<T> sequential() {
+        return new ParallelMerge<>(this, false, null);
+    }
+
+    @Override
+    public Multi<T> ordered() {
+        return new ParallelMerge<>(this, true, null);
+    }
+
+    static final class ParallelMerge<S, T> implements Multi<T> {
+
+        private final MultiParallel<S, T> parallel;
+
+        private final boolean ordered;
+
+        private final BiFunction<T, T, T> reducer;
+
+        ParallelMerge(MultiParallel<S, T> parallel, boolean ordered, BiFunction<T, T, T> reducer) {
+            this.parallel = parallel;
+            this.ordered = ordered;
+            this.reducer = reducer;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super T> subscriber) {
+            parallel.source.subscribe(new ParallelSubscriber<>(subscriber, parallel.rails, parallel.executor,
+                                                               parallel.prefetch, parallel.transform,
+                                                               ordered, reducer));
+        }
+    }
+
+    static final class ParallelSubscriber<S, T> extends AtomicInteger
+    implements Flow.Subscriber<S>, Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> downstream;
+
+        private final Rail<S, T>[] rails;
+
+        private final int limit;
+
+        private final boolean ordered;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicLong pendingRequests = new AtomicLong();
+
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        private Flow.Subscription upstream;
+
+        private volatile boolean canceled;
+
+        // accessed from the upstream signals only
+        private boolean upstreamDone;
+        private long index;
+        private int railIndex;
+
+        // accessed from the drain loop only
+        private long emitted;
+        private int mergeIndex;
+
+        @SuppressWarnings("unchecked")
+        ParallelSubscriber(Flow.Subscriber<? super T> downstream, int rails, Executor executor, int prefetch,
+                           Function<? super S, ? extends T> transform, boolean ordered,
+                           BiFunction<T, T, T> reducer) {
+            this.downstream = downstream;
+            this.limit = prefetch - (prefetch >> 2);
+            this.ordered = ordered;
+            this.rails = new Rail[rails];
+            for (int i = 0; i < rails; i++) {
+                this.rails[i] = new Rail<>(this, executor, prefetch, transform, ordered, reducer);
+            }
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            SubscriptionHelper.validate(upstream, subscription);
+            upstream = subscription;
+            downstream.onSubscribe(this);
+            replenish((long) rails.length * rails[0].capacity);
+        }
+
+        @Override
+        public void onNext(S item) {
+            if (upstreamDone) {
+                return;
+            }
+            Rail<S, T>[] rails = this.rails;
+            int n = rails.length;
+            int r = railIndex;
+            for (int i = 0; i < n; i++) {
+                Rail<S, T> rail = rails[r];
+                if (++r == n) {
+                    r = 0;
+                }
+                if (rail.offer(item, index)) {
+                    railIndex = r;
+                    index++;
+                    rail.schedule();
+                    return;
+                }
+            }
+            upstreamDone = true;
+            fail(new IllegalStateException("Rule §1.1 violated: more items received than requested"));
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (upstreamDone) {
+                return;
+            }
+            upstreamDone = true;
+            fail(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            if (upstreamDone) {
+                return;
+            }
+            upstreamDone = true;
+            for (Rail<S, T> rail : rails) {
+                rail.done = true;
+                rail.schedule();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0L) {
+                fail(new IllegalArgumentException("Rule §3.9 violated: non-positive requests are forbidden"));
+            } else {
+                SubscriptionHelper.addRequest(requested, n);
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            canceled = true;
+            upstream.cancel();
+            drain();
+        }
+
+        void fail(Throwable throwable) {
+            if (error.compareAndSet(null, throwable)) {
+                upstream.cancel();
+                drain();
+            }
+        }
+
+        // rails replenish concurrently, calls to the upstream subscription must be serialized
+        void replenish(long n) {
+            if (canceled) {
+                return;
+            }
+            if (pendingRequests.getAndAdd(n) == 0L) {
+                long missed = n;
+                for (;;) {
+                    upstream.request(missed);
+                    missed = pendingRequests.addAndGet(-missed);
+                    if (missed == 0L) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        void drain() {
+            if (getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            Flow.Subscriber<? super T> downstream = this.downstream;
+            Rail<S, T>[] rails = this.rails;
+            long emitted = this.emitted;
+
+            for (;;) {
+                if (canceled) {
+                    for (Rail<S, T> rail : rails) {
+                        rail.clearOutput();
+                    }
+                } else {
+                    Throwable ex = error.get();
+                    if (ex != null) {
+                        canceled = true;
+                        downstream.onError(ex);
+                        continue;
+                    }
+
+                    if (emitted != requested.get()) {
+                        Rail<S, T> rail = ordered ? nextOrdered(rails) : nextUnordered(rails);
+                        if (rail != null) {
+                            T item = rail.poll();
+                            downstream.onNext(item);
+                            emitted++;
+                            if (++rail.polled == limit) {
+                                rail.polled = 0;
+                                rail.schedule();
+                            }
+                            continue;
+                        }
+                    }
+
+                    if (isDone(rails)) {
+                        canceled = true;
+                        downstream.onComplete();
+                        continue;
+                    }
+
+                    // resume the rails waiting for space in their output
+                    for (Rail<S, T> rail : rails) {
+                        if (rail.polled != 0) {
+                            rail.polled = 0;
+                            rail.schedule();
+                        }
+                    }
+                }
+
+                this.emitted = emitted;
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private Rail<S, T> nextUnordered(Rail<S, T>[] rails) {
+            int n = rails.length;
+            int r = mergeIndex;
+            for (int i = 0; i < n; i++) {
+                Rail<S, T> rail = rails[r];
+                if (++r == n) {
+                    r = 0;
+                }
+                if (rail.peek() != null) {
+                    mergeIndex = r;
+                    return rail;
+                }
+            }
+            return null;
+        }
+
+        // the next item can be emitted only when every rail still running has an item ready,
+        // items of a rail come in the upstream order so the lowest index of them is the next one
+        private Rail<S, T> nextOrdered(Rail<S, T>[] rails) {
+            Rail<S, T> next = null;
+            long nextIndex = Long.MAX_VALUE;
+            for (Rail<S, T> rail : rails) {
+                boolean d = rail.outputDone;
+                if (rail.peek() == null) {
+                    if (d) {
+                        continue;
+                    }
+                    return null;
+                }
+                long index = rail.peekIndex();
+                if (index < nextIndex) {
+                    nextIndex = index;
+                    next = rail;
+                }
+            }
+            return next;
+        }
+
+        private static boolean isDone(Rail<?, ?>[] rails) {
+            for (Rail<?, ?> rail : rails) {
+                boolean d = rail.outputDone;
+                if (!d || rail.peek() != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    static final class Rail<S, T> extends AtomicInteger implements Runnable {
+
+        private final ParallelSubscriber<S, T> parent;
+
+        private final Executor executor;
+
+        private final int capacity;
+
+        private final Function<? super S, ? extends T> transform;
+
+        private final BiFunction<T, T, T> reducer;
+
+        private final AtomicReferenceArray<S> input;
+
+        private final long[] inputIndexes;
+
+        private final AtomicLong inputProducerIndex = new AtomicLong();
+
+        private final AtomicLong inputConsumerIndex = new AtomicLong();
+
+        private final AtomicReferenceArray<T> output;
+
+        private final long[] outputIndexes;
+
+        private final AtomicLong outputProducerIndex = new AtomicLong();
+
+        private final AtomicLong outputConsumerIndex = new AtomicLong();
+
+        // no more items from upstream
+        private volatile boolean done;
+
+        // no more items to the output
+        private volatile boolean outputDone;
+
+        // accessed from the rail only
+        private boolean terminated;
+        private T accumulator;
+        private long polledIndex;
+
+        // accessed from the merge only
+        private int polled;
+
+        Rail(ParallelSubscriber<S, T> parent, Executor executor, int prefetch,
+             Function<? super S, ? extends T> transform, boolean ordered, BiFunction<T, T, T> reducer) {
+            this.parent = parent;
+            this.executor = executor;
+            this.capacity = prefetch;
+            this.transform = transform;
+            this.reducer = reducer;
+            int size = MultiObserveOn.roundToPowerOfTwo(prefetch);
+            this.input = new AtomicReferenceArray<>(size);
+            this.output = new AtomicReferenceArray<>(size);
+            this.inputIndexes = ordered ? new long[size] : null;
+            this.outputIndexes = ordered ? new long[size] : null;
+        }
+
+        void schedule() {
+            if (getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            for (;;) {
+                drain();
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private void drain() {
+            if (terminated) {
+                return;
+            }
+            ParallelSubscriber<S, T> parent = this.parent;
+            int limit = parent.limit;
+            long consumed = 0;
+            boolean produced = false;
+
+            for (;;) {
+                if (parent.canceled) {
+                    terminated = true;
+                    clearInput();
+                    return;
+                }
+                boolean d = done;
+                if (reducer == null && isOutputFull()) {
+                    break;
+                }
+                S item = pollInput();
+                if (item == null) {
+                    if (d) {
+                        terminated = true;
+                        T result = accumulator;
+                        if (result != null) {
+                            accumulator = null;
+                            offerOutput(result, 0);
+                        }
+                        outputDone = true;
+                        produced = true;
+                    }
+                    break;
+                }
+                long index = polledIndex;
+                T value;
+                try {
+                    value = transform.apply(item);
+                    if (value != null && reducer != null) {
+                        T current = accumulator;
+                        accumulator = current == null
+                                ? value
+                                : Objects.requireNonNull(reducer.apply(current, value), "The reducer returned a null item");
+                        value = null;
+                    }
+                } catch (Throwable ex) {
+                    terminated = true;
+                    clearInput();
+                    parent.fail(ex);
+                    return;
+                }
+                if (value != null) {
+                    offerOutput(value, index);
+                    produced = true;
+                }
+                if (++consumed == limit) {
+                    consumed = 0;
+                    parent.replenish(limit);
+                    if (produced) {
+                        produced = false;
+                        parent.drain();
+                    }
+                }
+            }
+
+            // the rail is idle, request the rest so that upstream cannot stall with some of the rails empty
+            if (consumed != 0 && !terminated) {
+                parent.replenish(consumed);
+            }
+            if (produced) {
+                parent.drain();
+            }
+        }
+
+        // upstream side of the input
+        boolean offer(S item, long index) {
+            long pi = inputProducerIndex.get();
+            if (pi - inputConsumerIndex.get() == capacity) {
+                return false;
+            }
+            int offset = (int) pi & (input.length() - 1);
+            if (inputIndexes != null) {
+                inputIndexes[offset] = index;
+            }
+            input.lazySet(offset, item);
+            inputProducerIndex.lazySet(pi + 1);
+            return true;
+        }
+
+        private S pollInput() {
+            long ci = inputConsumerIndex.get();
+            int offset = (int) ci & (input.length() - 1);
+            S item = input.get(offset);
+            if (item == null) {
+                return null;
+            }
+            if (inputIndexes != null) {
+                polledIndex = inputIndexes[offset];
+            }
+            input.lazySet(offset, null);
+            inputConsumerIndex.lazySet(ci + 1);
+            return item;
+        }
+
+        private void clearInput() {
+            for (;;) {
+                if (pollInput() == null) {
+                    break;
+                }
+            }
+        }
+
+        private boolean isOutputFull() {
+            return outputProducerIndex.get() - outputConsumerIndex.get() == capacity;
+        }
+
+        private void offerOutput(T item, long index) {
+            long pi = outputProducerIndex.get();
+            int offset = (int) pi & (output.length() - 1);
+            if (outputIndexes != null) {
+                outputIndexes[offset] = index;
+            }
+            output.lazySet(offset, item);
+            outputProducerIndex.lazySet(pi + 1);
+        }
+
+        // merge side of the output
+        T peek() {
+            int offset = (int) outputConsumerIndex.get() & (output.length() - 1);
+            return output.get(offset);
+        }
+
+        long peekIndex() {
+            int offset = (int) outputConsumerIndex.get() & (output.length() - 1);
+            return outputIndexes[offset];
+        }
+
+        T poll() {
+            long ci = outputConsumerIndex.get();
+            int offset = (int) ci & (output.length() - 1);
+            T item = output.get(offset);
+            if (item == null) {
+                return null;
+            }
+            output.lazySet(offset, null);
+            outputConsumerIndex.lazySet(ci + 1);
+            return item;
+        }
+
+        void clearOutput() {
+            for (;;) {
+                if (poll() == null) {
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -41,6 +41,13 @@ final class MultiSkipPublisher<T> implements Multi<T> {
         source.subscribe(new SkipSubscriber<>(subscriber, n));
     }
 
+    @Override
+    public Multi<T> skip(long skip) {
+        long total = n + Math.max(0L, skip);
+        // saturate on overflow
+        return new MultiSkipPublisher<>(source, total < 0L ? Long.MAX_VALUE : total);
+    }
+
     static final class SkipSubscriber<T> implements Flow.Subscriber<T> {
 
         private final Flow.Subscriber<? super T> downstream;
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Items of a {@link Multi} distributed among a fixed number of rails, each rail processing its items
+ * sequentially on an executor thread, rails running in parallel.
+ * <p>
+ * Operators of this type are applied to each item on its rail. Nothing is processed until the rails are merged
+ * back to a {@link Multi} by {@link #sequential()} or {@link #ordered()} and the resulting {@link Multi}
+ * is subscribed to, or until {@link #reduce(BiFunction)} is subscribed to.
+ * <pre>{@code
+ * Multi.range(0, 1_000_000)
+ *         .parallel(4, executor)
+ *         .map(this::decode)
+ *         .filter(this::isValid)
+ *         .ordered()
+ *         .forEach(this::store);
+ * }</pre>
+ *
+ * @param <T> item type
+ * @see Multi#parallel(int, java.util.concurrent.Executor)
+ */
+public interface ParallelMulti<T> {
+
+    /**
+     * Number of rails the items are distributed among.
+     *
+     * @return number of rails
+     */
+    int rails();
+
+    /**
+     * Map each item on its rail using the given {@link Function}.
+     *
+     * @param mapper mapper, invoked concurrently from different rails
+     * @param <U>    mapped item type
+     * @return ParallelMulti
+     * @throws NullPointerException if mapper is {@code null}
+     */
+    <U> ParallelMulti<U> map(Function<? super T, ? extends U> mapper);
+
+    /**
+     * Drop the items on each rail not matching the given {@link Predicate}.
+     *
+     * @param predicate predicate to filter items with, invoked concurrently from different rails
+     * @return ParallelMulti
+     * @throws NullPointerException if predicate is {@code null}
+     */
+    ParallelMulti<T> filter(Predicate<? super T> predicate);
+
+    /**
+     * Combine the items of each rail via the given function, then combine the results of the rails
+     * and emit the final value as a {@link Single}.
+     *
+     * @param reducer reducer, invoked concurrently from different rails
+     * @return Single completing empty if there are no items
+     * @throws NullPointerException if reducer is {@code null}
+     */
+    Single<T> reduce(BiFunction<T, T, T> reducer);
+
+    /**
+     * Merge the rails back to a {@link Multi}, emitting the items in the order they are processed.
+     *
+     * @return Multi
+     */
+    Multi<T> sequential();
+
+    /**
+     * Merge the rails back to a {@link Multi}, emitting the items in the order of the original {@link Multi}.
+     * <p>
+     * An item is emitted once all the items preceding it have been processed, so a slow item holds back
+     * the items processed after it, up to the prefetch limit of each rail.
+     *
+     * @return Multi
+     */
+    Multi<T> ordered();
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,7 @@
  */
 package io.helidon.common.reactive;
 
+import java.util.Objects;
 import java.util.concurrent.Flow;
 import java.util.function.Function;
 
@@ -41,4 +42,12 @@ final class SingleMapperPublisher<T, R> extends CompletionSingle<R> {
         source.subscribe(new MultiMapperPublisher.MapperSubscriber<>(subscriber, mapper));
     }
 
+    // fuse map∘map into a single subscriber
+    @Override
+    public <U> Single<U> map(Function<? super R, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        Function<? super T, ? extends R> first = this.mapper;
+        return new SingleMapperPublisher<T, U>(source, item -> mapper.apply(
+                Objects.requireNonNull(first.apply(item), "The mapper returned a null value.")));
+    }
 }
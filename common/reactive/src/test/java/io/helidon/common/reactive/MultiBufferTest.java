@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MultiBufferTest {
+
+    private static ScheduledExecutorService executor;
+
+    @BeforeAll
+    public static void beforeClass() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterAll
+    public static void afterClass() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void buffer() {
+        TestSubscriber<List<Integer>> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.range(0, 5)
+                .buffer(2)
+                .subscribe(ts);
+
+        ts.assertResult(List.of(0, 1), List.of(2, 3), List.of(4));
+    }
+
+    @Test
+    public void bufferEmpty() {
+        TestSubscriber<List<Integer>> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.<Integer>empty()
+                .buffer(2)
+                .subscribe(ts);
+
+        ts.assertResult();
+    }
+
+    @Test
+    public void bufferBackpressure() {
+        AtomicInteger produced = new AtomicInteger();
+        TestSubscriber<List<Integer>> ts = new TestSubscriber<>();
+
+        Multi.range(0, 10)
+                .peek(it -> produced.incrementAndGet())
+                .buffer(3)
+                .subscribe(ts);
+
+        ts.assertEmpty();
+        assertThat(produced.get(), is(0));
+
+        ts.request(1);
+        ts.assertValuesOnly(List.of(0, 1, 2));
+        assertThat(produced.get(), is(3));
+
+        ts.request(2);
+        ts.assertValuesOnly(List.of(0, 1, 2), List.of(3, 4, 5), List.of(6, 7, 8));
+        assertThat(produced.get(), is(9));
+
+        ts.request(1);
+        ts.assertResult(List.of(0, 1, 2), List.of(3, 4, 5), List.of(6, 7, 8), List.of(9));
+    }
+
+    @Test
+    public void bufferError() {
+        TestSubscriber<List<Integer>> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.concat(Multi.range(0, 3), Multi.error(new IOException()))
+                .buffer(2)
+                .subscribe(ts);
+
+        ts.assertFailure(IOException.class, List.of(0, 1));
+    }
+
+    @Test
+    public void bufferCancel() {
+        AtomicInteger produced = new AtomicInteger();
+        TestSubscriber<List<Integer>> ts = new TestSubscriber<>(1);
+
+        Multi.range(0, 10)
+                .peek(it -> produced.incrementAndGet())
+                .buffer(2)
+                .subscribe(ts);
+
+        ts.cancel();
+        ts.request(5);
+        ts.assertValuesOnly(List.of(0, 1));
+        assertThat(produced.get(), is(2));
+    }
+
+    @Test
+    public void bufferDiscardOnError() {
+        List<Integer> discarded = new ArrayList<>();
+        TestSubscriber<List<Integer>> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.concat(Multi.range(0, 3), Multi.error(new IOException()))
+                .buffer(2, 10, it -> 1, discarded::add)
+                .subscribe(ts);
+
+        ts.assertFailure(IOException.class, List.of(0, 1));
+        assertThat(discarded, contains(2));
+    }
+
+    @Test
+    public void bufferDiscardOnCancel() {
+        List<Integer> discarded = new ArrayList<>();
+        BufferedEmittingPublisher<Integer> emitter = BufferedEmittingPublisher.create();
+        TestSubscriber<List<Integer>> ts = new TestSubscriber<>(1);
+
+        Multi.create(emitter)
+                .buffer(3, 10, it -> 1, discarded::add)
+                .subscribe(ts);
+
+        emitter.emit(0);
+        emitter.emit(1);
+        ts.cancel();
+        ts.assertEmpty();
+        assertThat(discarded, contains(0, 1));
+    }
+
+    @Test
+    public void bufferWeight() {
+        TestSubscriber<List<String>> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.just("a", "bb", "ccccc", "d", "e", "f", "g")
+                .buffer(3, 3, String::length)
+                .subscribe(ts);
+
+        ts.assertResult(List.of("a", "bb"), List.of("ccccc"), List.of("d", "e", "f"), List.of("g"));
+    }
+
+    @Test
+    public void bufferWeightBackpressure() {
+        AtomicInteger produced = new AtomicInteger();
+        TestSubscriber<List<String>> ts = new TestSubscriber<>();
+
+        Multi.just("aaa", "b", "c", "d", "e")
+                .peek(it -> produced.incrementAndGet())
+                .buffer(2, 2, String::length)
+                .subscribe(ts);
+
+        ts.request(1);
+        ts.assertValuesOnly(List.of("aaa"));
+        // one buffer ahead at most, even though the first one was closed by weight
+        assertThat(produced.get(), is(2));
+
+        ts.request(Long.MAX_VALUE);
+        ts.assertResult(List.of("aaa"), List.of("b", "c"), List.of("d", "e"));
+    }
+
+    @Test
+    public void bufferTimeout() throws Exception {
+        TestSubscriber<List<Integer>> ts = new TestSubscriber<>(Long.MAX_VALUE);
+        SubmissionPublisher<Integer> sp = new SubmissionPublisher<>(Runnable::run, 128);
+
+        Multi.create(sp)
+                .bufferTimeout(10, Duration.ofMillis(50), executor)
+                .subscribe(ts);
+
+        sp.submit(1);
+        sp.submit(2);
+        ts.awaitCount(1, 10, 5000, TimeUnit.MILLISECONDS)
+                .assertValuesOnly(List.of(1, 2));
+
+        sp.submit(3);
+        sp.close();
+        ts.awaitDone(5, TimeUnit.SECONDS)
+                .assertResult(List.of(1, 2), List.of(3));
+    }
+
+    @Test
+    public void bufferTimeoutFull() {
+        TestSubscriber<List<Integer>> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.range(0, 4)
+                .bufferTimeout(2, Duration.ofMinutes(1), executor)
+                .subscribe(ts);
+
+        ts.assertResult(List.of(0, 1), List.of(2, 3));
+    }
+
+    @Test
+    public void bufferTimeoutWaitsForDemand() throws Exception {
+        TestSubscriber<List<Integer>> ts = new TestSubscriber<>(1);
+        SubmissionPublisher<Integer> sp = new SubmissionPublisher<>(Runnable::run, 128);
+
+        Multi.create(sp)
+                .bufferTimeout(2, Duration.ofMillis(10), executor)
+                .subscribe(ts);
+
+        sp.submit(1);
+        ts.awaitCount(1, 10, 5000, TimeUnit.MILLISECONDS)
+                .assertValuesOnly(List.of(1));
+
+        // only requested to fill the first buffer, the remaining item is held until requested
+        sp.submit(2);
+        Thread.sleep(100);
+        ts.assertValuesOnly(List.of(1));
+
+        ts.request(1);
+        ts.assertValuesOnly(List.of(1), List.of(2));
+        sp.close();
+        ts.request(1);
+        ts.awaitDone(5, TimeUnit.SECONDS)
+                .assertResult(List.of(1), List.of(2));
+    }
+
+    @Test
+    public void bufferTimeoutRejected() {
+        List<Integer> discarded = new ArrayList<>();
+        AtomicInteger produced = new AtomicInteger();
+        TestSubscriber<List<Integer>> ts = new TestSubscriber<>(Long.MAX_VALUE);
+        ScheduledExecutorService shutdown = Executors.newSingleThreadScheduledExecutor();
+        shutdown.shutdown();
+
+        new MultiBuffer<>(Multi.range(0, 10).peek(it -> produced.incrementAndGet()),
+                          5, Long.MAX_VALUE, null, 1, TimeUnit.MINUTES, shutdown, discarded::add)
+                .subscribe(ts);
+
+        ts.assertFailure(RejectedExecutionException.class);
+        assertThat(produced.get(), is(1));
+        assertThat(discarded, contains(0));
+    }
+
+    @Test
+    public void window() {
+        TestSubscriber<List<Integer>> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.range(0, 5)
+                .window(2)
+                .flatMap(Multi::collectList)
+                .subscribe(ts);
+
+        ts.assertResult(List.of(0, 1), List.of(2, 3), List.of(4));
+    }
+
+    @Test
+    public void invalidArguments() {
+        Multi<Integer> multi = Multi.range(0, 1);
+        assertThrows(IllegalArgumentException.class, () -> multi.buffer(0));
+        assertThrows(IllegalArgumentException.class, () -> multi.buffer(1, 0, it -> 1));
+        assertThrows(IllegalArgumentException.class, () -> multi.bufferTimeout(1, Duration.ZERO, executor));
+        assertThrows(IllegalArgumentException.class, () -> multi.window(-1));
+    }
+}
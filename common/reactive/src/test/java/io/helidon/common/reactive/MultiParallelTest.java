@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MultiParallelTest {
+
+    private static ExecutorService executor;
+
+    @BeforeAll
+    public static void beforeClass() {
+        AtomicInteger counter = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(4, r -> new Thread(r, "parallel-test-" + counter.incrementAndGet()));
+    }
+
+    @AfterAll
+    public static void afterClass() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void sequential() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        Multi.range(0, 10_000)
+                .parallel(4, executor)
+                .map(it -> {
+                    threads.add(Thread.currentThread().getName());
+                    return it * 2;
+                })
+                .sequential()
+                .subscribe(ts);
+
+        ts.awaitDone(5, TimeUnit.SECONDS)
+                .assertComplete();
+        assertThat(ts.getItems(), containsInAnyOrder(IntStream.range(0, 10_000)
+                                                              .mapToObj(it -> it * 2)
+                                                              .toArray(Integer[]::new)));
+        assertThat(threads, everyItem(startsWith("parallel-test-")));
+        assertThat(threads.size(), lessThanOrEqualTo(4));
+    }
+
+    @Test
+    public void ordered() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.range(0, 10_000)
+                .parallel(4, executor, 4)
+                .map(it -> {
+                    if (ThreadLocalRandom.current().nextInt(100) == 0) {
+                        Thread.yield();
+                    }
+                    return it;
+                })
+                .filter(it -> it % 3 != 0)
+                .ordered()
+                .subscribe(ts);
+
+        ts.awaitDone(5, TimeUnit.SECONDS)
+                .assertComplete();
+        assertThat(ts.getItems(), is(IntStream.range(0, 10_000)
+                                             .filter(it -> it % 3 != 0)
+                                             .boxed()
+                                             .collect(Collectors.toList())));
+    }
+
+    @Test
+    public void orderedAllFilteredOnOneRail() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        // with round-robin distribution, every other item goes to the same rail
+        Multi.range(0, 1000)
+                .parallel(2, executor, 2)
+                .filter(it -> it % 2 == 0)
+                .ordered()
+                .subscribe(ts);
+
+        ts.awaitDone(5, TimeUnit.SECONDS)
+                .assertComplete();
+        assertThat(ts.getItems(), is(IntStream.range(0, 1000)
+                                             .filter(it -> it % 2 == 0)
+                                             .boxed()
+                                             .collect(Collectors.toList())));
+    }
+
+    @Test
+    public void backpressure() {
+        AtomicInteger produced = new AtomicInteger();
+        TestSubscriber<Integer> ts = new TestSubscriber<>();
+
+        Multi.range(0, 1000)
+                .peek(it -> produced.incrementAndGet())
+                .parallel(2, executor, 8)
+                .ordered()
+                .subscribe(ts);
+
+        ts.request(5);
+        ts.awaitCount(5, 10, 5000, TimeUnit.MILLISECONDS);
+        ts.assertValuesOnly(0, 1, 2, 3, 4);
+        // emitted items and the items held by the input and output of the rails
+        assertThat(produced.get(), lessThanOrEqualTo(5 + 2 * 8 * 2));
+
+        ts.request(Long.MAX_VALUE);
+        ts.awaitDone(5, TimeUnit.SECONDS)
+                .assertComplete()
+                .assertItemCount(1000);
+    }
+
+    @Test
+    public void reduce() {
+        Integer sum = Multi.range(1, 1000)
+                .parallel(4, executor)
+                .map(it -> it * 2)
+                .reduce(Integer::sum)
+                .await(5, TimeUnit.SECONDS);
+
+        assertThat(sum, is(1000 * 1001));
+    }
+
+    @Test
+    public void reduceEmpty() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.range(0, 100)
+                .parallel(4, executor)
+                .filter(it -> it < 0)
+                .reduce(Integer::sum)
+                .subscribe(ts);
+
+        ts.awaitDone(5, TimeUnit.SECONDS)
+                .assertResult();
+    }
+
+    @Test
+    public void mapperError() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.range(0, 1000)
+                .parallel(4, executor)
+                .map(it -> {
+                    if (it == 500) {
+                        throw new IllegalStateException("failed");
+                    }
+                    return it;
+                })
+                .sequential()
+                .subscribe(ts);
+
+        ts.awaitDone(5, TimeUnit.SECONDS)
+                .assertError(IllegalStateException.class);
+    }
+
+    @Test
+    public void upstreamError() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.concat(Multi.range(0, 10), Multi.error(new IOException()))
+                .parallel(2, executor)
+                .ordered()
+                .subscribe(ts);
+
+        ts.awaitDone(5, TimeUnit.SECONDS)
+                .assertError(IOException.class);
+    }
+
+    @Test
+    public void cancel() throws Exception {
+        List<Integer> received = new ArrayList<>();
+        AtomicInteger produced = new AtomicInteger();
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE) {
+            @Override
+            public void onNext(Integer item) {
+                super.onNext(item);
+                received.add(item);
+                if (received.size() == 10) {
+                    cancel();
+                }
+            }
+        };
+
+        Multi.range(0, 1_000_000)
+                .peek(it -> produced.incrementAndGet())
+                .parallel(4, executor, 16)
+                .sequential()
+                .subscribe(ts);
+
+        ts.awaitCount(10, 10, 5000, TimeUnit.MILLISECONDS);
+        Thread.sleep(100);
+        ts.assertNotTerminated();
+        assertThat(ts.getItems().size(), is(10));
+        assertThat(produced.get(), lessThanOrEqualTo(1000));
+    }
+
+    @Test
+    public void invalidArguments() {
+        Multi<Integer> multi = Multi.range(0, 1);
+        assertThrows(IllegalArgumentException.class, () -> multi.parallel(0, executor));
+        assertThrows(IllegalArgumentException.class, () -> multi.parallel(2, executor, 0));
+        assertThrows(NullPointerException.class, () -> multi.parallel(2, null));
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Adjacent operators collapsed at assembly time behave as the separate operators.
+ */
+public class OperatorFusionTest {
+
+    @Test
+    public void mapMap() {
+        TestSubscriber<String> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi<String> multi = Multi.range(0, 3)
+                .map(it -> it + 1)
+                .map(String::valueOf);
+        multi.subscribe(ts);
+
+        assertThat(multi, instanceOf(MultiMapperPublisher.class));
+        ts.assertResult("1", "2", "3");
+    }
+
+    @Test
+    public void mapMapNull() {
+        TestSubscriber<String> ts = new TestSubscriber<>(Long.MAX_VALUE);
+        AtomicInteger second = new AtomicInteger();
+
+        Multi.range(0, 3)
+                .map(it -> it == 1 ? null : it)
+                .map(it -> {
+                    second.incrementAndGet();
+                    return String.valueOf(it);
+                })
+                .subscribe(ts);
+
+        ts.assertFailure(NullPointerException.class, "0");
+        assertThat(second.get(), is(1));
+    }
+
+    @Test
+    public void singleMapMap() {
+        TestSubscriber<String> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Single<String> single = Single.just(1)
+                .map(it -> it + 1)
+                .map(String::valueOf);
+        single.subscribe(ts);
+
+        assertThat(single, instanceOf(SingleMapperPublisher.class));
+        ts.assertResult("2");
+    }
+
+    @Test
+    public void filterFilter() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+        AtomicInteger second = new AtomicInteger();
+
+        Multi.range(0, 10)
+                .filter(it -> it % 2 == 0)
+                .filter(it -> {
+                    second.incrementAndGet();
+                    return it > 2;
+                })
+                .subscribe(ts);
+
+        ts.assertResult(4, 6, 8);
+        // the second predicate sees only the items passing the first one
+        assertThat(second.get(), is(5));
+    }
+
+    @Test
+    public void mapFilterMap() {
+        TestSubscriber<String> ts = new TestSubscriber<>();
+
+        Multi<String> multi = Multi.range(0, 10)
+                .map(it -> it + 1)
+                .filter(it -> it % 2 == 0)
+                .map(String::valueOf);
+        multi.subscribe(ts);
+
+        assertThat(multi, instanceOf(MultiMapFilterPublisher.class));
+        ts.request(2);
+        ts.assertValuesOnly("2", "4");
+        ts.request(3);
+        ts.assertResult("2", "4", "6", "8", "10");
+    }
+
+    @Test
+    public void mapFilterNull() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.range(0, 3)
+                .map(it -> it == 1 ? null : it)
+                .filter(it -> true)
+                .subscribe(ts);
+
+        ts.assertFailure(NullPointerException.class, 0);
+    }
+
+    @Test
+    public void filterMapError() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.range(0, 5)
+                .filter(it -> it != 1)
+                .map(it -> {
+                    if (it == 3) {
+                        throw new IllegalStateException();
+                    }
+                    return it;
+                })
+                .filter(it -> true)
+                .subscribe(ts);
+
+        ts.assertFailure(IllegalStateException.class, 0, 2);
+    }
+
+    @Test
+    public void limitLimit() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.range(0, 10)
+                .limit(5)
+                .limit(3)
+                .limit(4)
+                .subscribe(ts);
+
+        ts.assertResult(0, 1, 2);
+        assertThrows(IllegalArgumentException.class, () -> Multi.range(0, 10).limit(5).limit(-1));
+    }
+
+    @Test
+    public void skipSkip() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.range(0, 10)
+                .skip(3)
+                .skip(-1)
+                .skip(4)
+                .subscribe(ts);
+
+        ts.assertResult(7, 8, 9);
+
+        TestSubscriber<Integer> ts2 = new TestSubscriber<>(Long.MAX_VALUE);
+        Multi.range(0, 10)
+                .skip(Long.MAX_VALUE)
+                .skip(Long.MAX_VALUE)
+                .subscribe(ts2);
+
+        ts2.assertResult();
+    }
+
+    @Test
+    public void iterableMapFilter() {
+        TestSubscriber<String> ts = new TestSubscriber<>();
+
+        Multi<String> multi = Multi.create(List.of(1, 2, 3, 4, 5, 6))
+                .filter(it -> it % 2 == 0)
+                .map(it -> it * 10)
+                .map(String::valueOf);
+        multi.subscribe(ts);
+
+        assertThat(multi, instanceOf(MultiFromIterable.class));
+        ts.assertEmpty();
+        ts.request(2);
+        ts.assertValuesOnly("20", "40");
+        ts.request(1);
+        ts.assertResult("20", "40", "60");
+    }
+
+    @Test
+    public void iterableTransformsRequestedItems() {
+        AtomicInteger mapped = new AtomicInteger();
+        TestSubscriber<Integer> ts = new TestSubscriber<>();
+
+        Multi.create(List.of(1, 2, 3, 4))
+                .map(it -> {
+                    mapped.incrementAndGet();
+                    return it;
+                })
+                .filter(it -> it != 2)
+                .subscribe(ts);
+
+        ts.request(1);
+        ts.assertValuesOnly(1);
+        assertThat(mapped.get(), is(1));
+        ts.request(1);
+        ts.assertValuesOnly(1, 3);
+        assertThat(mapped.get(), is(3));
+    }
+
+    @Test
+    public void iterableNullItem() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.create(Arrays.asList(1, null, 3))
+                .filter(it -> true)
+                .map(it -> it + 1)
+                .subscribe(ts);
+
+        ts.assertFailure(NullPointerException.class, 2);
+    }
+
+    @Test
+    public void iterableMapperError() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.create(List.of(1, 2, 3))
+                .map(it -> {
+                    if (it == 2) {
+                        throw new IllegalStateException();
+                    }
+                    return it;
+                })
+                .subscribe(ts);
+
+        ts.assertFailure(IllegalStateException.class, 1);
+    }
+
+    @Test
+    public void iterableResubscribe() {
+        Multi<Integer> multi = Multi.create(List.of(1, 2, 3))
+                .filter(it -> it != 2)
+                .map(it -> it * 2);
+
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+        multi.subscribe(ts);
+        ts.assertResult(2, 6);
+
+        TestSubscriber<Integer> ts2 = new TestSubscriber<>(Long.MAX_VALUE);
+        multi.subscribe(ts2);
+        ts2.assertResult(2, 6);
+    }
+
+    @Test
+    public void flatMapIterableMapFilter() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi<Integer> multi = Multi.just(List.of(1, 2, 3), List.<Integer>of(), List.of(4, 5))
+                .flatMapIterable(it -> it)
+                .map(it -> it * 2)
+                .filter(it -> it != 6);
+        multi.subscribe(ts);
+
+        assertThat(multi, instanceOf(MultiFlatMapIterable.class));
+        ts.assertResult(2, 4, 8, 10);
+    }
+
+    @Test
+    public void flatMapIterableFilterBackpressure() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>();
+
+        Multi.just(List.of(1, 2, 3, 4), List.of(5, 6))
+                .flatMapIterable(it -> it)
+                .filter(it -> it % 2 == 1)
+                .subscribe(ts);
+
+        ts.request(1);
+        ts.assertValuesOnly(1);
+        ts.request(2);
+        ts.assertValuesOnly(1, 3, 5);
+        ts.request(1);
+        ts.assertResult(1, 3, 5);
+    }
+
+    @Test
+    public void flatMapIterableTransformsRequestedItems() {
+        AtomicInteger mapped = new AtomicInteger();
+        TestSubscriber<Integer> ts = new TestSubscriber<>();
+
+        Multi.singleton(List.of(1, 2, 3))
+                .flatMapIterable(it -> it)
+                .map(it -> {
+                    mapped.incrementAndGet();
+                    return it;
+                })
+                .subscribe(ts);
+
+        ts.request(1);
+        ts.assertValuesOnly(1);
+        assertThat(mapped.get(), is(1));
+    }
+
+    @Test
+    public void fusedFilterNullPredicate() {
+        assertThrows(NullPointerException.class, () -> Multi.create(List.of(1)).filter(null));
+        assertThrows(NullPointerException.class, () -> Multi.singleton(List.of(1)).flatMapIterable(it -> it).filter(null));
+        assertThrows(NullPointerException.class, () -> Multi.just(1).map(it -> it).filter(null));
+    }
+
+    @Test
+    public void flatMapIterableMapperError() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.singleton(List.of(1, 2, 3))
+                .flatMapIterable(it -> it)
+                .map(it -> it == 2 ? null : it)
+                .subscribe(ts);
+
+        ts.assertFailure(NullPointerException.class, 1);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive.jmh;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import io.helidon.common.reactive.Multi;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Processing a stream by a sink with a fixed cost per call (such as a database or bulk HTTP call),
+ * item by item ({@code size} 1) and in batches created by {@code buffer} operators.
+ */
+@State(Scope.Thread)
+public class BufferJMH {
+
+    private static final int COUNT = 100_000;
+    private static final long CALL_COST = 100;
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(BufferJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Param({"1", "16", "256"})
+    int size;
+
+    @Param({"buffer", "weight", "timeout"})
+    String operator;
+
+    ScheduledExecutorService executor;
+
+    Multi<List<Integer>> multi;
+
+    @Setup
+    public void setup() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+        Multi<Integer> source = Multi.range(0, COUNT);
+        switch (operator) {
+        case "buffer":
+            multi = source.buffer(size);
+            break;
+        case "weight":
+            multi = source.buffer(1024, size, it -> 1);
+            break;
+        case "timeout":
+            multi = source.bufferTimeout(size, Duration.ofSeconds(10), executor);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown operator: " + operator);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public void measure(Blackhole bh) {
+        multi.map(batch -> {
+            Blackhole.consumeCPU(CALL_COST);
+            return batch;
+        }).subscribe(new SyncUnboundedJmhSubscriber(bh));
+    }
+}
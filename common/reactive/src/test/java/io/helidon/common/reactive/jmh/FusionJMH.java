@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive.jmh;
+
+import java.util.Arrays;
+import java.util.List;
+
+import io.helidon.common.reactive.Multi;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Chains of synchronous {@code map} and {@code filter} operators over 1M items,
+ * collapsed at assembly time into their source or into a single operator.
+ */
+@State(Scope.Thread)
+public class FusionJMH {
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(FusionJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Param({"range", "iterable", "flatMapIterable"})
+    String source;
+
+    Multi<Integer> multi;
+
+    @Setup
+    public void setup() {
+        Integer[] items = new Integer[1_000_000];
+        Arrays.setAll(items, i -> i);
+        List<Integer> list = Arrays.asList(items);
+
+        Multi<Integer> upstream;
+        switch (source) {
+        case "range":
+            upstream = Multi.range(0, items.length);
+            break;
+        case "iterable":
+            upstream = Multi.create(list);
+            break;
+        case "flatMapIterable":
+            upstream = Multi.just(list.subList(0, 500_000), list.subList(500_000, items.length))
+                    .flatMapIterable(it -> it);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown source: " + source);
+        }
+
+        multi = upstream
+                .map(it -> it + 1)
+                .filter(it -> (it & 1) == 0)
+                .filter(it -> (it & 2) == 0)
+                .map(it -> it * 2)
+                .map(it -> it - 1);
+    }
+
+    @Benchmark
+    public void measure(Blackhole bh) {
+        multi.subscribe(new SyncUnboundedJmhSubscriber(bh));
+    }
+}
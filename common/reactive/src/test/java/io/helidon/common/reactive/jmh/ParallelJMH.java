@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive.jmh;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * CPU bound transformation of 1M items processed in parallel by {@code parallel} rails
+ * and by {@code flatMap} with a single item inner publisher observed on the executor.
+ */
+@State(Scope.Thread)
+public class ParallelJMH {
+
+    private static final int COUNT = 1_000_000;
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(ParallelJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Param({"4"})
+    int rails;
+
+    @Param({"0", "100"})
+    long work;
+
+    ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        executor = Executors.newFixedThreadPool(rails);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public void parallelSequential(Blackhole bh) {
+        Multi.range(0, COUNT)
+                .parallel(rails, executor)
+                .map(this::transform)
+                .sequential()
+                .forEach(bh::consume)
+                .await(1, TimeUnit.MINUTES);
+    }
+
+    @Benchmark
+    public void parallelOrdered(Blackhole bh) {
+        Multi.range(0, COUNT)
+                .parallel(rails, executor)
+                .map(this::transform)
+                .ordered()
+                .forEach(bh::consume)
+                .await(1, TimeUnit.MINUTES);
+    }
+
+    @Benchmark
+    public void flatMap(Blackhole bh) {
+        Multi.range(0, COUNT)
+                .flatMap(it -> Single.just(it).observeOn(executor).map(this::transform), rails, false, 32)
+                .forEach(bh::consume)
+                .await(1, TimeUnit.MINUTES);
+    }
+
+    private Integer transform(Integer item) {
+        Blackhole.consumeCPU(work);
+        return item + 1;
+    }
+}
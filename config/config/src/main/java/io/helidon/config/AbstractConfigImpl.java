@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,8 +18,10 @@ package io.helidon.config;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
 
@@ -33,6 +35,9 @@ abstract class AbstractConfigImpl implements Config {
 
     public static final Logger LOGGER = Logger.getLogger(AbstractConfigImpl.class.getName());
 
+    // maximal number of parsed keys cached by a single node
+    private static final int MAX_CHILD_KEYS = 64;
+
     private final ConfigKeyImpl prefix;
     private final ConfigKeyImpl key;
     private final ConfigKeyImpl realKey;
@@ -40,6 +45,9 @@ abstract class AbstractConfigImpl implements Config {
     private final Type type;
     private final Context context;
     private final ConfigMapperManager mapperManager;
+    // parsed keys by the string used to get a child node, to avoid parsing the key on each read
+    // only keys are cached (bounded), the nodes are cached by the factory
+    private final Map<String, ConfigKeyImpl> childKeys = new ConcurrentHashMap<>();
 
     /**
      * Initializes Config implementation.
@@ -112,6 +120,20 @@ abstract class AbstractConfigImpl implements Config {
         return mapperManager.map(value, type, key().toString());
     }
 
+    @Override
+    public final Config get(String key) {
+        Objects.requireNonNull(key, "Key argument is null.");
+
+        ConfigKeyImpl subKey = childKeys.get(key);
+        if (subKey == null) {
+            subKey = ConfigKeyImpl.of(key);
+            if (childKeys.size() < MAX_CHILD_KEYS) {
+                childKeys.putIfAbsent(key, subKey);
+            }
+        }
+        return get(subKey);
+    }
+
     @Override
     public final Config get(Config.Key subKey) {
         Objects.requireNonNull(subKey, "Key argument is null.");
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -1556,6 +1556,8 @@ public interface Config {
          * Caching is about {@link ConfigFilter}s. With disabled caching, registered filters are applied always you
          * access elementary configuration value. With enabled caching, registered filters are applied just once per
          * unique config node (key). Repeated access of already filtered key directly returns already cached value.
+         * With enabled caching, values mapped to immutable types (such as {@link String}, primitive wrappers,
+         * {@link java.time.Duration} or enums) are also mapped just once per config node.
          * <p>
          * Caching is enabled by default.
          *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import io.helidon.config.spi.ConfigNode;
+import io.helidon.config.spi.ConfigNode.ListNode;
+import io.helidon.config.spi.ConfigNode.ObjectNode;
+
 import static java.util.stream.Collectors.toSet;
 
 /**
@@ -61,6 +65,135 @@ class ConfigDiff {
         return new ConfigDiff(newConfig, changedKeys);
     }
 
+    /**
+     * Computes the difference between the first {@code Config} and the second
+     * one, only checking the keys whose nodes differ between the provided root nodes,
+     * and the values that reference other keys.
+     * <p>
+     * Both root nodes are walked once, side by side. Value nodes shared by both trees (such as the values
+     * of a config source that did not change) are not compared.
+     * <p>
+     * This is only valid if the values of both configs are filtered based on the key, the value itself
+     * and the values it references.
+     *
+     * @param origConfig original configuration
+     * @param origRoot root node of the original configuration
+     * @param newConfig newer configuration
+     * @param newRoot root node of the newer configuration
+     * @return {@code ConfigDiff} representing the changes
+     */
+    static ConfigDiff from(Config origConfig, ObjectNode origRoot, Config newConfig, ObjectNode newRoot) {
+        Set<ConfigKeyImpl> candidates = new HashSet<>();
+        Set<ConfigKeyImpl> references = new HashSet<>();
+        changedNodes(ConfigKeyImpl.of(), origRoot, newRoot, candidates, references);
+        if (candidates.isEmpty()) {
+            return new ConfigDiff(newConfig, Set.of());
+        }
+        // values referencing a changed key may have changed as well
+        candidates.addAll(references);
+        candidates.remove(ConfigKeyImpl.of());
+
+        Set<Config.Key> changedKeys = candidates.stream()
+                .filter(key -> notEqual(origConfig.get(key), newConfig.get(key)))
+                .flatMap(ConfigDiff::expandKey)
+                .collect(toSet());
+
+        return new ConfigDiff(newConfig, changedKeys);
+    }
+
+    private static void changedNodes(ConfigKeyImpl key,
+                                     ConfigNode origNode,
+                                     ConfigNode newNode,
+                                     Set<ConfigKeyImpl> keys,
+                                     Set<ConfigKeyImpl> references) {
+        if (origNode == newNode) {
+            referencingNodes(key, newNode, references);
+            return;
+        }
+        if (origNode == null || newNode == null || origNode.nodeType() != newNode.nodeType()) {
+            allNodes(key, origNode, keys);
+            allNodes(key, newNode, keys);
+            return;
+        }
+        switch (newNode.nodeType()) {
+        case OBJECT:
+            ObjectNode origObject = (ObjectNode) origNode;
+            ObjectNode newObject = (ObjectNode) newNode;
+            origObject.forEach((name, child) -> changedNodes(key.child(name), child, newObject.get(name), keys, references));
+            newObject.forEach((name, child) -> {
+                if (!origObject.containsKey(name)) {
+                    allNodes(key.child(name), child, keys);
+                }
+            });
+            break;
+        case LIST:
+            ListNode origList = (ListNode) origNode;
+            ListNode newList = (ListNode) newNode;
+            for (int i = 0; i < Math.max(origList.size(), newList.size()); i++) {
+                changedNodes(key.child(Integer.toString(i)),
+                             i < origList.size() ? origList.get(i) : null,
+                             i < newList.size() ? newList.get(i) : null,
+                             keys,
+                             references);
+            }
+            break;
+        case VALUE:
+            if (!origNode.value().equals(newNode.value())) {
+                keys.add(key);
+            } else if (isReference(newNode)) {
+                references.add(key);
+            }
+            break;
+        default:
+            throw new IllegalArgumentException("Unsupported node type: " + newNode.nodeType());
+        }
+    }
+
+    private static void allNodes(ConfigKeyImpl key, ConfigNode node, Set<ConfigKeyImpl> keys) {
+        if (node == null) {
+            return;
+        }
+        keys.add(key);
+        switch (node.nodeType()) {
+        case OBJECT:
+            ((ObjectNode) node).forEach((name, child) -> allNodes(key.child(name), child, keys));
+            break;
+        case LIST:
+            ListNode list = (ListNode) node;
+            for (int i = 0; i < list.size(); i++) {
+                allNodes(key.child(Integer.toString(i)), list.get(i), keys);
+            }
+            break;
+        default:
+            break;
+        }
+    }
+
+    private static void referencingNodes(ConfigKeyImpl key, ConfigNode node, Set<ConfigKeyImpl> keys) {
+        switch (node.nodeType()) {
+        case OBJECT:
+            ((ObjectNode) node).forEach((name, child) -> referencingNodes(key.child(name), child, keys));
+            break;
+        case LIST:
+            ListNode list = (ListNode) node;
+            for (int i = 0; i < list.size(); i++) {
+                referencingNodes(key.child(Integer.toString(i)), list.get(i), keys);
+            }
+            break;
+        case VALUE:
+            if (isReference(node)) {
+                keys.add(key);
+            }
+            break;
+        default:
+            break;
+        }
+    }
+
+    private static boolean isReference(ConfigNode node) {
+        return node.value().filter(it -> it.contains("${")).isPresent();
+    }
+
     private static Stream<Config.Key> expandKey(Config.Key key) {
         Set<Config.Key> keys = new HashSet<>();
         expandKey(key, keys);
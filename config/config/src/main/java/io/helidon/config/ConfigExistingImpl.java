@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ package io.helidon.config;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import io.helidon.common.GenericType;
@@ -35,6 +36,8 @@ abstract class ConfigExistingImpl<N extends ConfigNode> extends AbstractConfigIm
     private final N node;
     private final ConfigMapperManager mapperManager;
     private final ConfigFilter filter;
+    // values mapped to immutable types; a node belongs to a single version of the config tree, so its value never changes
+    private final Map<Class<?>, ConfigValue<?>> mappedValues = new ConcurrentHashMap<>();
 
     ConfigExistingImpl(Type type,
                        ConfigKeyImpl prefix,
@@ -65,12 +68,21 @@ abstract class ConfigExistingImpl<N extends ConfigNode> extends AbstractConfigIm
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> ConfigValue<T> as(GenericType<T> genericType) {
+        if (genericType.isClass() && memoize(genericType.rawType())) {
+            return as((Class<T>) genericType.rawType());
+        }
         return ConfigValues.create(this, genericType, mapperManager);
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> ConfigValue<T> as(Class<T> type) {
+        if (memoize(type)) {
+            return (ConfigValue<T>) mappedValues.computeIfAbsent(type,
+                                                                 it -> ConfigValues.createMemoized(this, type, mapperManager));
+        }
         return ConfigValues.create(this, type, mapperManager);
     }
 
@@ -88,5 +100,15 @@ abstract class ConfigExistingImpl<N extends ConfigNode> extends AbstractConfigIm
         return node;
     }
 
+    /*
+     * Mapped values can only be remembered if the filtered value of this node does not change either, which is the case
+     * when the filters are initialized and their results cached (the default).
+     */
+    private boolean memoize(Class<?> type) {
+        return filter instanceof ProviderImpl.ChainConfigFilter chain
+                && chain.cachingEnabled()
+                && ConfigMapperManager.isImmutable(type);
+    }
+
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,11 +16,9 @@
 
 package io.helidon.config;
 
-import java.util.AbstractMap;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
+import java.util.function.BiConsumer;
 
 import io.helidon.config.spi.ConfigNode;
 
@@ -39,40 +37,36 @@ public final class ConfigHelper {
      * @return a map of all nodes
      */
     public static Map<String, String> flattenNodes(ConfigNode.ObjectNode objectNode) {
-        return ConfigHelper.flattenNodes(ConfigKeyImpl.of(), objectNode)
-                .filter(e -> e.getValue() instanceof ValueNodeImpl)
-                .collect(Collectors.toMap(
-                        e -> e.getKey().toString(),
-                        e -> ((ValueNodeImpl) e.getValue()).get()
-                ));
+        Map<String, String> result = new HashMap<>();
+        addNodes(ConfigKeyImpl.of(), objectNode, (key, node) -> {
+            if (node instanceof ValueNodeImpl valueNode) {
+                result.put(key.toString(), valueNode.get());
+            }
+        });
+        return result;
     }
 
     static Map<ConfigKeyImpl, ConfigNode> createFullKeyToNodeMap(ConfigNode.ObjectNode objectNode) {
-        Map<ConfigKeyImpl, ConfigNode> result;
-
-        Stream<Map.Entry<ConfigKeyImpl, ConfigNode>> flattenNodes = objectNode.entrySet()
-                .stream()
-                .map(node -> flattenNodes(ConfigKeyImpl.of(node.getKey()), node.getValue()))
-                .reduce(Stream.empty(), Stream::concat);
-        result = flattenNodes.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-        result.put(ConfigKeyImpl.of(), objectNode);
-
+        Map<ConfigKeyImpl, ConfigNode> result = new HashMap<>();
+        addNodes(ConfigKeyImpl.of(), objectNode, result::put);
         return result;
     }
 
-    static Stream<Map.Entry<ConfigKeyImpl, ConfigNode>> flattenNodes(ConfigKeyImpl key, ConfigNode node) {
+    // a single pass over the tree, as nested streams of large trees are expensive to create and to consume
+    private static void addNodes(ConfigKeyImpl key, ConfigNode node, BiConsumer<ConfigKeyImpl, ConfigNode> consumer) {
+        consumer.accept(key, node);
         switch (node.nodeType()) {
         case OBJECT:
-            return ((ConfigNode.ObjectNode) node).entrySet().stream()
-                    .map(e -> flattenNodes(key.child(e.getKey()), e.getValue()))
-                    .reduce(Stream.of(new AbstractMap.SimpleEntry<>(key, node)), Stream::concat);
+            ((ConfigNode.ObjectNode) node).forEach((name, child) -> addNodes(key.child(name), child, consumer));
+            break;
         case LIST:
-            return IntStream.range(0, ((ConfigNode.ListNode) node).size())
-                    .boxed()
-                    .map(i -> flattenNodes(key.child(Integer.toString(i)), ((ConfigNode.ListNode) node).get(i)))
-                    .reduce(Stream.of(new AbstractMap.SimpleEntry<>(key, node)), Stream::concat);
+            ConfigNode.ListNode listNode = (ConfigNode.ListNode) node;
+            for (int i = 0; i < listNode.size(); i++) {
+                addNodes(key.child(Integer.toString(i)), listNode.get(i), consumer);
+            }
+            break;
         case VALUE:
-            return Stream.of(new AbstractMap.SimpleEntry<>(key, node));
+            break;
         default:
             throw new IllegalArgumentException("Invalid node type.");
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,14 +16,32 @@
 
 package io.helidon.config;
 
+import java.io.File;
 import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -39,6 +57,32 @@ import io.helidon.config.spi.ConfigMapperProvider;
  */
 class ConfigMapperManager implements ConfigMapper {
     private static final Map<Class<?>, Class<?>> REPLACED_TYPES = new HashMap<>();
+    // types whose instances cannot be modified, so a mapped value can be shared by all readers of a config node
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(String.class,
+                                                                Boolean.class,
+                                                                Byte.class,
+                                                                Short.class,
+                                                                Integer.class,
+                                                                Long.class,
+                                                                Float.class,
+                                                                Double.class,
+                                                                Character.class,
+                                                                BigInteger.class,
+                                                                BigDecimal.class,
+                                                                Duration.class,
+                                                                Period.class,
+                                                                Instant.class,
+                                                                LocalDate.class,
+                                                                LocalDateTime.class,
+                                                                LocalTime.class,
+                                                                OffsetDateTime.class,
+                                                                OffsetTime.class,
+                                                                ZonedDateTime.class,
+                                                                ZoneOffset.class,
+                                                                URI.class,
+                                                                UUID.class,
+                                                                File.class,
+                                                                Class.class);
 
     static {
         REPLACED_TYPES.put(byte.class, Byte.class);
@@ -52,10 +96,13 @@ class ConfigMapperManager implements ConfigMapper {
     }
 
     private final Map<GenericType<?>, Mapper<?>> mappers;
+    // the same mappers by class, to avoid creating a generic type for each mapping
+    private final Map<Class<?>, Mapper<?>> classMappers;
     private final MapperProviders mapperProviders;
 
     ConfigMapperManager(MapperProviders mapperProviders) {
         this.mappers = new ConcurrentHashMap<>();
+        this.classMappers = new ConcurrentHashMap<>();
         this.mapperProviders = mapperProviders;
     }
 
@@ -64,7 +111,14 @@ class ConfigMapperManager implements ConfigMapper {
         if (type.isArray()) {
             return mapArray(config, type);
         }
-        return map(config, GenericType.create(supportedType(type)));
+        Class<T> supportedType = supportedType(type);
+        Mapper<?> mapper = classMappers.get(supportedType);
+        if (mapper == null) {
+            GenericType<T> genericType = GenericType.create(supportedType);
+            mapper = mappers.computeIfAbsent(genericType, theType -> findMapper(theType, config.key()));
+            classMappers.put(supportedType, mapper);
+        }
+        return cast(mapper.apply(config, this));
     }
 
     @SuppressWarnings("unchecked")
@@ -117,6 +171,21 @@ class ConfigMapperManager implements ConfigMapper {
         }
     }
 
+    /**
+     * Whether instances of the type are immutable, so that a value mapped from a config node can be reused.
+     *
+     * @param type type to check
+     * @return {@code true} for known immutable types and enums
+     */
+    static boolean isImmutable(Class<?> type) {
+        Class<?> supportedType = supportedType(type);
+        return IMMUTABLE_TYPES.contains(supportedType)
+                || supportedType.isEnum()
+                || ZoneId.class.isAssignableFrom(supportedType)
+                || Charset.class.isAssignableFrom(supportedType)
+                || Path.class.isAssignableFrom(supportedType);
+    }
+
     /**
      * Provides mapping from a class to a supported class.
      * This is used to map Java primitives to their respective object classes.
@@ -130,6 +199,11 @@ class ConfigMapperManager implements ConfigMapper {
         return (Class<T>) REPLACED_TYPES.getOrDefault(type, type);
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object instance) {
+        return (T) instance;
+    }
+
     Config simpleConfig(String name, String stringValue) {
         return new SingleValueConfigImpl(this, name, stringValue);
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -131,6 +131,26 @@ public final class ConfigValues {
                                             aConfig -> aConfig.as(type));
     }
 
+    /**
+     * Create a config value that maps the node only once, for types that are immutable. A failed mapping is not
+     * remembered and is attempted again the next time the value is requested.
+     * Concurrent (or recursive, such as when resolving references) requests may map the node more than once.
+     *
+     * @param config config node, must not change (which is true for nodes of a single version of the config tree)
+     * @param type type to map to, must be immutable
+     * @param mapperManager mapper manager to map the node
+     * @param <T> type of the value
+     * @return config value remembering the mapped value
+     */
+    static <T> ConfigValue<T> createMemoized(Config config,
+                                             Class<T> type,
+                                             ConfigMapperManager mapperManager) {
+
+        return new GenericConfigValueImpl<>(config,
+                                            new MemoizedSupplier<>(() -> Optional.ofNullable(mapperManager.map(config, type))),
+                                            aConfig -> aConfig.as(type));
+    }
+
     static <T> ConfigValue<T> create(Config config,
                                      GenericType<T> genericType,
                                      ConfigMapperManager mapperManager) {
@@ -268,4 +288,22 @@ public final class ConfigValues {
         }
     }
 
+    private static final class MemoizedSupplier<T> implements Supplier<Optional<T>> {
+        private final Supplier<Optional<T>> delegate;
+        private volatile Optional<T> value;
+
+        private MemoizedSupplier(Supplier<Optional<T>> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Optional<T> get() {
+            Optional<T> result = value;
+            if (result == null) {
+                result = delegate.get();
+                value = result;
+            }
+            return result;
+        }
+    }
 }
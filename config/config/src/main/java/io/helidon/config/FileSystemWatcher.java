@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,14 +27,20 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import io.helidon.common.LazyValue;
 import io.helidon.config.spi.ChangeEventType;
 import io.helidon.config.spi.ChangeWatcher;
 
@@ -50,7 +56,10 @@ import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
  * WatchService} is scheduled again and again until the directory finally exists and the registration is successful.
  * <p>
  * This {@link io.helidon.config.spi.ChangeWatcher} might be initialized with a custom {@link ScheduledExecutorService executor}
- * or the {@link Executors#newSingleThreadScheduledExecutor()} is used if none is explicitly configured.
+ * or a single thread shared by all file system watchers without a custom executor is used. The watcher never blocks
+ * the thread waiting for changes, so one thread can serve all watched files of an application.
+ * When the shared thread is used, listeners are notified on a separate thread, one event of a watched path
+ * at a time, so a slow listener does not delay the detection of changes of other paths.
  * <p>
  * This watcher notifies with appropriate change event in the following cases:
  * <ul>
@@ -67,13 +76,17 @@ import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
 public final class FileSystemWatcher implements ChangeWatcher<Path> {
 
     private static final Logger LOGGER = Logger.getLogger(FileSystemWatcher.class.getName());
+    private static final LazyValue<ScheduledExecutorService> SHARED_EXECUTOR = LazyValue.create(
+            () -> Executors.newSingleThreadScheduledExecutor(new ConfigThreadFactory("file-watch-polling")));
+    private static final LazyValue<ExecutorService> SHARED_NOTIFIER = LazyValue.create(
+            () -> Executors.newCachedThreadPool(new ConfigThreadFactory("file-watch-events")));
 
     /*
      * Configurable options through builder.
      */
     private final List<WatchEvent.Modifier> watchServiceModifiers = new LinkedList<>();
-    private ScheduledExecutorService executor;
-    private final boolean defaultExecutor;
+    private final ScheduledExecutorService executor;
+    private final boolean sharedExecutor;
     private final long initialDelay;
     private final long delay;
     private final TimeUnit timeUnit;
@@ -84,14 +97,8 @@ public final class FileSystemWatcher implements ChangeWatcher<Path> {
     private final List<TargetRuntime> runtimes = Collections.synchronizedList(new LinkedList<>());
 
     private FileSystemWatcher(Builder builder) {
-        ScheduledExecutorService executor = builder.executor;
-        if (executor == null) {
-            this.executor = Executors.newSingleThreadScheduledExecutor(new ConfigThreadFactory("file-watch-polling"));
-            this.defaultExecutor = true;
-        } else {
-            this.executor = executor;
-            this.defaultExecutor = false;
-        }
+        this.sharedExecutor = builder.executor == null;
+        this.executor = sharedExecutor ? SHARED_EXECUTOR.get() : builder.executor;
 
         this.watchServiceModifiers.addAll(builder.watchServiceModifiers);
 
@@ -119,15 +126,12 @@ public final class FileSystemWatcher implements ChangeWatcher<Path> {
 
     @Override
     public synchronized void start(Path target, Consumer<ChangeEvent<Path>> listener) {
-        if (defaultExecutor && executor.isShutdown()) {
-            executor = Executors.newSingleThreadScheduledExecutor(new ConfigThreadFactory("file-watch-polling"));
-        }
         if (executor.isShutdown()) {
             throw new ConfigException("Cannot start a watcher for path " + target + ", as the executor service is shutdown");
         }
 
         Monitor monitor = new Monitor(
-                listener,
+                sharedExecutor ? new SerialListener(listener, target, SHARED_NOTIFIER.get()) : listener,
                 target,
                 watchServiceModifiers);
 
@@ -139,10 +143,8 @@ public final class FileSystemWatcher implements ChangeWatcher<Path> {
     @Override
     public synchronized void stop() {
         runtimes.forEach(TargetRuntime::stop);
-
-        if (defaultExecutor) {
-            ConfigUtils.shutdownExecutor(executor);
-        }
+        runtimes.clear();
+        // the shared executor is used by other watchers, its daemon thread is never shut down
     }
 
     @Override
@@ -176,6 +178,54 @@ public final class FileSystemWatcher implements ChangeWatcher<Path> {
         }
     }
 
+    /*
+     * Notifies the listener of a single target on the shared notifier threads, keeping the order of its events.
+     */
+    private static final class SerialListener implements Consumer<ChangeEvent<Path>> {
+        private final Consumer<ChangeEvent<Path>> listener;
+        private final Path target;
+        private final Executor executor;
+        private final Queue<ChangeEvent<Path>> events = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean running = new AtomicBoolean();
+
+        private SerialListener(Consumer<ChangeEvent<Path>> listener, Path target, Executor executor) {
+            this.listener = listener;
+            this.target = target;
+            this.executor = executor;
+        }
+
+        @Override
+        public void accept(ChangeEvent<Path> event) {
+            events.add(event);
+            drain();
+        }
+
+        private void drain() {
+            if (running.compareAndSet(false, true)) {
+                executor.execute(this::notifyListener);
+            }
+        }
+
+        private void notifyListener() {
+            try {
+                ChangeEvent<Path> event;
+                while ((event = events.poll()) != null) {
+                    try {
+                        listener.accept(event);
+                    } catch (RuntimeException e) {
+                        LOGGER.log(Level.WARNING, "Failed to process change event of " + target, e);
+                    }
+                }
+            } finally {
+                running.set(false);
+            }
+            // an event may have been added after the last poll
+            if (!events.isEmpty()) {
+                drain();
+            }
+        }
+    }
+
     private static final class Monitor implements Runnable {
         private final WatchService watchService;
         private final Consumer<ChangeEvent<Path>> listener;
@@ -399,6 +449,8 @@ public final class FileSystemWatcher implements ChangeWatcher<Path> {
          * Executor to use for this watcher.
          * The task is scheduled for regular execution and is only blocking a thread for the time needed
          * to process changed files.
+         * If not configured, a single thread shared by all file system watchers is used, and listeners
+         * are notified on separate threads.
          *
          * @param executor executor service to use
          * @return updated builder instance
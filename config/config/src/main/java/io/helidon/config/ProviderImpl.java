@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -59,6 +59,9 @@ class ProviderImpl implements Config.Context {
 
     private ConfigDiff lastConfigsDiff;
     private AbstractConfigImpl lastConfig;
+    private ObjectNode lastRootNode;
+    // whether the values may be filtered based on other than the key, the value and the referenced values
+    private boolean customFilters;
     private boolean listening;
 
     @SuppressWarnings("ParameterNumber")
@@ -87,13 +90,14 @@ class ProviderImpl implements Config.Context {
     }
 
     public synchronized AbstractConfigImpl newConfig() {
-        lastConfig = build(configSource.load());
+        lastRootNode = resolveRoot(configSource.load());
+        lastConfig = build(lastRootNode);
 
         if (!listening) {
             // only start listening for changes once the first config is built
-            configSource.changeListener(objectNode -> rebuild(objectNode, false));
+            configSource.changeListener(objectNode -> rebuild(objectNode, false, true));
             configSource.startChanges();
-            overrideSource.changeListener(() -> rebuild(configSource.latest(), false));
+            overrideSource.changeListener(() -> rebuild(configSource.latest(), false, false));
             overrideSource.startChanges();
             listening = true;
         }
@@ -103,7 +107,7 @@ class ProviderImpl implements Config.Context {
 
     @Override
     public synchronized Config reload() {
-        rebuild(configSource.latest(), true);
+        rebuild(configSource.latest(), true, false);
         return lastConfig;
     }
 
@@ -121,10 +125,13 @@ class ProviderImpl implements Config.Context {
         this.listeners.add(listener);
     }
 
-    private synchronized AbstractConfigImpl build(Optional<ObjectNode> rootNode) {
-
+    private ObjectNode resolveRoot(Optional<ObjectNode> rootNode) {
         // resolve tokens
-        rootNode = rootNode.map(this::resolveKeys);
+        return rootNode.map(this::resolveKeys)
+                .orElseGet(ObjectNode::empty);
+    }
+
+    private synchronized AbstractConfigImpl build(ObjectNode rootNode) {
         // filtering
         ChainConfigFilter targetFilter = new ChainConfigFilter();
         // add override filter
@@ -132,13 +139,14 @@ class ProviderImpl implements Config.Context {
 
         // factory
         ConfigFactory factory = new ConfigFactory(configMapperManager,
-                                                  rootNode.orElseGet(ObjectNode::empty),
+                                                  rootNode,
                                                   targetFilter,
                                                   this,
                                                   aliasGenerator);
         AbstractConfigImpl config = factory.config();
         // initialize filters
         initializeFilters(config, targetFilter);
+        customFilters = targetFilter.customFilters();
         // caching
         if (cachingEnabled) {
             targetFilter.enableCaching();
@@ -156,6 +164,10 @@ class ProviderImpl implements Config.Context {
             }
 
             Map<String, String> tokenValueMap = tokenToValueMap(flattenValueNodes);
+            if (tokenValueMap.isEmpty() && rootNode.value().isEmpty()) {
+                // no key references, keep the nodes of the sources, so a diff can skip the ones that did not change
+                return rootNode;
+            }
             boolean failOnMissingKeyReference = getBoolean(flattenValueNodes,
                                                            "config.key-resolving.fail-on-missing-reference",
                                                            keyResolvingFailOnMissing);
@@ -175,6 +187,8 @@ class ProviderImpl implements Config.Context {
                 }
                 return token;
             };
+        } else if (rootNode.value().isEmpty()) {
+            return rootNode;
         }
         return ObjectNodeBuilderImpl.create(rootNode, resolveTokenFunction).build();
     }
@@ -222,20 +236,32 @@ class ProviderImpl implements Config.Context {
         return token;
     }
 
-    private synchronized void rebuild(Optional<ObjectNode> objectNode, boolean force) {
+    /*
+     * Source changes only need to compare the nodes that differ, as filters are the same as for the last config.
+     * Changes of override source (and forced reloads) compare the whole configuration tree.
+     */
+    private synchronized void rebuild(Optional<ObjectNode> objectNode, boolean force, boolean sourceChange) {
         // 1. build new Config
-        AbstractConfigImpl newConfig = build(objectNode);
+        ObjectNode newRootNode = resolveRoot(objectNode);
+        AbstractConfigImpl newConfig = build(newRootNode);
         // 2. for each subscriber fire event on specific node/key - see AbstractConfigImpl.FilteringConfigChangeEventSubscriber
         // 3. fire event
-        ConfigDiff configsDiff = ConfigDiff.from(lastConfig, newConfig);
+        ConfigDiff configsDiff;
+        if (sourceChange && !customFilters) {
+            configsDiff = ConfigDiff.from(lastConfig, lastRootNode, newConfig, newRootNode);
+        } else {
+            configsDiff = ConfigDiff.from(lastConfig, newConfig);
+        }
         if (!configsDiff.isEmpty()) {
             lastConfig = newConfig;
+            lastRootNode = newRootNode;
             lastConfigsDiff = configsDiff;
 
             fireLastChangeEvent();
         } else {
             if (force) {
                 lastConfig = newConfig;
+                lastRootNode = newRootNode;
             }
 
             LOGGER.log(Level.FINER, "Change event is not fired, there is no change from the last load.");
@@ -287,6 +313,7 @@ class ProviderImpl implements Config.Context {
 
         private final List<Function<Config, ConfigFilter>> filterProviders;
         private boolean cachingEnabled = false;
+        private boolean customFilters = false;
         private ConcurrentMap<Config.Key, String> valueCache;
         private Config config;
 
@@ -306,6 +333,9 @@ class ProviderImpl implements Config.Context {
             if (cachingEnabled) {
                 throw new IllegalStateException("Cannot add new filter to the chain when cache is already enabled.");
             }
+            if (!(filter instanceof ValueResolvingFilter || filter instanceof OverrideConfigFilter)) {
+                customFilters = true;
+            }
             filterProviders.add((config) -> filter);
         }
 
@@ -335,5 +365,19 @@ class ProviderImpl implements Config.Context {
             this.cachingEnabled = true;
             this.valueCache = new ConcurrentHashMap<>();
         }
+
+        boolean cachingEnabled() {
+            return cachingEnabled;
+        }
+
+        /**
+         * Whether there is a filter other than the built-in value resolving and override filters.
+         * Such filters may derive values from any part of the configuration.
+         *
+         * @return {@code true} if a custom filter is registered
+         */
+        boolean customFilters() {
+            return customFilters;
+        }
     }
 }
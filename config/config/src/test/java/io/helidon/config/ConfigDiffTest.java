@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,13 @@
 
 package io.helidon.config;
 
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import io.helidon.config.spi.ConfigNode.ObjectNode;
+import io.helidon.config.spi.ConfigNode.ValueNode;
+
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -261,6 +265,85 @@ public class ConfigDiffTest {
 
     }
 
+    @Test
+    public void testChangedNodesSameAsFullDiff() {
+        List<Map<String, String>> trees = List.of(OBJECT_WITH_LEAVES,
+                                                  OBJECT_WITH_LEAVES_CHANGED_LEAF,
+                                                  OBJECT_WITH_LEAVES_CHANGED_LEAF_TO_OBJECT,
+                                                  OBJECT_WITH_LEAVES_ADDED_LEAF,
+                                                  OBJECT_WITH_LEAVES_ADDED_OBJECT);
+
+        for (Map<String, String> leftTree : trees) {
+            for (Map<String, String> rightTree : trees) {
+                ObjectNode leftRoot = root(leftTree);
+                ObjectNode rightRoot = root(rightTree);
+                Config left = config(leftRoot);
+                Config right = config(rightRoot);
+
+                ConfigDiff diff = ConfigDiff.from(left, leftRoot, right, rightRoot);
+
+                assertThat(diff.config(), is(right));
+                assertThat(leftTree + " -> " + rightTree,
+                           diff.changedKeys(),
+                           is(ConfigDiff.from(left, right).changedKeys()));
+            }
+        }
+    }
+
+    @Test
+    public void testChangedNodesWithReference() {
+        ObjectNode leftRoot = root(Map.of("o.p.q", "something",
+                                          "a.a", "${o.p.q}",
+                                          "a.b", "value"));
+        ObjectNode rightRoot = root(Map.of("o.p.q", "something else",
+                                           "a.a", "${o.p.q}",
+                                           "a.b", "value"));
+
+        ConfigDiff diff = ConfigDiff.from(config(leftRoot), leftRoot, config(rightRoot), rightRoot);
+
+        assertThatChangedKeysContainsInAnyOrder(diff, "", "o", "o.p", "o.p.q", "a", "a.a");
+    }
+
+    @Test
+    public void testSharedReferenceCompared() {
+        ValueNode reference = ValueNodeImpl.create("${o.p.q}");
+        ObjectNode leftRoot = ObjectNode.builder()
+                .addValue("o.p.q", "something")
+                .addValue("a.a", reference)
+                .build();
+        ObjectNode rightRoot = ObjectNode.builder()
+                .addValue("o.p.q", "something else")
+                .addValue("a.a", reference)
+                .build();
+
+        ConfigDiff diff = ConfigDiff.from(config(leftRoot), leftRoot, config(rightRoot), rightRoot);
+
+        assertThatChangedKeysContainsInAnyOrder(diff, "", "o", "o.p", "o.p.q", "a", "a.a");
+    }
+
+    @Test
+    public void testSameRootNotChanged() {
+        ObjectNode root = root(OBJECT_WITH_LEAVES);
+
+        ConfigDiff diff = ConfigDiff.from(config(root), root, config(root(OBJECT_WITH_LEAVES_CHANGED_LEAF)), root);
+
+        assertThat(diff.changedKeys(), is(empty()));
+    }
+
+    private static ObjectNode root(Map<String, String> tree) {
+        ObjectNode.Builder builder = ObjectNode.builder();
+        tree.forEach(builder::addValue);
+        return builder.build();
+    }
+
+    private static Config config(ObjectNode root) {
+        return Config.builder()
+                .sources(ConfigSources.create(root))
+                .disableEnvironmentVariablesSource()
+                .disableSystemPropertiesSource()
+                .build();
+    }
+
     static void assertThatChangedKeysContainsInAnyOrder(ConfigDiff diff, String... expectedKeys) {
         assertThat(diff.changedKeys().stream()
                            .map(Config.Key::toString)
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Hot reads of typed config values, as done by components reading settings for each request.
+ * With caching disabled, values are filtered and mapped on each read.
+ */
+@State(Scope.Benchmark)
+public class ConfigReadJMH {
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(ConfigReadJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Param({"true", "false"})
+    boolean caching;
+
+    private Config config;
+
+    @Setup
+    public void setup() {
+        Config.Builder builder = Config.builder()
+                .sources(ConfigSources.create(Map.of("server.port", "8080",
+                                                     "server.timeout", "PT30S",
+                                                     "server.tracing.enabled", "true")))
+                .disableEnvironmentVariablesSource()
+                .disableSystemPropertiesSource();
+        if (!caching) {
+            builder.disableCaching();
+        }
+        config = builder.build();
+    }
+
+    @Benchmark
+    public int readInt() {
+        return config.get("server.port").asInt().get();
+    }
+
+    @Benchmark
+    public boolean readBoolean() {
+        return config.get("server.tracing.enabled").asBoolean().orElse(false);
+    }
+
+    @Benchmark
+    public Duration readDuration() {
+        return config.get("server.timeout").as(Duration.class).get();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.common.GenericType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests memoization of values mapped to immutable types and of child node lookups.
+ */
+class MemoizedValuesTest {
+
+    @Test
+    void testImmutableTypeMemoized() {
+        AtomicInteger mappings = new AtomicInteger();
+        Config config = config(Config.builder()
+                                       .addMapper(Duration.class, it -> {
+                                           mappings.incrementAndGet();
+                                           return Duration.parse(it.asString().get());
+                                       }));
+
+        Duration first = config.get("timeout").as(Duration.class).get();
+        assertThat(config.get("timeout").as(Duration.class).get(), sameInstance(first));
+        assertThat(config.get("timeout").as(GenericType.create(Duration.class)).get(), sameInstance(first));
+        assertThat(config.get("timeout").as(Duration.class).map(Duration::toSeconds).get(), is(10L));
+        assertThat(mappings.get(), is(1));
+
+        assertThat(config.get("port").asInt().get(), is(8080));
+        assertThat(config.get("port").as(int.class).get(), is(8080));
+        assertThat(config.get("port").asString().get(), is("8080"));
+    }
+
+    @Test
+    void testMutableTypeNotMemoized() {
+        Config config = config(Config.builder()
+                                       .addMapper(StringBuilder.class, it -> new StringBuilder(it.asString().get())));
+
+        StringBuilder first = config.get("port").as(StringBuilder.class).get();
+        first.append("0");
+
+        StringBuilder second = config.get("port").as(StringBuilder.class).get();
+        assertThat(second, not(sameInstance(first)));
+        assertThat(second.toString(), is("8080"));
+    }
+
+    @Test
+    void testFailureNotMemoized() {
+        AtomicInteger mappings = new AtomicInteger();
+        Config config = config(Config.builder()
+                                       .addMapper(Integer.class, it -> {
+                                           mappings.incrementAndGet();
+                                           return Integer.parseInt(it.asString().get());
+                                       }));
+
+        assertThrows(NumberFormatException.class, () -> config.get("name").asInt().get());
+        assertThrows(NumberFormatException.class, () -> config.get("name").asInt().get());
+        assertThat(mappings.get(), is(2));
+    }
+
+    @Test
+    void testNotMemoizedWithoutCaching() {
+        Config config = config(Config.builder()
+                                       .disableCaching());
+
+        Duration first = config.get("timeout").as(Duration.class).get();
+        assertThat(config.get("timeout").as(Duration.class).get(), not(sameInstance(first)));
+        assertThat(config.get("timeout").as(Duration.class).get(), is(first));
+    }
+
+    @Test
+    void testChildNodes() {
+        Config config = config(Config.builder());
+
+        assertThat(config.get("port"), sameInstance(config.get("port")));
+        assertThat(config.get(""), sameInstance(config));
+        // more keys than cached by a node, including missing ones
+        for (int i = 0; i < 100; i++) {
+            assertThat(config.get("missing-" + i).exists(), is(false));
+        }
+        assertThat(config.get("timeout").as(Duration.class).get(), is(Duration.ofSeconds(10)));
+        assertThat(config.get("missing-99").exists(), is(false));
+    }
+
+    private static Config config(Config.Builder builder) {
+        return builder.sources(ConfigSources.create(Map.of("timeout", "PT10S",
+                                                           "port", "8080",
+                                                           "name", "helidon")))
+                .disableEnvironmentVariablesSource()
+                .disableSystemPropertiesSource()
+                .build();
+    }
+}
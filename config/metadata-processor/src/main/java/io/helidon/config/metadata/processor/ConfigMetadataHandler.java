@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,14 +16,18 @@
 
 package io.helidon.config.metadata.processor;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -38,6 +42,7 @@ import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.Name;
+import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.DeclaredType;
@@ -73,6 +78,10 @@ class ConfigMetadataHandler {
     private final Map<String, ConfiguredType> newOptions = new HashMap<>();
     // map of module name to list of classes that belong to it
     private final Map<String, List<String>> moduleTypes = new HashMap<>();
+    // map of package name to types with a create(Config) method, to generate config mappers for
+    private final Map<String, Set<String>> mappedTypes = new TreeMap<>();
+    // config mapper providers generated as part of this processor run - these will be stored to the services file
+    private final Set<String> mapperProviders = new TreeSet<>();
 
     /*
      * Compiler utilities for annotation processing
@@ -132,9 +141,11 @@ class ConfigMetadataHandler {
         for (Element aClass : classes) {
             processClass(aClass);
         }
+        writeMapperProviders();
 
         if (roundEnv.processingOver()) {
             storeMetadata();
+            storeMapperServices();
         }
 
         return false;
@@ -326,9 +337,11 @@ class ConfigMetadataHandler {
         type.addProducer(new ProducerMethod(false, className, "build", new String[0]));
 
         // find create(Config) method on the class
-        if (hasCreate(elementUtils.getTypeElement(targetClass))) {
+        TypeElement targetElement = elementUtils.getTypeElement(targetClass);
+        if (hasCreate(targetElement)) {
             type.addProducer(new ProducerMethod(true, targetClass, "create",
                                                 new String[] {"io.helidon.config.Config"}));
+            addMappedType(builderElement, targetElement);
         }
 
         elementUtils.getAllMembers(builderElement)
@@ -409,6 +422,7 @@ class ConfigMetadataHandler {
                                                     className,
                                                     configCreator.getSimpleName().toString(),
                                                     methodParams(configCreator)));
+                addMappedType(typeElement, typeElement);
             }
             // now let's find all methods with @ConfiguredOption
             for (ExecutableElement validMethod : validMethods) {
@@ -527,6 +541,34 @@ class ConfigMetadataHandler {
                 });
     }
 
+    /*
+     * The mapper is generated into the package of the annotated type, so the target type must be accessible from there.
+     */
+    private void addMappedType(TypeElement annotatedElement, TypeElement targetElement) {
+        String packageName = packageName(annotatedElement);
+        if (packageName.isEmpty()) {
+            return;
+        }
+        Element current = targetElement;
+        while (current instanceof TypeElement) {
+            Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC) && !packageName(current).equals(packageName)) {
+                return;
+            }
+            current = current.getEnclosingElement();
+        }
+        mappedTypes.computeIfAbsent(packageName, it -> new TreeSet<>())
+                .add(targetElement.getQualifiedName().toString());
+    }
+
+    private String packageName(Element element) {
+        PackageElement packageElement = elementUtils.getPackageOf(element);
+        return packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+    }
+
     private void processBuilderMethod(ExecutableElement element,
                                       ConfiguredType configuredType,
                                       String className) {
@@ -688,6 +730,54 @@ class ConfigMetadataHandler {
         }
     }
 
+    private void writeMapperProviders() {
+        for (var entry : mappedTypes.entrySet()) {
+            String className = entry.getKey() + "." + MapperProviderSource.CLASS_NAME;
+            if (mapperProviders.contains(className)) {
+                // types of this package found in a later round are mapped by object mapping
+                continue;
+            }
+            try (PrintWriter writer = new PrintWriter(filer.createSourceFile(className).openWriter())) {
+                writer.write(MapperProviderSource.create(entry.getKey(), entry.getValue()));
+                mapperProviders.add(className);
+            } catch (IOException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Failed to write config mapper provider: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+        mappedTypes.clear();
+    }
+
+    private void storeMapperServices() {
+        if (mapperProviders.isEmpty()) {
+            return;
+        }
+        // keep the providers already listed in the resources of the module
+        Set<String> providers = new LinkedHashSet<>();
+        try (BufferedReader reader = new BufferedReader(filer.getResource(StandardLocation.CLASS_OUTPUT,
+                                                                          "",
+                                                                          MapperProviderSource.SERVICES_FILE)
+                                                                .openReader(true))) {
+            reader.lines()
+                    .map(String::trim)
+                    .filter(it -> !it.isEmpty())
+                    .forEach(providers::add);
+        } catch (IOException e) {
+            // there is no services file yet
+        }
+        providers.addAll(mapperProviders);
+
+        try (PrintWriter writer = new PrintWriter(filer.createResource(StandardLocation.CLASS_OUTPUT,
+                                                                       "",
+                                                                       MapperProviderSource.SERVICES_FILE)
+                                                          .openWriter())) {
+            providers.forEach(writer::println);
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Failed to write config mapper services: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
     private String toMessage(Exception e) {
         return e.getClass().getName() + ": " + e.getMessage();
     }
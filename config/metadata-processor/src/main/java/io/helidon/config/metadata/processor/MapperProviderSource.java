@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.config.metadata.processor;
+
+import java.util.Set;
+
+/*
+ * Source of a config mapper provider for the configured types of a single package.
+ * The mappers call the create(Config) method of each type directly, so mapping does not use reflection.
+ */
+final class MapperProviderSource {
+    static final String CLASS_NAME = "ConfiguredTypesMapperProvider";
+    static final String SERVICES_FILE = "META-INF/services/io.helidon.config.spi.ConfigMapperProvider";
+    /*
+     * After mapper services (100) and built-in mappers (200), before the reflection based object mapping (1000)
+     */
+    static final int PRIORITY = 900;
+
+    private MapperProviderSource() {
+    }
+
+    /**
+     * Source code of the mapper provider.
+     *
+     * @param packageName package of the provider
+     * @param types       canonical names of types with a public static {@code create(Config)} method
+     * @return source code
+     */
+    static String create(String packageName, Set<String> types) {
+        StringBuilder source = new StringBuilder();
+        source.append("/*\n")
+                .append(" * Generated by the Helidon config metadata processor, do not edit.\n")
+                .append(" */\n")
+                .append("package ").append(packageName).append(";\n")
+                .append('\n')
+                .append("/**\n")
+                .append(" * Config mappers of the configured types of this package.\n")
+                .append(" */\n")
+                .append("@jakarta.annotation.Priority(").append(PRIORITY).append(")\n")
+                .append("@SuppressWarnings({\"deprecation\", \"removal\"})\n")
+                .append("public final class ").append(CLASS_NAME)
+                .append(" implements io.helidon.config.spi.ConfigMapperProvider {\n")
+                .append("    /**\n")
+                .append("     * Required for service loader.\n")
+                .append("     */\n")
+                .append("    public ").append(CLASS_NAME).append("() {\n")
+                .append("    }\n")
+                .append('\n')
+                .append("    @Override\n")
+                .append("    public java.util.Map<Class<?>, java.util.function.Function<io.helidon.config.Config, ?>> mappers() {\n")
+                .append("        java.util.Map<Class<?>, java.util.function.Function<io.helidon.config.Config, ?>> mappers\n")
+                .append("                = new java.util.HashMap<>();\n");
+        for (String type : types) {
+            source.append("        mappers.put(").append(type).append(".class, ").append(type).append("::create);\n");
+        }
+        source.append("        return mappers;\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,7 +15,8 @@
  */
 
 /**
- * Annotation processor generating JSON metadata for configuration.
+ * Annotation processor generating JSON metadata for configuration, and config mappers of
+ * configured types with a {@code create(Config)} method.
  */
 module io.helidon.config.metadata.processor {
     requires java.compiler;
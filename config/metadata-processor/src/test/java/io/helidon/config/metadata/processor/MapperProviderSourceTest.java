@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.config.metadata.processor;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MapperProviderSourceTest {
+    private static final Map<String, String> SOURCES = Map.of(
+            // types used by the processor, so we do not depend on config (config uses this processor)
+            "io/helidon/common/Builder.java",
+            "package io.helidon.common;\n"
+                    + "public interface Builder<B extends Builder<B, T>, T> {\n"
+                    + "    T build();\n"
+                    + "}\n",
+            "io/helidon/config/Config.java",
+            "package io.helidon.config;\n"
+                    + "public interface Config {\n"
+                    + "}\n",
+            "io/helidon/config/spi/ConfigMapperProvider.java",
+            "package io.helidon.config.spi;\n"
+                    + "public interface ConfigMapperProvider {\n"
+                    + "    java.util.Map<Class<?>, java.util.function.Function<io.helidon.config.Config, ?>> mappers();\n"
+                    + "}\n",
+            "io/helidon/config/metadata/Configured.java",
+            "package io.helidon.config.metadata;\n"
+                    + "public @interface Configured {\n"
+                    + "}\n",
+            "jakarta/annotation/Priority.java",
+            "package jakarta.annotation;\n"
+                    + "public @interface Priority {\n"
+                    + "    int value();\n"
+                    + "}\n",
+            // configured types
+            "com/example/Server.java",
+            "package com.example;\n"
+                    + "public class Server {\n"
+                    + "    public static Server create(io.helidon.config.Config config) {\n"
+                    + "        return new Server();\n"
+                    + "    }\n"
+                    + "    @io.helidon.config.metadata.Configured\n"
+                    + "    public static class Builder implements io.helidon.common.Builder<Builder, Server> {\n"
+                    + "        public Server build() {\n"
+                    + "            return new Server();\n"
+                    + "        }\n"
+                    + "    }\n"
+                    + "}\n",
+            "com/example/Client.java",
+            "package com.example;\n"
+                    + "@io.helidon.config.metadata.Configured\n"
+                    + "public class Client {\n"
+                    + "    public static Client create(io.helidon.config.Config config) {\n"
+                    + "        return new Client();\n"
+                    + "    }\n"
+                    + "}\n",
+            "com/example/Outer.java",
+            "package com.example;\n"
+                    + "public class Outer {\n"
+                    + "    @io.helidon.config.metadata.Configured\n"
+                    + "    private static class Hidden {\n"
+                    + "        public static Hidden create(io.helidon.config.Config config) {\n"
+                    + "            return new Hidden();\n"
+                    + "        }\n"
+                    + "    }\n"
+                    + "}\n");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testGeneratedMappers() throws Exception {
+        Path classes = compile();
+
+        assertThat(Files.readAllLines(classes.resolve(MapperProviderSource.SERVICES_FILE)),
+                   is(List.of("com.example.Other", "com.example." + MapperProviderSource.CLASS_NAME)));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {classes.toUri().toURL()})) {
+            Object provider = loader.loadClass("com.example." + MapperProviderSource.CLASS_NAME)
+                    .getConstructor()
+                    .newInstance();
+            @SuppressWarnings("unchecked")
+            Map<Class<?>, Function<Object, ?>> mappers = (Map<Class<?>, Function<Object, ?>>) provider.getClass()
+                    .getMethod("mappers")
+                    .invoke(provider);
+
+            Class<?> server = loader.loadClass("com.example.Server");
+            Class<?> client = loader.loadClass("com.example.Client");
+            assertThat(mappers.keySet(), is(Set.of(server, client)));
+            assertThat(mappers.get(server).apply(null), instanceOf(server));
+            assertThat(mappers.get(client).apply(null), instanceOf(client));
+        }
+    }
+
+    private Path compile() throws IOException {
+        Path sources = dir.resolve("src");
+        Path classes = dir.resolve("classes");
+        for (var entry : SOURCES.entrySet()) {
+            Path file = sources.resolve(entry.getKey());
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, entry.getValue());
+        }
+        // a provider already registered by the module
+        Path services = classes.resolve(MapperProviderSource.SERVICES_FILE);
+        Files.createDirectories(services.getParent());
+        Files.writeString(services, "com.example.Other\n");
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics,
+                                                                                   null,
+                                                                                   StandardCharsets.UTF_8);
+                Stream<Path> files = Files.walk(sources)) {
+            List<Path> sourceFiles = files.filter(Files::isRegularFile).collect(Collectors.toList());
+            JavaCompiler.CompilationTask task = compiler.getTask(null,
+                                                                 fileManager,
+                                                                 diagnostics,
+                                                                 List.of("-d", classes.toString(),
+                                                                         "-s", classes.toString()),
+                                                                 null,
+                                                                 fileManager.getJavaFileObjectsFromPaths(sourceFiles));
+            task.setProcessors(List.of(new ConfigMetadataProcessor()));
+
+            assertThat(diagnostics.getDiagnostics().toString(), task.call(), is(true));
+        }
+        return classes;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.graphql.server;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import io.helidon.common.configurable.LruCache;
+
+import graphql.ExecutionInput;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.PersistedQueryError;
+import graphql.execution.preparsed.persisted.PersistedQueryIdInvalid;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+
+/**
+ * Cache of parsed and validated documents keyed by query text, so the same query is parsed and validated only once.
+ * <p>
+ * Also resolves persisted queries using the
+ * <a href="https://github.com/apollographql/apollo-link-persisted-queries#apollo-engine">automatic persisted queries</a>
+ * protocol: a client sends the SHA-256 hash of the query in {@code extensions.persistedQuery.sha256Hash}, with or
+ * without the query text. A query sent with its hash is registered (if automatic persisted queries are enabled),
+ * a hash sent without query is resolved to a configured or registered query, or fails with
+ * {@code PersistedQueryNotFound}, telling the client to resend the full query.
+ */
+class DocumentCache implements PreparsedDocumentProvider {
+    /**
+     * Query used in {@link graphql.ExecutionInput} when the client sends only a hash, as the query is mandatory.
+     */
+    static final String PERSISTED_QUERY_MARKER = PersistedQuerySupport.PERSISTED_QUERY_MARKER;
+    /**
+     * Name of the request extension with the persisted query hash.
+     */
+    static final String PERSISTED_QUERY = "persistedQuery";
+
+    private static final String SHA_256_HASH = "sha256Hash";
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final GraphQlMetrics.DocumentCacheMetrics metrics = GraphQlMetrics.documentCache();
+    private final LruCache<String, PreparsedDocumentEntry> documents;
+    private final Map<String, String> configuredQueries = new ConcurrentHashMap<>();
+    private final LruCache<String, String> registeredQueries;
+    private final boolean automaticPersistedQueries;
+
+    DocumentCache(int size, boolean automaticPersistedQueries, Set<String> persistedQueries) {
+        this.documents = size > 0 ? LruCache.<String, PreparsedDocumentEntry>builder().capacity(size).build() : null;
+        this.automaticPersistedQueries = automaticPersistedQueries && size > 0;
+        this.registeredQueries = this.automaticPersistedQueries
+                ? LruCache.<String, String>builder().capacity(size).build()
+                : null;
+        persistedQueries.forEach(it -> configuredQueries.put(sha256(it), it));
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(ExecutionInput executionInput,
+                                                                      Function<ExecutionInput, PreparsedDocumentEntry> parse) {
+        Optional<String> hash = persistedQueryHash(executionInput);
+        if (hash.isEmpty()) {
+            return CompletableFuture.completedFuture(document(executionInput, parse));
+        }
+
+        // hex encoded hash, compared case insensitive
+        String persistedQueryId = hash.get().toLowerCase(Locale.ROOT);
+        String query = executionInput.getQuery();
+        if (query == null || query.isBlank() || PERSISTED_QUERY_MARKER.equals(query)) {
+            String persistedQuery = persistedQuery(persistedQueryId);
+            if (persistedQuery == null) {
+                PersistedQueryNotFound notFound = new PersistedQueryNotFound(persistedQueryId);
+                return CompletableFuture.completedFuture(error(notFound, notFound.getExtensions()));
+            }
+            return CompletableFuture.completedFuture(document(executionInput.transform(it -> it.query(persistedQuery)),
+                                                              parse));
+        }
+
+        if (!persistedQueryId.equals(sha256(query))) {
+            PersistedQueryIdInvalid invalid = new PersistedQueryIdInvalid(persistedQueryId);
+            return CompletableFuture.completedFuture(error(invalid, invalid.getExtensions()));
+        }
+        PreparsedDocumentEntry entry = document(executionInput, parse);
+        if (automaticPersistedQueries && !entry.hasErrors() && !configuredQueries.containsKey(persistedQueryId)) {
+            registeredQueries.put(persistedQueryId, query);
+        }
+        return CompletableFuture.completedFuture(entry);
+    }
+
+    /**
+     * Number of executions that used an already parsed and validated document.
+     *
+     * @return number of cache hits
+     */
+    long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of executions that had to parse and validate the query.
+     *
+     * @return number of cache misses
+     */
+    long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Number of documents currently cached.
+     *
+     * @return cache size
+     */
+    int size() {
+        return documents == null ? 0 : documents.size();
+    }
+
+    /**
+     * Number of queries registered for lookup by their SHA-256 hash, both configured and registered
+     * by clients using automatic persisted queries.
+     *
+     * @return number of persisted queries
+     */
+    int persistedQueries() {
+        return configuredQueries.size() + (registeredQueries == null ? 0 : registeredQueries.size());
+    }
+
+    static String sha256(String query) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HEX.formatHex(digest.digest(query.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM", e);
+        }
+    }
+
+    private void hit() {
+        hits.increment();
+        metrics.hit();
+    }
+
+    private void miss() {
+        misses.increment();
+        metrics.miss();
+    }
+
+    private PreparsedDocumentEntry document(ExecutionInput executionInput,
+                                            Function<ExecutionInput, PreparsedDocumentEntry> parse) {
+        if (documents == null) {
+            miss();
+            return parse.apply(executionInput);
+        }
+        String query = executionInput.getQuery();
+        Optional<PreparsedDocumentEntry> cached = documents.get(query);
+        if (cached.isPresent()) {
+            hit();
+            return cached.get();
+        }
+        miss();
+        PreparsedDocumentEntry entry = parse.apply(executionInput);
+        // only valid documents are cached, so invalid queries cannot evict the ones in use
+        if (!entry.hasErrors()) {
+            documents.put(query, entry);
+        }
+        return entry;
+    }
+
+    private String persistedQuery(String hash) {
+        String query = configuredQueries.get(hash);
+        if (query == null && registeredQueries != null) {
+            query = registeredQueries.get(hash).orElse(null);
+        }
+        return query;
+    }
+
+    private static Optional<String> persistedQueryHash(ExecutionInput executionInput) {
+        Map<String, Object> extensions = executionInput.getExtensions();
+        if (extensions == null) {
+            return Optional.empty();
+        }
+        Object persistedQuery = extensions.get(PERSISTED_QUERY);
+        if (persistedQuery instanceof Map) {
+            Object hash = ((Map<?, ?>) persistedQuery).get(SHA_256_HASH);
+            if (hash != null) {
+                return Optional.of(String.valueOf(hash));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static PreparsedDocumentEntry error(PersistedQueryError error, Map<String, Object> extensions) {
+        return new PreparsedDocumentEntry(GraphqlErrorBuilder.newError()
+                                                  .errorType(error)
+                                                  .message(error.getMessage())
+                                                  .extensions(extensions)
+                                                  .build());
+    }
+}
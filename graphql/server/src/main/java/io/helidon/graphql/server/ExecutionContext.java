@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,10 @@
 
 package io.helidon.graphql.server;
 
+import org.dataloader.DataLoaderRegistry;
+
 /**
- * GraphQL execution context to support partial results.
+ * GraphQL execution context to support partial results and data loaders of a single request.
  */
 public interface ExecutionContext {
     /**
@@ -40,4 +42,12 @@ public interface ExecutionContext {
      * @return true if there was a partial results exception
      */
     boolean hasPartialResultsException();
+
+    /**
+     * Data loaders of this request. Data loaders registered here are dispatched by GraphQL once all fields of
+     * the current level are fetched, so loads of many fields can be batched to a single call.
+     *
+     * @return data loader registry of the current request
+     */
+    DataLoaderRegistry dataLoaderRegistry();
 }
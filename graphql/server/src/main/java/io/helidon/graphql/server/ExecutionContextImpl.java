@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,8 +18,11 @@ package io.helidon.graphql.server;
 
 import java.util.concurrent.atomic.AtomicReference;
 
+import org.dataloader.DataLoaderRegistry;
+
 class ExecutionContextImpl implements ExecutionContext {
     private final AtomicReference<Throwable> currentThrowable = new AtomicReference<>();
+    private final DataLoaderRegistry dataLoaderRegistry = new DataLoaderRegistry();
 
     ExecutionContextImpl() {
     }
@@ -38,4 +41,9 @@ class ExecutionContextImpl implements ExecutionContext {
     public boolean hasPartialResultsException() {
         return currentThrowable.get() != null;
     }
+
+    @Override
+    public DataLoaderRegistry dataLoaderRegistry() {
+        return dataLoaderRegistry;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -71,6 +71,10 @@ public final class GraphQlConstants {
      * Default error message to return for unchecked exceptions and errors.
      */
     public static final String DEFAULT_ERROR_MESSAGE = "Server Error";
+    /**
+     * Default number of parsed and validated query documents kept in memory.
+     */
+    public static final int DEFAULT_DOCUMENT_CACHE_SIZE = 1000;
 
     // forbid instantiation
     private GraphQlConstants() {
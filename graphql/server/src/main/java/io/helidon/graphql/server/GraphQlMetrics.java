@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.graphql.server;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.ToIntFunction;
+
+import io.helidon.common.OptionalDependency;
+import io.helidon.metrics.api.RegistryFactory;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.SimpleTimer;
+import org.eclipse.microprofile.metrics.Tag;
+
+/**
+ * Registers vendor metrics of the GraphQL server.
+ * <p>
+ * Helidon metrics are an optional dependency of this module, so metrics are only registered when
+ * {@code helidon-metrics-api} is available. Without a metrics implementation, the registry factory provides
+ * a no-op registry.
+ */
+final class GraphQlMetrics {
+    /**
+     * Name of the metric reporting executions that used an already parsed and validated document.
+     */
+    static final String DOCUMENT_CACHE_HITS_NAME = "graphql.documentCache.hits";
+    /**
+     * Name of the metric reporting executions that had to parse and validate the query.
+     */
+    static final String DOCUMENT_CACHE_MISSES_NAME = "graphql.documentCache.misses";
+    /**
+     * Name of the metric reporting number of cached documents.
+     */
+    static final String DOCUMENT_CACHE_SIZE_NAME = "graphql.documentCache.size";
+    /**
+     * Name of the metric reporting number of persisted queries.
+     */
+    static final String PERSISTED_QUERIES_NAME = "graphql.persistedQueries";
+    /**
+     * Name of the metric reporting executions of an operation rejected by the configured query limits.
+     */
+    static final String OPERATION_REJECTED_NAME = "graphql.operation.rejected";
+    /**
+     * Name of the metric reporting executions of an operation that completed with errors.
+     */
+    static final String OPERATION_ERRORS_NAME = "graphql.operation.errors";
+    /**
+     * Name of the metric reporting executions of an operation and their time, not including rejected executions.
+     */
+    static final String OPERATION_TIME_NAME = "graphql.operation.time";
+    /**
+     * Name of the tag with the operation name.
+     */
+    static final String OPERATION_TAG = "operation";
+
+    private static final boolean METRICS_AVAILABLE =
+            OptionalDependency.isAvailable("io.helidon.metrics.api.RegistryFactory", GraphQlMetrics.class);
+
+    private GraphQlMetrics() {
+    }
+
+    /**
+     * Registers a document cache to be reported by the document cache gauges.
+     * The gauges report the sum over the document caches of all invocation handlers.
+     *
+     * @param documentCache document cache of an invocation handler
+     */
+    static void register(DocumentCache documentCache) {
+        if (METRICS_AVAILABLE) {
+            Registration.documentCache(documentCache);
+        }
+    }
+
+    /**
+     * Metrics of the document cache usage.
+     * The metrics are shared by all invocation handlers.
+     *
+     * @return metrics of the document cache usage
+     */
+    static DocumentCacheMetrics documentCache() {
+        return METRICS_AVAILABLE ? Registration.documentCacheMetrics() : DocumentCacheMetrics.NOOP;
+    }
+
+    /**
+     * Metrics of the executions of an operation, tagged with the operation name.
+     * The metrics of an operation are shared by all invocation handlers.
+     *
+     * @param operation operation name
+     * @return metrics of the operation
+     */
+    static OperationMetrics operation(String operation) {
+        return METRICS_AVAILABLE ? Registration.operation(operation) : OperationMetrics.NOOP;
+    }
+
+    // only loaded when metrics are available, so this module works without the metrics API on the class path
+    private static final class Registration {
+        private static final MetricRegistry.Type REGISTRY_TYPE = MetricRegistry.Type.VENDOR;
+        // document caches of handlers that were not garbage collected yet
+        private static final Set<DocumentCache> DOCUMENT_CACHES = Collections.newSetFromMap(new WeakHashMap<>());
+
+        private Registration() {
+        }
+
+        private static void documentCache(DocumentCache documentCache) {
+            synchronized (DOCUMENT_CACHES) {
+                DOCUMENT_CACHES.add(documentCache);
+            }
+            MetricRegistry registry = RegistryFactory.getInstance().getRegistry(REGISTRY_TYPE);
+            // gauges are looked up if already registered, all of them read the same set of document caches
+            registry.gauge(metadata(DOCUMENT_CACHE_SIZE_NAME,
+                                    "GraphQL document cache size",
+                                    "Number of cached parsed and validated documents",
+                                    MetricType.GAUGE,
+                                    MetricUnits.NONE),
+                           () -> sum(DocumentCache::size));
+            registry.gauge(metadata(PERSISTED_QUERIES_NAME,
+                                    "GraphQL persisted queries",
+                                    "Number of configured and automatically registered persisted queries",
+                                    MetricType.GAUGE,
+                                    MetricUnits.NONE),
+                           () -> sum(DocumentCache::persistedQueries));
+        }
+
+        private static DocumentCacheMetrics documentCacheMetrics() {
+            MetricRegistry registry = RegistryFactory.getInstance().getRegistry(REGISTRY_TYPE);
+            Counter hits = registry.counter(metadata(DOCUMENT_CACHE_HITS_NAME,
+                                                     "GraphQL document cache hits",
+                                                     "Executions that used an already parsed and validated document",
+                                                     MetricType.COUNTER,
+                                                     MetricUnits.NONE));
+            Counter misses = registry.counter(metadata(DOCUMENT_CACHE_MISSES_NAME,
+                                                       "GraphQL document cache misses",
+                                                       "Executions that had to parse and validate the query",
+                                                       MetricType.COUNTER,
+                                                       MetricUnits.NONE));
+            return new DocumentCacheMetrics() {
+                @Override
+                public void hit() {
+                    hits.inc();
+                }
+
+                @Override
+                public void miss() {
+                    misses.inc();
+                }
+            };
+        }
+
+        private static OperationMetrics operation(String operation) {
+            MetricRegistry registry = RegistryFactory.getInstance().getRegistry(REGISTRY_TYPE);
+            Tag tag = new Tag(OPERATION_TAG, operation);
+            // counters and timers are looked up if already registered, so all handlers report to the same metrics
+            Counter rejected = registry.counter(metadata(OPERATION_REJECTED_NAME,
+                                                         "Rejected GraphQL operation executions",
+                                                         "Executions of the operation rejected because the query "
+                                                                 + "exceeded a configured limit",
+                                                         MetricType.COUNTER,
+                                                         MetricUnits.NONE),
+                                                tag);
+            Counter errors = registry.counter(metadata(OPERATION_ERRORS_NAME,
+                                                       "Failed GraphQL operation executions",
+                                                       "Executions of the operation that completed with errors",
+                                                       MetricType.COUNTER,
+                                                       MetricUnits.NONE),
+                                              tag);
+            SimpleTimer time = registry.simpleTimer(metadata(OPERATION_TIME_NAME,
+                                                             "GraphQL operation executions",
+                                                             "Executions of the operation and their time, not including "
+                                                                     + "rejected executions",
+                                                             MetricType.SIMPLE_TIMER,
+                                                             MetricUnits.NANOSECONDS),
+                                                    tag);
+            return new OperationMetrics() {
+                @Override
+                public void rejected() {
+                    rejected.inc();
+                }
+
+                @Override
+                public void executed(long nanos, boolean failed) {
+                    time.update(Duration.ofNanos(nanos));
+                    if (failed) {
+                        errors.inc();
+                    }
+                }
+            };
+        }
+
+        private static long sum(ToIntFunction<DocumentCache> value) {
+            List<DocumentCache> documentCaches;
+            synchronized (DOCUMENT_CACHES) {
+                documentCaches = List.copyOf(DOCUMENT_CACHES);
+            }
+            return documentCaches.stream()
+                    .mapToLong(value::applyAsInt)
+                    .sum();
+        }
+
+        private static Metadata metadata(String name,
+                                         String displayName,
+                                         String description,
+                                         MetricType type,
+                                         String unit) {
+            return Metadata.builder()
+                    .withName(name)
+                    .withDisplayName(displayName)
+                    .withDescription(description)
+                    .withType(type)
+                    .withUnit(unit)
+                    .build();
+        }
+    }
+
+    /**
+     * Metrics of the executions of an operation.
+     */
+    interface OperationMetrics {
+        /**
+         * Metrics not reported, when Helidon metrics are not available.
+         */
+        OperationMetrics NOOP = new OperationMetrics() {
+            @Override
+            public void rejected() {
+            }
+
+            @Override
+            public void executed(long nanos, boolean failed) {
+            }
+        };
+
+        /**
+         * An execution was rejected because the query exceeded a configured limit.
+         */
+        void rejected();
+
+        /**
+         * An execution completed.
+         *
+         * @param nanos  execution time in nanoseconds
+         * @param failed whether the execution completed with errors
+         */
+        void executed(long nanos, boolean failed);
+    }
+
+    /**
+     * Metrics of the document cache usage.
+     */
+    interface DocumentCacheMetrics {
+        /**
+         * Metrics not reported, when Helidon metrics are not available.
+         */
+        DocumentCacheMetrics NOOP = new DocumentCacheMetrics() {
+            @Override
+            public void hit() {
+            }
+
+            @Override
+            public void miss() {
+            }
+        };
+
+        /**
+         * An execution used an already parsed and validated document.
+         */
+        void hit();
+
+        /**
+         * An execution had to parse and validate the query.
+         */
+        void miss();
+    }
+}
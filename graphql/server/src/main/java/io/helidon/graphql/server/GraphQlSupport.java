@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -113,20 +113,28 @@ public class GraphQlSupport implements Service {
                 .forSingle(entity -> processRequest(res,
                                                     (String) entity.get("query"),
                                                     (String) entity.get("operationName"),
-                                                    toVariableMap(entity.get("variables"))))
+                                                    toVariableMap(entity.get("variables")),
+                                                    toVariableMap(entity.get("extensions"))))
                 .exceptionallyAccept(res::send);
     }
 
     // handle GET request for GraphQL endpoint
     private void graphQlGet(ServerRequest req, ServerResponse res) {
         Parameters queryParams = req.queryParams();
-        String query = queryParams.first("query").orElseThrow(() -> new IllegalStateException("Query must be defined"));
+        Map<String, Object> extensions = queryParams.first("extensions")
+                .map(this::toVariableMap)
+                .orElseGet(Map::of);
+        // query may be omitted when its persisted query hash is sent in extensions
+        String query = queryParams.first("query").orElse(null);
+        if (query == null && extensions.isEmpty()) {
+            throw new IllegalStateException("Query must be defined");
+        }
         String operationName = queryParams.first("operationName").orElse(null);
         Map<String, Object> variables = queryParams.first("variables")
                 .map(this::toVariableMap)
                 .orElseGet(Map::of);
 
-        processRequest(res, query, operationName, variables);
+        processRequest(res, query, operationName, variables, extensions);
     }
 
     // handle GET request to obtain GraphQL schema
@@ -137,10 +145,11 @@ public class GraphQlSupport implements Service {
     private void processRequest(ServerResponse res,
                                 String query,
                                 String operationName,
-                                Map<String, Object> variables) {
+                                Map<String, Object> variables,
+                                Map<String, Object> extensions) {
         executor.submit(() -> {
             try {
-                Map<String, Object> result = invocationHandler.execute(query, operationName, variables);
+                Map<String, Object> result = invocationHandler.execute(query, operationName, variables, extensions);
                 res.send(JSONB_WRITER.marshall(result));
             } catch (Error e) {
                 res.send(e);
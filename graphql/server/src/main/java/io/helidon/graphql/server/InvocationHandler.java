@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,9 @@
 
 package io.helidon.graphql.server;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -28,6 +30,7 @@ import graphql.execution.SubscriptionExecutionStrategy;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.idl.SchemaPrinter;
 
+import static io.helidon.graphql.server.GraphQlConstants.DEFAULT_DOCUMENT_CACHE_SIZE;
 import static io.helidon.graphql.server.GraphQlConstants.DEFAULT_ERROR_MESSAGE;
 
 /**
@@ -72,6 +75,24 @@ public interface InvocationHandler {
      */
     Map<String, Object> execute(String query, String operationName, Map<String, Object> variables);
 
+    /**
+     * Execute a GraphQL query with request extensions.
+     * Extensions are used to resolve persisted queries, in which case the query may be {@code null} and
+     * the query registered for {@code extensions.persistedQuery.sha256Hash} is executed.
+     *
+     * @param query query string, may be {@code null} when executing a persisted query
+     * @param operationName operation name
+     * @param variables variables to use (optional)
+     * @param extensions request extensions (optional)
+     * @return GraphQL result
+     */
+    default Map<String, Object> execute(String query,
+                                        String operationName,
+                                        Map<String, Object> variables,
+                                        Map<String, Object> extensions) {
+        return execute(query, operationName, variables);
+    }
+
     /**
      * The schema of this GraphQL endpoint.
      *
@@ -106,10 +127,20 @@ public interface InvocationHandler {
     class Builder implements io.helidon.common.Builder<Builder, InvocationHandler> {
         private final Set<String> blacklistedExceptions = new HashSet<>();
         private final Set<String> whitelistedExceptions = new HashSet<>();
+        private final Set<String> persistedQueries = new LinkedHashSet<>();
+        private final Map<String, Integer> fieldCosts = new HashMap<>();
+        private final Set<String> metricsOperations = new HashSet<>();
 
         private String defaultErrorMessage = DEFAULT_ERROR_MESSAGE;
         private GraphQLSchema schema;
         private SchemaPrinter schemaPrinter;
+        private int documentCacheSize = DEFAULT_DOCUMENT_CACHE_SIZE;
+        private boolean automaticPersistedQueries = true;
+        private int maxQueryDepth;
+        private int maxQueryFields;
+        private int maxQueryCost;
+        private DocumentCache documentCache;
+        private QueryLimitsInstrumentation queryLimits;
 
         private Builder() {
         }
@@ -120,8 +151,17 @@ public interface InvocationHandler {
                 throw new IllegalStateException("GraphQL schema must be configured");
             }
 
+            documentCache = new DocumentCache(documentCacheSize, automaticPersistedQueries, persistedQueries);
+            queryLimits = new QueryLimitsInstrumentation(maxQueryDepth,
+                                                         maxQueryFields,
+                                                         maxQueryCost,
+                                                         fieldCosts,
+                                                         metricsOperations);
+
             GraphQL graphQl = GraphQL.newGraphQL(schema)
                     .subscriptionExecutionStrategy(new SubscriptionExecutionStrategy())
+                    .preparsedDocumentProvider(documentCache)
+                    .instrumentation(queryLimits)
                     .build();
 
             SchemaPrinter.Options options = SchemaPrinter.Options
@@ -163,6 +203,48 @@ public interface InvocationHandler {
          *     <td>Array of exception classes. If a checked {@link java.lang.Exception} is called, its message
          *     is propagated to the caller, unless it is in the blacklist.</td>
          * </tr>
+         * <tr>
+         *     <td>document-cache-size</td>
+         *     <td>{@value io.helidon.graphql.server.GraphQlConstants#DEFAULT_DOCUMENT_CACHE_SIZE}</td>
+         *     <td>Maximal number of parsed and validated query documents to cache, {@code 0} to disable caching.</td>
+         * </tr>
+         * <tr>
+         *     <td>automatic-persisted-queries</td>
+         *     <td>{@code true}</td>
+         *     <td>Whether clients can register queries to be executed by their SHA-256 hash.</td>
+         * </tr>
+         * <tr>
+         *     <td>persisted-queries</td>
+         *     <td>&nbsp;</td>
+         *     <td>Array of queries that can be executed by their SHA-256 hash.</td>
+         * </tr>
+         * <tr>
+         *     <td>max-query-depth</td>
+         *     <td>{@code 0}</td>
+         *     <td>Maximal nesting depth of fields in a query, {@code 0} for unlimited.</td>
+         * </tr>
+         * <tr>
+         *     <td>max-query-fields</td>
+         *     <td>{@code 0}</td>
+         *     <td>Maximal number of fields selected by a query, {@code 0} for unlimited.</td>
+         * </tr>
+         * <tr>
+         *     <td>max-query-cost</td>
+         *     <td>{@code 0}</td>
+         *     <td>Maximal cost of a query (sum of costs of its fields), {@code 0} for unlimited.</td>
+         * </tr>
+         * <tr>
+         *     <td>field-costs</td>
+         *     <td>&nbsp;</td>
+         *     <td>Costs of fields, as a map of type names to maps of field names to costs
+         *     (e.g. {@code field-costs.Query.allCustomers=10}). Fields not configured cost {@code 1}.</td>
+         * </tr>
+         * <tr>
+         *     <td>metrics-operations</td>
+         *     <td>&nbsp;</td>
+         *     <td>Array of operation names to report operation metrics for, other named operations are reported
+         *     together.</td>
+         * </tr>
          * </table>
          *
          * @param config configuration to use
@@ -178,6 +260,22 @@ public interface InvocationHandler {
                     .stream()
                     .flatMap(List::stream)
                     .forEach(this::addBlacklistedException);
+            config.get("document-cache-size").asInt().ifPresent(this::documentCacheSize);
+            config.get("automatic-persisted-queries").asBoolean().ifPresent(this::automaticPersistedQueries);
+            config.get("persisted-queries").asList(String.class)
+                    .stream()
+                    .flatMap(List::stream)
+                    .forEach(this::addPersistedQuery);
+            config.get("max-query-depth").asInt().ifPresent(this::maxQueryDepth);
+            config.get("max-query-fields").asInt().ifPresent(this::maxQueryFields);
+            config.get("max-query-cost").asInt().ifPresent(this::maxQueryCost);
+            config.get("field-costs").asNodeList().ifPresent(types -> types.forEach(
+                    type -> type.asNodeList().ifPresent(fields -> fields.forEach(
+                            field -> fieldCost(type.name(), field.name(), field.asInt().get())))));
+            config.get("metrics-operations").asList(String.class)
+                    .stream()
+                    .flatMap(List::stream)
+                    .forEach(this::addMetricsOperation);
 
             return this;
         }
@@ -254,6 +352,112 @@ public interface InvocationHandler {
             return this;
         }
 
+        /**
+         * Maximal number of parsed and validated query documents to keep, so repeated queries are not parsed
+         * and validated on each execution. The least recently used documents are evicted first.
+         * The same number of queries registered by clients using automatic persisted queries is kept.
+         *
+         * @param documentCacheSize size of the document cache, {@code 0} to disable caching
+         * @return updated builder instance
+         */
+        public Builder documentCacheSize(int documentCacheSize) {
+            if (documentCacheSize < 0) {
+                throw new IllegalArgumentException("Document cache size must not be negative, but is " + documentCacheSize);
+            }
+            this.documentCacheSize = documentCacheSize;
+            return this;
+        }
+
+        /**
+         * Whether to support automatic persisted queries. When enabled, a query sent with its SHA-256 hash
+         * in {@code extensions.persistedQuery.sha256Hash} is registered, and later requests can send only the hash.
+         * Requires the document cache to be enabled.
+         *
+         * @param automaticPersistedQueries whether clients can register persisted queries
+         * @return updated builder instance
+         */
+        public Builder automaticPersistedQueries(boolean automaticPersistedQueries) {
+            this.automaticPersistedQueries = automaticPersistedQueries;
+            return this;
+        }
+
+        /**
+         * Add a persisted query, that can be executed by sending its SHA-256 hash
+         * in {@code extensions.persistedQuery.sha256Hash} instead of the query.
+         * Persisted queries added here are never evicted.
+         *
+         * @param query query to persist
+         * @return updated builder instance
+         */
+        public Builder addPersistedQuery(String query) {
+            persistedQueries.add(query);
+            return this;
+        }
+
+        /**
+         * Maximal nesting depth of fields in a query. Deeper queries are rejected before any data is fetched.
+         *
+         * @param maxQueryDepth maximal query depth, {@code 0} for unlimited
+         * @return updated builder instance
+         */
+        public Builder maxQueryDepth(int maxQueryDepth) {
+            this.maxQueryDepth = checkLimit("Maximal query depth", maxQueryDepth);
+            return this;
+        }
+
+        /**
+         * Maximal number of fields selected by a query, including fields selected through fragments.
+         * Queries selecting more fields are rejected before any data is fetched.
+         *
+         * @param maxQueryFields maximal number of fields, {@code 0} for unlimited
+         * @return updated builder instance
+         */
+        public Builder maxQueryFields(int maxQueryFields) {
+            this.maxQueryFields = checkLimit("Maximal number of query fields", maxQueryFields);
+            return this;
+        }
+
+        /**
+         * Maximal cost of a query. The cost of a query is the sum of the costs of all fields it selects,
+         * see {@link #fieldCost(String, String, int)}. More expensive queries are rejected before any data is fetched.
+         *
+         * @param maxQueryCost maximal query cost, {@code 0} for unlimited
+         * @return updated builder instance
+         */
+        public Builder maxQueryCost(int maxQueryCost) {
+            this.maxQueryCost = checkLimit("Maximal query cost", maxQueryCost);
+            return this;
+        }
+
+        /**
+         * Cost of a field used to compute the cost of a query, see {@link #maxQueryCost(int)}.
+         * Fields without a configured cost cost {@code 1}.
+         *
+         * @param typeName name of the GraphQL type (or interface) declaring the field, such as {@code Query}
+         * @param fieldName name of the field
+         * @param cost cost of the field
+         * @return updated builder instance
+         */
+        public Builder fieldCost(String typeName, String fieldName, int cost) {
+            fieldCosts.put(QueryLimitsInstrumentation.fieldCoordinates(typeName, fieldName),
+                           checkLimit("Field cost", cost));
+            return this;
+        }
+
+        /**
+         * Add an operation name to report operation metrics for. Operation names are chosen by clients, so only
+         * the executions of the added operations are reported tagged with their name, executions of other named
+         * operations are reported together, tagged with {@code <other>}.
+         * Anonymous operations are reported by their type, such as {@code query}.
+         *
+         * @param operationName name of the operation
+         * @return updated builder instance
+         */
+        public Builder addMetricsOperation(String operationName) {
+            metricsOperations.add(operationName);
+            return this;
+        }
+
         GraphQLSchema schema() {
             return schema;
         }
@@ -273,5 +477,20 @@ public interface InvocationHandler {
         SchemaPrinter schemaPrinter() {
             return schemaPrinter;
         }
+
+        DocumentCache documentCache() {
+            return documentCache;
+        }
+
+        QueryLimitsInstrumentation queryLimits() {
+            return queryLimits;
+        }
+
+        private static int checkLimit(String name, int value) {
+            if (value < 0) {
+                throw new IllegalArgumentException(name + " must not be negative, but is " + value);
+            }
+            return value;
+        }
     }
 }
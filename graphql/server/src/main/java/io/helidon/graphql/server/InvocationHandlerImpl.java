@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -65,22 +65,36 @@ class InvocationHandlerImpl implements InvocationHandler {
     private final GraphQLSchema schema;
     private final GraphQL graphQl;
     private final SchemaPrinter schemaPrinter;
+    private final DocumentCache documentCache;
+    private final QueryLimitsInstrumentation queryLimits;
 
     InvocationHandlerImpl(InvocationHandler.Builder builder, GraphQL graphQl) {
         this.schema = builder.schema();
         this.schemaPrinter = builder.schemaPrinter();
         this.defaultErrorMessage = builder.defaultErrorMessage();
+        this.documentCache = builder.documentCache();
+        this.queryLimits = builder.queryLimits();
 
         this.graphQl = graphQl;
 
         this.exceptionDenySet.addAll(builder.denyExceptions());
         this.exceptionAllowSet.addAll(builder.allowExceptions());
+
+        GraphQlMetrics.register(documentCache);
     }
 
     @Override
     public Map<String, Object> execute(String query, String operationName, Map<String, Object> variables) {
+        return execute(query, operationName, variables, Map.of());
+    }
+
+    @Override
+    public Map<String, Object> execute(String query,
+                                       String operationName,
+                                       Map<String, Object> variables,
+                                       Map<String, Object> extensions) {
         try {
-            return doExecute(query, operationName, variables);
+            return doExecute(query, operationName, variables, extensions == null ? Map.of() : extensions);
         } catch (RuntimeException e) {
             LOGGER.log(Level.DEBUG, "Failed to execute query " + query, e);
             Map<String, Object> result = new HashMap<>();
@@ -89,13 +103,30 @@ class InvocationHandlerImpl implements InvocationHandler {
         }
     }
 
-    private Map<String, Object> doExecute(String query, String operationName, Map<String, Object> variables) {
+    Map<String, OperationStatistics> operationStatistics() {
+        return queryLimits.operationStatistics();
+    }
+
+    DocumentCache documentCache() {
+        return documentCache;
+    }
+
+    private Map<String, Object> doExecute(String query,
+                                          String operationName,
+                                          Map<String, Object> variables,
+                                          Map<String, Object> extensions) {
+        if (query == null && !extensions.containsKey(DocumentCache.PERSISTED_QUERY)) {
+            throw new IllegalStateException("Query must be defined");
+        }
         ExecutionContext context = new ExecutionContextImpl();
         ExecutionInput executionInput = ExecutionInput.newExecutionInput()
-                .query(query)
+                // query is resolved from extensions by the document cache
+                .query(query == null ? DocumentCache.PERSISTED_QUERY_MARKER : query)
                 .operationName(operationName)
                 .context(context)
                 .variables(variables)
+                .extensions(extensions)
+                .dataLoaderRegistry(context.dataLoaderRegistry())
                 .build();
 
         ExecutionResult result = graphQl.execute(executionInput);
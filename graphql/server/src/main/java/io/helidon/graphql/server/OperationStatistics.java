@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.graphql.server;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Execution statistics of a single GraphQL operation, also reported through {@link GraphQlMetrics}.
+ */
+final class OperationStatistics {
+    private final GraphQlMetrics.OperationMetrics metrics;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    OperationStatistics(GraphQlMetrics.OperationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Number of executions of the operation, not including rejected executions.
+     *
+     * @return number of executions
+     */
+    long count() {
+        return count.sum();
+    }
+
+    /**
+     * Number of executions that were rejected before any data was fetched, because the query exceeded
+     * a configured depth, field count or cost limit.
+     *
+     * @return number of rejected executions
+     */
+    long rejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Number of executions that completed with errors.
+     *
+     * @return number of failed executions
+     */
+    long errors() {
+        return errors.sum();
+    }
+
+    /**
+     * Total time spent executing the operation.
+     *
+     * @return total execution time
+     */
+    Duration totalTime() {
+        return Duration.ofNanos(totalNanos.sum());
+    }
+
+    /**
+     * Longest execution of the operation.
+     *
+     * @return maximal execution time
+     */
+    Duration maxTime() {
+        return Duration.ofNanos(maxNanos.get());
+    }
+
+    /**
+     * Average execution time of the operation.
+     *
+     * @return average execution time, {@link java.time.Duration#ZERO} if the operation was not executed yet
+     */
+    Duration averageTime() {
+        long count = count();
+        return count == 0 ? Duration.ZERO : totalTime().dividedBy(count);
+    }
+
+    void reject() {
+        rejected.increment();
+        metrics.rejected();
+    }
+
+    void record(long nanos, boolean failed) {
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+        if (failed) {
+            errors.increment();
+        }
+        metrics.executed(nanos, failed);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.graphql.server;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import graphql.ExecutionResult;
+import graphql.analysis.QueryTraverser;
+import graphql.analysis.QueryVisitorFieldEnvironment;
+import graphql.analysis.QueryVisitorStub;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.language.OperationDefinition;
+
+/**
+ * Enforces the configured query depth, field count and cost limits and collects per-operation statistics.
+ * <p>
+ * Limits are evaluated once the document is parsed and validated and before any data fetcher is invoked,
+ * so an expensive query is rejected without occupying the executor. The traversal stops as soon as
+ * a limit is exceeded, so even a huge document is rejected cheaply.
+ * The cost of a query is the sum of the costs of all its selected fields, the cost of a field is either
+ * configured for its type and name, or {@code 1}.
+ */
+class QueryLimitsInstrumentation extends SimplePerformantInstrumentation {
+    /**
+     * Name used for statistics of named operations not configured to be reported by their name.
+     */
+    static final String OTHER_OPERATIONS = "<other>";
+
+    private static final int DEFAULT_FIELD_COST = 1;
+
+    // bounded by the configured operations, the operation types and other operations
+    private final Map<String, OperationStatistics> statistics = new ConcurrentHashMap<>();
+    private final Set<String> metricsOperations;
+    private final Map<String, Integer> fieldCosts;
+    private final int maxDepth;
+    private final int maxFields;
+    private final int maxCost;
+    private final boolean limited;
+
+    QueryLimitsInstrumentation(int maxDepth,
+                               int maxFields,
+                               int maxCost,
+                               Map<String, Integer> fieldCosts,
+                               Set<String> metricsOperations) {
+        this.maxDepth = maxDepth;
+        this.maxFields = maxFields;
+        this.maxCost = maxCost;
+        this.fieldCosts = Map.copyOf(fieldCosts);
+        this.metricsOperations = Set.copyOf(metricsOperations);
+        this.limited = maxDepth > 0 || maxFields > 0 || maxCost > 0;
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(InstrumentationExecuteOperationParameters parameters,
+                                                                         InstrumentationState state) {
+        graphql.execution.ExecutionContext context = parameters.getExecutionContext();
+        OperationStatistics operationStatistics = statistics(context.getOperationDefinition());
+
+        if (limited) {
+            try {
+                checkLimits(context);
+            } catch (AbortExecutionException e) {
+                operationStatistics.reject();
+                throw e;
+            }
+        }
+
+        long start = System.nanoTime();
+        return SimpleInstrumentationContext.whenCompleted((result, throwable) -> operationStatistics
+                .record(System.nanoTime() - start, throwable != null || !result.getErrors().isEmpty()));
+    }
+
+    Map<String, OperationStatistics> operationStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    static String fieldCoordinates(String typeName, String fieldName) {
+        return typeName + "." + fieldName;
+    }
+
+    private void checkLimits(graphql.execution.ExecutionContext context) {
+        QueryTraverser.newQueryTraverser()
+                .schema(context.getGraphQLSchema())
+                .document(context.getDocument())
+                .operationName(context.getExecutionInput().getOperationName())
+                .coercedVariables(context.getCoercedVariables())
+                .build()
+                .visitPreOrder(new LimitsVisitor());
+    }
+
+    private OperationStatistics statistics(OperationDefinition operation) {
+        String name = operation.getName();
+        if (name == null) {
+            // anonymous operations are tracked by their type (query, mutation, subscription)
+            name = operation.getOperation().name().toLowerCase(Locale.ROOT);
+        } else if (!metricsOperations.contains(name)) {
+            // operation names are chosen by clients, only the configured ones are tracked separately
+            name = OTHER_OPERATIONS;
+        }
+        return statistics.computeIfAbsent(name, it -> new OperationStatistics(GraphQlMetrics.operation(it)));
+    }
+
+    private final class LimitsVisitor extends QueryVisitorStub {
+        private int fields;
+        private long cost;
+
+        @Override
+        public void visitField(QueryVisitorFieldEnvironment env) {
+            if (env.isTypeNameIntrospectionField()) {
+                return;
+            }
+            if (maxDepth > 0) {
+                int depth = 1;
+                for (QueryVisitorFieldEnvironment parent = env.getParentEnvironment();
+                        parent != null;
+                        parent = parent.getParentEnvironment()) {
+                    depth++;
+                }
+                if (depth > maxDepth) {
+                    throw new AbortExecutionException("Query exceeds the maximal depth of " + maxDepth);
+                }
+            }
+            fields++;
+            if (maxFields > 0 && fields > maxFields) {
+                throw new AbortExecutionException("Query exceeds the maximal number of fields of " + maxFields);
+            }
+            if (maxCost > 0) {
+                cost += fieldCosts.getOrDefault(fieldCoordinates(env.getFieldsContainer().getName(),
+                                                                 env.getFieldDefinition().getName()),
+                                                DEFAULT_FIELD_COST);
+                if (cost > maxCost) {
+                    throw new AbortExecutionException("Query exceeds the maximal cost of " + maxCost);
+                }
+            }
+        }
+    }
+}
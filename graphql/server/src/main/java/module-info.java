@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,10 +28,12 @@ module io.helidon.graphql.server {
     requires io.helidon.media.common;
     requires io.helidon.media.jsonb;
     requires io.helidon.webserver;
+    requires static io.helidon.metrics.api;
 
     requires transitive io.helidon.webserver.cors;
     requires transitive io.helidon.config;
     requires transitive com.graphqljava;
+    requires transitive org.dataloader;
 
     exports io.helidon.graphql.server;
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.graphql.server;
+
+import java.util.List;
+import java.util.Map;
+
+import io.helidon.config.Config;
+import io.helidon.config.ConfigSources;
+
+import graphql.schema.GraphQLSchema;
+import graphql.schema.StaticDataFetcher;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests the document cache and persisted queries of {@link InvocationHandler}.
+ */
+class DocumentCacheTest {
+    private static final String QUERY = "{hello}";
+
+    @Test
+    void testCachedDocument() {
+        InvocationHandler handler = InvocationHandler.create(buildSchema());
+        DocumentCache statistics = documentCache(handler);
+
+        assertHello(handler.execute(QUERY));
+        assertHello(handler.execute(QUERY));
+        assertHello(handler.execute(QUERY));
+
+        assertThat(statistics.misses(), is(1L));
+        assertThat(statistics.hits(), is(2L));
+        assertThat(statistics.size(), is(1));
+    }
+
+    @Test
+    void testInvalidQueryNotCached() {
+        InvocationHandler handler = InvocationHandler.create(buildSchema());
+        DocumentCache statistics = documentCache(handler);
+
+        Map<String, Object> result = handler.execute("{unknown}");
+        assertThat(result.get(GraphQlConstants.ERRORS), notNullValue());
+        result = handler.execute("{unknown}");
+        assertThat(result.get(GraphQlConstants.ERRORS), notNullValue());
+
+        assertThat(statistics.misses(), is(2L));
+        assertThat(statistics.size(), is(0));
+    }
+
+    @Test
+    void testCacheEviction() {
+        InvocationHandler handler = InvocationHandler.builder()
+                .schema(buildSchema())
+                .documentCacheSize(1)
+                .build();
+        DocumentCache statistics = documentCache(handler);
+
+        assertHello(handler.execute(QUERY));
+        assertHello(handler.execute("query Hello {hello}"));
+        assertHello(handler.execute(QUERY));
+
+        assertThat(statistics.misses(), is(3L));
+        assertThat(statistics.size(), is(1));
+    }
+
+    @Test
+    void testCacheDisabled() {
+        InvocationHandler handler = InvocationHandler.builder()
+                .schema(buildSchema())
+                .documentCacheSize(0)
+                .build();
+        DocumentCache statistics = documentCache(handler);
+
+        assertHello(handler.execute(QUERY));
+        assertHello(handler.execute(QUERY));
+
+        assertThat(statistics.misses(), is(2L));
+        assertThat(statistics.hits(), is(0L));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testAutomaticPersistedQuery() {
+        InvocationHandler handler = InvocationHandler.create(buildSchema());
+        Map<String, Object> extensions = persistedQuery(DocumentCache.sha256(QUERY));
+
+        // unknown hash, client is expected to resend with the query
+        Map<String, Object> result = handler.execute(null, null, Map.of(), extensions);
+        List<Map<String, Object>> errors = (List<Map<String, Object>>) result.get(GraphQlConstants.ERRORS);
+        assertThat(errors.get(0).get(GraphQlConstants.MESSAGE), is("PersistedQueryNotFound"));
+
+        assertHello(handler.execute(QUERY, null, Map.of(), extensions));
+        assertHello(handler.execute(null, null, Map.of(), extensions));
+        assertThat(documentCache(handler).persistedQueries(), is(1));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testInvalidHash() {
+        InvocationHandler handler = InvocationHandler.create(buildSchema());
+
+        Map<String, Object> result = handler.execute(QUERY, null, Map.of(), persistedQuery(DocumentCache.sha256("{other}")));
+        List<Map<String, Object>> errors = (List<Map<String, Object>>) result.get(GraphQlConstants.ERRORS);
+        assertThat(errors.get(0).get(GraphQlConstants.MESSAGE), is("PersistedQueryIdInvalid"));
+        assertThat(documentCache(handler).persistedQueries(), is(0));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testConfiguredPersistedQueries() {
+        Config config = Config.builder()
+                .sources(ConfigSources.create(Map.of("graphql.automatic-persisted-queries", "false",
+                                                     "graphql.document-cache-size", "10",
+                                                     "graphql.persisted-queries.0", QUERY)))
+                .disableEnvironmentVariablesSource()
+                .disableSystemPropertiesSource()
+                .build();
+
+        InvocationHandler handler = InvocationHandler.builder()
+                .schema(buildSchema())
+                .config(config.get("graphql"))
+                .build();
+
+        assertHello(handler.execute(null, null, Map.of(), persistedQuery(DocumentCache.sha256(QUERY).toUpperCase())));
+
+        // automatic persisted queries are disabled, the query is executed but not registered
+        String otherQuery = "query Hello {hello}";
+        Map<String, Object> extensions = persistedQuery(DocumentCache.sha256(otherQuery));
+        assertHello(handler.execute(otherQuery, null, Map.of(), extensions));
+        Map<String, Object> result = handler.execute(null, null, Map.of(), extensions);
+        List<Map<String, Object>> errors = (List<Map<String, Object>>) result.get(GraphQlConstants.ERRORS);
+        assertThat(errors.get(0).get(GraphQlConstants.MESSAGE), is("PersistedQueryNotFound"));
+    }
+
+    private static DocumentCache documentCache(InvocationHandler handler) {
+        return ((InvocationHandlerImpl) handler).documentCache();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void assertHello(Map<String, Object> result) {
+        assertThat("Errors: " + result.get(GraphQlConstants.ERRORS), result.get(GraphQlConstants.ERRORS), nullValue());
+        Map<String, Object> data = (Map<String, Object>) result.get(GraphQlConstants.DATA);
+        assertThat(data.get("hello"), is("world"));
+    }
+
+    private static Map<String, Object> persistedQuery(String hash) {
+        return Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", hash));
+    }
+
+    private static GraphQLSchema buildSchema() {
+        RuntimeWiring runtimeWiring = RuntimeWiring.newRuntimeWiring()
+                .type("Query", builder -> builder.dataFetcher("hello", new StaticDataFetcher("world")))
+                .build();
+
+        return new SchemaGenerator().makeExecutableSchema(new SchemaParser().parse("type Query{hello: String}"),
+                                                          runtimeWiring);
+    }
+}
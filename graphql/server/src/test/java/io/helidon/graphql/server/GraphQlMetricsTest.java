@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.graphql.server;
+
+import java.util.Map;
+import java.util.Optional;
+
+import io.helidon.metrics.api.RegistryFactory;
+
+import graphql.schema.GraphQLSchema;
+import graphql.schema.StaticDataFetcher;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.SimpleTimer;
+import org.eclipse.microprofile.metrics.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+/**
+ * Tests metrics registered by {@link InvocationHandler}.
+ */
+class GraphQlMetricsTest {
+    private static final String QUERY = "{hello}";
+
+    @Test
+    void testDocumentCacheMetrics() {
+        InvocationHandler first = InvocationHandler.create(buildSchema());
+        InvocationHandler second = InvocationHandler.builder()
+                .schema(buildSchema())
+                .addPersistedQuery(QUERY)
+                .build();
+        // metrics are shared by all handlers
+        long hitsBefore = counter(GraphQlMetrics.DOCUMENT_CACHE_HITS_NAME);
+        long missesBefore = counter(GraphQlMetrics.DOCUMENT_CACHE_MISSES_NAME);
+
+        first.execute(QUERY);
+        first.execute(QUERY);
+        first.execute(QUERY);
+        second.execute(QUERY);
+        second.execute(QUERY);
+
+        assertThat(counter(GraphQlMetrics.DOCUMENT_CACHE_HITS_NAME) - hitsBefore, is(3L));
+        assertThat(counter(GraphQlMetrics.DOCUMENT_CACHE_MISSES_NAME) - missesBefore, is(2L));
+        // gauges report the sum over all handlers, including handlers of other tests not yet garbage collected
+        assertThat(gauge(GraphQlMetrics.DOCUMENT_CACHE_SIZE_NAME), greaterThanOrEqualTo(2L));
+        assertThat(gauge(GraphQlMetrics.PERSISTED_QUERIES_NAME), greaterThanOrEqualTo(1L));
+    }
+
+    @Test
+    void testOperationMetrics() {
+        InvocationHandler handler = InvocationHandler.builder()
+                .schema(buildSchema())
+                .addMetricsOperation("Hello")
+                .build();
+        Tag hello = new Tag(GraphQlMetrics.OPERATION_TAG, "Hello");
+        Tag other = new Tag(GraphQlMetrics.OPERATION_TAG, QueryLimitsInstrumentation.OTHER_OPERATIONS);
+        long otherBefore = timer(other).map(SimpleTimer::getCount).orElse(0L);
+
+        handler.execute("query Hello {hello}");
+        handler.execute("query Hello {hello}");
+        handler.execute("query Other {hello}");
+        handler.execute("query Another {hello}");
+
+        SimpleTimer helloTime = timer(hello).orElseThrow();
+        assertThat(helloTime.getCount(), is(2L));
+        assertThat(helloTime.getElapsedTime().compareTo(helloTime.getMaxTimeDuration()) >= 0, is(true));
+        assertThat(counter(GraphQlMetrics.OPERATION_REJECTED_NAME, hello), is(0L));
+        assertThat(counter(GraphQlMetrics.OPERATION_ERRORS_NAME, hello), is(0L));
+        // operations not configured are reported together
+        assertThat(timer(other).orElseThrow().getCount() - otherBefore, is(2L));
+        assertThat(timer(new Tag(GraphQlMetrics.OPERATION_TAG, "Other")).isPresent(), is(false));
+    }
+
+    @Test
+    void testOperationMetricsShared() {
+        Tag shared = new Tag(GraphQlMetrics.OPERATION_TAG, "Shared");
+        InvocationHandler first = InvocationHandler.builder()
+                .schema(buildSchema())
+                .addMetricsOperation("Shared")
+                .build();
+        first.execute("query Shared {hello}");
+        InvocationHandler second = InvocationHandler.builder()
+                .schema(buildSchema())
+                .addMetricsOperation("Shared")
+                .build();
+        second.execute("query Shared {hello}");
+        first.execute("query Shared {hello}");
+
+        assertThat(timer(shared).orElseThrow().getCount(), is(3L));
+    }
+
+    private static Optional<SimpleTimer> timer(Tag tag) {
+        return Optional.ofNullable(registry().getSimpleTimers().get(new MetricID(GraphQlMetrics.OPERATION_TIME_NAME, tag)));
+    }
+
+    private static long counter(String name, Tag... tags) {
+        Counter counter = registry().getCounters().get(new MetricID(name, tags));
+        assertThat("Counter " + name, counter, notNullValue());
+        return counter.getCount();
+    }
+
+    private static MetricRegistry registry() {
+        return RegistryFactory.getInstance().getRegistry(MetricRegistry.Type.VENDOR);
+    }
+
+    private static long gauge(String name, Tag... tags) {
+        Map<MetricID, Gauge> gauges = RegistryFactory.getInstance()
+                .getRegistry(MetricRegistry.Type.VENDOR)
+                .getGauges();
+        Gauge<?> gauge = gauges.get(new MetricID(name, tags));
+        assertThat("Gauge " + name, gauge, notNullValue());
+        return gauge.getValue().longValue();
+    }
+
+    private static GraphQLSchema buildSchema() {
+        RuntimeWiring runtimeWiring = RuntimeWiring.newRuntimeWiring()
+                .type("Query", builder -> builder.dataFetcher("hello", new StaticDataFetcher("world")))
+                .build();
+
+        return new SchemaGenerator().makeExecutableSchema(new SchemaParser().parse("type Query{hello: String}"),
+                                                          runtimeWiring);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.graphql.server;
+
+import java.util.List;
+import java.util.Map;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Requests per second of {@link InvocationHandler} for a medium-sized query (fragments, arguments, variables
+ * and nested selections), without document cache, with document cache, and as a persisted query sent by hash.
+ */
+@State(Scope.Benchmark)
+public class InvocationHandlerJMH {
+    private static final String SCHEMA = "type Query { customer(id: ID!): Customer, customers(first: Int): [Customer] }\n"
+            + "type Customer { id: ID, name: String, email: String, address: Address, orders(last: Int): [Order] }\n"
+            + "type Address { street: String, city: String, zip: String, country: String }\n"
+            + "type Order { id: ID, total: Float, status: String, items: [Item] }\n"
+            + "type Item { sku: String, name: String, quantity: Int, price: Float }";
+    private static final String QUERY = "query CustomerOverview($id: ID!, $last: Int) {\n"
+            + "  customer(id: $id) {\n"
+            + "    ...customerFields\n"
+            + "    address { street city zip country }\n"
+            + "    orders(last: $last) { ...orderFields }\n"
+            + "  }\n"
+            + "  customers(first: 2) { id name email }\n"
+            + "}\n"
+            + "fragment customerFields on Customer { id name email }\n"
+            + "fragment orderFields on Order { id total status items { sku name quantity price } }";
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(InvocationHandlerJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Param({"no-cache", "cache", "persisted"})
+    String mode;
+
+    InvocationHandler handler;
+    String query;
+    Map<String, Object> variables;
+    Map<String, Object> extensions;
+
+    @Setup
+    public void setup() {
+        handler = InvocationHandler.builder()
+                .schema(buildSchema())
+                .documentCacheSize("no-cache".equals(mode) ? 0 : 100)
+                .addPersistedQuery(QUERY)
+                .build();
+        variables = Map.of("id", "1", "last", 2);
+        if ("persisted".equals(mode)) {
+            query = null;
+            extensions = Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", DocumentCache.sha256(QUERY)));
+        } else {
+            query = QUERY;
+            extensions = Map.of();
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> execute() {
+        return handler.execute(query, "CustomerOverview", variables, extensions);
+    }
+
+    private static GraphQLSchema buildSchema() {
+        Map<String, Object> item = Map.of("sku", "A-1", "name", "Item", "quantity", 2, "price", 10.5);
+        Map<String, Object> order = Map.of("id", "10", "total", 21.0, "status", "SHIPPED", "items", List.of(item, item));
+        Map<String, Object> customer = Map.of("id", "1",
+                                              "name", "Jane",
+                                              "email", "jane@example.com",
+                                              "address", Map.of("street", "Main", "city", "Prague", "zip", "11000",
+                                                                "country", "CZ"),
+                                              "orders", List.of(order, order));
+        DataFetcher<?> customerFetcher = env -> customer;
+        DataFetcher<?> customersFetcher = env -> List.of(customer, customer);
+
+        RuntimeWiring runtimeWiring = RuntimeWiring.newRuntimeWiring()
+                .type("Query", builder -> builder.dataFetcher("customer", customerFetcher)
+                        .dataFetcher("customers", customersFetcher))
+                .build();
+
+        return new SchemaGenerator().makeExecutableSchema(new SchemaParser().parse(SCHEMA), runtimeWiring);
+    }
+}
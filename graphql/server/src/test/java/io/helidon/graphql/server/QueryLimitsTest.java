@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.graphql.server;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.helidon.config.Config;
+import io.helidon.config.ConfigSources;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+/**
+ * Tests query depth, field count and cost limits of {@link InvocationHandler}.
+ */
+class QueryLimitsTest {
+    private static final String SCHEMA = "type Query { person: Person }\n"
+            + "type Person { name: String, friend: Person, friends: [Person] }";
+    private static final String DEPTH_3 = "{person {friend {name}}}";
+    private static final String DEPTH_4 = "{person {friend {friend {name}}}}";
+
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    @Test
+    void testMaxDepth() {
+        InvocationHandler handler = InvocationHandler.builder()
+                .schema(buildSchema())
+                .maxQueryDepth(3)
+                .build();
+
+        assertThat(handler.execute(DEPTH_3).get(GraphQlConstants.ERRORS), nullValue());
+        assertRejected(() -> handler.execute(DEPTH_4), "Query exceeds the maximal depth of 3");
+        assertRejected(() -> handler.execute("query Deep {...Friend} fragment Friend on Query {person {friend {friend {name}}}}"),
+                       "Query exceeds the maximal depth of 3");
+    }
+
+    @Test
+    void testMaxFields() {
+        InvocationHandler handler = InvocationHandler.builder()
+                .schema(buildSchema())
+                .maxQueryFields(3)
+                .build();
+
+        assertThat(handler.execute(DEPTH_3).get(GraphQlConstants.ERRORS), nullValue());
+        // __typename is not counted
+        assertThat(handler.execute("{person {__typename friend {name}}}").get(GraphQlConstants.ERRORS), nullValue());
+        assertRejected(() -> handler.execute("{person {name friend {name}}}"),
+                       "Query exceeds the maximal number of fields of 3");
+    }
+
+    @Test
+    void testMaxCost() {
+        InvocationHandler handler = InvocationHandler.builder()
+                .schema(buildSchema())
+                .fieldCost("Person", "friends", 10)
+                .maxQueryCost(10)
+                .build();
+
+        assertThat(handler.execute(DEPTH_4).get(GraphQlConstants.ERRORS), nullValue());
+        assertRejected(() -> handler.execute("{person {friends {name}}}"), "Query exceeds the maximal cost of 10");
+    }
+
+    @Test
+    void testSkippedFieldsNotCounted() {
+        InvocationHandler handler = InvocationHandler.builder()
+                .schema(buildSchema())
+                .maxQueryDepth(3)
+                .build();
+        String query = "query Friends($deep: Boolean!) {person {friend {friend @include(if: $deep) {name}}}}";
+
+        assertThat(handler.execute(query, null, Map.of("deep", false)).get(GraphQlConstants.ERRORS), nullValue());
+        assertRejected(() -> handler.execute(query, null, Map.of("deep", true)), "Query exceeds the maximal depth of 3");
+    }
+
+    @Test
+    void testConfig() {
+        Config config = Config.just(ConfigSources.create(Map.of("max-query-cost", "5",
+                                                                "field-costs.Person.friend", "5")));
+        InvocationHandler handler = InvocationHandler.builder()
+                .schema(buildSchema())
+                .config(config)
+                .build();
+
+        assertRejected(() -> handler.execute(DEPTH_3), "Query exceeds the maximal cost of 5");
+        assertThat(handler.execute("{person {name}}").get(GraphQlConstants.ERRORS), nullValue());
+    }
+
+    @Test
+    void testOperationStatistics() {
+        InvocationHandler handler = InvocationHandler.builder()
+                .schema(buildSchema())
+                .maxQueryDepth(3)
+                .addMetricsOperation("Person")
+                .build();
+
+        handler.execute("query Person {person {name}}");
+        handler.execute("query Person {person {name}}");
+        handler.execute("query Friend {person {friend {name}}}");
+        handler.execute(DEPTH_4);
+        handler.execute(DEPTH_3);
+
+        OperationStatistics person = operationStatistics(handler).get("Person");
+        assertThat(person, notNullValue());
+        assertThat(person.count(), is(2L));
+        assertThat(person.rejected(), is(0L));
+        assertThat(person.errors(), is(0L));
+        assertThat(person.maxTime().compareTo(person.averageTime()) >= 0, is(true));
+
+        OperationStatistics anonymous = operationStatistics(handler).get("query");
+        assertThat(anonymous.count(), is(1L));
+        assertThat(anonymous.rejected(), is(1L));
+
+        // client chosen names not configured are tracked together
+        assertThat(operationStatistics(handler).keySet(),
+                   containsInAnyOrder("Person", "query", QueryLimitsInstrumentation.OTHER_OPERATIONS));
+        assertThat(operationStatistics(handler).get(QueryLimitsInstrumentation.OTHER_OPERATIONS).count(), is(1L));
+    }
+
+    private static Map<String, OperationStatistics> operationStatistics(InvocationHandler handler) {
+        return ((InvocationHandlerImpl) handler).operationStatistics();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void assertRejected(Supplier<Map<String, Object>> execution, String message) {
+        int fetchesBefore = fetches.get();
+        Map<String, Object> result = execution.get();
+        List<Map<String, Object>> errors = (List<Map<String, Object>>) result.get(GraphQlConstants.ERRORS);
+        assertThat(errors, notNullValue());
+        assertThat(errors.get(0).get(GraphQlConstants.MESSAGE), is(message));
+        assertThat(result.get(GraphQlConstants.DATA), nullValue());
+        assertThat("No data must be fetched for a rejected query", fetches.get(), is(fetchesBefore));
+    }
+
+    private GraphQLSchema buildSchema() {
+        DataFetcher<Map<String, Object>> person = env -> {
+            fetches.incrementAndGet();
+            return Map.of("name", "Jack");
+        };
+        RuntimeWiring wiring = RuntimeWiring.newRuntimeWiring()
+                .type("Query", it -> it.dataFetcher("person", person))
+                .type("Person", it -> it.dataFetcher("friend", person)
+                        .dataFetcher("friends", env -> List.of(person.get(env))))
+                .build();
+        return new SchemaGenerator().makeExecutableSchema(new SchemaParser().parse(SCHEMA), wiring);
+    }
+}
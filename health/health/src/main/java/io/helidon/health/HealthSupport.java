@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,17 +16,25 @@
 
 package io.helidon.health;
 
+import java.io.ByteArrayOutputStream;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Level;
@@ -35,14 +43,14 @@ import java.util.stream.Collectors;
 
 import io.helidon.common.LazyValue;
 import io.helidon.common.http.Http;
+import io.helidon.common.http.MediaType;
+import io.helidon.common.reactive.Multi;
 import io.helidon.common.reactive.Single;
 import io.helidon.config.Config;
 import io.helidon.config.metadata.Configured;
 import io.helidon.config.metadata.ConfiguredOption;
 import io.helidon.faulttolerance.Async;
 import io.helidon.faulttolerance.Timeout;
-import io.helidon.media.common.MessageBodyWriter;
-import io.helidon.media.jsonp.JsonpSupport;
 import io.helidon.servicecommon.rest.HelidonRestServiceSupport;
 import io.helidon.webserver.Routing;
 import io.helidon.webserver.ServerRequest;
@@ -53,7 +61,8 @@ import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonBuilderFactory;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
-import jakarta.json.JsonStructure;
+import jakarta.json.JsonWriter;
+import jakarta.json.JsonWriterFactory;
 import org.eclipse.microprofile.health.HealthCheck;
 import org.eclipse.microprofile.health.HealthCheckResponse;
 import org.eclipse.microprofile.health.HealthCheckResponse.Status;
@@ -72,6 +81,7 @@ public final class HealthSupport extends HelidonRestServiceSupport {
     private static final Logger LOGGER = Logger.getLogger(HealthSupport.class.getName());
 
     private static final JsonBuilderFactory JSON = Json.createBuilderFactory(Collections.emptyMap());
+    private static final JsonWriterFactory JSON_WRITER = Json.createWriterFactory(Collections.emptyMap());
 
     private final boolean enabled;
     private final List<HealthCheck> allChecks = new LinkedList<>();
@@ -81,9 +91,17 @@ public final class HealthSupport extends HelidonRestServiceSupport {
     private final boolean includeAll;
     private final Set<String> includedHealthChecks;
     private final Set<String> excludedHealthChecks;
-    private final MessageBodyWriter<JsonStructure> jsonpWriter = JsonpSupport.writer();
     private final LazyValue<? extends Timeout> timeout;
     private final LazyValue<? extends Async> async;
+    private final boolean parallel;
+    private final long refreshNanos;
+    private final long checkTimeoutMillis;
+    private final Map<String, Long> checkRefreshMillis;
+    private final Map<String, Long> checkTimeoutsMillis;
+    // state of each registered check, read only after construction
+    private final Map<HealthCheck, CheckState> states = new IdentityHashMap<>();
+    // last response of each endpoint, reused with its serialized form while results do not change
+    private final Map<List<HealthCheck>, AtomicReference<HealthResponse>> lastResponses = new IdentityHashMap<>();
 
     private HealthSupport(Builder builder) {
         super(LOGGER, builder, SERVICE_NAME);
@@ -107,7 +125,19 @@ public final class HealthSupport extends HelidonRestServiceSupport {
 
         // Lazy values to prevent early init of maybe-not-yet-configured FT thread pools
         this.timeout = LazyValue.create(() -> Timeout.create(Duration.ofMillis(builder.timeoutMillis)));
-        this.async = LazyValue.create(Async::create);
+        ExecutorService executor = builder.executor;
+        this.async = executor == null
+                ? LazyValue.create(Async::create)
+                : LazyValue.create(() -> Async.builder().executor(executor).build());
+        this.parallel = builder.parallel;
+        this.refreshNanos = TimeUnit.MILLISECONDS.toNanos(builder.refreshIntervalMillis);
+        this.checkTimeoutMillis = builder.checkTimeoutMillis;
+        this.checkRefreshMillis = Map.copyOf(builder.checkRefreshMillis);
+        this.checkTimeoutsMillis = Map.copyOf(builder.checkTimeoutsMillis);
+
+        allChecks.forEach(check -> states.put(check, new CheckState(check, true)));
+        List.of(allChecks, livenessChecks, readinessChecks, startupChecks)
+                .forEach(checks -> lastResponses.put(checks, new AtomicReference<>()));
     }
 
     @Override
@@ -177,12 +207,8 @@ public final class HealthSupport extends HelidonRestServiceSupport {
     }
 
     void invoke(ServerResponse res, List<HealthCheck> healthChecks, boolean sendDetails) {
-        // timeout on the asynchronous execution
-        Single<HealthResponse> result = timeout.get().invoke(
-                () -> async.get().invoke(() -> callHealthChecks(healthChecks)));
-
         // handle timeouts and failures in execution
-        result = result.onErrorResume(throwable -> {
+        Single<HealthResponse> result = healthResponse(healthChecks).onErrorResume(throwable -> {
             LOGGER.log(Level.SEVERE, "Failed to call health checks", throwable);
             HcResponse response = new HcResponse(HealthCheckResponse.down("InternalError"), true);
             return new HealthResponse(Http.Status.INTERNAL_SERVER_ERROR_500, toJson(Status.DOWN, List.of(response)));
@@ -197,16 +223,34 @@ public final class HealthSupport extends HelidonRestServiceSupport {
                     .status(status);
 
             if (sendDetails) {
-                res.send(jsonpWriter.marshall(hres.json));
+                res.headers().contentType(MediaType.APPLICATION_JSON);
+                res.send(hres.serialized());
             } else {
                 res.send();
             }
         });
     }
 
+    Single<HealthResponse> healthResponse(List<HealthCheck> healthChecks) {
+        // timeout on the asynchronous execution
+        if (parallel) {
+            return timeout.get().invoke(() -> Multi.create(healthChecks)
+                    .flatMap(hc -> evaluate(state(hc)))
+                    .collectList()
+                    .map(responses -> toHealthResponse(healthChecks, responses)));
+        }
+        return timeout.get().invoke(() -> async.get().invoke(() -> callHealthChecks(healthChecks)));
+    }
+
     HealthResponse callHealthChecks(List<HealthCheck> healthChecks) {
         List<HcResponse> responses = healthChecks.stream()
-                .map(this::callHealthChecks)
+                .map(hc -> evaluate(state(hc)).await())
+                .collect(Collectors.toList());
+        return toHealthResponse(healthChecks, responses);
+    }
+
+    private HealthResponse toHealthResponse(List<HealthCheck> healthChecks, List<HcResponse> allResponses) {
+        List<HcResponse> responses = allResponses.stream()
                 .filter(this::notExcluded)
                 .filter(this::allOrIncluded)
                 .sorted(Comparator.comparing(HcResponse::name))
@@ -225,8 +269,37 @@ public final class HealthSupport extends HelidonRestServiceSupport {
                 .map(it -> Http.Status.INTERNAL_SERVER_ERROR_500)
                 .orElse((status == Status.UP) ? Http.Status.OK_200 : Http.Status.SERVICE_UNAVAILABLE_503);
 
-        JsonObject json = toJson(status, responses);
-        return new HealthResponse(httpStatus, json);
+        AtomicReference<HealthResponse> last = lastResponses.get(healthChecks);
+        if (last != null) {
+            HealthResponse previous = last.get();
+            if (previous != null && previous.sameResponses(responses)) {
+                return previous;
+            }
+        }
+        HealthResponse response = new HealthResponse(httpStatus, toJson(status, responses), responses);
+        if (last != null) {
+            last.set(response);
+        }
+        return response;
+    }
+
+    private CheckState state(HealthCheck hc) {
+        CheckState state = states.get(hc);
+        // checks not registered with this support are not cached
+        return state == null ? new CheckState(hc, false) : state;
+    }
+
+    private Single<HcResponse> evaluate(CheckState state) {
+        HcResponse cached = state.cached;
+        if (cached == null) {
+            return state.call(parallel);
+        }
+        if (System.nanoTime() - state.cachedAt >= state.refreshNanos && state.refreshing.compareAndSet(false, true)) {
+            // stale, the cached response is used until it is refreshed in the background
+            state.call(true)
+                    .whenComplete((response, throwable) -> state.refreshing.set(false));
+        }
+        return Single.just(cached);
     }
 
     private JsonObject toJson(Status status, List<HcResponse> responses) {
@@ -259,7 +332,7 @@ public final class HealthSupport extends HelidonRestServiceSupport {
         return !excludedHealthChecks.contains(response.hcr.getName());
     }
 
-    private HcResponse callHealthChecks(HealthCheck hc) {
+    private static HcResponse callHealthCheck(HealthCheck hc) {
         try {
             return new HcResponse(hc.call());
         } catch (Throwable e) {
@@ -342,6 +415,28 @@ public final class HealthSupport extends HelidonRestServiceSupport {
          */
         public static final String TIMEOUT_CONFIG_KEY = "timeout-millis";
 
+        /**
+         * Config key within the config {@code health} section controlling whether health checks are invoked in parallel.
+         */
+        public static final String PARALLEL_CONFIG_KEY = "parallel";
+
+        /**
+         * Config key within the config {@code health} section controlling the timeout of a single health check
+         * invoked in parallel.
+         */
+        public static final String CHECK_TIMEOUT_CONFIG_KEY = "check-timeout-millis";
+
+        /**
+         * Config key within the config {@code health} section controlling how long a health check result is cached.
+         */
+        public static final String REFRESH_INTERVAL_CONFIG_KEY = "refresh-interval-millis";
+
+        /**
+         * Config key within the config {@code health} section with settings of individual health checks by name,
+         * supporting {@value #CHECK_TIMEOUT_CONFIG_KEY} and {@value #REFRESH_INTERVAL_CONFIG_KEY}.
+         */
+        public static final String CHECKS_CONFIG_KEY = "checks";
+
         // 10 seconds
         private static final long DEFAULT_TIMEOUT_MILLIS = 10 * 1000;
         private static final boolean DEFAULT_ENABLED = true;
@@ -353,8 +448,14 @@ public final class HealthSupport extends HelidonRestServiceSupport {
         private final Set<Class<?>> excludedClasses = new HashSet<>();
         private final Set<String> includedHealthChecks = new HashSet<>();
         private final Set<String> excludedHealthChecks = new HashSet<>();
+        private final Map<String, Long> checkRefreshMillis = new HashMap<>();
+        private final Map<String, Long> checkTimeoutsMillis = new HashMap<>();
         private boolean enabled = DEFAULT_ENABLED;
         private long timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+        private boolean parallel;
+        private long checkTimeoutMillis;
+        private long refreshIntervalMillis;
+        private ExecutorService executor;
 
         private Builder() {
             super(DEFAULT_WEB_CONTEXT);
@@ -434,6 +535,108 @@ public final class HealthSupport extends HelidonRestServiceSupport {
             config.get(EXCLUDE_CONFIG_KEY).asList(String.class).ifPresent(list -> list.forEach(this::addExcluded));
             config.get(EXCLUDE_CLASSES_CONFIG_KEY).asList(Class.class).ifPresent(list -> list.forEach(this::addExcludedClass));
             config.get(TIMEOUT_CONFIG_KEY).asLong().ifPresent(this::timeoutMillis);
+            config.get(PARALLEL_CONFIG_KEY).asBoolean().ifPresent(this::parallel);
+            config.get(CHECK_TIMEOUT_CONFIG_KEY).asLong().ifPresent(it -> checkTimeout(it, TimeUnit.MILLISECONDS));
+            config.get(REFRESH_INTERVAL_CONFIG_KEY).asLong().ifPresent(it -> refreshInterval(it, TimeUnit.MILLISECONDS));
+            config.get(CHECKS_CONFIG_KEY).asNodeList().ifPresent(nodes -> nodes.forEach(node -> {
+                String name = node.name();
+                node.get(CHECK_TIMEOUT_CONFIG_KEY).asLong()
+                        .ifPresent(it -> checkTimeout(name, it, TimeUnit.MILLISECONDS));
+                node.get(REFRESH_INTERVAL_CONFIG_KEY).asLong()
+                        .ifPresent(it -> refreshInterval(name, it, TimeUnit.MILLISECONDS));
+            }));
+            return this;
+        }
+
+        /**
+         * Invoke health checks of a request in parallel, each asynchronously with the
+         * {@link #executor(java.util.concurrent.ExecutorService) executor} and its own
+         * {@link #checkTimeout(long, java.util.concurrent.TimeUnit) timeout}, so a slow check does not delay the others.
+         * By default, the health checks are invoked one after another.
+         *
+         * @param parallel whether to invoke health checks in parallel
+         * @return updated builder instance
+         */
+        @ConfiguredOption(key = PARALLEL_CONFIG_KEY, value = "false")
+        public Builder parallel(boolean parallel) {
+            this.parallel = parallel;
+            return this;
+        }
+
+        /**
+         * Executor service used to invoke health checks. Defaults to the fault tolerance executor service.
+         *
+         * @param executor executor service
+         * @return updated builder instance
+         */
+        public Builder executor(ExecutorService executor) {
+            this.executor = Objects.requireNonNull(executor);
+            return this;
+        }
+
+        /**
+         * Timeout of a single health check invoked in {@link #parallel(boolean) parallel}, or refreshed in the background
+         * when its result is {@link #refreshInterval(long, java.util.concurrent.TimeUnit) cached}. A health check that does
+         * not finish in time is reported as {@code DOWN}. The timeout does not apply until the health check responded
+         * for the first time, as the check is reported by the name of its response. By default, only the overall
+         * {@link #timeout(long, java.util.concurrent.TimeUnit) timeout} applies.
+         *
+         * @param timeout timeout value
+         * @param unit timeout time unit
+         * @return updated builder instance
+         */
+        @ConfiguredOption(key = CHECK_TIMEOUT_CONFIG_KEY,
+                          description = "timeout of a single health check invoked in parallel (ms)",
+                          type = Long.class,
+                          value = "0")
+        public Builder checkTimeout(long timeout, TimeUnit unit) {
+            this.checkTimeoutMillis = unit.toMillis(timeout);
+            return this;
+        }
+
+        /**
+         * Timeout of a single health check invoked in {@link #parallel(boolean) parallel}, by the health check name.
+         *
+         * @param name name of the health check, as in its response
+         * @param timeout timeout value
+         * @param unit timeout time unit
+         * @return updated builder instance
+         * @see #checkTimeout(long, java.util.concurrent.TimeUnit)
+         */
+        public Builder checkTimeout(String name, long timeout, TimeUnit unit) {
+            this.checkTimeoutsMillis.put(name, unit.toMillis(timeout));
+            return this;
+        }
+
+        /**
+         * How long a health check result is cached. A cached result is returned to all requests, and once older
+         * than the interval, it is refreshed in the background while the requests still get the cached result.
+         * By default, health checks are invoked on every request.
+         *
+         * @param interval refresh interval value
+         * @param unit refresh interval time unit
+         * @return updated builder instance
+         */
+        @ConfiguredOption(key = REFRESH_INTERVAL_CONFIG_KEY,
+                          description = "how long a health check result is cached (ms)",
+                          type = Long.class,
+                          value = "0")
+        public Builder refreshInterval(long interval, TimeUnit unit) {
+            this.refreshIntervalMillis = unit.toMillis(interval);
+            return this;
+        }
+
+        /**
+         * How long a health check result is cached, by the health check name.
+         *
+         * @param name name of the health check, as in its response
+         * @param interval refresh interval value
+         * @param unit refresh interval time unit
+         * @return updated builder instance
+         * @see #refreshInterval(long, java.util.concurrent.TimeUnit)
+         */
+        public Builder refreshInterval(String name, long interval, TimeUnit unit) {
+            this.checkRefreshMillis.put(name, unit.toMillis(interval));
             return this;
         }
 
@@ -579,15 +782,151 @@ public final class HealthSupport extends HelidonRestServiceSupport {
         public Optional<Map<String, Object>> data() {
             return hcr.getData();
         }
+
+        boolean sameAs(HcResponse other) {
+            return this == other
+                    || (internalServerError == other.internalServerError
+                                && Objects.equals(name(), other.name())
+                                && status() == other.status()
+                                && data().equals(other.data()));
+        }
+    }
+
+    /**
+     * Health check with its cached response.
+     * The settings of a check are found by its name, known once the check responded. Until then, the check is invoked
+     * without the check timeout, so it is never reported under a different name, and concurrent invocations
+     * share a single call.
+     */
+    private final class CheckState {
+        private final HealthCheck check;
+        private final boolean cacheable;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private final AtomicReference<CompletableFuture<HcResponse>> first = new AtomicReference<>();
+        private volatile HcResponse cached;
+        private volatile long cachedAt;
+        private volatile String name;
+        private volatile long refreshNanos = HealthSupport.this.refreshNanos;
+        private volatile LazyValue<Timeout> checkTimeout;
+
+        private CheckState(HealthCheck check, boolean cacheable) {
+            this.check = check;
+            this.cacheable = cacheable;
+        }
+
+        private Single<HcResponse> call(boolean asynchronous) {
+            if (name == null) {
+                return callFirst(asynchronous);
+            }
+            if (!asynchronous) {
+                return Single.just(update(callHealthCheck(check)));
+            }
+            Single<HcResponse> result = async.get().invoke(() -> callHealthCheck(check));
+            LazyValue<Timeout> timeout = checkTimeout;
+            if (timeout != null) {
+                Single<HcResponse> invocation = result;
+                result = timeout.get().invoke(() -> invocation)
+                        .onErrorResume(this::failed);
+            }
+            return result.map(this::update);
+        }
+
+        private Single<HcResponse> callFirst(boolean asynchronous) {
+            CompletableFuture<HcResponse> future = new CompletableFuture<>();
+            CompletableFuture<HcResponse> inProgress = first.compareAndExchange(null, future);
+            if (inProgress != null) {
+                return Single.create(inProgress);
+            }
+            Single<HcResponse> result = asynchronous
+                    ? async.get().invoke(() -> callHealthCheck(check))
+                    : Single.just(callHealthCheck(check));
+            result.map(this::update)
+                    .whenComplete((response, throwable) -> {
+                        first.set(null);
+                        if (throwable == null) {
+                            future.complete(response);
+                        } else {
+                            future.completeExceptionally(throwable);
+                        }
+                    });
+            return Single.create(future);
+        }
+
+        private HcResponse failed(Throwable throwable) {
+            LOGGER.log(Level.WARNING, throwable, () -> "Health check " + name + " did not finish");
+            return new HcResponse(HealthCheckResponse.named(name)
+                                          .withData("message", "Health check did not finish in time")
+                                          .down()
+                                          .build());
+        }
+
+        private HcResponse update(HcResponse response) {
+            // a check that failed to respond does not tell its name
+            if (name == null && !response.internalError()) {
+                resolve(response.name());
+            }
+            if (!cacheable || refreshNanos <= 0) {
+                return response;
+            }
+            HcResponse previous = cached;
+            // keep the previous instance if nothing changed, so the serialized response can be reused
+            HcResponse current = previous != null && previous.sameAs(response) ? previous : response;
+            cached = current;
+            cachedAt = System.nanoTime();
+            return current;
+        }
+
+        private void resolve(String name) {
+            Long refreshMillis = checkRefreshMillis.get(name);
+            if (refreshMillis != null) {
+                refreshNanos = TimeUnit.MILLISECONDS.toNanos(refreshMillis);
+            }
+            checkTimeout = timeout(checkTimeoutsMillis.getOrDefault(name, checkTimeoutMillis));
+            this.name = name;
+        }
+
+        private LazyValue<Timeout> timeout(long millis) {
+            return millis <= 0 ? null : LazyValue.create(() -> Timeout.create(Duration.ofMillis(millis)));
+        }
     }
 
     static final class HealthResponse {
         private final Http.ResponseStatus status;
         private final JsonObject json;
+        private final List<HcResponse> responses;
+        private final LazyValue<byte[]> serialized;
 
         private HealthResponse(Http.ResponseStatus status, JsonObject json) {
+            this(status, json, List.of());
+        }
+
+        private HealthResponse(Http.ResponseStatus status, JsonObject json, List<HcResponse> responses) {
             this.status = status;
             this.json = json;
+            this.responses = responses;
+            this.serialized = LazyValue.create(() -> {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                try (JsonWriter writer = JSON_WRITER.createWriter(out)) {
+                    writer.write(json);
+                }
+                return out.toByteArray();
+            });
+        }
+
+        private boolean sameResponses(List<HcResponse> other) {
+            if (responses.size() != other.size()) {
+                return false;
+            }
+            for (int i = 0; i < responses.size(); i++) {
+                if (responses.get(i) != other.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        byte[] serialized() {
+            return serialized.get();
         }
 
         Http.ResponseStatus status() {
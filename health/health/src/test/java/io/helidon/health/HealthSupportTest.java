@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,10 @@ package io.helidon.health;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
@@ -43,6 +47,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.notNullValue;
 
 class HealthSupportTest {
@@ -216,6 +221,147 @@ class HealthSupportTest {
         assertThat(json.getJsonArray("checks"), hasSize(brokenChecks.size()));
     }
 
+    @Test
+    void cachedChecksRefreshedInBackground() throws InterruptedException {
+        CountingHealthCheck cached = new CountingHealthCheck("cached");
+        CountingHealthCheck uncached = new CountingHealthCheck("uncached");
+        HealthSupport support = HealthSupport.builder()
+                .addLiveness(cached, uncached)
+                .refreshInterval("cached", 200, TimeUnit.MILLISECONDS)
+                .build();
+        List<HealthCheck> checks = List.of(cached, uncached);
+
+        support.callHealthChecks(checks);
+        support.callHealthChecks(checks);
+        assertThat(cached.count.get(), is(1));
+        assertThat(uncached.count.get(), is(2));
+
+        Thread.sleep(300);
+        // stale result is returned, while the check is invoked in the background
+        support.callHealthChecks(checks);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (cached.count.get() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(cached.count.get(), is(2));
+    }
+
+    @Test
+    void parallelChecksTimeOutIndividually() {
+        SlowHealthCheck slow = new SlowHealthCheck("slow", 0);
+        List<HealthCheck> checks = List.of(slow, new SlowHealthCheck("fast", 0));
+        HealthSupport support = HealthSupport.builder()
+                .addReadiness(checks)
+                .parallel(true)
+                .checkTimeout(200, TimeUnit.MILLISECONDS)
+                .build();
+        // the timeout applies once the check is known by its name
+        support.healthResponse(checks).await(5, TimeUnit.SECONDS);
+        slow.sleepMillis = 5000;
+
+        long start = System.nanoTime();
+        HealthSupport.HealthResponse response = support.healthResponse(checks).await(5, TimeUnit.SECONDS);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(2000L));
+        assertThat(response.status(), is(Http.Status.SERVICE_UNAVAILABLE_503));
+        JsonArray results = response.json().getJsonArray("checks");
+        assertThat(results, hasSize(2));
+        assertThat(results.getJsonObject(0).getString("status"), is("UP"));
+        assertThat(results.getJsonObject(1).getString("status"), is("DOWN"));
+    }
+
+    @Test
+    void checkTimeoutByName() {
+        SlowHealthCheck slow = new SlowHealthCheck("slow", 0);
+        List<HealthCheck> checks = List.of(slow, new SlowHealthCheck("fast", 0));
+        HealthSupport support = HealthSupport.builder()
+                .addReadiness(checks)
+                .parallel(true)
+                .checkTimeout("slow", 200, TimeUnit.MILLISECONDS)
+                .addExcluded("fast")
+                .build();
+        support.healthResponse(checks).await(5, TimeUnit.SECONDS);
+        slow.sleepMillis = 5000;
+
+        HealthSupport.HealthResponse response = support.healthResponse(checks).await(5, TimeUnit.SECONDS);
+
+        assertThat(response.status(), is(Http.Status.SERVICE_UNAVAILABLE_503));
+        JsonArray results = response.json().getJsonArray("checks");
+        assertThat(results, hasSize(1));
+        assertThat(results.getJsonObject(0).getString("name"), is("slow"));
+        assertThat(results.getJsonObject(0).getString("status"), is("DOWN"));
+    }
+
+    @Test
+    void firstCallShared() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountingHealthCheck check = new CountingHealthCheck("blocking", release);
+        List<HealthCheck> checks = List.of(check);
+        HealthSupport support = HealthSupport.builder()
+                .addLiveness(check)
+                .parallel(true)
+                .refreshInterval(1, TimeUnit.MINUTES)
+                .build();
+
+        CompletableFuture<HealthSupport.HealthResponse> first = CompletableFuture.supplyAsync(
+                () -> support.healthResponse(checks).await(5, TimeUnit.SECONDS));
+        CompletableFuture<HealthSupport.HealthResponse> second = CompletableFuture.supplyAsync(
+                () -> support.healthResponse(checks).await(5, TimeUnit.SECONDS));
+        // let both requests find the check in progress
+        Thread.sleep(200);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).status(), is(Http.Status.OK_200));
+        assertThat(second.get(5, TimeUnit.SECONDS).status(), is(Http.Status.OK_200));
+        assertThat(check.count.get(), is(1));
+    }
+
+    private static final class CountingHealthCheck implements HealthCheck {
+        private final String name;
+        private final AtomicInteger count = new AtomicInteger();
+        private final CountDownLatch release;
+
+        private CountingHealthCheck(String name) {
+            this(name, new CountDownLatch(0));
+        }
+
+        private CountingHealthCheck(String name, CountDownLatch release) {
+            this.name = name;
+            this.release = release;
+        }
+
+        @Override
+        public HealthCheckResponse call() {
+            count.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return HealthCheckResponse.named(name).up().build();
+        }
+    }
+
+    private static final class SlowHealthCheck implements HealthCheck {
+        private final String name;
+        private volatile long sleepMillis;
+
+        private SlowHealthCheck(String name, long sleepMillis) {
+            this.name = name;
+            this.sleepMillis = sleepMillis;
+        }
+
+        @Override
+        public HealthCheckResponse call() {
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return HealthCheckResponse.named(name).up().build();
+        }
+    }
+
     private static final class GoodHealthCheck implements HealthCheck {
         private final String name;
 
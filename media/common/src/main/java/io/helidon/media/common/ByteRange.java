@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A single satisfiable byte range of a representation, as defined by the HTTP {@code Range} header
+ * (RFC 7233). Both {@link #start()} and {@link #end()} are inclusive offsets.
+ */
+public final class ByteRange {
+
+    /**
+     * Maximal number of ranges accepted in a single {@code Range} header.
+     * Headers with more ranges are ignored and the full representation is sent.
+     */
+    public static final int MAX_RANGES = 16;
+
+    private static final String BYTES_UNIT = "bytes";
+
+    private final long start;
+    private final long end;
+
+    private ByteRange(long start, long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Create a new byte range.
+     *
+     * @param start first byte offset (inclusive)
+     * @param end last byte offset (inclusive)
+     * @return a new byte range
+     * @throws IllegalArgumentException if {@code start} is negative or greater than {@code end}
+     */
+    public static ByteRange create(long start, long end) {
+        if (start < 0 || end < start) {
+            throw new IllegalArgumentException("Invalid byte range: " + start + "-" + end);
+        }
+        return new ByteRange(start, end);
+    }
+
+    /**
+     * Parse a {@code Range} header value against a representation of the given length.
+     * <p>
+     * An empty optional is returned if the header is malformed or uses a unit other than {@code bytes};
+     * per the specification such a header must be ignored and the full representation sent.
+     * An empty list is returned if the header is well-formed but none of the ranges is satisfiable,
+     * which should be answered with {@code 416 Requested Range Not Satisfiable}.
+     * Satisfiable ranges are returned in the order requested, clamped to the representation length.
+     * If any of the satisfiable ranges overlap, all ranges are coalesced and returned ordered by their start,
+     * so that no part of the representation is sent more than once.
+     * A header with more than {@link #MAX_RANGES} ranges is ignored, as it is costly to serve.
+     *
+     * @param rangeHeader value of the {@code Range} header
+     * @param length length of the full representation in bytes
+     * @return parsed ranges
+     */
+    public static Optional<List<ByteRange>> parse(String rangeHeader, long length) {
+        if (rangeHeader == null) {
+            return Optional.empty();
+        }
+        String value = rangeHeader.trim();
+        int eq = value.indexOf('=');
+        if (eq < 0 || !BYTES_UNIT.equalsIgnoreCase(value.substring(0, eq).trim())) {
+            return Optional.empty();
+        }
+        String[] specs = value.substring(eq + 1).split(",");
+        if (specs.length > MAX_RANGES) {
+            return Optional.empty();
+        }
+        List<ByteRange> result = new ArrayList<>(specs.length);
+        for (String spec : specs) {
+            String trimmed = spec.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int dash = trimmed.indexOf('-');
+            if (dash < 0) {
+                return Optional.empty();
+            }
+            String first = trimmed.substring(0, dash).trim();
+            String last = trimmed.substring(dash + 1).trim();
+            try {
+                if (first.isEmpty()) {
+                    // suffix range: last N bytes
+                    if (last.isEmpty()) {
+                        return Optional.empty();
+                    }
+                    long suffix = Long.parseLong(last);
+                    if (suffix < 0) {
+                        return Optional.empty();
+                    }
+                    if (suffix > 0 && length > 0) {
+                        result.add(new ByteRange(Math.max(0, length - suffix), length - 1));
+                    }
+                } else {
+                    long start = Long.parseLong(first);
+                    long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+                    if (start < 0 || end < start) {
+                        return Optional.empty();
+                    }
+                    if (start < length) {
+                        result.add(new ByteRange(start, Math.min(end, length - 1)));
+                    }
+                }
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(Collections.unmodifiableList(coalesce(result)));
+    }
+
+    private static List<ByteRange> coalesce(List<ByteRange> ranges) {
+        if (ranges.size() < 2) {
+            return ranges;
+        }
+        List<ByteRange> sorted = new ArrayList<>(ranges);
+        sorted.sort(Comparator.comparingLong(ByteRange::start));
+        boolean overlapping = false;
+        for (int i = 1; i < sorted.size(); i++) {
+            if (sorted.get(i).start <= sorted.get(i - 1).end) {
+                overlapping = true;
+                break;
+            }
+        }
+        if (!overlapping) {
+            return ranges;
+        }
+        List<ByteRange> result = new ArrayList<>(sorted.size());
+        ByteRange current = sorted.get(0);
+        for (int i = 1; i < sorted.size(); i++) {
+            ByteRange next = sorted.get(i);
+            if (next.start <= current.end + 1) {
+                current = new ByteRange(current.start, Math.max(current.end, next.end));
+            } else {
+                result.add(current);
+                current = next;
+            }
+        }
+        result.add(current);
+        return result;
+    }
+
+    /**
+     * First byte offset (inclusive).
+     *
+     * @return start offset
+     */
+    public long start() {
+        return start;
+    }
+
+    /**
+     * Last byte offset (inclusive).
+     *
+     * @return end offset
+     */
+    public long end() {
+        return end;
+    }
+
+    /**
+     * Number of bytes in this range.
+     *
+     * @return range length
+     */
+    public long length() {
+        return end - start + 1;
+    }
+
+    /**
+     * Value of the {@code Content-Range} header for this range.
+     *
+     * @param totalLength length of the full representation
+     * @return content range header value, such as {@code bytes 0-499/1234}
+     */
+    public String contentRange(long totalLength) {
+        return BYTES_UNIT + " " + start + "-" + end + "/" + totalLength;
+    }
+
+    /**
+     * Value of the {@code Content-Range} header of a {@code 416} response.
+     *
+     * @param totalLength length of the full representation
+     * @return content range header value, such as {@code bytes *&#47;1234}
+     */
+    public static String unsatisfiedContentRange(long totalLength) {
+        return BYTES_UNIT + " */" + totalLength;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ByteRange)) {
+            return false;
+        }
+        ByteRange other = (ByteRange) o;
+        return start == other.start && end == other.end;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(start) * 31 + Long.hashCode(end);
+    }
+
+    @Override
+    public String toString() {
+        return start + "-" + end;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -126,6 +126,18 @@ public class DefaultMediaSupport implements MediaSupport {
         return PathBodyWriter.create();
     }
 
+    /**
+     * Return {@link Path} writer instance that writes only the given byte ranges of the file.
+     * A single range is written with a {@code Content-Range} header, multiple ranges
+     * as a {@code multipart/byteranges} body.
+     *
+     * @param ranges satisfiable byte ranges, see {@link ByteRange#parse(String, long)}
+     * @return {@link Path} writer
+     */
+    public static MessageBodyWriter<Path> pathWriter(List<ByteRange> ranges) {
+        return PathBodyWriter.create(ranges);
+    }
+
     /**
      * Return {@link File} writer instance.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,29 +16,48 @@
 package io.helidon.media.common;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
 import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.Flow.Publisher;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.Http;
 import io.helidon.common.http.MediaType;
 import io.helidon.common.mapper.Mapper;
+import io.helidon.common.reactive.IoMulti;
+import io.helidon.common.reactive.Multi;
 import io.helidon.common.reactive.Single;
 
 /**
  * Message body writer for {@link Path}.
+ * <p>
+ * When created with a list of {@link ByteRange byte ranges}, only the requested regions of the file are read
+ * (using positional reads on a {@link FileChannel}). A single range is written as is with the matching
+ * {@code Content-Range} header, multiple ranges are written as a {@code multipart/byteranges} body.
+ * Setting the {@code 206 Partial Content} status is the responsibility of the caller.
  */
 final class PathBodyWriter implements MessageBodyWriter<Path> {
 
-    private static final PathBodyWriter DEFAULT = new PathBodyWriter();
+    private static final PathBodyWriter DEFAULT = new PathBodyWriter(List.of());
+    private static final String CRLF = "\r\n";
+
+    private final List<ByteRange> ranges;
 
     /**
      * Enforces the use of {@link #create()}.
      */
-    private PathBodyWriter() {
+    private PathBodyWriter(List<ByteRange> ranges) {
+        this.ranges = ranges;
     }
 
     @Override
@@ -50,7 +69,7 @@ final class PathBodyWriter implements MessageBodyWriter<Path> {
     public Publisher<DataChunk> write(Single<? extends Path> content,
                                       GenericType<? extends Path> type,
                                       MessageBodyWriterContext context) {
-        return content.flatMap(new PathToChunks(context));
+        return content.flatMap(new PathToChunks(context, ranges));
     }
 
     /**
@@ -61,6 +80,19 @@ final class PathBodyWriter implements MessageBodyWriter<Path> {
         return DEFAULT;
     }
 
+    /**
+     * Create a new {@link PathBodyWriter} writing only the given ranges of the file.
+     *
+     * @param ranges satisfiable ranges to write, if empty, the whole file is written
+     * @return new {@link Path} message body writer.
+     */
+    static PathBodyWriter create(List<ByteRange> ranges) {
+        if (ranges.isEmpty()) {
+            return DEFAULT;
+        }
+        return new PathBodyWriter(List.copyOf(ranges));
+    }
+
     /**
      * Implementation of {@link Mapper} that converts a {@link Path} to a
      * publisher of {@link DataChunk}.
@@ -68,21 +100,131 @@ final class PathBodyWriter implements MessageBodyWriter<Path> {
     private static final class PathToChunks implements Mapper<Path, Publisher<DataChunk>> {
 
         private final MessageBodyWriterContext context;
+        private final List<ByteRange> ranges;
 
-        PathToChunks(MessageBodyWriterContext context) {
+        PathToChunks(MessageBodyWriterContext context, List<ByteRange> ranges) {
             this.context = context;
+            this.ranges = ranges;
         }
 
         @Override
         public Publisher<DataChunk> map(Path path) {
             try {
-                context.contentType(MediaType.APPLICATION_OCTET_STREAM);
-                context.contentLength(Files.size(path));
-                FileChannel fc = FileChannel.open(path, StandardOpenOption.READ);
-                return ContentWriters.byteChannelWriter().apply(fc);
+                if (ranges.isEmpty()) {
+                    context.contentType(MediaType.APPLICATION_OCTET_STREAM);
+                    context.contentLength(Files.size(path));
+                    FileChannel fc = FileChannel.open(path, StandardOpenOption.READ);
+                    return ContentWriters.byteChannelWriter().apply(fc);
+                }
+                long size = Files.size(path);
+                if (ranges.size() == 1) {
+                    return singleRange(path, size, ranges.get(0));
+                }
+                return multipleRanges(path, size);
             } catch (IOException ex) {
                 return Single.<DataChunk>error(ex);
             }
         }
+
+        private Publisher<DataChunk> singleRange(Path path, long size, ByteRange range) {
+            context.contentType(MediaType.APPLICATION_OCTET_STREAM);
+            context.headers().put(Http.Header.CONTENT_RANGE, range.contentRange(size));
+            context.contentLength(range.length());
+            return rangeChunks(path, range);
+        }
+
+        private Publisher<DataChunk> multipleRanges(Path path, long size) {
+            String partType = context.contentType()
+                    .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                    .toString();
+            String boundary = UUID.randomUUID().toString();
+            List<Publisher<DataChunk>> parts = new ArrayList<>(ranges.size() * 2 + 1);
+            long contentLength = 0;
+            for (int i = 0; i < ranges.size(); i++) {
+                ByteRange range = ranges.get(i);
+                byte[] partHeader = ((i == 0 ? "" : CRLF)
+                        + "--" + boundary + CRLF
+                        + Http.Header.CONTENT_TYPE + ": " + partType + CRLF
+                        + Http.Header.CONTENT_RANGE + ": " + range.contentRange(size) + CRLF
+                        + CRLF).getBytes(StandardCharsets.US_ASCII);
+                contentLength += partHeader.length + range.length();
+                parts.add(Single.just(DataChunk.create(partHeader)));
+                parts.add(rangeChunks(path, range));
+            }
+            byte[] closing = (CRLF + "--" + boundary + "--" + CRLF).getBytes(StandardCharsets.US_ASCII);
+            contentLength += closing.length;
+            parts.add(Single.just(DataChunk.create(closing)));
+
+            context.headers().put(Http.Header.CONTENT_TYPE, "multipart/byteranges; boundary=" + boundary);
+            context.contentLength(contentLength);
+            @SuppressWarnings("unchecked")
+            Publisher<DataChunk>[] publishers = parts.toArray(new Publisher[0]);
+            return Multi.concatArray(publishers);
+        }
+
+        private static Publisher<DataChunk> rangeChunks(Path path, ByteRange range) {
+            // open lazily, so a range that is never subscribed to does not hold a file descriptor
+            return Multi.defer(() -> {
+                try {
+                    return IoMulti.multiFromByteChannel(new FileRegionChannel(path, range))
+                            .map(DataChunk::create);
+                } catch (IOException e) {
+                    return Multi.error(e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Readable channel over a region of a file, using positional reads so the shared channel position
+     * is never modified and only the bytes of the region are read from disk.
+     */
+    private static final class FileRegionChannel implements ReadableByteChannel {
+
+        private final FileChannel channel;
+        private final long end;
+        private long position;
+
+        FileRegionChannel(Path path, ByteRange range) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.position = range.start();
+            this.end = range.end() + 1;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            if (!channel.isOpen()) {
+                throw new ClosedChannelException();
+            }
+            long remaining = end - position;
+            if (remaining <= 0) {
+                return -1;
+            }
+            ByteBuffer target = dst;
+            if (dst.remaining() > remaining) {
+                target = dst.slice();
+                target.limit((int) remaining);
+            }
+            int read = channel.read(target, position);
+            if (read < 0) {
+                // file was truncated while being sent
+                return -1;
+            }
+            if (target != dst) {
+                dst.position(dst.position() + read);
+            }
+            position += read;
+            return read;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.common;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * A test for {@link io.helidon.media.common.ByteRange}.
+ */
+class ByteRangeTest {
+
+    @Test
+    void parseSingle() {
+        assertThat(ByteRange.parse("bytes=0-499", 1000), is(Optional.of(List.of(ByteRange.create(0, 499)))));
+        assertThat(ByteRange.parse("bytes=500-", 1000), is(Optional.of(List.of(ByteRange.create(500, 999)))));
+        assertThat(ByteRange.parse("bytes=-100", 1000), is(Optional.of(List.of(ByteRange.create(900, 999)))));
+        assertThat(ByteRange.parse("bytes=900-5000", 1000), is(Optional.of(List.of(ByteRange.create(900, 999)))));
+        assertThat(ByteRange.parse("bytes=-5000", 1000), is(Optional.of(List.of(ByteRange.create(0, 999)))));
+    }
+
+    @Test
+    void parseMultiple() {
+        assertThat(ByteRange.parse("bytes=0-0, 10-19,-1", 1000),
+                   is(Optional.of(List.of(ByteRange.create(0, 0),
+                                          ByteRange.create(10, 19),
+                                          ByteRange.create(999, 999)))));
+        // unsatisfiable parts are skipped
+        assertThat(ByteRange.parse("bytes=0-0,2000-3000", 1000), is(Optional.of(List.of(ByteRange.create(0, 0)))));
+    }
+
+    @Test
+    void parseOverlapping() {
+        assertThat(ByteRange.parse("bytes=0-99,50-149,-900", 1000),
+                   is(Optional.of(List.of(ByteRange.create(0, 999)))));
+        assertThat(ByteRange.parse("bytes=500-599,0-9,550-", 1000),
+                   is(Optional.of(List.of(ByteRange.create(0, 9),
+                                          ByteRange.create(500, 999)))));
+    }
+
+    @Test
+    void parseTooManyRanges() {
+        String ranges = String.join(",", Collections.nCopies(ByteRange.MAX_RANGES + 1, "0-0"));
+        assertThat(ByteRange.parse("bytes=" + ranges, 1000), is(Optional.empty()));
+    }
+
+    @Test
+    void parseUnsatisfiable() {
+        assertThat(ByteRange.parse("bytes=1000-", 1000), is(Optional.of(List.of())));
+        assertThat(ByteRange.parse("bytes=-0", 1000), is(Optional.of(List.of())));
+    }
+
+    @Test
+    void parseInvalid() {
+        assertThat(ByteRange.parse("items=0-1", 1000), is(Optional.empty()));
+        assertThat(ByteRange.parse("bytes=5-1", 1000), is(Optional.empty()));
+        assertThat(ByteRange.parse("bytes=a-b", 1000), is(Optional.empty()));
+        assertThat(ByteRange.parse("bytes=-", 1000), is(Optional.empty()));
+        assertThat(ByteRange.parse("bytes", 1000), is(Optional.empty()));
+    }
+
+    @Test
+    void contentRange() {
+        assertThat(ByteRange.create(0, 499).contentRange(1234), is("bytes 0-499/1234"));
+        assertThat(ByteRange.create(0, 499).length(), is(500L));
+        assertThat(ByteRange.unsatisfiedContentRange(1234), is("bytes */1234"));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -245,6 +245,40 @@ public final class JmsConfigBuilder extends ConnectorConfigBuilder {
         return this;
     }
 
+    /**
+     * Number of concurrent consumer sessions receiving messages with a {@link jakarta.jms.MessageListener}.
+     * Messages are delivered by the JMS provider as soon as they arrive, instead of in poll cycles.
+     *
+     * <ul>
+     * <li>Type: int</li>
+     * <li>Default: 0, messages are received in poll cycles</li>
+     * </ul>
+     *
+     * @param consumerSessions number of consumer sessions
+     * @return this builder
+     */
+    public JmsConfigBuilder consumerSessions(int consumerSessions) {
+        super.property("consumer-sessions", String.valueOf(consumerSessions));
+        return this;
+    }
+
+    /**
+     * Number of sessions and producers sending messages concurrently.
+     * With more than one, messages are not sent in the order they were received.
+     *
+     * <ul>
+     * <li>Type: int</li>
+     * <li>Default: 1</li>
+     * </ul>
+     *
+     * @param producerSessions number of producer sessions
+     * @return this builder
+     */
+    public JmsConfigBuilder producerSessions(int producerSessions) {
+        super.property("producer-sessions", String.valueOf(producerSessions));
+        return this;
+    }
+
     /**
      * When multiple channels share same session-group-id,
      * they share same JMS session.
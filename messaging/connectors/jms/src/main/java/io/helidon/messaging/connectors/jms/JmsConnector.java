@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,8 +17,10 @@
 package io.helidon.messaging.connectors.jms;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -165,6 +167,20 @@ import org.reactivestreams.FlowAdapters;
         defaultValue = "100",
         direction = ConnectorAttribute.Direction.INCOMING,
         type = "long")
+@ConnectorAttribute(name = JmsConnector.CONSUMER_SESSIONS_ATTRIBUTE,
+        description = "Number of concurrent consumer sessions receiving messages with a message listener. "
+              + "When not set, messages are received in poll cycles.",
+        mandatory = false,
+        defaultValue = "0",
+        direction = ConnectorAttribute.Direction.INCOMING,
+        type = "int")
+@ConnectorAttribute(name = JmsConnector.PRODUCER_SESSIONS_ATTRIBUTE,
+        description = "Number of sessions and producers sending messages concurrently. "
+              + "With more than one, messages are not sent in the order they were received.",
+        mandatory = false,
+        defaultValue = "1",
+        direction = ConnectorAttribute.Direction.OUTGOING,
+        type = "int")
 @ConnectorAttribute(name = JmsConnector.SESSION_GROUP_ID_ATTRIBUTE,
         description = "When multiple channels share same session-group-id, "
               + "they share same JMS session and same JDBC connection as well.",
@@ -267,6 +283,17 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
      */
     public static final String PERIOD_EXECUTIONS_ATTRIBUTE = "period-executions";
 
+    /**
+     * Number of concurrent consumer sessions receiving messages with a {@link jakarta.jms.MessageListener},
+     * instead of poll cycles.
+     */
+    public static final String CONSUMER_SESSIONS_ATTRIBUTE = "consumer-sessions";
+
+    /**
+     * Number of sessions and producers sending messages of an outgoing channel concurrently.
+     */
+    public static final String PRODUCER_SESSIONS_ATTRIBUTE = "producer-sessions";
+
     /**
      * Possible values are: queue, topic.
      */
@@ -291,6 +318,8 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
     static final boolean AWAIT_ACK_DEFAULT = false;
     static final long POLL_TIMEOUT_DEFAULT = 50L;
     static final long PERIOD_EXECUTIONS_DEFAULT = 100L;
+    static final int CONSUMER_SESSIONS_DEFAULT = 0;
+    static final int PRODUCER_SESSIONS_DEFAULT = 1;
     static final String TYPE_PROP_DEFAULT = "queue";
     static final String JNDI_JMS_FACTORY_DEFAULT = "ConnectionFactory";
 
@@ -303,6 +332,7 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
     private final ExecutorService executor;
     private final Map<String, SessionMetadata> sessionRegister = new HashMap<>();
     private final Map<String, ConnectionFactory> connectionFactoryMap;
+    private volatile boolean stopped;
 
     @Inject
     private Instance<javax.jms.ConnectionFactory> javaxConnectionFactories;
@@ -377,6 +407,15 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
 
     @Override
     public void stop() {
+        stopped = true;
+        // Stop the delivery first, listeners waiting for demand fail the delivery of not emitted messages
+        for (SessionMetadata e : sessionRegister.values()) {
+            try {
+                e.connection().stop();
+            } catch (JMSException jmsException) {
+                LOGGER.log(Level.SEVERE, jmsException, () -> "Error when stopping JMS connections.");
+            }
+        }
         scheduler.shutdown();
         executor.shutdown();
         try {
@@ -467,6 +506,16 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
                 .or(() -> getConnectionFactoryBean(factoryName.get()));
     }
 
+    private static void closeConsumers(List<MessageConsumer> consumers) {
+        for (MessageConsumer consumer : consumers) {
+            try {
+                consumer.close();
+            } catch (JMSException e) {
+                LOGGER.log(Level.SEVERE, e, () -> "Error when closing JMS consumer.");
+            }
+        }
+    }
+
     private <T> Optional<ConnectionFactory> getConnectionFactoryBean(String name){
         NamedLiteral literal = NamedLiteral.of(name);
         return jakartaConnectionFactories.select(literal)
@@ -497,9 +546,6 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
 
             Destination destination = createDestination(sessionEntry.session(), ctx);
 
-            MessageConsumer consumer = createConsumer(config, destination, sessionEntry);
-
-
             BufferedEmittingPublisher<Message<?>> emitter = BufferedEmittingPublisher.create();
             JmsNackHandler nackHandler = JmsNackHandler.create(emitter, config, this);
 
@@ -511,6 +557,32 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
                     .asLong()
                     .orElse(PERIOD_EXECUTIONS_DEFAULT);
 
+            int consumerSessions = config.get(CONSUMER_SESSIONS_ATTRIBUTE)
+                    .asInt()
+                    .orElse(CONSUMER_SESSIONS_DEFAULT);
+            if (consumerSessions > 0) {
+                // Messages are delivered by the provider to a listener of every consumer session
+                List<MessageConsumer> listenerConsumers = new ArrayList<>(consumerSessions);
+                for (int i = 0; i < consumerSessions; i++) {
+                    SessionMetadata listenerSession = createSession(config, sessionEntry);
+                    MessageConsumer listenerConsumer = createConsumer(config, destination, listenerSession);
+                    listenerConsumer.setMessageListener(new JmsListener(emitter,
+                                                                        m -> createMessage(nackHandler, m, executor,
+                                                                                           listenerSession),
+                                                                        () -> stopped,
+                                                                        ackMode != AcknowledgeMode.AUTO_ACKNOWLEDGE
+                                                                                && awaitAck,
+                                                                        pollTimeout));
+                    listenerConsumers.add(listenerConsumer);
+                }
+                // Stop the delivery when cancelled downstream, messages not emitted stay unacknowledged
+                emitter.onAbort(t -> closeConsumers(listenerConsumers));
+                sessionEntry.connection().start();
+                return ReactiveStreams.fromPublisher(FlowAdapters.toPublisher(Multi.create(emitter)));
+            }
+
+            MessageConsumer consumer = createConsumer(config, destination, sessionEntry);
+
             AtomicReference<JmsMessage<?>> lastMessage = new AtomicReference<>();
 
             scheduler.scheduleAtFixedRate(
@@ -550,6 +622,24 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
             Destination destination = createDestination(session, ctx);
             MessageProducer producer = createProducer(destination, ctx, sessionEntry);
             AtomicReference<MessageMapper> mapper = new AtomicReference<>();
+
+            int producerSessions = config.get(PRODUCER_SESSIONS_ATTRIBUTE)
+                    .asInt()
+                    .orElse(PRODUCER_SESSIONS_DEFAULT);
+            if (producerSessions > 1) {
+                List<ProducerPoolSubscriber.PooledProducer> producers = new ArrayList<>(producerSessions);
+                producers.add(new ProducerPoolSubscriber.PooledProducer(sessionEntry, producer));
+                for (int i = 1; i < producerSessions; i++) {
+                    SessionMetadata pooledSession = createSession(config, sessionEntry);
+                    producers.add(new ProducerPoolSubscriber.PooledProducer(pooledSession,
+                                                                            createProducer(destination, ctx, pooledSession)));
+                }
+                return ReactiveStreams.fromSubscriber(new ProducerPoolSubscriber(
+                        producers,
+                        (m, p) -> consume(m, p.session(), mapper, p.producer(), config),
+                        config.get(CHANNEL_NAME_ATTRIBUTE).asString().orElse("unknown")));
+            }
+
             return ReactiveStreams.<Message<?>>builder()
                     .flatMapCompletionStage(m -> consume(m, session, mapper, producer, config))
                     .onError(t -> LOGGER.log(Level.SEVERE, t, () -> "Error intercepted from channel "
@@ -695,16 +785,7 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
                 connection.setClientID(userId.get());
             }
 
-            boolean transacted = config.get(TRANSACTED_ATTRIBUTE)
-                    .asBoolean()
-                    .orElse(TRANSACTED_DEFAULT);
-
-            int acknowledgeMode = config.get(ACK_MODE_ATTRIBUTE).asString()
-                    .map(AcknowledgeMode::parse)
-                    .orElse(ACK_MODE_DEFAULT)
-                    .getAckMode();
-
-            Session session = connection.createSession(transacted, acknowledgeMode);
+            Session session = newSession(config, connection);
             SessionMetadata sharedSessionEntry = new SessionMetadata(session, connection, factory);
             sessionRegister.put(sessionGroupId.orElseGet(() -> UUID.randomUUID().toString()), sharedSessionEntry);
             return sharedSessionEntry;
@@ -712,6 +793,38 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
 
     }
 
+    /**
+     * Create an additional session on the connection of the channel, used by a channel
+     * with multiple consumer or producer sessions.
+     *
+     * @param config       channel's config
+     * @param sessionEntry session of the channel, with the connection to use
+     * @return new session metadata, never shared with other channels
+     * @throws JMSException when the session cannot be created
+     */
+    protected SessionMetadata createSession(io.helidon.config.Config config,
+                                            SessionMetadata sessionEntry) throws JMSException {
+        Session session = newSession(config, sessionEntry.connection());
+        SessionMetadata additionalSessionEntry = new SessionMetadata(session,
+                                                                     sessionEntry.connection(),
+                                                                     sessionEntry.connectionFactory());
+        sessionRegister.put(UUID.randomUUID().toString(), additionalSessionEntry);
+        return additionalSessionEntry;
+    }
+
+    private Session newSession(io.helidon.config.Config config, Connection connection) throws JMSException {
+        boolean transacted = config.get(TRANSACTED_ATTRIBUTE)
+                .asBoolean()
+                .orElse(TRANSACTED_DEFAULT);
+
+        int acknowledgeMode = config.get(ACK_MODE_ATTRIBUTE).asString()
+                .map(AcknowledgeMode::parse)
+                .orElse(ACK_MODE_DEFAULT)
+                .getAckMode();
+
+        return connection.createSession(transacted, acknowledgeMode);
+    }
+
     protected Destination createDestination(Session session, ConnectionContext ctx) {
         io.helidon.config.Config config = ctx.config();
 
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.messaging.connectors.jms;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.helidon.common.reactive.BufferedEmittingPublisher;
+import io.helidon.messaging.MessagingException;
+
+import jakarta.jms.MessageListener;
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+/**
+ * Emits messages delivered asynchronously by the JMS provider to the consumer sessions of a channel.
+ * <p>
+ * A listener is invoked by the session's delivery thread, it blocks until there is demand downstream,
+ * which stops delivery of further messages to the session, so the number of emitted and not requested messages
+ * is bounded by the number of sessions. When await-ack is used, the listener also blocks until the emitted message
+ * is acknowledged.
+ * <p>
+ * When the channel is terminated or the connector stopped before the message is emitted, the delivery fails
+ * with an exception, so the message is not acknowledged by the provider and gets redelivered.
+ */
+class JmsListener implements MessageListener {
+
+    private static final Logger LOGGER = Logger.getLogger(JmsListener.class.getName());
+
+    private final BufferedEmittingPublisher<Message<?>> emitter;
+    private final Function<jakarta.jms.Message, JmsMessage<?>> messageFactory;
+    private final BooleanSupplier stopped;
+    private final boolean awaitAck;
+    private final long recheckMillis;
+    private final Lock lock = new ReentrantLock();
+    private final Condition demand = lock.newCondition();
+
+    /**
+     * Create new listener of one consumer session of a channel.
+     *
+     * @param emitter        emitter of the channel
+     * @param messageFactory creates reactive messaging message from JMS message
+     * @param stopped        whether the connector is stopped, so no more messages are emitted
+     * @param awaitAck       whether to wait for the acknowledgement of the emitted message
+     * @param recheckMillis  interval of re-checking the acknowledgement and termination of the channel
+     */
+    JmsListener(BufferedEmittingPublisher<Message<?>> emitter,
+                Function<jakarta.jms.Message, JmsMessage<?>> messageFactory,
+                BooleanSupplier stopped,
+                boolean awaitAck,
+                long recheckMillis) {
+        this.emitter = emitter;
+        this.messageFactory = messageFactory;
+        this.stopped = stopped;
+        this.awaitAck = awaitAck;
+        this.recheckMillis = recheckMillis;
+        emitter.onRequest((n, requested) -> signal());
+    }
+
+    @Override
+    public void onMessage(jakarta.jms.Message message) {
+        try {
+            if (!await(emitter::hasRequests)) {
+                throw new MessagingException("Channel terminated, message not emitted: " + message);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted before message was emitted: " + message, e);
+        }
+        try {
+            LOGGER.fine(() -> "Received message: " + message);
+            JmsMessage<?> preparedMessage = messageFactory.apply(message);
+            emitter.emit(preparedMessage);
+            if (awaitAck) {
+                await(preparedMessage::isAck);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            LOGGER.log(Level.SEVERE, e, () -> "Error when emitting JMS message");
+            emitter.fail(e);
+        }
+    }
+
+    private boolean await(BooleanSupplier condition) throws InterruptedException {
+        while (!condition.getAsBoolean()) {
+            if (emitter.isCompleted() || emitter.isCancelled() || stopped.getAsBoolean()) {
+                return false;
+            }
+            lock.lock();
+            try {
+                if (!condition.getAsBoolean()) {
+                    demand.await(recheckMillis, TimeUnit.MILLISECONDS);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return true;
+    }
+
+    private void signal() {
+        lock.lock();
+        try {
+            demand.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.messaging.connectors.jms;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Sends messages of an outgoing channel concurrently, each with one of a pool of sessions and producers.
+ * <p>
+ * JMS sessions are single threaded, so the number of messages requested from upstream is the number of idle producers,
+ * and a producer is returned to the pool once its message is sent. Messages are not sent in the order they were received.
+ */
+class ProducerPoolSubscriber implements Subscriber<Message<?>> {
+
+    private static final Logger LOGGER = Logger.getLogger(ProducerPoolSubscriber.class.getName());
+
+    private final Queue<PooledProducer> idle;
+    private final int size;
+    private final BiFunction<Message<?>, PooledProducer, CompletionStage<?>> sender;
+    private final String channelName;
+
+    private volatile Subscription subscription;
+
+    /**
+     * Create new subscriber.
+     *
+     * @param producers   pool of producers, each with its own session
+     * @param sender      sends a message with a producer, completes when sent
+     * @param channelName name of the channel, for logging
+     */
+    ProducerPoolSubscriber(List<PooledProducer> producers,
+                           BiFunction<Message<?>, PooledProducer, CompletionStage<?>> sender,
+                           String channelName) {
+        this.idle = new ConcurrentLinkedQueue<>(producers);
+        this.size = producers.size();
+        this.sender = sender;
+        this.channelName = channelName;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        Objects.requireNonNull(subscription);
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(size);
+    }
+
+    @Override
+    public void onNext(Message<?> message) {
+        Objects.requireNonNull(message);
+        PooledProducer producer = idle.poll();
+        if (producer == null) {
+            // only requested messages are received, never more than the idle producers
+            throw new IllegalStateException("No idle producer in channel " + channelName);
+        }
+        sender.apply(message, producer)
+                .whenComplete((result, throwable) -> {
+                    idle.add(producer);
+                    if (throwable == null) {
+                        subscription.request(1);
+                    } else {
+                        LOGGER.log(Level.SEVERE, throwable, () -> "Error intercepted from channel " + channelName);
+                        subscription.cancel();
+                    }
+                });
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable);
+        LOGGER.log(Level.SEVERE, throwable, () -> "Error intercepted from channel " + channelName);
+    }
+
+    @Override
+    public void onComplete() {
+        LOGGER.fine(() -> "Channel " + channelName + " completed");
+    }
+
+    /**
+     * Producer with its own session.
+     */
+    static final class PooledProducer {
+        private final SessionMetadata sessionEntry;
+        private final MessageProducer producer;
+
+        PooledProducer(SessionMetadata sessionEntry, MessageProducer producer) {
+            this.sessionEntry = sessionEntry;
+            this.producer = producer;
+        }
+
+        Session session() {
+            return sessionEntry.session();
+        }
+
+        MessageProducer producer() {
+            return producer;
+        }
+    }
+}
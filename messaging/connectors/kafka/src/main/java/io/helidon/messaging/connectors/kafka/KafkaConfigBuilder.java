@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -211,6 +211,71 @@ public final class KafkaConfigBuilder extends ConnectorConfigBuilder {
         return this;
     }
 
+    /**
+     * Emit records of different partitions independently of each other, keeping the order within each partition.
+     * A message that is slow to acknowledge then stalls only its own partition.
+     *
+     * <ul>
+     * <li>Type: boolean</li>
+     * <li>Default: false</li>
+     * </ul>
+     *
+     * @param partitionParallel true for partition-parallel consumption
+     * @return this builder
+     */
+    public KafkaConfigBuilder partitionParallel(boolean partitionParallel) {
+        super.property("partition.parallel", String.valueOf(partitionParallel));
+        return this;
+    }
+
+    /**
+     * Maximum number of not acknowledged messages per partition in partition-parallel mode.
+     *
+     * <ul>
+     * <li>Type: int</li>
+     * <li>Default: 1</li>
+     * </ul>
+     *
+     * @param partitionMaxInFlight maximum number of not acknowledged messages per partition
+     * @return this builder
+     */
+    public KafkaConfigBuilder partitionMaxInFlight(int partitionMaxInFlight) {
+        super.property("partition.max.in.flight", String.valueOf(partitionMaxInFlight));
+        return this;
+    }
+
+    /**
+     * Maximum number of partitions with not acknowledged messages in partition-parallel mode.
+     *
+     * <ul>
+     * <li>Type: int</li>
+     * <li>Default: 2147483647</li>
+     * </ul>
+     *
+     * @param partitionConcurrency maximum number of partitions processed concurrently
+     * @return this builder
+     */
+    public KafkaConfigBuilder partitionConcurrency(int partitionConcurrency) {
+        super.property("partition.concurrency", String.valueOf(partitionConcurrency));
+        return this;
+    }
+
+    /**
+     * Number of buffered records of a partition that pauses fetching of the partition in partition-parallel mode.
+     *
+     * <ul>
+     * <li>Type: int</li>
+     * <li>Default: 1000</li>
+     * </ul>
+     *
+     * @param partitionBufferSize number of buffered records that pauses a partition
+     * @return this builder
+     */
+    public KafkaConfigBuilder partitionBufferSize(int partitionBufferSize) {
+        super.property("partition.buffer.size", String.valueOf(partitionBufferSize));
+        return this;
+    }
+
     /**
      * What to do when there is no initial offset in Kafka or if the current offset does not exist any more on the server
      * (e.g. because that data has been deleted):
@@ -353,6 +418,23 @@ public final class KafkaConfigBuilder extends ConnectorConfigBuilder {
         return this;
     }
 
+    /**
+     * Maximum number of messages sent to Kafka and not completed yet. Messages are sent without waiting
+     * for the previous ones to complete, so the producer can batch them, and are acknowledged in order.
+     *
+     * <ul>
+     * <li>Type: int</li>
+     * <li>Default: 0, messages are requested in batches of {@code backpressure.size}</li>
+     * </ul>
+     *
+     * @param maxInFlightMessages maximum number of messages in flight
+     * @return this builder
+     */
+    public KafkaConfigBuilder maxInFlightMessages(int maxInFlightMessages) {
+        super.property("max.in.flight.messages", String.valueOf(maxInFlightMessages));
+        return this;
+    }
+
     /**
      * Setting a value greater than zero will cause the client to resend any record whose send
      * fails with a potentially transient error. Note that this retry is no different than
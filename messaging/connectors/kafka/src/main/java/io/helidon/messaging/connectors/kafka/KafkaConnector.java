@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -125,6 +125,34 @@ import org.eclipse.microprofile.reactive.streams.operators.SubscriberBuilder;
         direction = ConnectorAttribute.Direction.INCOMING,
         defaultValue = "100",
         type = "long")
+@ConnectorAttribute(name = "partition.parallel",
+        description = "Emit records of different partitions independently of each other, "
+                + "keeping the order within each partition.",
+        direction = ConnectorAttribute.Direction.INCOMING,
+        defaultValue = "false",
+        type = "boolean")
+@ConnectorAttribute(name = "partition.max.in.flight",
+        description = "Maximum number of not acknowledged messages per partition in partition-parallel mode.",
+        direction = ConnectorAttribute.Direction.INCOMING,
+        defaultValue = "1",
+        type = "int")
+@ConnectorAttribute(name = "partition.concurrency",
+        description = "Maximum number of partitions with not acknowledged messages in partition-parallel mode.",
+        direction = ConnectorAttribute.Direction.INCOMING,
+        defaultValue = "2147483647",
+        type = "int")
+@ConnectorAttribute(name = "partition.buffer.size",
+        description = "Number of buffered records of a partition that pauses fetching of the partition "
+                + "in partition-parallel mode.",
+        direction = ConnectorAttribute.Direction.INCOMING,
+        defaultValue = "1000",
+        type = "int")
+@ConnectorAttribute(name = "max.in.flight.messages",
+        description = "Maximum number of messages sent and not completed yet, acknowledged in order. "
+                + "When not set, messages are requested in batches of backpressure.size.",
+        direction = ConnectorAttribute.Direction.OUTGOING,
+        defaultValue = "0",
+        type = "int")
 @ConnectorAttribute(name = "batch.size",
         description = "Producer will attempt to batch records together into fewer requests whenever "
                 + "multiple records are being sent to the same partition.",
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -41,6 +41,7 @@ class KafkaConsumerMessage<K, V> implements KafkaMessage<K, V> {
     private final long millisWaitingTimeout;
     private final AtomicBoolean acked = new AtomicBoolean();
     private final ConsumerRecord<K, V> consumerRecord;
+    private final Runnable ackListener;
 
     /**
      * Kafka specific MP messaging message.
@@ -54,11 +55,29 @@ class KafkaConsumerMessage<K, V> implements KafkaMessage<K, V> {
                          CompletableFuture<Void> ack,
                          KafkaNackHandler<K, V> nack,
                          long millisWaitingTimeout) {
+        this(consumerRecord, ack, nack, millisWaitingTimeout, () -> {});
+    }
+
+    /**
+     * Kafka specific MP messaging message.
+     *
+     * @param consumerRecord       obtained from Kafka topic
+     * @param ack                  it will complete when Kafka commit is done.
+     * @param millisWaitingTimeout this is the time in milliseconds that the ack will be waiting
+     *                             the commit in Kafka. Applies only if autoCommit is false.
+     * @param ackListener          invoked once, when the message is acknowledged for the first time
+     */
+    KafkaConsumerMessage(ConsumerRecord<K, V> consumerRecord,
+                         CompletableFuture<Void> ack,
+                         KafkaNackHandler<K, V> nack,
+                         long millisWaitingTimeout,
+                         Runnable ackListener) {
         Objects.requireNonNull(consumerRecord);
         this.consumerRecord = consumerRecord;
         this.ack = ack;
         this.nack = nack;
         this.millisWaitingTimeout = millisWaitingTimeout;
+        this.ackListener = ackListener;
     }
 
     @Override
@@ -109,7 +128,9 @@ class KafkaConsumerMessage<K, V> implements KafkaMessage<K, V> {
     @Override
     public Supplier<CompletionStage<Void>> getAck() {
         return () -> {
-            acked.getAndSet(true);
+            if (!acked.getAndSet(true)) {
+                ackListener.run();
+            }
             if (millisWaitingTimeout == Long.MAX_VALUE) {
                 return ack;
             }
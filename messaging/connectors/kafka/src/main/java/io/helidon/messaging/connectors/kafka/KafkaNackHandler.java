@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -64,6 +64,8 @@ interface KafkaNackHandler<K, V> extends NackHandler<KafkaMessage<K, V>> {
 
         private CompletionStage<Void> nack(Throwable t, KafkaMessage<K, V> message) {
             LOGGER.log(Level.WARNING, messageToString("NACKED Message - ignored", message));
+            // ignored message counts as processed, so its offset is committed and it does not hold its partition
+            message.ack();
             return CompletableFuture.completedFuture(null);
         }
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,8 @@
 package io.helidon.messaging.connectors.kafka;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -31,6 +33,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -45,7 +48,9 @@ import io.helidon.common.reactive.EmittingPublisher;
 import io.helidon.config.Config;
 
 import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
@@ -71,6 +76,10 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
     private static final String ENABLE_AUTOCOMMIT = "enable.auto.commit";
     private static final String ACK_TIMEOUT = "ack.timeout.millis";
     private static final String LIMIT_NO_ACK = "limit.no.ack";
+    private static final String PARTITION_PARALLEL = "partition.parallel";
+    private static final String PARTITION_MAX_IN_FLIGHT = "partition.max.in.flight";
+    private static final String PARTITION_CONCURRENCY = "partition.concurrency";
+    private static final String PARTITION_BUFFER_SIZE = "partition.buffer.size";
 
     private final Lock taskLock = new ReentrantLock();
     private final Queue<ConsumerRecord<K, V>> backPressureBuffer = new LinkedList<>();
@@ -78,6 +87,7 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
     private final PartitionsAssignedLatch partitionsAssignedLatch = new PartitionsAssignedLatch();
     private final ScheduledExecutorService scheduler;
     private final AtomicLong requests = new AtomicLong();
+    private final AtomicInteger drainWip = new AtomicInteger();
     private final EmittingPublisher<KafkaMessage<K, V>> emitter = EmittingPublisher.create();
     private final List<String> topics;
     private final Pattern topicPattern;
@@ -86,26 +96,38 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
     private final boolean autoCommit;
     private final long ackTimeout;
     private final int limitNoAck;
+    private final boolean partitionParallel;
+    private final int partitionMaxInFlight;
+    private final int partitionConcurrency;
+    private final int partitionBufferSize;
     private final Supplier<Consumer<K, V>> consumerSupplier;
     private final Config config;
 
     private Consumer<K, V> kafkaConsumer;
+    private volatile PartitionLanes<K, V> lanes;
     private volatile boolean stopped;
 
-    private KafkaPublisher(ScheduledExecutorService scheduler, Supplier<Consumer<K, V>> consumerSupplier,
-                           List<String> topics, Pattern topicPattern, long pollTimeout, long periodExecutions, boolean autoCommit,
-                           long ackTimeout, int limitNoAck, Config config) {
-        this.scheduler = scheduler;
-        this.topics = topics;
-        this.topicPattern = topicPattern;
-        this.periodExecutions = periodExecutions;
-        this.pollTimeout = pollTimeout;
-        this.autoCommit = autoCommit;
-        this.ackTimeout = ackTimeout;
-        this.limitNoAck = limitNoAck;
-        this.consumerSupplier = consumerSupplier;
-        this.config = config;
-        this.emitter.onRequest((n, demand) -> requests.updateAndGet(r -> Long.MAX_VALUE - r > n ? n + r : Long.MAX_VALUE));
+    private KafkaPublisher(Builder<K, V> builder) {
+        this.scheduler = builder.scheduler;
+        this.topics = builder.topics;
+        this.topicPattern = builder.topicPattern;
+        this.periodExecutions = builder.periodExecutions;
+        this.pollTimeout = builder.pollTimeout;
+        this.autoCommit = builder.autoCommit;
+        this.ackTimeout = builder.ackTimeout;
+        this.limitNoAck = builder.limitNoAck;
+        this.partitionParallel = builder.partitionParallel;
+        this.partitionMaxInFlight = builder.partitionMaxInFlight;
+        this.partitionConcurrency = builder.partitionConcurrency;
+        this.partitionBufferSize = builder.partitionBufferSize;
+        this.consumerSupplier = builder.consumerSupplier;
+        this.config = builder.config;
+        this.emitter.onRequest((n, demand) -> {
+            requests.updateAndGet(r -> Long.MAX_VALUE - r > n ? n + r : Long.MAX_VALUE);
+            if (lanes != null) {
+                drain();
+            }
+        });
     }
 
     /**
@@ -115,6 +137,10 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
      * This execution runs in one thread that is triggered by the scheduler.
      */
     private void start() {
+        if (partitionParallel) {
+            startPartitionParallel();
+            return;
+        }
         LOGGER.fine(() -> String.format("%s Start to consume", topics));
         try {
             kafkaConsumer = consumerSupplier.get();
@@ -192,6 +218,135 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
         }
     }
 
+    /**
+     * Starts to consume events in partition-parallel mode.
+     * Polled records are dispatched to ordered lanes per partition, see {@link PartitionLanes}.
+     * The consumer is used only by the polling task, which also pauses and resumes partitions
+     * and commits acknowledged offsets asynchronously. Messages are emitted as soon as there is demand
+     * and a lane can accept more in-flight messages, not only from the polling task.
+     */
+    private void startPartitionParallel() {
+        LOGGER.fine(() -> String.format("%s Start to consume in partition-parallel mode", topics));
+        try {
+            kafkaConsumer = consumerSupplier.get();
+            lanes = new PartitionLanes<>(partitionMaxInFlight,
+                                         partitionConcurrency,
+                                         partitionBufferSize,
+                                         autoCommit,
+                                         ackTimeout,
+                                         KafkaNackHandler.create(emitter, config),
+                                         this::drain);
+            ConsumerRebalanceListener rebalanceListener = new LanesRebalanceListener();
+            if (topicPattern != null) {
+                kafkaConsumer.subscribe(topicPattern, rebalanceListener);
+            } else {
+                kafkaConsumer.subscribe(topics, rebalanceListener);
+            }
+            scheduler.scheduleAtFixedRate(this::pollPartitionParallel, 0, periodExecutions, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            partitionsAssignedLatch.countDown();
+            scheduler.execute(() -> emitter.fail(e));
+        }
+    }
+
+    private void pollPartitionParallel() {
+        try {
+            // Need to lock to avoid onClose() is executed meanwhile task is running
+            taskLock.lock();
+            if (!scheduler.isShutdown() && !(emitter.isCompleted() || emitter.isFailed())) {
+                // keep polling while records are coming, up to the period of executions
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(periodExecutions);
+                boolean received;
+                do {
+                    pauseOrResume();
+                    ConsumerRecords<K, V> records;
+                    try {
+                        records = kafkaConsumer.poll(Duration.ofMillis(pollTimeout));
+                    } catch (WakeupException e) {
+                        LOGGER.fine(() -> String.format("%s It was requested to stop polling from channel", topics));
+                        break;
+                    }
+                    received = !records.isEmpty();
+                    lanes.add(records);
+                    drain();
+                    commitAsync();
+                } while (received && System.nanoTime() < deadline);
+            }
+            cleanResourcesIfTerminated(emitter.isCompleted() || emitter.isFailed());
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "KafkaPublisher " + topics + " failed", e);
+            emitter.fail(e);
+        } finally {
+            taskLock.unlock();
+        }
+    }
+
+    /**
+     * Emits messages from the lanes while there is demand. Can be invoked from any thread,
+     * emissions are serialized.
+     */
+    private void drain() {
+        if (drainWip.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            while (requests.get() > 0 && !stopped && !(emitter.isCompleted() || emitter.isFailed())) {
+                KafkaConsumerMessage<K, V> message = lanes.next();
+                if (message == null) {
+                    break;
+                }
+                requests.decrementAndGet();
+                runInNewContext(() -> emitter.emit(message));
+            }
+        } while (drainWip.decrementAndGet() != 0);
+    }
+
+    private void pauseOrResume() {
+        List<TopicPartition> toPause = lanes.partitionsToPause();
+        if (!toPause.isEmpty()) {
+            LOGGER.fine(() -> String.format("%s Pause %s", topics, toPause));
+            kafkaConsumer.pause(toPause);
+        }
+        List<TopicPartition> toResume = lanes.partitionsToResume();
+        if (!toResume.isEmpty()) {
+            LOGGER.fine(() -> String.format("%s Resume %s", topics, toResume));
+            kafkaConsumer.resume(toResume);
+        }
+    }
+
+    private void commitAsync() {
+        if (autoCommit) {
+            return;
+        }
+        List<KafkaConsumerMessage<K, V>> messagesToCommit = new ArrayList<>();
+        Map<TopicPartition, OffsetAndMetadata> offsets = lanes.committable(messagesToCommit);
+        if (offsets.isEmpty()) {
+            return;
+        }
+        LOGGER.fine(() -> String.format("%s Offsets %s", topics, offsets));
+        kafkaConsumer.commitAsync(offsets, (committed, e) -> {
+            if (e == null) {
+                messagesToCommit.forEach(message -> message.kafkaCommit().complete(null));
+            } else {
+                LOGGER.log(Level.WARNING, "Unable to commit in Kafka " + offsets, e);
+                messagesToCommit.forEach(message -> message.kafkaCommit().completeExceptionally(e));
+            }
+        });
+    }
+
+    private void commitSync(Map<TopicPartition, OffsetAndMetadata> offsets, List<KafkaConsumerMessage<K, V>> messages) {
+        if (offsets.isEmpty()) {
+            return;
+        }
+        try {
+            kafkaConsumer.commitSync(offsets);
+            messages.forEach(message -> message.kafkaCommit().complete(null));
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Unable to commit in Kafka " + offsets, e);
+            messages.forEach(message -> message.kafkaCommit().completeExceptionally(e));
+        }
+    }
+
     private int currentNoAck() {
         return pendingCommits.values().stream()
                 .map(List::size)
@@ -280,6 +435,18 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
             pendingCommits.values().stream().flatMap(List::stream)
             .forEach(message -> message.kafkaCommit()
                     .completeExceptionally(new TimeoutException(topics + " Aborted because KafkaPublisher is terminated")));
+            if (lanes != null) {
+                if (!autoCommit) {
+                    // commit what was acknowledged, so it is not consumed again
+                    List<KafkaConsumerMessage<K, V>> messagesToCommit = new ArrayList<>();
+                    commitSync(lanes.committable(messagesToCommit), messagesToCommit);
+                }
+                lanes.clear()
+                        .forEach(message -> message.kafkaCommit()
+                                .completeExceptionally(new TimeoutException(topics
+                                                                                    + " Aborted because KafkaPublisher"
+                                                                                    + " is terminated")));
+            }
             kafkaConsumer.close();
         }
     }
@@ -316,6 +483,33 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
         return topics;
     }
 
+    /**
+     * Rebalance listener of the partition-parallel mode, invoked from the polling thread.
+     * Acknowledged messages of revoked partitions are committed, not acknowledged ones can no longer be committed
+     * as the partition is consumed by another consumer.
+     */
+    private final class LanesRebalanceListener implements ConsumerRebalanceListener {
+        @Override
+        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+            partitionsAssignedLatch.onPartitionsRevoked(partitions);
+            List<KafkaConsumerMessage<K, V>> messagesToCommit = new ArrayList<>();
+            List<KafkaConsumerMessage<K, V>> pending = new ArrayList<>();
+            Map<TopicPartition, OffsetAndMetadata> offsets = lanes.revoke(partitions, messagesToCommit, pending);
+            if (!autoCommit) {
+                commitSync(offsets, messagesToCommit);
+            }
+            pending.forEach(message -> message.kafkaCommit()
+                    .completeExceptionally(new IllegalStateException(topics + " Partition "
+                                                                             + message.getPartition().orElse(-1)
+                                                                             + " was revoked")));
+        }
+
+        @Override
+        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+            partitionsAssignedLatch.onPartitionsAssigned(partitions);
+        }
+    }
+
     /**
      * A builder for KafkaPublisher.
      *
@@ -352,6 +546,10 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
         private Boolean autoCommit;
         private long ackTimeout = Long.MAX_VALUE;
         private int limitNoAck = Integer.MAX_VALUE;
+        private boolean partitionParallel;
+        private int partitionMaxInFlight = 1;
+        private int partitionConcurrency = Integer.MAX_VALUE;
+        private int partitionBufferSize = 1000;
         private List<String> topics;
         private Pattern topicPattern;
         private ScheduledExecutorService scheduler;
@@ -378,6 +576,10 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
             config.get(ENABLE_AUTOCOMMIT).asBoolean().ifPresent(this::autoCommit);
             config.get(ACK_TIMEOUT).asLong().ifPresent(this::ackTimeout);
             config.get(LIMIT_NO_ACK).asInt().ifPresent(this::limitNoAck);
+            config.get(PARTITION_PARALLEL).asBoolean().ifPresent(this::partitionParallel);
+            config.get(PARTITION_MAX_IN_FLIGHT).asInt().ifPresent(this::partitionMaxInFlight);
+            config.get(PARTITION_CONCURRENCY).asInt().ifPresent(this::partitionConcurrency);
+            config.get(PARTITION_BUFFER_SIZE).asInt().ifPresent(this::partitionBufferSize);
             return this;
         }
 
@@ -509,6 +711,82 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
             return this;
         }
 
+        /**
+         * Enables partition-parallel consumption. Polled records are dispatched to an ordered lane per partition,
+         * and records of different partitions are emitted independently of each other, so a message that is slow
+         * to acknowledge stalls only its own partition. Acknowledged offsets are committed asynchronously,
+         * and partitions with too many buffered records are paused until they drain.
+         *
+         * In this mode {@link #limitNoAck(int)} does not apply, the number of messages waiting for acknowledgement
+         * is bounded by {@link #partitionMaxInFlight(int)} per partition instead.
+         *
+         * The default value is false.
+         *
+         * @param partitionParallel whether to consume partitions in parallel
+         * @return updated builder instance
+         */
+        public Builder<K, V> partitionParallel(boolean partitionParallel) {
+            this.partitionParallel = partitionParallel;
+            return this;
+        }
+
+        /**
+         * This value applies only in partition-parallel mode.
+         * It specifies the maximum number of emitted messages of a partition that are not acknowledged yet.
+         * Messages of a partition are always emitted in order, with value 1 the next message of a partition
+         * is emitted only when the previous one is acknowledged.
+         *
+         * The default value is 1.
+         *
+         * @param partitionMaxInFlight maximum number of not acknowledged messages per partition
+         * @return updated builder instance
+         */
+        public Builder<K, V> partitionMaxInFlight(int partitionMaxInFlight) {
+            if (partitionMaxInFlight < 1) {
+                throw new IllegalArgumentException("The partitionMaxInFlight must be positive, but is "
+                                                           + partitionMaxInFlight);
+            }
+            this.partitionMaxInFlight = partitionMaxInFlight;
+            return this;
+        }
+
+        /**
+         * This value applies only in partition-parallel mode.
+         * It specifies the maximum number of partitions that have messages not acknowledged yet at the same time.
+         *
+         * The default value is Integer.MAX_VALUE.
+         *
+         * @param partitionConcurrency maximum number of partitions processed concurrently
+         * @return updated builder instance
+         */
+        public Builder<K, V> partitionConcurrency(int partitionConcurrency) {
+            if (partitionConcurrency < 1) {
+                throw new IllegalArgumentException("The partitionConcurrency must be positive, but is "
+                                                           + partitionConcurrency);
+            }
+            this.partitionConcurrency = partitionConcurrency;
+            return this;
+        }
+
+        /**
+         * This value applies only in partition-parallel mode.
+         * It specifies the number of buffered records of a partition, that pauses fetching of the partition
+         * from Kafka. The partition is resumed once half of the records are emitted.
+         *
+         * The default value is 1000.
+         *
+         * @param partitionBufferSize number of buffered records that pauses a partition
+         * @return updated builder instance
+         */
+        public Builder<K, V> partitionBufferSize(int partitionBufferSize) {
+            if (partitionBufferSize < 1) {
+                throw new IllegalArgumentException("The partitionBufferSize must be positive, but is "
+                                                           + partitionBufferSize);
+            }
+            this.partitionBufferSize = partitionBufferSize;
+            return this;
+        }
+
         @Override
         public KafkaPublisher<K, V> build() {
             if (Objects.isNull(topicPattern) && (Objects.isNull(topics) || topics.isEmpty())) {
@@ -528,19 +806,7 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
             if (Objects.isNull(config)) {
                 config = Config.empty();
             }
-            KafkaPublisher<K, V> publisher = new KafkaPublisher<>(
-                    scheduler,
-                    consumerSupplier,
-                    topics,
-                    topicPattern,
-                    pollTimeout,
-                    periodExecutions,
-                    autoCommit,
-                    ackTimeout,
-                    limitNoAck,
-                    config
-            );
-            return publisher;
+            return new KafkaPublisher<>(this);
         }
     }
 
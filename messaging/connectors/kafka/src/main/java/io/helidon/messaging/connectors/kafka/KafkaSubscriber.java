@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,7 +19,11 @@ package io.helidon.messaging.connectors.kafka;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.logging.Level;
@@ -35,6 +39,12 @@ import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 /**
  * Reactive streams subscriber implementation.
+ * <p>
+ * By default, messages are requested in batches of {@link Builder#backpressure(long)} once the previous batch
+ * is acknowledged. When {@link Builder#maxInFlightMessages(int)} is configured, up to that many messages
+ * are sent without waiting for the previous sends to complete, so the producer can batch them, and
+ * the upstream messages are acknowledged in the order they were received.
+ *
  * @param <K> kafka record key type
  * @param <V> kafka record value type
  */
@@ -42,17 +52,26 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
 
     private static final Logger LOGGER = Logger.getLogger(KafkaSubscriber.class.getName());
     private static final String BACKPRESSURE_SIZE_KEY = "backpressure.size";
+    private static final String MAX_IN_FLIGHT_MESSAGES_KEY = "max.in.flight.messages";
 
     private final long backpressure;
+    private final int maxInFlightMessages;
     private final Supplier<Producer<K, V>> producerSupplier;
     private final List<String> topics;
     private final AtomicLong backpressureCounter = new AtomicLong();
+    // sent messages in the order of reception, until acknowledged, at most maxInFlightMessages
+    private final Queue<InFlight<V>> inFlight = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger drainWip = new AtomicInteger();
 
     private Subscription subscription;
     private Producer<K, V> kafkaProducer;
 
-    private KafkaSubscriber(Supplier<Producer<K, V>> producerSupplier, List<String> topics, long backpressure){
+    private KafkaSubscriber(Supplier<Producer<K, V>> producerSupplier,
+                            List<String> topics,
+                            long backpressure,
+                            int maxInFlightMessages) {
         this.backpressure = backpressure;
+        this.maxInFlightMessages = maxInFlightMessages;
         this.producerSupplier = producerSupplier;
         this.topics = topics;
     }
@@ -63,7 +82,7 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
             if (this.subscription == null) {
                 this.kafkaProducer = producerSupplier.get();
                 this.subscription = subscription;
-                this.subscription.request(backpressure);
+                this.subscription.request(maxInFlightMessages > 0 ? maxInFlightMessages : backpressure);
             } else {
                 subscription.cancel();
             }
@@ -74,9 +93,61 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public void onNext(Message<V> message) {
         Objects.requireNonNull(message);
+        CompletableFuture<Void> sent = send(message);
+        if (maxInFlightMessages > 0) {
+            inFlight.add(new InFlight<>(message, sent));
+            sent.whenComplete((success, exception) -> drainCompleted());
+            return;
+        }
+        sent.whenComplete((success, exception) -> {
+            if (exception == null) {
+                message.ack().whenComplete((a, b) -> {
+                    // Atomically increment
+                    // or reset backpressureCounter if incrementing would reach threshold
+                    if (backpressureCounter.getAndUpdate(n -> ++n == backpressure ? 0 : n)
+                            >= backpressure - 1) {
+                        // configured backpressure threshold reached
+                        subscription.request(backpressure);
+                    }
+                });
+            } else {
+                message.nack(exception);
+            }
+        });
+    }
+
+    /**
+     * Acknowledges completed messages at the head of the in-flight queue, so messages are acknowledged
+     * in the order they were received even if sends to different partitions complete out of order,
+     * and requests as many new messages. Invoked from producer I/O threads, acknowledgements are serialized.
+     */
+    private void drainCompleted() {
+        if (drainWip.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            long completed = 0;
+            InFlight<V> head;
+            while ((head = inFlight.peek()) != null && head.sent.isDone()) {
+                inFlight.poll();
+                completed++;
+                try {
+                    head.sent.join();
+                    head.message.ack();
+                } catch (CompletionException e) {
+                    head.message.nack(e.getCause());
+                }
+            }
+            if (completed > 0) {
+                subscription.request(completed);
+            }
+        } while (drainWip.decrementAndGet() != 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Void> send(Message<V> message) {
         List<CompletableFuture<Void>> futureList = new ArrayList<>(topics.size());
         for (String topic : topics) {
             CompletableFuture<Void> completableFuture = new CompletableFuture<>();
@@ -104,22 +175,7 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
                 }
             });
         }
-        CompletableFuture.allOf(futureList.toArray(new CompletableFuture[0]))
-                .whenComplete((success, exception) -> {
-                    if (exception == null) {
-                        message.ack().whenComplete((a, b) -> {
-                            // Atomically increment
-                            // or reset backpressureCounter if incrementing would reach threshold
-                            if (backpressureCounter.getAndUpdate(n -> ++n == backpressure ? 0 : n)
-                                    >= backpressure - 1) {
-                                // configured backpressure threshold reached
-                                subscription.request(backpressure);
-                            }
-                        });
-                    } else {
-                        message.nack(exception);
-                    }
-                });
+        return CompletableFuture.allOf(futureList.toArray(new CompletableFuture[0]));
     }
 
     @Override
@@ -135,6 +191,16 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
         kafkaProducer.close();
     }
 
+    private static final class InFlight<V> {
+        private final Message<V> message;
+        private final CompletableFuture<Void> sent;
+
+        private InFlight(Message<V> message, CompletableFuture<Void> sent) {
+            this.message = message;
+            this.sent = sent;
+        }
+    }
+
     /**
      * A builder for KafkaSubscriber.
      *
@@ -169,6 +235,7 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
         private Supplier<Producer<K, V>> producerSupplier;
         private List<String> topics;
         private long backpressure = 5L;
+        private int maxInFlightMessages;
 
         private Builder() {
         }
@@ -181,7 +248,7 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
             if (Objects.isNull(producerSupplier)) {
                 throw new IllegalArgumentException("The producerSupplier is a required value");
             }
-            return new KafkaSubscriber<>(producerSupplier, topics, backpressure);
+            return new KafkaSubscriber<>(producerSupplier, topics, backpressure, maxInFlightMessages);
         }
 
         /**
@@ -195,6 +262,7 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
             producerSupplier(() -> new KafkaProducer<>(kafkaConfig.asMap()));
             topics(kafkaConfig.topics());
             config.get(BACKPRESSURE_SIZE_KEY).asLong().ifPresent(this::backpressure);
+            config.get(MAX_IN_FLIGHT_MESSAGES_KEY).asInt().ifPresent(this::maxInFlightMessages);
             return this;
         }
 
@@ -205,6 +273,10 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
                     .map(String::valueOf)
                     .map(Long::valueOf)
                     .ifPresent(this::backpressure);
+            kafkaConfig.get(MAX_IN_FLIGHT_MESSAGES_KEY)
+                    .map(String::valueOf)
+                    .map(Integer::valueOf)
+                    .ifPresent(this::maxInFlightMessages);
             return this;
         }
 
@@ -235,6 +307,28 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
             return this;
         }
 
+        /**
+         * Specifies the maximum number of messages that are sent and not completed yet.
+         * Every completed message is replaced by a newly requested one, so the producer always has
+         * up to this number of records to batch according to {@code batch.size} and {@code linger.ms}.
+         * Messages are acknowledged in the order they were received, a message completed out of order waits
+         * for the messages received before it, and occupies its place in the window meanwhile.
+         * When set, {@link #backpressure(long)} does not apply.
+         *
+         * The default value is 0, messages are requested in batches of {@link #backpressure(long)}.
+         *
+         * @param maxInFlightMessages maximum number of messages in flight
+         * @return updated builder instance
+         */
+        public Builder<K, V> maxInFlightMessages(int maxInFlightMessages) {
+            if (maxInFlightMessages < 0) {
+                throw new IllegalArgumentException("The maxInFlightMessages must not be negative, but is "
+                                                           + maxInFlightMessages);
+            }
+            this.maxInFlightMessages = maxInFlightMessages;
+            return this;
+        }
+
         /**
          * The list of topics the messages should be sent to.
          *
@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.messaging.connectors.kafka;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * Per-partition ordered lanes of records used by {@link KafkaPublisher} in partition-parallel mode.
+ * <p>
+ * Records of each partition are emitted in offset order, with a bounded number of emitted and not yet acknowledged
+ * messages per partition, so a slow message stalls only its own partition. Lanes are served round-robin,
+ * and a lane that buffers too many records is reported to be paused in Kafka until it drains.
+ * <p>
+ * Methods that interact with the Kafka consumer ({@link #add}, {@link #partitionsToPause}, {@link #partitionsToResume},
+ * {@link #committable}, {@link #revoke}) are invoked from the polling thread, {@link #next()} and acknowledgements
+ * from any thread.
+ *
+ * @param <K> kafka record key type
+ * @param <V> kafka record value type
+ */
+class PartitionLanes<K, V> {
+
+    private final Lock lock = new ReentrantLock();
+    private final Map<TopicPartition, Lane> lanes = new LinkedHashMap<>();
+    private final List<Lane> order = new ArrayList<>();
+    private final int maxInFlight;
+    private final int concurrency;
+    private final int bufferSize;
+    private final boolean autoCommit;
+    private final long ackTimeout;
+    private final KafkaNackHandler<K, V> nack;
+    private final Runnable onRelease;
+
+    private int activeLanes;
+    private int nextLane;
+
+    /**
+     * Create new lanes.
+     *
+     * @param maxInFlight maximal number of emitted and not acknowledged messages of a partition
+     * @param concurrency maximal number of partitions with emitted and not acknowledged messages
+     * @param bufferSize  number of buffered records of a partition that pauses the partition
+     * @param autoCommit  whether the messages are committed by Kafka, in which case acknowledgements only release
+     *                    the in-flight limits and offsets are not tracked
+     * @param ackTimeout  time in milliseconds {@link KafkaMessage#ack()} waits for the commit
+     * @param nack        nack handler of the channel
+     * @param onRelease   invoked when a message is acknowledged, as more messages may be emitted
+     */
+    PartitionLanes(int maxInFlight,
+                   int concurrency,
+                   int bufferSize,
+                   boolean autoCommit,
+                   long ackTimeout,
+                   KafkaNackHandler<K, V> nack,
+                   Runnable onRelease) {
+        this.maxInFlight = maxInFlight;
+        this.concurrency = concurrency;
+        this.bufferSize = bufferSize;
+        this.autoCommit = autoCommit;
+        this.ackTimeout = ackTimeout;
+        this.nack = nack;
+        this.onRelease = onRelease;
+    }
+
+    /**
+     * Add polled records to the lanes of their partitions.
+     *
+     * @param records polled records
+     */
+    void add(ConsumerRecords<K, V> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            for (TopicPartition partition : records.partitions()) {
+                lanes.computeIfAbsent(partition, this::newLane).buffered.addAll(records.records(partition));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Take the next message that can be emitted, serving the lanes round-robin.
+     *
+     * @return message to emit, or {@code null} if all lanes are empty or have reached their limits
+     */
+    KafkaConsumerMessage<K, V> next() {
+        lock.lock();
+        try {
+            int size = order.size();
+            for (int i = 0; i < size; i++) {
+                Lane lane = order.get((nextLane + i) % size);
+                if (lane.buffered.isEmpty()
+                        || lane.unacked >= maxInFlight
+                        || (lane.unacked == 0 && activeLanes >= concurrency)) {
+                    continue;
+                }
+                nextLane = (nextLane + i + 1) % size;
+                return lane.emit(lane.buffered.poll());
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Partitions that buffer at least the configured number of records and are not paused yet.
+     * The returned partitions are marked as paused.
+     *
+     * @return partitions to pause
+     */
+    List<TopicPartition> partitionsToPause() {
+        lock.lock();
+        try {
+            List<TopicPartition> result = new ArrayList<>();
+            for (Lane lane : order) {
+                if (!lane.paused && lane.buffered.size() >= bufferSize) {
+                    lane.paused = true;
+                    result.add(lane.partition);
+                }
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Paused partitions that drained to at most half of the configured number of buffered records.
+     * The returned partitions are marked as resumed.
+     *
+     * @return partitions to resume
+     */
+    List<TopicPartition> partitionsToResume() {
+        lock.lock();
+        try {
+            List<TopicPartition> result = new ArrayList<>();
+            for (Lane lane : order) {
+                if (lane.paused && lane.buffered.size() <= bufferSize / 2) {
+                    lane.paused = false;
+                    result.add(lane.partition);
+                }
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove the acknowledged messages at the head of each lane and compute the offsets to commit.
+     *
+     * @param messages list to add the removed messages to, their commit is to be completed once committed
+     * @return offsets to commit, by partition
+     */
+    Map<TopicPartition, OffsetAndMetadata> committable(List<KafkaConsumerMessage<K, V>> messages) {
+        return committable(messages, order);
+    }
+
+    /**
+     * Remove lanes of revoked partitions.
+     *
+     * @param partitions revoked partitions
+     * @param messages   list to add acknowledged messages to, that can still be committed
+     * @param pending    list to add not acknowledged messages to, that can no longer be committed
+     * @return offsets of the revoked partitions that can still be committed
+     */
+    Map<TopicPartition, OffsetAndMetadata> revoke(Collection<TopicPartition> partitions,
+                                                  List<KafkaConsumerMessage<K, V>> messages,
+                                                  List<KafkaConsumerMessage<K, V>> pending) {
+        lock.lock();
+        try {
+            List<Lane> revoked = new ArrayList<>();
+            for (TopicPartition partition : partitions) {
+                Lane lane = lanes.remove(partition);
+                if (lane != null) {
+                    revoked.add(lane);
+                    order.remove(lane);
+                    if (lane.unacked > 0) {
+                        activeLanes--;
+                    }
+                }
+            }
+            nextLane = 0;
+            Map<TopicPartition, OffsetAndMetadata> offsets = committable(messages, revoked);
+            revoked.forEach(lane -> pending.addAll(lane.inFlight));
+            return offsets;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove all lanes.
+     *
+     * @return emitted messages that were not committed yet
+     */
+    List<KafkaConsumerMessage<K, V>> clear() {
+        lock.lock();
+        try {
+            List<KafkaConsumerMessage<K, V>> pending = new ArrayList<>();
+            order.forEach(lane -> pending.addAll(lane.inFlight));
+            lanes.clear();
+            order.clear();
+            activeLanes = 0;
+            return pending;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        lock.lock();
+        try {
+            StringBuilder sb = new StringBuilder("PartitionLanes{");
+            order.forEach(lane -> sb.append(lane.partition)
+                    .append("=[buffered=").append(lane.buffered.size())
+                    .append(", unacked=").append(lane.unacked)
+                    .append(", paused=").append(lane.paused)
+                    .append("] "));
+            return sb.append('}').toString();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Map<TopicPartition, OffsetAndMetadata> committable(List<KafkaConsumerMessage<K, V>> messages,
+                                                               List<Lane> fromLanes) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new LinkedHashMap<>();
+        lock.lock();
+        try {
+            for (Lane lane : fromLanes) {
+                KafkaConsumerMessage<K, V> highest = null;
+                while (!lane.inFlight.isEmpty() && lane.inFlight.peek().isAck()) {
+                    highest = lane.inFlight.poll();
+                    messages.add(highest);
+                }
+                if (highest != null) {
+                    offsets.put(lane.partition, new OffsetAndMetadata(highest.getOffset().get() + 1));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return offsets;
+    }
+
+    private Lane newLane(TopicPartition partition) {
+        Lane lane = new Lane(partition);
+        order.add(lane);
+        return lane;
+    }
+
+    private void release(Lane lane) {
+        lock.lock();
+        try {
+            // the lane may have been revoked meanwhile
+            if (lanes.get(lane.partition) != lane) {
+                return;
+            }
+            lane.unacked--;
+            if (lane.unacked == 0) {
+                activeLanes--;
+            }
+        } finally {
+            lock.unlock();
+        }
+        onRelease.run();
+    }
+
+    private final class Lane {
+        private final TopicPartition partition;
+        private final Queue<ConsumerRecord<K, V>> buffered = new ArrayDeque<>();
+        // emitted messages in offset order, until committed
+        private final Queue<KafkaConsumerMessage<K, V>> inFlight = new ArrayDeque<>();
+        private int unacked;
+        private boolean paused;
+
+        private Lane(TopicPartition partition) {
+            this.partition = partition;
+        }
+
+        private KafkaConsumerMessage<K, V> emit(ConsumerRecord<K, V> record) {
+            CompletableFuture<Void> ack = new CompletableFuture<>();
+            KafkaConsumerMessage<K, V> message =
+                    new KafkaConsumerMessage<>(record, ack, nack, ackTimeout, () -> release(this));
+            if (autoCommit) {
+                // offsets are committed by the consumer, only the in-flight limits apply
+                ack.complete(null);
+            } else {
+                inFlight.add(message);
+            }
+            if (unacked == 0) {
+                activeLanes++;
+            }
+            unacked++;
+            return message;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -156,6 +156,11 @@ public class WeblogicConnector extends JmsConnector {
         return executeInIsolation(() -> super.prepareSession(config, factory));
     }
 
+    @Override
+    protected SessionMetadata createSession(Config config, SessionMetadata sessionEntry) throws JMSException {
+        return executeInIsolation(() -> super.createSession(config, sessionEntry));
+    }
+
     @Override
     protected CompletionStage<?> consumeAsync(Message<?> m,
                                               Session session,
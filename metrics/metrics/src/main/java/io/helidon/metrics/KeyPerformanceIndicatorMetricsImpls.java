@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import java.util.Map;
 import io.helidon.metrics.api.KeyPerformanceIndicatorMetricsSettings;
 import io.helidon.metrics.api.RegistryFactory;
 import io.helidon.webserver.KeyPerformanceIndicatorSupport;
+import io.helidon.webserver.SocketLoadStatistics;
 
 import org.eclipse.microprofile.metrics.ConcurrentGauge;
 import org.eclipse.microprofile.metrics.Counter;
@@ -67,6 +68,26 @@ class KeyPerformanceIndicatorMetricsImpls {
      */
     public static final String DEFERRED_NAME = "deferred";
 
+    /**
+     * Name for metric reporting total requests rejected by the socket overload protection.
+     */
+    static final String REJECTED_REQUESTS_NAME = "rejected";
+
+    /**
+     * Name for metric reporting the current limit of concurrent requests of the socket.
+     */
+    static final String REQUEST_LIMIT_NAME = "limit";
+
+    /**
+     * Name for metric reporting currently open connections of the socket.
+     */
+    static final String ACTIVE_CONNECTIONS_NAME = "activeConnections";
+
+    /**
+     * Name for metric reporting total connections rejected by the socket overload protection.
+     */
+    static final String REJECTED_CONNECTIONS_NAME = "rejectedConnections";
+
     static final MetricRegistry.Type KPI_METRICS_REGISTRY_TYPE = MetricRegistry.Type.VENDOR;
 
     private static final Map<String, KeyPerformanceIndicatorSupport.Metrics> KPI_METRICS = new HashMap<>();
@@ -89,6 +110,46 @@ class KeyPerformanceIndicatorMetricsImpls {
                     : new Basic(metricsNamePrefix));
     }
 
+    /**
+     * Registers gauges reporting the overload protection statistics of a server socket.
+     *
+     * @param metricsNamePrefix prefix to use for the created metrics
+     * @param statistics        load statistics of the socket
+     */
+    static void registerLoadMetrics(String metricsNamePrefix, SocketLoadStatistics statistics) {
+        MetricRegistry registry = RegistryFactory.getInstance().getRegistry(KPI_METRICS_REGISTRY_TYPE);
+        registry.gauge(loadMetadata(metricsNamePrefix + REJECTED_REQUESTS_NAME,
+                                    "Rejected HTTP requests",
+                                    "Requests rejected with 503 because the socket reached its request limit"),
+                       statistics,
+                       SocketLoadStatistics::rejectedRequests);
+        registry.gauge(loadMetadata(metricsNamePrefix + REQUEST_LIMIT_NAME,
+                                    "HTTP request limit",
+                                    "Current limit of concurrently processed requests, -1 if not limited"),
+                       statistics,
+                       SocketLoadStatistics::requestLimit);
+        registry.gauge(loadMetadata(metricsNamePrefix + ACTIVE_CONNECTIONS_NAME,
+                                    "Active connections",
+                                    "Number of currently open connections"),
+                       statistics,
+                       SocketLoadStatistics::activeConnections);
+        registry.gauge(loadMetadata(metricsNamePrefix + REJECTED_CONNECTIONS_NAME,
+                                    "Rejected connections",
+                                    "Connections closed because the socket reached its connection limit"),
+                       statistics,
+                       SocketLoadStatistics::rejectedConnections);
+    }
+
+    private static Metadata loadMetadata(String name, String displayName, String description) {
+        return Metadata.builder()
+                .withName(name)
+                .withDisplayName(displayName)
+                .withDescription(description)
+                .withType(MetricType.GAUGE)
+                .withUnit(MetricUnits.NONE)
+                .build();
+    }
+
     /**
      * Basic KPI metrics.
      */
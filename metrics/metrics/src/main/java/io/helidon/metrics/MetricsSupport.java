@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -55,6 +55,7 @@ import io.helidon.webserver.RequestHeaders;
 import io.helidon.webserver.Routing;
 import io.helidon.webserver.ServerRequest;
 import io.helidon.webserver.ServerResponse;
+import io.helidon.webserver.WebServer;
 
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
@@ -416,6 +417,11 @@ public final class MetricsSupport extends HelidonRestServiceSupport
                                                         metricsSettings
                                                                 .keyPerformanceIndicatorSettings());
 
+        // overload protection statistics are only available once the server (and its sockets) exist
+        String socketName = (null == routingName ? WebServer.DEFAULT_SOCKET_NAME : routingName);
+        rules.onNewWebServer(webServer -> webServer.loadStatistics(socketName)
+                .ifPresent(stats -> KeyPerformanceIndicatorMetricsImpls.registerLoadMetrics(metricPrefix, stats)));
+
         rules.any((req, res) -> {
             KeyPerformanceIndicatorSupport.Context kpiContext = kpiContext(req);
             PostRequestMetricsSupport prms = PostRequestMetricsSupport.create();
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.microprofile.cdi;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import jakarta.annotation.Priority;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.weld.environment.deployment.discovery.BeanArchiveBuilder;
+import org.jboss.weld.environment.deployment.discovery.BeanArchiveHandler;
+import org.jboss.weld.environment.deployment.discovery.jandex.Jandex;
+
+/**
+ * A {@link BeanArchiveHandler} that reads the classes of a bean archive from an index created when the archive was built,
+ * instead of scanning the archive.
+ * <p>
+ * The index is a Jandex index stored in {@value #INDEX_NAME}, both in jar files and in class directories.
+ * It is created for Helidon modules by the {@code jandex-maven-plugin}, and can be created the same way for
+ * application archives. The index is also provided to Weld, so annotations of the indexed types are
+ * discovered without loading the classes.
+ * <p>
+ * A name distinct from {@code META-INF/jandex.idx} is used, as that index is consumed by other components
+ * (such as OpenAPI) to process application classes.
+ * Archives without the index are handled by the default handlers of Weld.
+ */
+@Priority(BeanArchiveIndexHandler.PRIORITY)
+public final class BeanArchiveIndexHandler implements BeanArchiveHandler {
+    /**
+     * Location of the index in a bean archive.
+     */
+    public static final String INDEX_NAME = "META-INF/helidon-bean-archive.idx";
+
+    // higher than the priorities of the built-in Weld handlers, so the index is used when present
+    static final int PRIORITY = 100;
+
+    private static final Logger LOGGER = Logger.getLogger(BeanArchiveIndexHandler.class.getName());
+
+    /**
+     * Creates a new handler.
+     *
+     * <p>There is no reason for users to call this constructor, it is discovered by Weld.</p>
+     */
+    public BeanArchiveIndexHandler() {
+    }
+
+    @Override
+    public BeanArchiveBuilder handle(String beanArchiveReference) {
+        File archive = new File(beanArchiveReference);
+        if (!archive.canRead()) {
+            return null;
+        }
+        Index index;
+        try {
+            index = archive.isDirectory() ? directoryIndex(archive) : jarIndex(archive);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.FINE, e, () -> "Cannot read bean archive index of " + archive + ", the archive will be scanned");
+            return null;
+        }
+        if (index == null) {
+            return null;
+        }
+        LOGGER.finest(() -> "Using bean archive index of " + archive);
+
+        BeanArchiveBuilder builder = new BeanArchiveBuilder()
+                .setAttribute(Jandex.INDEX_ATTRIBUTE_NAME, index);
+        for (ClassInfo classInfo : index.getKnownClasses()) {
+            builder.addClass(classInfo.name().toString());
+        }
+        return builder;
+    }
+
+    private static Index directoryIndex(File directory) throws IOException {
+        File indexFile = new File(directory, INDEX_NAME);
+        if (!indexFile.isFile()) {
+            return null;
+        }
+        try (InputStream in = Files.newInputStream(indexFile.toPath())) {
+            return new IndexReader(in).read();
+        }
+    }
+
+    private static Index jarIndex(File jar) throws IOException {
+        try (ZipFile zipFile = new ZipFile(jar)) {
+            ZipEntry entry = zipFile.getEntry(INDEX_NAME);
+            if (entry == null) {
+                return null;
+            }
+            try (InputStream in = zipFile.getInputStream(entry)) {
+                return new IndexReader(in).read();
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -34,6 +34,7 @@ import java.util.logging.Logger;
 import io.helidon.common.HelidonFeatures;
 import io.helidon.common.HelidonFlavor;
 import io.helidon.common.LogConfig;
+import io.helidon.common.NativeImageHelper;
 import io.helidon.common.SerializationConfig;
 import io.helidon.common.Version;
 import io.helidon.common.context.Context;
@@ -131,6 +132,7 @@ final class HelidonContainerImpl extends Weld implements HelidonContainer {
 
     void initInContext() {
         long time = System.nanoTime();
+        StartupTimeline.reset();
 
         Contexts.runInContext(ROOT_CONTEXT, this::init);
 
@@ -176,7 +178,9 @@ final class HelidonContainerImpl extends Weld implements HelidonContainer {
             addExtension(new Extension() { });
         });
 
+        StartupTimeline.Step phase = StartupTimeline.phase("bean archive discovery");
         Deployment deployment = createDeployment(resourceLoader, bootstrap);
+        phase.end();
         // we need to configure custom proxy services to
         // load classes in module friendly way
         deployment.getServices().add(ProxyServices.class, new HelidonProxyServices());
@@ -199,9 +203,13 @@ final class HelidonContainerImpl extends Weld implements HelidonContainer {
         }
         deployment.getServices().add(ExternalConfiguration.class, configurationBuilder.build());
 
+        phase = StartupTimeline.phase("container bootstrap");
         bootstrap.startContainer(id, Environments.SE, deployment);
+        phase.end();
 
+        phase = StartupTimeline.phase("type discovery");
         bootstrap.startInitialization();
+        phase.end();
 
         Collection<BeanDeploymentArchive> archives = deployment.getBeanDeploymentArchives();
         if (archives.isEmpty()) {
@@ -209,6 +217,7 @@ final class HelidonContainerImpl extends Weld implements HelidonContainer {
         }
         BeanManagerImpl beanManager = bootstrap.getManager(archives.iterator().next());
 
+        phase = StartupTimeline.phase("bean deployment");
         beanManager.getEvent().select(BuildTimeStart.Literal.INSTANCE).fire(id);
 
         bootstrap.deployBeans();
@@ -217,6 +226,7 @@ final class HelidonContainerImpl extends Weld implements HelidonContainer {
         HelidonCdiProvider.setCdi(cdi);
 
         beanManager.getEvent().select(BuildTimeEnd.Literal.INSTANCE).fire(id);
+        phase.end();
 
         return this;
     }
@@ -279,6 +289,11 @@ final class HelidonContainerImpl extends Weld implements HelidonContainer {
 
         IN_RUNTIME.set(true);
 
+        if (NativeImageHelper.isRuntime()) {
+            // the container was initialized when building the image, only the runtime startup is relevant
+            StartupTimeline.reset();
+        }
+
         BeanManager bm = null;
         try {
             bm = CDI.current().getBeanManager();
@@ -293,10 +308,17 @@ final class HelidonContainerImpl extends Weld implements HelidonContainer {
 
         MpConfigProviderResolver.runtimeStart(config);
 
+        StartupTimeline.Step phase = StartupTimeline.phase("runtime start");
         bm.getEvent().select(RuntimeStart.Literal.INSTANCE).fire(config);
+        phase.end();
 
+        phase = StartupTimeline.phase("bean validation");
         bootstrap.validateBeans();
+        phase.end();
+
+        phase = StartupTimeline.phase("end initialization");
         bootstrap.endInitialization();
+        phase.end();
 
         // adding a shutdown hook
         // we need to workaround that logging stops printing output during shutdown hooks
@@ -337,11 +359,15 @@ final class HelidonContainerImpl extends Weld implements HelidonContainer {
             rootLogger.addHandler(newHandler);
         }
 
+        phase = StartupTimeline.phase("application initialized");
         bm.getEvent().select(Initialized.Literal.APPLICATION).fire(new ContainerInitialized(id));
+        phase.end();
 
         now = System.currentTimeMillis() - now;
         LOGGER.fine("Container started in " + now + " millis (this excludes the initialization time)");
 
+        StartupTimeline.complete(config.getOptionalValue("startup-timeline.log", Boolean.class).orElse(false));
+
         HelidonFeatures.print(HelidonFlavor.MP,
                               Version.VERSION,
                               config.getOptionalValue("features.print-details", Boolean.class).orElse(false));
@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.microprofile.cdi;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Timeline of the startup of the CDI container.
+ * <p>
+ * The container records the duration of each of its phases (bean archive discovery, type discovery, bean deployment,
+ * validation, application scope initialization...), extensions may record the duration of their own steps
+ * using {@link #start(Class, String)}. Steps of the same component and name recorded more than once (such as
+ * steps executed for each processed bean) are summed up.
+ * <p>
+ * When the container is started, the timeline is completed, logged (on {@code FINE} level, or on {@code INFO} level
+ * when {@code startup-timeline.log} is set to {@code true} in configuration), and passed to listeners registered using
+ * {@link #whenComplete(java.util.function.Consumer)}.
+ *
+ * <pre>{@code
+ * StartupTimeline.Step step = StartupTimeline.start(MyExtension.class, "build model");
+ * buildModel();
+ * step.end();
+ * }</pre>
+ */
+public final class StartupTimeline {
+    static final String CONTAINER = "container";
+
+    private static final Logger LOGGER = Logger.getLogger(StartupTimeline.class.getName());
+    private static volatile StartupTimeline current = new StartupTimeline();
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final List<Consumer<StartupTimeline>> listeners = new ArrayList<>();
+    private final long startNanos = System.nanoTime();
+    private volatile Duration total;
+
+    private StartupTimeline() {
+    }
+
+    /**
+     * Start a step of a component, such as an extension.
+     * The step is recorded when {@link Step#end()} is called.
+     *
+     * @param component class of the component, such as an extension class
+     * @param name      name of the step
+     * @return started step
+     */
+    public static Step start(Class<?> component, String name) {
+        return new Step(current, component.getName(), name);
+    }
+
+    /**
+     * Register a listener of the completed timeline.
+     * The listener is invoked once the container is started, or immediately if the container is already started.
+     * A listener registered before the container is initialized is invoked when it is started.
+     *
+     * @param listener listener to invoke with the completed timeline
+     */
+    public static void whenComplete(Consumer<StartupTimeline> listener) {
+        Objects.requireNonNull(listener);
+        while (true) {
+            StartupTimeline timeline = current;
+            synchronized (timeline) {
+                if (timeline != current) {
+                    // replaced by reset in the meantime
+                    continue;
+                }
+                if (timeline.total == null) {
+                    timeline.listeners.add(listener);
+                    return;
+                }
+            }
+            listener.accept(timeline);
+            return;
+        }
+    }
+
+    /**
+     * Timeline of the current (or last) startup of the container.
+     *
+     * @return current timeline
+     */
+    public static StartupTimeline current() {
+        return current;
+    }
+
+    /**
+     * Recorded phases of the container and steps of components, in the order they were first started.
+     *
+     * @return recorded entries
+     */
+    public synchronized List<Entry> entries() {
+        return List.copyOf(entries.values());
+    }
+
+    /**
+     * Time from the initialization of the container until it was started.
+     *
+     * @return total startup time, empty if the container is not started yet
+     */
+    public Optional<Duration> total() {
+        return Optional.ofNullable(total);
+    }
+
+    /**
+     * Human readable report of this timeline.
+     *
+     * @return report
+     */
+    public String report() {
+        StringBuilder sb = new StringBuilder("Startup timeline");
+        total().ifPresent(it -> sb.append(", ").append(it.toMillis()).append(" millis in total"));
+        sb.append(':');
+        for (Entry entry : entries()) {
+            String component = entry.phase() ? CONTAINER : simpleName(entry.component());
+            sb.append(System.lineSeparator())
+                    .append(String.format("  %-28s %-36s %6d ms", component, entry.name(), entry.duration().toMillis()));
+            if (entry.count() > 1) {
+                sb.append(" (").append(entry.count()).append("x)");
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return report();
+    }
+
+    /**
+     * Start a new timeline, called when the container is initialized.
+     * Listeners waiting for completion of the previous timeline are moved to the new one.
+     */
+    static void reset() {
+        StartupTimeline previous = current;
+        StartupTimeline next = new StartupTimeline();
+        synchronized (previous) {
+            next.listeners.addAll(previous.listeners);
+            previous.listeners.clear();
+            current = next;
+        }
+    }
+
+    /**
+     * Start a phase of the container.
+     *
+     * @param name name of the phase
+     * @return started phase
+     */
+    static Step phase(String name) {
+        return new Step(current, CONTAINER, name);
+    }
+
+    /**
+     * Complete the current timeline, log it and notify listeners, called when the container is started.
+     *
+     * @param logReport whether to log the report on {@code INFO} level
+     */
+    static void complete(boolean logReport) {
+        StartupTimeline timeline = current;
+        List<Consumer<StartupTimeline>> toNotify;
+        synchronized (timeline) {
+            if (timeline.total != null) {
+                return;
+            }
+            timeline.total = Duration.ofNanos(System.nanoTime() - timeline.startNanos);
+            toNotify = List.copyOf(timeline.listeners);
+            timeline.listeners.clear();
+        }
+        LOGGER.log(logReport ? Level.INFO : Level.FINE, timeline::report);
+        for (Consumer<StartupTimeline> listener : toNotify) {
+            try {
+                listener.accept(timeline);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Startup timeline listener failed: " + listener, e);
+            }
+        }
+    }
+
+    private synchronized void record(String component, String name, long nanos) {
+        entries.computeIfAbsent(component + '#' + name, it -> new Entry(component, name))
+                .add(nanos);
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * A started step of the timeline.
+     */
+    public static final class Step {
+        private final StartupTimeline timeline;
+        private final String component;
+        private final String name;
+        private final long startNanos = System.nanoTime();
+
+        private Step(StartupTimeline timeline, String component, String name) {
+            this.timeline = timeline;
+            this.component = component;
+            this.name = name;
+        }
+
+        /**
+         * End this step and record its duration.
+         */
+        public void end() {
+            timeline.record(component, name, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * A recorded phase of the container or step of a component.
+     */
+    public static final class Entry {
+        private final String component;
+        private final String name;
+        private long nanos;
+        private int count;
+
+        private Entry(String component, String name) {
+            this.component = component;
+            this.name = name;
+        }
+
+        /**
+         * Whether this is a phase of the container, rather than a step of a component.
+         *
+         * @return {@code true} for a phase of the container
+         */
+        public boolean phase() {
+            return CONTAINER.equals(component);
+        }
+
+        /**
+         * Class name of the component that recorded the step, {@code container} for phases of the container.
+         *
+         * @return component name
+         */
+        public String component() {
+            return component;
+        }
+
+        /**
+         * Name of the phase or step.
+         *
+         * @return name
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * Total duration of the phase or step.
+         *
+         * @return duration
+         */
+        public synchronized Duration duration() {
+            return Duration.ofNanos(nanos);
+        }
+
+        /**
+         * Total duration of the phase or step in milliseconds.
+         *
+         * @return duration in milliseconds
+         */
+        public long millis() {
+            return TimeUnit.NANOSECONDS.toMillis(duration().toNanos());
+        }
+
+        /**
+         * How many times the step was recorded.
+         *
+         * @return number of recordings
+         */
+        public synchronized int count() {
+            return count;
+        }
+
+        private synchronized void add(long nanos) {
+            this.nanos += nanos;
+            this.count++;
+        }
+    }
+}
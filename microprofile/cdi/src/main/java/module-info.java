@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,6 +26,7 @@ module io.helidon.microprofile.cdi {
     // weld requires java.sql.Date and we fail if not on classpath
     requires java.sql;
     requires jakarta.cdi;
+    requires jakarta.annotation;
 
     requires io.helidon.common;
     requires io.helidon.config;
@@ -41,6 +42,8 @@ module io.helidon.microprofile.cdi {
 
     // Needed by weld
     requires org.jboss.logging;
+    // prebuilt bean archive index
+    requires org.jboss.jandex;
 
     exports io.helidon.microprofile.cdi;
 
@@ -50,6 +53,8 @@ module io.helidon.microprofile.cdi {
     provides jakarta.enterprise.inject.spi.CDIProvider with io.helidon.microprofile.cdi.HelidonCdiProvider;
 
     provides org.jboss.weld.bootstrap.api.Service with io.helidon.microprofile.cdi.ExecutorServices;
+    provides org.jboss.weld.environment.deployment.discovery.BeanArchiveHandler
+            with io.helidon.microprofile.cdi.BeanArchiveIndexHandler;
 
     opens io.helidon.microprofile.cdi to weld.core.impl;
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.microprofile.cdi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.jboss.weld.environment.deployment.discovery.BeanArchiveBuilder;
+import org.jboss.weld.environment.deployment.discovery.jandex.Jandex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+/**
+ * Unit test for {@link BeanArchiveIndexHandler}.
+ */
+class BeanArchiveIndexHandlerTest {
+    private final BeanArchiveIndexHandler handler = new BeanArchiveIndexHandler();
+
+    @Test
+    void testDirectoryWithIndex(@TempDir Path dir) throws IOException {
+        Path indexFile = dir.resolve(BeanArchiveIndexHandler.INDEX_NAME);
+        Files.createDirectories(indexFile.getParent());
+        try (OutputStream out = Files.newOutputStream(indexFile)) {
+            new IndexWriter(out).write(index());
+        }
+
+        assertIndexed(handler.handle(dir.toString()));
+    }
+
+    @Test
+    void testJarWithIndex(@TempDir Path dir) throws IOException {
+        Path jar = dir.resolve("archive.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(new ZipEntry(BeanArchiveIndexHandler.INDEX_NAME));
+            new IndexWriter(out).write(index());
+            out.closeEntry();
+        }
+
+        assertIndexed(handler.handle(jar.toString()));
+    }
+
+    @Test
+    void testNoIndex(@TempDir Path dir) throws IOException {
+        Path jar = dir.resolve("archive.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(new ZipEntry("META-INF/beans.xml"));
+            out.closeEntry();
+        }
+
+        // handled by the default handlers (scanning)
+        assertThat(handler.handle(dir.toString()), nullValue());
+        assertThat(handler.handle(jar.toString()), nullValue());
+    }
+
+    private static void assertIndexed(BeanArchiveBuilder builder) {
+        assertThat(builder, notNullValue());
+        assertThat(builder.getClasses(), containsInAnyOrder(TestBean.class.getName(), TestBean2.class.getName()));
+        assertThat(builder.getAttribute(Jandex.INDEX_ATTRIBUTE_NAME), instanceOf(Index.class));
+    }
+
+    private static Index index() throws IOException {
+        Indexer indexer = new Indexer();
+        for (Class<?> type : new Class<?>[] {TestBean.class, TestBean2.class}) {
+            try (InputStream in = type.getResourceAsStream(type.getSimpleName() + ".class")) {
+                indexer.index(in);
+            }
+        }
+        return indexer.complete();
+    }
+}
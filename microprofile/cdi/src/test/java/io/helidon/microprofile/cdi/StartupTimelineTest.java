@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.microprofile.cdi;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Unit test for {@link StartupTimeline}.
+ */
+class StartupTimelineTest {
+    @Test
+    void testContainerPhases() {
+        AtomicReference<StartupTimeline> completed = new AtomicReference<>();
+        // registered before the container is initialized
+        StartupTimeline.whenComplete(completed::set);
+
+        try {
+            Main.main(new String[0]);
+        } finally {
+            Main.shutdown();
+        }
+
+        StartupTimeline timeline = completed.get();
+        assertThat(timeline, notNullValue());
+        assertThat(timeline.total().isPresent(), is(true));
+
+        List<String> phases = timeline.entries()
+                .stream()
+                .filter(StartupTimeline.Entry::phase)
+                .map(StartupTimeline.Entry::name)
+                .collect(Collectors.toList());
+        assertThat(phases, hasItems("bean archive discovery",
+                                    "container bootstrap",
+                                    "type discovery",
+                                    "bean deployment",
+                                    "runtime start",
+                                    "bean validation",
+                                    "end initialization",
+                                    "application initialized"));
+        assertThat(timeline.report(), containsString("application initialized"));
+    }
+
+    @Test
+    void testStepsAccumulate() {
+        StartupTimeline.reset();
+
+        StartupTimeline.start(TestExtension.class, "process bean").end();
+        StartupTimeline.start(TestExtension.class, "process bean").end();
+        StartupTimeline.start(TestExtension.class, "register").end();
+
+        StartupTimeline timeline = StartupTimeline.current();
+        List<StartupTimeline.Entry> entries = timeline.entries();
+        assertThat(entries, hasSize(2));
+        StartupTimeline.Entry entry = entries.get(0);
+        assertThat(entry.phase(), is(false));
+        assertThat(entry.component(), is(TestExtension.class.getName()));
+        assertThat(entry.name(), is("process bean"));
+        assertThat(entry.count(), is(2));
+        assertThat(timeline.total().isPresent(), is(false));
+
+        StartupTimeline.complete(false);
+        assertThat(timeline.total().isPresent(), is(true));
+        assertThat(timeline.report(), containsString("TestExtension"));
+
+        // already completed, invoked immediately
+        AtomicReference<StartupTimeline> completed = new AtomicReference<>();
+        StartupTimeline.whenComplete(completed::set);
+        assertThat(completed.get(), sameInstance(timeline));
+    }
+}
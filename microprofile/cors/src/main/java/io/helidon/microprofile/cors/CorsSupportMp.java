@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -129,7 +129,8 @@ class CorsSupportMp extends CorsSupportBase<ContainerRequestContext, Response, C
 
         @Override
         public List<String> allHeaders(String s) {
-            return requestContext.getHeaders().get(s);
+            List<String> values = requestContext.getHeaders().get(s);
+            return values == null ? List.of() : values;
         }
 
         @Override
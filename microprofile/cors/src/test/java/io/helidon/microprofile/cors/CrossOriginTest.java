@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -332,6 +332,22 @@ class CrossOriginTest extends BaseCrossOriginTest {
         assertThat(res.getHeaders().getFirst(ACCESS_CONTROL_MAX_AGE), is("3600"));
     }
 
+    @Test
+    void test3PreFlightAllowedOriginRepeated() {
+        // the decision for a configured path is cached, no Access-Control-Request-Headers are sent
+        for (int i = 0; i < 2; i++) {
+            Response res = target.path("/cors3")
+                    .request()
+                    .header(ORIGIN, "http://bar.foo")
+                    .header(ACCESS_CONTROL_REQUEST_METHOD, "DELETE")
+                    .options();
+            assertThat(res.getStatusInfo(), is(Response.Status.OK));
+            assertThat(res.getHeaders().getFirst(ACCESS_CONTROL_ALLOW_ORIGIN), is("http://bar.foo"));
+            assertThat(res.getHeaders().getFirst(ACCESS_CONTROL_ALLOW_METHODS), is("DELETE"));
+            assertThat(res.getHeaders().getFirst(ACCESS_CONTROL_ALLOW_HEADERS), is(nullValue()));
+        }
+    }
+
     @Test
     void test3ActualAllowedOrigin() {
         Response res = target.path("/cors3")
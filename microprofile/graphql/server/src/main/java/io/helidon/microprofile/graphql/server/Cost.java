@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.microprofile.graphql.server;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Cost of a GraphQL field, used to compute the cost of a query that is limited by {@code graphql.max-query-cost}.
+ * The cost of a query is the sum of the costs of all fields it selects, fields without this annotation cost {@code 1}.
+ * <p>
+ * Can be placed on a {@link org.eclipse.microprofile.graphql.Query} or {@link org.eclipse.microprofile.graphql.Mutation}
+ * method, a method with a {@link org.eclipse.microprofile.graphql.Source} parameter, or on a field or getter of a type.
+ * <pre>
+ * &#64;Query
+ * &#64;Cost(10)
+ * public List&lt;Customer&gt; allCustomers() {
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.FIELD})
+public @interface Cost {
+    /**
+     * Cost of the field.
+     *
+     * @return cost of the field, must not be negative
+     */
+    int value();
+}
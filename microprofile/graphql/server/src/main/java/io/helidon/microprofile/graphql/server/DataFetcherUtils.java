@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -33,14 +33,19 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
 
@@ -53,6 +58,9 @@ import graphql.schema.GraphQLFieldDefinition;
 import graphql.schema.PropertyDataFetcher;
 import graphql.schema.PropertyDataFetcherHelper;
 import jakarta.enterprise.inject.spi.CDI;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderFactory;
+import org.dataloader.DataLoaderOptions;
 
 import static io.helidon.microprofile.graphql.server.FormattingHelper.formatDate;
 import static io.helidon.microprofile.graphql.server.FormattingHelper.formatNumber;
@@ -122,39 +130,7 @@ class DataFetcherUtils {
                 }
             }
 
-            ExecutionContext executionContext;
-            // check for a single DataFetchingEnvironment parameter as args will be zero
-            Parameter[] parameters = method.getParameters();
-            if (parameters.length == 1 && parameters[0].getType().equals(DataFetchingEnvironment.class)) {
-                listArgumentValues.add(environment);
-            } else if (args.length > 0) {
-                for (SchemaArgument argument : args) {
-                    if (argument.isDataFetchingEnvironment()) {
-                         listArgumentValues.add(environment);
-                    } else {
-                        // ensure a Map is not used as an input type
-                        Class<?> originalType = argument.originalType();
-                        if (originalType != null && Map.class.isAssignableFrom(originalType)) {
-                            ensureRuntimeException(LOGGER, MAP_MESSAGE);
-                        }
-
-                        if (argument.isArrayReturnType() && argument.arrayLevels() > 1
-                                && SchemaGeneratorHelper.isPrimitiveArray(argument.originalType())) {
-                            throw new GraphQlConfigurationException("This implementation does not currently support "
-                                                                  + "multi-level primitive arrays as arguments. Please use "
-                                                                  + "List or Collection of Object equivalent. E.g. "
-                                                                  + "In place of method(int [][] value) use "
-                                                                  + " method(List<List<Integer>> value)");
-                        }
-
-                        listArgumentValues.add(generateArgumentValue(schema, argument.argumentType(),
-                                                                     argument.originalType(),
-                                                                     argument.originalArrayType(),
-                                                                     environment.getArgument(argument.argumentName()),
-                                                                     argument.format()));
-                    }
-                }
-            }
+            listArgumentValues.addAll(argumentValues(schema, method, environment, args));
 
             try {
                 // this is the right place to validate security
@@ -175,6 +151,165 @@ class DataFetcherUtils {
         };
     }
 
+    /**
+     * Create a new {@link DataFetcher} for a {@code @Source} method that accepts a {@link List} of sources.
+     * Sources of all fields of the same level are collected by a {@link DataLoader} registered with the
+     * {@link ExecutionContext} of the request, and the method is invoked once for each batch of sources (and
+     * distinct values of other arguments) instead of once for each source.
+     *
+     * @param schema       {@link Schema} that created this {@link DataFetcher}
+     * @param clazz        {@link Class} to call
+     * @param method       {@link Method} to call, the {@code @Source} argument must be the first argument
+     * @param maxBatchSize maximal number of sources passed to a single invocation, zero or negative for unlimited
+     * @param args         optional {@link SchemaArgument}s, not including the {@code @Source} argument
+     * @param <V>          value type
+     * @return a new {@link DataFetcher}
+     */
+    static <V> DataFetcher<CompletableFuture<V>> newBatchMethodDataFetcher(Schema schema, Class<?> clazz, Method method,
+                                                                          int maxBatchSize, SchemaArgument... args) {
+        if (Arrays.stream(args).anyMatch(SchemaArgument::isDataFetchingEnvironment)) {
+            throw new GraphQlConfigurationException("The method '" + method.getName() + "' on class " + clazz.getName()
+                                                            + " has a List of @Source arguments, and cannot have"
+                                                            + " a DataFetchingEnvironment argument");
+        }
+        // this is an application scoped bean
+        GraphQlBean bean = CDI.current().select(GraphQlBean.class).get();
+        String dataLoaderName = method.toGenericString();
+        DataLoaderOptions options = DataLoaderOptions.newOptions();
+        if (maxBatchSize > 0) {
+            options.setMaxBatchSize(maxBatchSize);
+        }
+
+        return environment -> {
+            ExecutionContext context = environment.getContext();
+            DataLoader<BatchKey, V> dataLoader = context.dataLoaderRegistry()
+                    .computeIfAbsent(dataLoaderName,
+                                     name -> DataLoaderFactory.<BatchKey, V>newDataLoader(
+                                             keys -> batchLoad(bean, clazz, method, context, keys),
+                                             options));
+            return dataLoader.load(new BatchKey(environment.getSource(),
+                                                argumentValues(schema, method, environment, args)));
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> CompletionStage<List<V>> batchLoad(GraphQlBean bean,
+                                                          Class<?> clazz,
+                                                          Method method,
+                                                          ExecutionContext context,
+                                                          List<BatchKey> keys) {
+        // sources requested with different arguments (e.g. aliased fields) are loaded by separate invocations
+        Map<List<Object>, List<Integer>> indexesByArguments = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            indexesByArguments.computeIfAbsent(keys.get(i).arguments, it -> new ArrayList<>()).add(i);
+        }
+
+        Object[] results = new Object[keys.size()];
+        try {
+            for (Map.Entry<List<Object>, List<Integer>> entry : indexesByArguments.entrySet()) {
+                List<Integer> indexes = entry.getValue();
+                List<Object> sources = new ArrayList<>(indexes.size());
+                indexes.forEach(it -> sources.add(keys.get(it).source));
+
+                Object[] arguments = new Object[entry.getKey().size() + 1];
+                arguments[0] = sources;
+                for (int i = 1; i < arguments.length; i++) {
+                    arguments[i] = entry.getKey().get(i - 1);
+                }
+
+                List<V> batchResults = batchResults(bean, clazz, method, context, arguments);
+                if (batchResults == null || batchResults.size() != sources.size()) {
+                    throw new GraphQLException("Method " + method.getName() + " on class " + clazz.getName()
+                                                       + " must return a List with a result for each of "
+                                                       + sources.size() + " sources, but returned "
+                                                       + (batchResults == null ? "null" : batchResults.size()
+                                                       + " results"));
+                }
+                for (int i = 0; i < indexes.size(); i++) {
+                    results[indexes.get(i)] = batchResults.get(i);
+                }
+            }
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return CompletableFuture.completedFuture((List<V>) Arrays.asList(results));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> List<V> batchResults(GraphQlBean bean,
+                                            Class<?> clazz,
+                                            Method method,
+                                            ExecutionContext context,
+                                            Object[] arguments) throws IllegalAccessException {
+        try {
+            // this is the right place to validate security
+            return (List<V>) bean.runGraphQl(clazz, method, arguments);
+        } catch (InvocationTargetException e) {
+            Throwable targetException = e.getTargetException();
+            GraphQLException exception = new GraphQLException(targetException);
+            if (targetException instanceof org.eclipse.microprofile.graphql.GraphQLException) {
+                // partial results of a batch are a List with a result for each source
+                Object partialResults = ((org.eclipse.microprofile.graphql.GraphQLException) targetException)
+                        .getPartialResults();
+                if (partialResults instanceof List) {
+                    context.partialResultsException(exception);
+                    return (List<V>) partialResults;
+                }
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * Generate values of arguments of a {@link Method} from the arguments of the field.
+     *
+     * @param schema      {@link Schema} to introspect if needed
+     * @param method      {@link Method} to call
+     * @param environment environment of the field being fetched
+     * @param args        {@link SchemaArgument}s of the field
+     * @return argument values, not including the {@code @Source} argument
+     * @throws Exception if any errors
+     */
+    private static List<Object> argumentValues(Schema schema,
+                                               Method method,
+                                               DataFetchingEnvironment environment,
+                                               SchemaArgument... args) throws Exception {
+        List<Object> argumentValues = new ArrayList<>();
+        // check for a single DataFetchingEnvironment parameter as args will be zero
+        Parameter[] parameters = method.getParameters();
+        if (parameters.length == 1 && parameters[0].getType().equals(DataFetchingEnvironment.class)) {
+            argumentValues.add(environment);
+        } else if (args.length > 0) {
+            for (SchemaArgument argument : args) {
+                if (argument.isDataFetchingEnvironment()) {
+                    argumentValues.add(environment);
+                } else {
+                    // ensure a Map is not used as an input type
+                    Class<?> originalType = argument.originalType();
+                    if (originalType != null && Map.class.isAssignableFrom(originalType)) {
+                        ensureRuntimeException(LOGGER, MAP_MESSAGE);
+                    }
+
+                    if (argument.isArrayReturnType() && argument.arrayLevels() > 1
+                            && SchemaGeneratorHelper.isPrimitiveArray(argument.originalType())) {
+                        throw new GraphQlConfigurationException("This implementation does not currently support "
+                                                              + "multi-level primitive arrays as arguments. Please use "
+                                                              + "List or Collection of Object equivalent. E.g. "
+                                                              + "In place of method(int [][] value) use "
+                                                              + " method(List<List<Integer>> value)");
+                    }
+
+                    argumentValues.add(generateArgumentValue(schema, argument.argumentType(),
+                                                             argument.originalType(),
+                                                             argument.originalArrayType(),
+                                                             environment.getArgument(argument.argumentName()),
+                                                             argument.format()));
+                }
+            }
+        }
+        return argumentValues;
+    }
+
     /**
      * Return a {@link DataFetcher} which converts a {@link Map} to a {@link Collection} of V.
      * This assumes that the key for the {@link Map} is contained within the V
@@ -635,4 +770,34 @@ class DataFetcherUtils {
             return null;
         }
     }
+
+    /**
+     * Key of a batched {@code @Source} method data loader, a source and values of other arguments of the field.
+     */
+    private static final class BatchKey {
+        private final Object source;
+        private final List<Object> arguments;
+
+        private BatchKey(Object source, List<Object> arguments) {
+            this.source = source;
+            this.arguments = arguments;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            BatchKey that = (BatchKey) o;
+            return Objects.equals(source, that.source) && arguments.equals(that.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(source, arguments);
+        }
+    }
 }
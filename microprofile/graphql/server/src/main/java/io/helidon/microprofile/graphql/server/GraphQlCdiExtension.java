@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,7 +29,6 @@ import io.helidon.graphql.server.InvocationHandler;
 import io.helidon.microprofile.server.ServerCdiExtension;
 import io.helidon.webserver.Routing;
 
-import graphql.schema.GraphQLSchema;
 import jakarta.annotation.Priority;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.context.Initialized;
@@ -109,9 +108,10 @@ public class GraphQlCdiExtension implements Extension {
         // this works for Helidon MP config
         io.helidon.config.Config graphQlConfig = ((io.helidon.config.Config) config).get("graphql");
 
-        InvocationHandler.Builder handlerBuilder = InvocationHandler.builder()
-                .config(graphQlConfig)
-                .schema(createSchema());
+        InvocationHandler.Builder handlerBuilder = InvocationHandler.builder();
+        // configure schema (and field costs defined by annotations) first, so configured field costs take precedence
+        configureSchema(config, handlerBuilder);
+        handlerBuilder.config(graphQlConfig);
 
         config.getOptionalValue(ConfigKey.DEFAULT_ERROR_MESSAGE, String.class)
                 .ifPresent(handlerBuilder::defaultErrorMessage);
@@ -146,13 +146,17 @@ public class GraphQlCdiExtension implements Extension {
         return collectedApis;
     }
 
-    private GraphQLSchema createSchema() {
+    private void configureSchema(Config config, InvocationHandler.Builder handlerBuilder) {
         try {
-            return SchemaGenerator.builder()
+            Schema schema = SchemaGenerator.builder()
                     .classes(collectedApis)
+                    .maxBatchSize(config.getOptionalValue("graphql.max-batch-size", Integer.class)
+                                          .orElse(SchemaGenerator.DEFAULT_MAX_BATCH_SIZE))
                     .build()
-                    .generateSchema()
-                    .generateGraphQLSchema();
+                    .generateSchema();
+            handlerBuilder.schema(schema.generateGraphQLSchema());
+            schema.fieldCosts().forEach((type, fields) -> fields.forEach(
+                    (field, cost) -> handlerBuilder.fieldCost(type, field, cost)));
         } catch (Exception e) {
             throw new DeploymentException("Failed to set up graphQL", e);
         }
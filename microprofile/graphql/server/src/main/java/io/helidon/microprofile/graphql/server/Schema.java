@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -486,6 +486,20 @@ class Schema implements ElementGenerator {
         return listSchemaEnums;
     }
 
+    /**
+     * Return the costs of fields defined using {@link Cost}, to be used to compute the cost of a query.
+     *
+     * @return a {@link Map} of type names to {@link Map}s of field names to costs
+     */
+    public Map<String, Map<String, Integer>> fieldCosts() {
+        Map<String, Map<String, Integer>> fieldCosts = new HashMap<>();
+        listSchemaTypes.forEach(type -> type.fieldDefinitions()
+                .stream()
+                .filter(fd -> fd.cost() >= 0)
+                .forEach(fd -> fieldCosts.computeIfAbsent(type.name(), it -> new HashMap<>()).put(fd.name(), fd.cost())));
+        return fieldCosts;
+    }
+
     /**
      * Return the query name.
      *
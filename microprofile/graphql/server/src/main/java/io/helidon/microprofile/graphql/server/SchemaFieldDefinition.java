@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -104,6 +104,11 @@ class SchemaFieldDefinition extends AbstractDescriptiveElement implements Elemen
      */
     private boolean isJsonbProperty;
 
+    /**
+     * Cost of the field used to compute the cost of a query, or {@code -1} if the default cost applies.
+     */
+    private int cost = -1;
+
     /**
      * Construct a {@link SchemaFieldDefinition}.
      *
@@ -417,6 +422,24 @@ class SchemaFieldDefinition extends AbstractDescriptiveElement implements Elemen
         return isJsonbProperty;
     }
 
+    /**
+     * Sets the cost of the field used to compute the cost of a query.
+     *
+     * @param cost the cost of the field, or {@code -1} if the default cost applies
+     */
+    public void cost(int cost) {
+        this.cost = cost;
+    }
+
+    /**
+     * Return the cost of the field used to compute the cost of a query.
+     *
+     * @return the cost of the field, or {@code -1} if the default cost applies
+     */
+    public int cost() {
+        return cost;
+    }
+
     @Override
     public String toString() {
         return "FieldDefinition{"
@@ -433,6 +456,7 @@ class SchemaFieldDefinition extends AbstractDescriptiveElement implements Elemen
                 + ", format=" + Arrays.toString(format)
                 + ", isJsonbFormat=" + isJsonbFormat
                 + ", isJsonbProperty=" + isJsonbProperty
+                + ", cost=" + cost
                 + ", description='" + description() + '\'' + '}';
     }
 
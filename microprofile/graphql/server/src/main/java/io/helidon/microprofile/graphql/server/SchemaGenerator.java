@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -135,6 +135,11 @@ class SchemaGenerator {
      */
     protected static final String SET = "set";
 
+    /**
+     * Default maximal number of sources passed to a batched {@link Source} method, unlimited.
+     */
+    static final int DEFAULT_MAX_BATCH_SIZE = -1;
+
     /**
      * Logger.
      */
@@ -157,6 +162,11 @@ class SchemaGenerator {
 
     private final Set<Class<?>> collectedApis = new HashSet<>();
 
+    /**
+     * Maximal number of sources passed to a single invocation of a batched {@link Source} method.
+     */
+    private final int maxBatchSize;
+
     /**
      * Construct a {@link SchemaGenerator}.
      *
@@ -164,6 +174,7 @@ class SchemaGenerator {
      */
     private SchemaGenerator(Builder builder) {
         this.collectedApis.addAll(builder.collectedApis);
+        this.maxBatchSize = builder.maxBatchSize;
         jandexUtils = JandexUtils.create();
         jandexUtils.loadIndexes();
         if (!jandexUtils.hasIndex()) {
@@ -316,9 +327,15 @@ class SchemaGenerator {
                 }
 
                 // check for existing DataFetcher
-                fd.dataFetcher(DataFetcherUtils.newMethodDataFetcher(
-                        schema, dm.method().getDeclaringClass(), dm.method(),
-                        dm.source(), fd.arguments().toArray(new SchemaArgument[0])));
+                if (dm.isBatchSource()) {
+                    fd.dataFetcher(DataFetcherUtils.newBatchMethodDataFetcher(
+                            schema, dm.method().getDeclaringClass(), dm.method(), maxBatchSize,
+                            fd.arguments().toArray(new SchemaArgument[0])));
+                } else {
+                    fd.dataFetcher(DataFetcherUtils.newMethodDataFetcher(
+                            schema, dm.method().getDeclaringClass(), dm.method(),
+                            dm.source(), fd.arguments().toArray(new SchemaArgument[0])));
+                }
                 type.addFieldDefinition(fd);
 
                 // we are creating this as a type so ignore any Input annotation
@@ -836,6 +853,7 @@ class SchemaGenerator {
         fd.jsonbFormat(discoveredMethod.isJsonbFormat());
         fd.defaultValue(discoveredMethod.defaultValue());
         fd.jsonbProperty(discoveredMethod.isJsonbProperty());
+        fd.cost(discoveredMethod.cost());
         return fd;
     }
 
@@ -1003,6 +1021,7 @@ class SchemaGenerator {
         boolean isJsonbFormat = false;
         boolean isJsonbProperty;
         String defaultValue = null;
+        Cost cost = null;
         String varName = stripMethodName(method, !isQueryOrMutation);
 
         String annotatedName = getMethodName(isInputType ? pd.getWriteMethod() : method);
@@ -1109,6 +1128,10 @@ class SchemaGenerator {
                 }
                 isJsonbFormat = isJsonbAnnotationPresent(field);
             }
+
+            if (field != null) {
+                cost = field.getAnnotation(Cost.class);
+            }
         } else {  // pd is null which means this is for query or mutation
             defaultValue = getDefaultValueAnnotationValue(method);
             isReturnTypeMandatory = isPrimitive(returnClazzName) && defaultValue == null
@@ -1136,12 +1159,23 @@ class SchemaGenerator {
         processMethodParameters(method, discoveredMethod, annotatedName);
         ReturnType realReturnType = getReturnType(returnClazz, method.getGenericReturnType(), -1, method);
         processReturnType(discoveredMethod, realReturnType, returnClazzName, isInputType, varName, method);
+        if (discoveredMethod.isBatchSource()) {
+            processBatchSourceReturnType(discoveredMethod, method, clazz);
+        }
 
         discoveredMethod.returnTypeMandatory(isReturnTypeMandatory);
         discoveredMethod.arrayReturnTypeMandatory(isArrayReturnTypeMandatory
                                                           || realReturnType.isReturnTypeMandatory && !isInputType);
         discoveredMethod.description(description);
 
+        // a cost on the method overrides the cost on the field, costs only apply to output fields
+        if (method.getAnnotation(Cost.class) != null) {
+            cost = method.getAnnotation(Cost.class);
+        }
+        if (cost != null && !isInputType) {
+            discoveredMethod.cost(cost.value());
+        }
+
         return discoveredMethod;
     }
 
@@ -1200,6 +1234,33 @@ class SchemaGenerator {
         discoveredMethod.arrayLevels(realReturnType.arrayLevels());
     }
 
+    /**
+     * Update the {@link DiscoveredMethod} of a batched {@link Source} method, which returns a {@link List} with a result
+     * for each source, so the type of the field is the element type of the returned {@link List}.
+     *
+     * @param discoveredMethod {@link DiscoveredMethod} to update
+     * @param method           {@link Method} being processed
+     * @param clazz            {@link Class} being processed
+     */
+    private void processBatchSourceReturnType(DiscoveredMethod discoveredMethod, Method method, Class<?> clazz) {
+        if (!List.class.equals(method.getReturnType())) {
+            ensureConfigurationException(LOGGER, "The method '" + method.getName() + "' on class " + clazz.getName()
+                    + " has a List of @Source arguments, and must return a List with a result for each source");
+        }
+        if (discoveredMethod.isQueryAnnotated()) {
+            ensureConfigurationException(LOGGER, "The method '" + method.getName() + "' on class " + clazz.getName()
+                    + " has a List of @Source arguments, and cannot be annotated with @Query");
+        }
+        int arrayLevels = discoveredMethod.arrayLevels() - 1;
+        discoveredMethod.arrayLevels(arrayLevels);
+        if (arrayLevels == 0) {
+            discoveredMethod.arrayReturnType(false);
+            discoveredMethod.collectionType(null);
+            discoveredMethod.returnTypeMandatory(discoveredMethod.isArrayReturnTypeMandatory());
+            discoveredMethod.arrayReturnTypeMandatory(false);
+        }
+    }
+
     /**
      * Process parameters for the given method.
      *
@@ -1265,6 +1326,8 @@ class SchemaGenerator {
                     discoveredMethod.name(annotatedName != null ? annotatedName : stripMethodName(method, false));
                     discoveredMethod.source(returnType.returnClass());
                     discoveredMethod.queryAnnotated(method.getAnnotation(Query.class) != null);
+                    // a List of sources is resolved for all sources of the same level at once
+                    discoveredMethod.batchSource(List.class.equals(paramType));
                     argument.sourceArgument(true);
                 }
 
@@ -1411,6 +1474,7 @@ class SchemaGenerator {
     public static class Builder implements io.helidon.common.Builder<Builder, SchemaGenerator> {
 
         private final Set<Class<?>> collectedApis = new HashSet<>();
+        private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
 
         /**
          * Build the instance from this builder.
@@ -1426,6 +1490,18 @@ class SchemaGenerator {
             this.collectedApis.addAll(collectedApis);
             return this;
         }
+
+        /**
+         * Maximal number of sources passed to a single invocation of a {@link Source} method that accepts
+         * a {@link List} of sources. Larger batches are split into multiple invocations.
+         *
+         * @param maxBatchSize maximal batch size, zero or negative for unlimited
+         * @return updated builder instance
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -1218,6 +1218,17 @@ final class SchemaGeneratorHelper {
          */
         private boolean isQueryAnnotated = false;
 
+        /**
+         * Indicates if the {@link Source} argument is a {@link java.util.List} of sources, so the method resolves the field
+         * for a batch of sources at once and returns a {@link java.util.List} of results in the same order.
+         */
+        private boolean isBatchSource = false;
+
+        /**
+         * Cost of the field defined by {@link Cost}, or {@code -1} if not defined.
+         */
+        private int cost = -1;
+
         /**
          * Defines the format for a number or date.
          */
@@ -1276,6 +1287,7 @@ final class SchemaGeneratorHelper {
             this.source = builder.source;
             this.propertyName = builder.propertyName;
             this.isQueryAnnotated = builder.isQueryAnnotated;
+            this.isBatchSource = builder.isBatchSource;
             this.format = builder.format;
             this.description = builder.description;
             this.isArrayReturnTypeMandatory = builder.isReturnTypeMandatory;
@@ -1519,6 +1531,42 @@ final class SchemaGeneratorHelper {
             isQueryAnnotated = queryAnnotated;
         }
 
+        /**
+         * Indicates if the {@link Source} argument is a {@link java.util.List} of sources resolved as a batch.
+         *
+         * @return true if the method resolves a batch of sources
+         */
+        public boolean isBatchSource() {
+            return isBatchSource;
+        }
+
+        /**
+         * Set if the {@link Source} argument is a {@link java.util.List} of sources resolved as a batch.
+         *
+         * @param batchSource true if the method resolves a batch of sources
+         */
+        public void batchSource(boolean batchSource) {
+            isBatchSource = batchSource;
+        }
+
+        /**
+         * Return the cost of the field defined by {@link Cost}.
+         *
+         * @return the cost of the field, or {@code -1} if not defined
+         */
+        public int cost() {
+            return cost;
+        }
+
+        /**
+         * Set the cost of the field defined by {@link Cost}.
+         *
+         * @param cost the cost of the field
+         */
+        public void cost(int cost) {
+            this.cost = cost;
+        }
+
         /**
          * Return the format for a number or date.
          *
@@ -1686,6 +1734,8 @@ final class SchemaGeneratorHelper {
                     + ", arrayLevels=" + arrayLevels
                     + ", source=" + source
                     + ", isQueryAnnotated=" + isQueryAnnotated
+                    + ", isBatchSource=" + isBatchSource
+                    + ", cost=" + cost
                     + ", isReturnTypeMandatory=" + isReturnTypeMandatory
                     + ", isArrayReturnTypeMandatory=" + isArrayReturnTypeMandatory
                     + ", description=" + description
@@ -1713,6 +1763,8 @@ final class SchemaGeneratorHelper {
                     && Objects.equals(returnType, that.returnType)
                     && Objects.equals(source, that.source)
                     && Objects.equals(isQueryAnnotated, that.isQueryAnnotated)
+                    && isBatchSource == that.isBatchSource
+                    && cost == that.cost
                     && Objects.equals(method, that.method)
                     && Objects.equals(description, that.description)
                     && Objects.equals(isReturnTypeMandatory, that.isReturnTypeMandatory)
@@ -1724,7 +1776,7 @@ final class SchemaGeneratorHelper {
 
         @Override
         public int hashCode() {
-            return Objects.hash(name, returnType, methodType, method, arrayLevels, isQueryAnnotated,
+            return Objects.hash(name, returnType, methodType, method, arrayLevels, isQueryAnnotated, isBatchSource, cost,
                                 collectionType, isArrayReturnType, isMap, source, description,
                                 isReturnTypeMandatory, defaultValue, isArrayReturnTypeMandatory, isJsonbFormat,
                                 isJsonbProperty);
@@ -1746,6 +1798,7 @@ final class SchemaGeneratorHelper {
             private String source;
             private String propertyName;
             private boolean isQueryAnnotated = false;
+            private boolean isBatchSource = false;
             private String[] format = new String[0];
             private String description;
             private boolean isReturnTypeMandatory;
@@ -1883,6 +1936,17 @@ final class SchemaGeneratorHelper {
                 return this;
             }
 
+            /**
+             * Indicates if the {@link Source} argument is a {@link java.util.List} of sources resolved as a batch.
+             *
+             * @param isBatchSource if the method resolves a batch of sources
+             * @return updated builder instance
+             */
+            public Builder batchSource(boolean isBatchSource) {
+                this.isBatchSource = isBatchSource;
+                return this;
+            }
+
             /**
              * Set the format for a number or date.
              *
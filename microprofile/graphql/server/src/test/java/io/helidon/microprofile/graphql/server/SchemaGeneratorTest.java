@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -54,6 +54,7 @@ import io.helidon.microprofile.graphql.server.test.types.PersonWithName;
 import io.helidon.microprofile.graphql.server.test.types.PersonWithNameValue;
 import io.helidon.microprofile.graphql.server.test.types.SimpleContact;
 import io.helidon.microprofile.graphql.server.test.types.SimpleContactWithNumberFormats;
+import io.helidon.microprofile.graphql.server.test.types.TypeWithCost;
 import io.helidon.microprofile.graphql.server.test.types.TypeWithIDs;
 import io.helidon.microprofile.graphql.server.test.types.TypeWithIdOnField;
 import io.helidon.microprofile.graphql.server.test.types.TypeWithIdOnMethod;
@@ -280,6 +281,17 @@ class SchemaGeneratorTest extends AbstractGraphQLTest {
         assertDiscoveredMethod(mapMethods.get("id"), "id", ID, null, false, false, false);
     }
 
+    @Test
+    public void testTypeWithCost() throws IntrospectionException, ClassNotFoundException {
+        Map<String, SchemaGeneratorHelper.DiscoveredMethod> mapMethods = schemaGenerator
+                .retrieveGetterBeanMethods(TypeWithCost.class, false);
+        assertThat(mapMethods, is(notNullValue()));
+        assertThat(mapMethods.size(), is(3));
+        assertThat(mapMethods.get("id").cost(), is(-1));
+        assertThat(mapMethods.get("name").cost(), is(3));
+        assertThat(mapMethods.get("description").cost(), is(7));
+    }
+
     @Test
     public void testTypeWithNameAndJsonbProperty() throws IntrospectionException, ClassNotFoundException {
         Map<String, SchemaGeneratorHelper.DiscoveredMethod> mapMethods = schemaGenerator
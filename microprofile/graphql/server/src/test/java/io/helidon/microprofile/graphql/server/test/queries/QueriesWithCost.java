@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.microprofile.graphql.server.test.queries;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.helidon.microprofile.graphql.server.Cost;
+import io.helidon.microprofile.graphql.server.test.types.SimpleContact;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Name;
+import org.eclipse.microprofile.graphql.Query;
+import org.eclipse.microprofile.graphql.Source;
+
+/**
+ * Class that holds queries and a {@link Source} field with a {@link Cost}.
+ */
+@GraphQLApi
+@ApplicationScoped
+public class QueriesWithCost {
+
+    public QueriesWithCost() {
+    }
+
+    @Query
+    @Name("contacts")
+    @Cost(10)
+    public List<SimpleContact> retrieveContacts(@Name("count") int count) {
+        List<SimpleContact> contacts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            contacts.add(new SimpleContact(String.valueOf(i), "Name-" + i, i, null));
+        }
+        return contacts;
+    }
+
+    @Query
+    @Name("contact")
+    public SimpleContact retrieveContact() {
+        return new SimpleContact("0", "Name-0", 0, null);
+    }
+
+    // adds an "expensiveName" field on the SimpleContact type
+    @Name("expensiveName")
+    @Cost(20)
+    public String expensiveName(@Source SimpleContact contact) {
+        return contact.getName();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.microprofile.graphql.server.test.queries;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import io.helidon.microprofile.graphql.server.test.db.TestDB;
+import io.helidon.microprofile.graphql.server.test.types.SimpleContact;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Name;
+import org.eclipse.microprofile.graphql.Query;
+import org.eclipse.microprofile.graphql.Source;
+
+/**
+ * Class that holds queries with a batched {@link Source} (a {@link List} of sources), and the same field resolved
+ * for each source, both simulating a backend call with fixed latency.
+ */
+@GraphQLApi
+@ApplicationScoped
+public class SimpleQueriesWithBatchSource {
+
+    /**
+     * Simulated latency of a backend call in milliseconds.
+     */
+    public static final long BACKEND_LATENCY_MILLIS = 1;
+
+    private static final AtomicInteger BATCH_CALLS = new AtomicInteger();
+    private static final AtomicInteger SINGLE_CALLS = new AtomicInteger();
+
+    @Inject
+    private TestDB testDB;
+
+    public SimpleQueriesWithBatchSource() {
+    }
+
+    public static int batchCalls() {
+        return BATCH_CALLS.get();
+    }
+
+    public static int singleCalls() {
+        return SINGLE_CALLS.get();
+    }
+
+    public static void resetCalls() {
+        BATCH_CALLS.set(0);
+        SINGLE_CALLS.set(0);
+    }
+
+    @Query
+    @Name("contacts")
+    public List<SimpleContact> retrieveContacts(@Name("count") int count) {
+        List<SimpleContact> contacts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            contacts.add(testDB.createContactWithName("Name-" + i));
+        }
+        return contacts;
+    }
+
+    // adds a "batchedName" field on the SimpleContact type, resolved for a batch of contacts at once
+    @Name("batchedName")
+    public List<String> batchedName(@Source List<SimpleContact> contacts) {
+        BATCH_CALLS.incrementAndGet();
+        backendCall();
+        return contacts.stream()
+                .map(SimpleContact::getName)
+                .collect(Collectors.toList());
+    }
+
+    // adds a "singleName" field on the SimpleContact type, resolved for each contact
+    @Name("singleName")
+    public String singleName(@Source SimpleContact contact) {
+        SINGLE_CALLS.incrementAndGet();
+        backendCall();
+        return contact.getName();
+    }
+
+    // adds a "greeting" field with an argument on the SimpleContact type, resolved for a batch of contacts at once
+    @Name("greeting")
+    public List<String> greeting(@Source List<SimpleContact> contacts, @Name("prefix") String prefix) {
+        BATCH_CALLS.incrementAndGet();
+        return contacts.stream()
+                .map(it -> prefix + " " + it.getName())
+                .collect(Collectors.toList());
+    }
+
+    private static void backendCall() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(BACKEND_LATENCY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
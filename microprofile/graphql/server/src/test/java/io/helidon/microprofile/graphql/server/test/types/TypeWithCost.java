@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.microprofile.graphql.server.test.types;
+
+import io.helidon.microprofile.graphql.server.Cost;
+
+/**
+ * Class to test Cost annotation.
+ */
+public class TypeWithCost {
+    private int id;
+    @Cost(3)
+    private String name;
+    @Cost(5)
+    private String description;
+
+    public TypeWithCost(int id, String name, String description) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // the cost on the getter overrides the cost on the field
+    @Cost(7)
+    public String getDescription() {
+        return description;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -47,6 +48,7 @@ import io.helidon.config.mp.MpConfig;
 import io.helidon.metrics.api.MetricsSettings;
 import io.helidon.metrics.api.RegistryFactory;
 import io.helidon.metrics.serviceapi.MetricsSupport;
+import io.helidon.microprofile.cdi.StartupTimeline;
 import io.helidon.microprofile.metrics.MetricAnnotationInfo.RegistrationPrep;
 import io.helidon.microprofile.metrics.MetricUtil.LookupResult;
 import io.helidon.microprofile.metrics.spi.MetricAnnotationDiscoveryObserver;
@@ -151,6 +153,10 @@ public class MetricsCdiExtension extends HelidonRestCdiExtension<MetricsSupport>
     static final String REST_ENDPOINTS_METRIC_ENABLED_PROPERTY_NAME = "rest-request.enabled";
     private static final boolean REST_ENDPOINTS_METRIC_ENABLED_DEFAULT_VALUE = false;
 
+    static final String STARTUP_TIME_METRIC_NAME = "startup.time";
+    static final String STARTUP_PHASE_TIME_METRIC_NAME = "startup.phase.time";
+    static final String STARTUP_EXTENSION_TIME_METRIC_NAME = "startup.extension.time";
+
     static final String SYNTHETIC_SIMPLE_TIMER_METRIC_NAME = "REST.request";
     static final String SYNTHETIC_SIMPLE_TIMER_METRIC_UNMAPPED_EXCEPTION_NAME =
             SYNTHETIC_SIMPLE_TIMER_METRIC_NAME + ".unmappedException.total";
@@ -733,6 +739,7 @@ public class MetricsCdiExtension extends HelidonRestCdiExtension<MetricsSupport>
             throw new DeploymentException("Metrics module found issues with deployment: " + problems.toString());
         }
 
+        StartupTimeline.Step step = StartupTimeline.start(MetricsCdiExtension.class, "register metrics");
         Routing.Builder defaultRouting = super.registerService(adv, bm, server);
         MetricsSupport metricsSupport = serviceSupport();
 
@@ -759,9 +766,50 @@ public class MetricsCdiExtension extends HelidonRestCdiExtension<MetricsSupport>
         // registry factory is available in global
         Contexts.globalContext().register(RegistryFactory.getInstance());
 
+        // startup timeline is completed once all application scoped observers (including the server start) are done
+        StartupTimeline.whenComplete(MetricsCdiExtension::registerStartupMetrics);
+        step.end();
+
         return defaultRouting;
     }
 
+    private static void registerStartupMetrics(StartupTimeline timeline) {
+        MetricRegistry registry = RegistryFactory.getInstance().getRegistry(MetricRegistry.Type.VENDOR);
+        registry.gauge(startupMetadata(STARTUP_TIME_METRIC_NAME,
+                                       "Startup time",
+                                       "Time from initialization of the CDI container until it was started"),
+                       timeline,
+                       it -> it.total().map(Duration::toMillis).orElse(0L));
+        for (StartupTimeline.Entry entry : timeline.entries()) {
+            if (entry.phase()) {
+                registry.gauge(startupMetadata(STARTUP_PHASE_TIME_METRIC_NAME,
+                                               "Startup phase time",
+                                               "Time spent in a phase of the CDI container startup"),
+                               entry,
+                               StartupTimeline.Entry::millis,
+                               new Tag("phase", entry.name()));
+            } else {
+                registry.gauge(startupMetadata(STARTUP_EXTENSION_TIME_METRIC_NAME,
+                                               "Startup extension time",
+                                               "Time spent in a startup step of an extension"),
+                               entry,
+                               StartupTimeline.Entry::millis,
+                               new Tag("extension", entry.component()),
+                               new Tag("step", entry.name()));
+            }
+        }
+    }
+
+    private static Metadata startupMetadata(String name, String displayName, String description) {
+        return Metadata.builder()
+                .withName(name)
+                .withDisplayName(displayName)
+                .withDescription(description)
+                .withType(MetricType.GAUGE)
+                .withUnit(MetricUnits.MILLISECONDS)
+                .build();
+    }
+
     @Override
     protected Config seComponentConfig() {
         // Combine the Helidon-specific "metrics.xxx" settings with the MP
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -32,6 +32,7 @@ import java.util.logging.Logger;
 
 import io.helidon.config.Config;
 import io.helidon.microprofile.cdi.RuntimeStart;
+import io.helidon.microprofile.cdi.StartupTimeline;
 import io.helidon.microprofile.server.JaxRsApplication;
 import io.helidon.microprofile.server.RoutingBuilders;
 import io.helidon.openapi.OpenAPISupport;
@@ -102,6 +103,7 @@ public class OpenApiCdiExtension implements Extension {
     }
 
     void registerOpenApi(@Observes @Priority(LIBRARY_BEFORE + 10) @Initialized(ApplicationScoped.class) Object event) {
+        StartupTimeline.Step step = StartupTimeline.start(OpenApiCdiExtension.class, "register endpoint");
         Config openapiNode = config.get(OpenAPISupport.Builder.CONFIG_KEY);
         openApiSupport = new MPOpenAPIBuilder()
                 .config(mpConfig)
@@ -111,11 +113,14 @@ public class OpenApiCdiExtension implements Extension {
 
         openApiSupport
                 .configureEndpoint(RoutingBuilders.create(openapiNode).routingBuilder());
+        step.end();
     }
 
     // Must run after the server has created the Application instances.
     void buildModel(@Observes @Priority(PLATFORM_AFTER + 100 + 10) @Initialized(ApplicationScoped.class) Object event) {
+        StartupTimeline.Step step = StartupTimeline.start(OpenApiCdiExtension.class, "build model");
         openApiSupport.prepareModel();
+        step.end();
     }
 
     /**
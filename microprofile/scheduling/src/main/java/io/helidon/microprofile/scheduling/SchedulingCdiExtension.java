@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,7 +20,9 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
@@ -30,12 +32,14 @@ import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import io.helidon.common.configurable.ScheduledThreadPoolSupplier;
 import io.helidon.config.Config;
 import io.helidon.microprofile.cdi.RuntimeStart;
+import io.helidon.scheduling.ConcurrentExecution;
 import io.helidon.scheduling.Invocation;
 import io.helidon.scheduling.Scheduling;
+import io.helidon.scheduling.SchedulingEngine;
 import io.helidon.scheduling.Task;
+import io.helidon.scheduling.TaskStatistics;
 
 import jakarta.annotation.Priority;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -63,6 +67,8 @@ public class SchedulingCdiExtension implements Extension {
     private final Queue<AnnotatedMethod<?>> methods = new LinkedList<>();
     private final Map<AnnotatedMethod<?>, Bean<?>> beans = new HashMap<>();
     private final Queue<ScheduledExecutorService> executors = new LinkedList<>();
+    private final Map<String, Task> tasks = new HashMap<>();
+    private SchedulingEngine engine;
     private Config config;
     private Config schedulingConfig;
 
@@ -95,8 +101,9 @@ public class SchedulingCdiExtension implements Extension {
     void invoke(@Observes @Priority(PLATFORM_AFTER + 4000) @Initialized(ApplicationScoped.class) Object event,
                 BeanManager beanManager) {
 
-        ScheduledThreadPoolSupplier scheduledThreadPoolSupplier = ScheduledThreadPoolSupplier.builder()
-                .threadNamePrefix(schedulingConfig.get("thread-name-prefix").asString().orElse("scheduled-"))
+        // all scheduled methods share one dispatcher thread and one worker pool
+        engine = SchedulingEngine.builder()
+                .threadNamePrefix("scheduled-")
                 .config(schedulingConfig)
                 .build();
 
@@ -104,7 +111,7 @@ public class SchedulingCdiExtension implements Extension {
             Class<?> aClass = am.getDeclaringType().getJavaClass();
             Bean<?> bean = beans.get(am);
             Object beanInstance = lookup(bean, beanManager);
-            ScheduledExecutorService executorService = scheduledThreadPoolSupplier.get();
+            ScheduledExecutorService executorService = engine.executor();
             executors.add(executorService);
             Method method = am.getJavaMember();
 
@@ -122,6 +129,7 @@ public class SchedulingCdiExtension implements Extension {
             }
 
             Config methodConfig = config.get(aClass.getName() + "." + method.getName() + ".schedule");
+            String taskName = aClass.getSimpleName() + "#" + method.getName();
 
             if (am.isAnnotationPresent(FixedRate.class)) {
                 FixedRate annotation = am.getAnnotation(FixedRate.class);
@@ -136,13 +144,18 @@ public class SchedulingCdiExtension implements Extension {
                         .map(TimeUnit::valueOf)
                         .orElseGet(annotation::timeUnit);
 
-                Task task = Scheduling.fixedRateBuilder()
+                Scheduling.FixedRateBuilder builder = Scheduling.fixedRateBuilder()
                         .executor(executorService)
                         .initialDelay(initialDelay)
                         .delay(delay)
                         .timeUnit(timeUnit)
-                        .task(inv -> invokeWithOptionalParam(beanInstance, method, inv))
-                        .build();
+                        .name(taskName)
+                        .task(inv -> invokeWithOptionalParam(beanInstance, method, inv));
+
+                concurrentExecution(methodConfig).ifPresent(builder::concurrentExecution);
+
+                Task task = builder.build();
+                tasks.put(taskName, task);
 
                 LOGGER.log(Level.FINE, () -> String.format("Method %s#%s scheduled to be executed %s",
                         aClass.getSimpleName(), method.getName(), task.description()));
@@ -156,12 +169,17 @@ public class SchedulingCdiExtension implements Extension {
                 boolean concurrent = methodConfig.get("concurrent").asBoolean()
                         .orElseGet(annotation::concurrentExecution);
 
-                Task task = Scheduling.cronBuilder()
+                Scheduling.CronBuilder builder = Scheduling.cronBuilder()
                         .executor(executorService)
                         .concurrentExecution(concurrent)
                         .expression(cron)
-                        .task(inv -> invokeWithOptionalParam(beanInstance, method, inv))
-                        .build();
+                        .name(taskName)
+                        .task(inv -> invokeWithOptionalParam(beanInstance, method, inv));
+
+                concurrentExecution(methodConfig).ifPresent(builder::concurrentExecution);
+
+                Task task = builder.build();
+                tasks.put(taskName, task);
 
                 LOGGER.log(Level.FINE, () -> String.format("Method %s#%s scheduled to be executed %s",
                         aClass.getSimpleName(), method.getName(), task.description()));
@@ -171,6 +189,28 @@ public class SchedulingCdiExtension implements Extension {
 
     void terminate(@Observes @BeforeDestroyed(ApplicationScoped.class) Object event) {
         executors.forEach(ExecutorService::shutdownNow);
+        tasks.forEach((name, task) -> LOGGER.log(Level.FINE, () -> String.format("Method %s executions: %s",
+                name, task.statistics())));
+        if (engine != null) {
+            engine.shutdown();
+        }
+    }
+
+    /**
+     * Execution statistics of scheduled methods.
+     * When Helidon metrics are used, the statistics are also reported as vendor metrics tagged with the task name.
+     *
+     * @return statistics by method, as {@code SimpleClassName#methodName}
+     */
+    public Map<String, TaskStatistics> statistics() {
+        Map<String, TaskStatistics> result = new HashMap<>();
+        tasks.forEach((name, task) -> result.put(name, task.statistics()));
+        return result;
+    }
+
+    private static Optional<ConcurrentExecution> concurrentExecution(Config methodConfig) {
+        return methodConfig.get("concurrent-execution").asString()
+                .map(it -> ConcurrentExecution.valueOf(it.toUpperCase(Locale.ROOT)));
     }
 
     @SuppressWarnings("unchecked")
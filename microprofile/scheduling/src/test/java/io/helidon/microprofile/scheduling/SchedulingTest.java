@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -32,6 +32,7 @@ import io.helidon.microprofile.tests.junit5.DisableDiscovery;
 import io.helidon.microprofile.tests.junit5.HelidonTest;
 import io.helidon.scheduling.CronInvocation;
 import io.helidon.scheduling.FixedRateInvocation;
+import io.helidon.scheduling.TaskStatistics;
 
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
@@ -68,6 +69,9 @@ public class SchedulingTest {
     @Inject
     ScheduledBean scheduledBean;
 
+    @Inject
+    SchedulingCdiExtension schedulingExtension;
+
     @FixedRate(value = 100, timeUnit = TimeUnit.MILLISECONDS)
     public void rate() {
         fixedRateLatch.countDown();
@@ -116,6 +120,18 @@ public class SchedulingTest {
         overriddenTimeUnitFuture.complete(inv.timeUnit());
     }
 
+    final CountDownLatch skippedLatch = new CountDownLatch(2);
+    AtomicInteger skippedContenderCnt = new AtomicInteger(0);
+    AtomicInteger skippedMaxContenderCnt = new AtomicInteger(0);
+
+    @FixedRate(value = 50, timeUnit = TimeUnit.MILLISECONDS)
+    void skippedWhenRunning() throws InterruptedException {
+        skippedMaxContenderCnt.accumulateAndGet(skippedContenderCnt.incrementAndGet(), Math::max);
+        Thread.sleep(200);
+        skippedContenderCnt.decrementAndGet();
+        skippedLatch.countDown();
+    }
+
     @Test
     void expressionPlaceHolder() throws InterruptedException {
         assertThat("Scheduled method expected to be invoked at least once",
@@ -171,6 +187,24 @@ public class SchedulingTest {
                 overriddenTimeUnitFuture.get(5, TimeUnit.SECONDS), equalTo(TimeUnit.SECONDS));
     }
 
+    @Test
+    void skippedConcurrentExecutionFromConfig() throws InterruptedException {
+        assertThat("Scheduled method expected to be invoked at least twice",
+                skippedLatch.await(5, TimeUnit.SECONDS));
+        TaskStatistics statistics = schedulingExtension.statistics().get("SchedulingTest#skippedWhenRunning");
+        assertThat("Executions due while running should have been skipped", statistics.skipped(), greaterThan(0L));
+        assertThat(skippedMaxContenderCnt.get(), equalTo(1));
+    }
+
+    @Test
+    void statistics() throws InterruptedException {
+        assertThat("Scheduled method expected to be invoked at least 5 times",
+                fixedRateLatch.await(3, TimeUnit.SECONDS));
+        TaskStatistics statistics = schedulingExtension.statistics().get("SchedulingTest#rate");
+        assertThat(statistics.executions(), greaterThan(0L));
+        assertThat(statistics.failures(), equalTo(0L));
+    }
+
     private void assertDuration(long expectedDuration, long duration, long allowedDiscrepancy) {
         String durationString = "Expected duration is 2 sec, but was " + ((float) duration / 1000) + "sec";
         assertThat(durationString, duration, greaterThan(expectedDuration - allowedDiscrepancy));
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -46,6 +46,7 @@ import io.helidon.common.context.Contexts;
 import io.helidon.common.http.Http;
 import io.helidon.config.Config;
 import io.helidon.microprofile.cdi.RuntimeStart;
+import io.helidon.microprofile.cdi.StartupTimeline;
 import io.helidon.webserver.KeyPerformanceIndicatorSupport;
 import io.helidon.webserver.Routing;
 import io.helidon.webserver.ServerRequest;
@@ -193,12 +194,17 @@ public class ServerCdiExtension implements Extension {
         registerStaticContent();
 
         // reactive services
+        StartupTimeline.Step step = StartupTimeline.start(ServerCdiExtension.class, "register services");
         registerWebServerServices(beanManager);
+        step.end();
 
         // JAX-RS applications (and resources)
+        step = StartupTimeline.start(ServerCdiExtension.class, "register JAX-RS applications");
         registerJaxRsApplications(beanManager);
+        step.end();
 
         // start the webserver
+        step = StartupTimeline.start(ServerCdiExtension.class, "start web server");
         serverBuilder.addRouting(routingBuilder.build());
 
         namedRoutings.forEach(serverBuilder::addNamedRouting);
@@ -210,6 +216,7 @@ public class ServerCdiExtension implements Extension {
         } catch (Exception e) {
             throw new DeploymentException("Failed to start webserver", e);
         }
+        step.end();
 
         this.port = webserver.port();
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,6 +28,7 @@ import io.helidon.microprofile.server.RoutingName;
 import io.helidon.microprofile.server.RoutingPath;
 import io.helidon.microprofile.server.ServerCdiExtension;
 import io.helidon.webserver.WebServer;
+import io.helidon.webserver.websocket.WebSocketBroadcaster;
 import io.helidon.webserver.websocket.WebSocketRouting;
 
 import jakarta.annotation.Priority;
@@ -35,12 +36,16 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.context.BeforeDestroyed;
 import jakarta.enterprise.context.Initialized;
 import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Default;
 import jakarta.enterprise.inject.UnsatisfiedResolutionException;
+import jakarta.enterprise.inject.spi.AfterBeanDiscovery;
 import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.enterprise.inject.spi.CDI;
 import jakarta.enterprise.inject.spi.Extension;
 import jakarta.enterprise.inject.spi.ProcessAnnotatedType;
 import jakarta.enterprise.inject.spi.WithAnnotations;
+import jakarta.inject.Singleton;
 import jakarta.websocket.Endpoint;
 import jakarta.websocket.server.ServerApplicationConfig;
 import jakarta.websocket.server.ServerEndpoint;
@@ -133,6 +138,19 @@ public class WebSocketCdiExtension implements Extension {
         }
     }
 
+    /**
+     * Make {@link WebSocketBroadcaster} available for injection, configured from {@code websocket.broadcast}.
+     *
+     * @param event after bean discovery event
+     */
+    void registerBroadcaster(@Observes AfterBeanDiscovery event) {
+        event.addBean()
+                .qualifiers(Set.of(Default.Literal.INSTANCE, Any.Literal.INSTANCE))
+                .addTransitiveTypeClosure(WebSocketBroadcaster.class)
+                .scope(Singleton.class)
+                .createWith(cc -> WebSocketBroadcaster.create(config.get("websocket.broadcast")));
+    }
+
     /**
      * Provides access to websocket application.
      *
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.microprofile.tyrus;
+
+import java.net.URI;
+
+import io.helidon.microprofile.tests.junit5.AddBean;
+import io.helidon.webserver.websocket.WebSocketBroadcaster;
+import jakarta.inject.Inject;
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.OnOpen;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.ServerEndpoint;
+import org.junit.jupiter.api.Test;
+
+/**
+ * A test of an endpoint broadcasting with the injected {@link WebSocketBroadcaster}.
+ */
+@AddBean(WebSocketBroadcasterTest.BroadcastEndpoint.class)
+public class WebSocketBroadcasterTest extends WebSocketBaseTest {
+
+    @Test
+    public void test() throws Exception {
+        URI broadcastUri = URI.create("ws://localhost:" + port() + "/broadcast");
+        new EchoClient(broadcastUri).echo("hi", "how are you?");
+    }
+
+    @ServerEndpoint("/broadcast")
+    public static class BroadcastEndpoint {
+
+        @Inject
+        private WebSocketBroadcaster broadcaster;
+
+        @OnOpen
+        public void onOpen(Session session) {
+            broadcaster.add(session);
+        }
+
+        @OnMessage
+        public void onMessage(String message) {
+            broadcaster.broadcast(message);
+        }
+    }
+}
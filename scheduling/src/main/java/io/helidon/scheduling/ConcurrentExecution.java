@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.scheduling;
+
+/**
+ * Policy applied when a task is due while its previous execution did not finish yet.
+ */
+public enum ConcurrentExecution {
+    /**
+     * Start the next execution concurrently with the previous one.
+     */
+    ALLOW,
+    /**
+     * Skip the execution, the task is executed again at its next execution time.
+     */
+    SKIP,
+    /**
+     * Execute the task once the previous execution finishes, one execution for each missed execution time.
+     */
+    QUEUE
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.scheduling;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Applies {@link ConcurrentExecution} policy when a task is due.
+ */
+class ConcurrentExecutionGuard {
+
+    private static final Logger LOGGER = Logger.getLogger(ConcurrentExecutionGuard.class.getName());
+
+    private final ConcurrentExecution policy;
+    private final TaskStatistics statistics;
+    private final AtomicBoolean running = new AtomicBoolean();
+    // number of queued executions, including the running one
+    private final AtomicInteger queued = new AtomicInteger();
+
+    ConcurrentExecutionGuard(ConcurrentExecution policy, TaskStatistics statistics) {
+        this.policy = policy;
+        this.statistics = statistics;
+    }
+
+    /**
+     * The task is due, execute it with the executor according to the policy.
+     *
+     * @param task     task to execute
+     * @param executor executor to execute the task with
+     */
+    void due(Runnable task, Executor executor) {
+        switch (policy) {
+        case SKIP:
+            if (running.compareAndSet(false, true)) {
+                executor.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        running.set(false);
+                    }
+                });
+            } else {
+                statistics.recordSkipped();
+                LOGGER.fine(() -> "Previous execution did not finish, execution skipped");
+            }
+            break;
+        case QUEUE:
+            if (queued.getAndIncrement() == 0) {
+                executor.execute(() -> {
+                    do {
+                        task.run();
+                    } while (queued.decrementAndGet() != 0);
+                });
+            }
+            break;
+        case ALLOW:
+        default:
+            executor.execute(task);
+        }
+    }
+}
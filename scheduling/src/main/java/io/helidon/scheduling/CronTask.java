@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,12 +18,13 @@ package io.helidon.scheduling;
 
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -42,33 +43,38 @@ class CronTask implements Task {
 
     private final AtomicLong iteration = new AtomicLong(0);
     private final ExecutionTime executionTime;
-    private final boolean concurrentExecution;
+    private final ConcurrentExecution concurrentExecution;
     private final ScheduledConsumer<CronInvocation> actualTask;
     private final ScheduledExecutorService executorService;
     private final Cron cron;
-    private final ReentrantLock scheduleNextLock = new ReentrantLock();
-    private ZonedDateTime lastNext = null;
+    private final String description;
+    private final TaskStatistics statistics = new TaskStatistics();
+    private final ConcurrentExecutionGuard guard;
+    // precomputed time of the next execution, advanced from the previous execution time
+    private volatile ZonedDateTime nextExecution;
 
     CronTask(ScheduledExecutorService executorService,
              String cronExpression,
-             boolean concurrentExecution,
+             ConcurrentExecution concurrentExecution,
              ScheduledConsumer<CronInvocation> actualTask) {
         this.executorService = executorService;
         this.concurrentExecution = concurrentExecution;
         this.actualTask = actualTask;
+        this.guard = new ConcurrentExecutionGuard(concurrentExecution, statistics);
 
         CronDefinition cronDefinition = CronDefinitionBuilder.instanceDefinitionFor(QUARTZ);
         CronParser parser = new CronParser(cronDefinition);
         cron = parser.parse(cronExpression);
         executionTime = ExecutionTime.forCron(cron);
+        description = CronDescriptor.instance(Locale.ENGLISH).describe(cron);
 
+        nextExecution = following(ZonedDateTime.now());
         scheduleNext();
     }
 
     void run() {
-        if (concurrentExecution) {
-            scheduleNext();
-        }
+        long start = System.nanoTime();
+        boolean failed = false;
         try {
             long it = iteration.incrementAndGet();
             actualTask.run(new CronInvocation() {
@@ -79,7 +85,7 @@ class CronTask implements Task {
 
                 @Override
                 public boolean concurrent() {
-                    return concurrentExecution;
+                    return concurrentExecution == ConcurrentExecution.ALLOW;
                 }
 
                 @Override
@@ -93,16 +99,15 @@ class CronTask implements Task {
                 }
             });
         } catch (Throwable e) {
+            failed = true;
             LOGGER.log(Level.SEVERE, e, () -> "Error when invoking scheduled method.");
         }
-        if (!concurrentExecution) {
-            scheduleNext();
-        }
+        statistics.recordExecution(System.nanoTime() - start, failed);
     }
 
     @Override
     public String description() {
-        return CronDescriptor.instance(Locale.ENGLISH).describe(cron);
+        return description;
     }
 
     @Override
@@ -110,34 +115,63 @@ class CronTask implements Task {
         return this.executorService;
     }
 
-    private void scheduleNext() {
-        try {
-            scheduleNextLock.lock();
+    @Override
+    public TaskStatistics statistics() {
+        return statistics;
+    }
+
+    /**
+     * Time of the next execution.
+     *
+     * @return next execution time, empty if the task is not executed anymore
+     */
+    Optional<ZonedDateTime> nextExecution() {
+        return Optional.ofNullable(nextExecution);
+    }
 
+    private void due() {
+        if (concurrentExecution == ConcurrentExecution.SKIP) {
+            // next execution is scheduled once this one finishes, execution times passed meanwhile are skipped
+            run();
             ZonedDateTime now = ZonedDateTime.now();
-            Optional<ZonedDateTime> nextExecution = executionTime.nextExecution(now);
-            if (nextExecution.isEmpty()) {
-                return;
+            ZonedDateTime next = following(nextExecution);
+            while (next != null && !next.isAfter(now)) {
+                statistics.recordSkipped();
+                next = following(next);
             }
-
-            ZonedDateTime next = nextExecution.get();
-
-            Optional<Duration> time;
-            if (lastNext != null && lastNext.isEqual(next)) {
-                lastNext = executionTime.nextExecution(now).orElse(null);
-                time = executionTime.timeToNextExecution(next);
-            } else {
-                lastNext = next;
-                time = executionTime.timeToNextExecution(now);
+            nextExecution = next;
+            scheduleNext();
+        } else {
+            ZonedDateTime next = following(nextExecution);
+            if (next != null && next.isBefore(ZonedDateTime.now())) {
+                // fell behind, for example after the system was suspended, do not execute all missed times at once
+                next = following(ZonedDateTime.now());
             }
+            nextExecution = next;
+            scheduleNext();
+            guard.due(this::run, executorService);
+        }
+    }
 
-            time.ifPresent(t -> {
-                        executorService.schedule(this::run, t.toMillis(), TimeUnit.MILLISECONDS);
-                    }
-            );
+    private ZonedDateTime following(ZonedDateTime time) {
+        // cron has a precision of seconds, the fraction of the current time would be carried over to the result
+        return executionTime.nextExecution(time.truncatedTo(ChronoUnit.SECONDS)).orElse(null);
+    }
 
-        } finally {
-            scheduleNextLock.unlock();
+    private void scheduleNext() {
+        ZonedDateTime next = nextExecution;
+        if (next == null) {
+            statistics.close();
+            return;
+        }
+        // nanosecond precision, so the task is not executed before its execution time
+        long delay = Duration.between(ZonedDateTime.now(), next).toNanos();
+        try {
+            executorService.schedule(this::due, Math.max(0, delay), TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // the executor was shut down
+            statistics.close();
+            throw e;
         }
     }
 }
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.scheduling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ScheduledExecutorService} view of a {@link SchedulingEngine}.
+ * <p>
+ * Tasks are timed by the timing wheel of the engine and executed by its worker executor. The view tracks the tasks
+ * scheduled through it, so shutting it down cancels only these tasks and leaves the shared engine running.
+ * As with {@link java.util.concurrent.ScheduledThreadPoolExecutor}, periodic tasks are cancelled on
+ * {@link #shutdown()}, while delayed tasks are still executed.
+ */
+class EngineExecutorService extends AbstractExecutorService implements ScheduledExecutorService {
+
+    private final Set<EngineFuture<?>> tasks = ConcurrentHashMap.newKeySet();
+    private final List<Runnable> shutdownActions = new ArrayList<>();
+    private final TimingWheel wheel;
+    private final Executor worker;
+
+    private volatile boolean shutdown;
+
+    EngineExecutorService(TimingWheel wheel, Executor worker) {
+        this.wheel = wheel;
+        this.worker = worker;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        Objects.requireNonNull(command);
+        return schedule(new EngineFuture<Void>(command, null, triggerTime(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        Objects.requireNonNull(callable);
+        return schedule(new EngineFuture<>(callable, triggerTime(delay, unit)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        Objects.requireNonNull(command);
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive, but is " + period);
+        }
+        return schedule(new EngineFuture<Void>(command, null, triggerTime(initialDelay, unit), unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        Objects.requireNonNull(command);
+        if (delay <= 0) {
+            throw new IllegalArgumentException("Delay must be positive, but is " + delay);
+        }
+        return schedule(new EngineFuture<Void>(command, null, triggerTime(initialDelay, unit), -unit.toNanos(delay)));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Objects.requireNonNull(command);
+        EngineFuture<Void> future = new EngineFuture<>(command, null, System.nanoTime(), 0);
+        register(future);
+        try {
+            worker.execute(future);
+        } catch (RejectedExecutionException e) {
+            remove(future);
+            throw e;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        runShutdownActions();
+        for (EngineFuture<?> task : tasks) {
+            if (task.isPeriodic()) {
+                task.cancel(false);
+            }
+        }
+        signalIfTerminated();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        runShutdownActions();
+        List<Runnable> notStarted = new ArrayList<>();
+        for (EngineFuture<?> task : tasks) {
+            if (task.timeout != null && task.timeout.cancel()) {
+                notStarted.add(task);
+            }
+            task.cancel(true);
+        }
+        signalIfTerminated();
+        return notStarted;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && tasks.isEmpty();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (tasks) {
+            while (!isTerminated()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(tasks, remaining);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Run an action once this executor is shut down, immediately if it already is.
+     *
+     * @param action action to run
+     */
+    void onShutdown(Runnable action) {
+        synchronized (shutdownActions) {
+            if (!shutdown) {
+                shutdownActions.add(action);
+                return;
+            }
+        }
+        action.run();
+    }
+
+    private void runShutdownActions() {
+        List<Runnable> actions;
+        synchronized (shutdownActions) {
+            actions = List.copyOf(shutdownActions);
+            shutdownActions.clear();
+        }
+        actions.forEach(Runnable::run);
+    }
+
+    private <V> ScheduledFuture<V> schedule(EngineFuture<V> future) {
+        register(future);
+        future.scheduleAt(future.time);
+        return future;
+    }
+
+    private void register(EngineFuture<?> future) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor is shut down");
+        }
+        tasks.add(future);
+    }
+
+    private void remove(EngineFuture<?> future) {
+        tasks.remove(future);
+        signalIfTerminated();
+    }
+
+    private void signalIfTerminated() {
+        if (isTerminated()) {
+            synchronized (tasks) {
+                tasks.notifyAll();
+            }
+        }
+    }
+
+    private static long triggerTime(long delay, TimeUnit unit) {
+        return System.nanoTime() + unit.toNanos(Math.max(0, delay));
+    }
+
+    private final class EngineFuture<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+        // positive for fixed rate, negative for fixed delay, zero for one shot
+        private final long period;
+        private volatile long time;
+        private volatile TimingWheel.Timeout timeout;
+
+        private EngineFuture(Runnable runnable, V result, long time, long period) {
+            super(runnable, result);
+            this.time = time;
+            this.period = period;
+        }
+
+        private EngineFuture(Callable<V> callable, long time) {
+            super(callable);
+            this.time = time;
+            this.period = 0;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(time - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public void run() {
+            if (!isPeriodic()) {
+                super.run();
+            } else if (super.runAndReset()) {
+                if (shutdown) {
+                    cancel(false);
+                    return;
+                }
+                time = period > 0 ? time + period : System.nanoTime() - period;
+                try {
+                    scheduleAt(time);
+                } catch (RejectedExecutionException e) {
+                    setException(e);
+                }
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            TimingWheel.Timeout current = timeout;
+            if (current != null) {
+                current.cancel();
+            }
+            remove(this);
+            return cancelled;
+        }
+
+        @Override
+        protected void done() {
+            remove(this);
+        }
+
+        private void scheduleAt(long triggerTime) {
+            try {
+                timeout = wheel.schedule(this, triggerTime - System.nanoTime());
+            } catch (RejectedExecutionException e) {
+                remove(this);
+                throw e;
+            }
+            if (isCancelled()) {
+                // cancelled concurrently with scheduling
+                timeout.cancel();
+            }
+        }
+    }
+}
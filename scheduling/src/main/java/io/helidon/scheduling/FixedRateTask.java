@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -32,18 +32,22 @@ class FixedRateTask implements Task {
     private final long delay;
     private final TimeUnit timeUnit;
     private final ScheduledConsumer actualTask;
+    private final TaskStatistics statistics = new TaskStatistics();
+    private final ConcurrentExecutionGuard guard;
 
     FixedRateTask(ScheduledExecutorService executorService,
                   long initialDelay,
                   long delay,
                   TimeUnit timeUnit,
+                  ConcurrentExecution concurrentExecution,
                   ScheduledConsumer actualTask) {
         this.executorService = executorService;
         this.initialDelay = initialDelay;
         this.delay = delay;
         this.timeUnit = timeUnit;
         this.actualTask = actualTask;
-        executorService.scheduleAtFixedRate(this::run, initialDelay, delay, timeUnit);
+        this.guard = new ConcurrentExecutionGuard(concurrentExecution, statistics);
+        executorService.scheduleAtFixedRate(() -> guard.due(this::run, executorService), initialDelay, delay, timeUnit);
     }
 
     @Override
@@ -61,7 +65,14 @@ class FixedRateTask implements Task {
         return this.executorService;
     }
 
+    @Override
+    public TaskStatistics statistics() {
+        return statistics;
+    }
+
     void run() {
+        long start = System.nanoTime();
+        boolean failed = false;
         try {
             long it = iteration.incrementAndGet();
             actualTask.run(new FixedRateInvocation() {
@@ -91,7 +102,9 @@ class FixedRateTask implements Task {
                 }
             });
         } catch (Throwable e) {
+            failed = true;
             LOGGER.log(Level.SEVERE, e, () -> "Error when invoking scheduled method.");
         }
+        statistics.recordExecution(System.nanoTime() - start, failed);
     }
 }
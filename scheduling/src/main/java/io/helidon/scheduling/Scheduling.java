@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,8 +19,6 @@ package io.helidon.scheduling;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
-import io.helidon.common.configurable.ScheduledThreadPoolSupplier;
-
 /**
  * Scheduling periodically executed task with specified fixed rate or cron expression.
  *
@@ -37,6 +35,9 @@ import io.helidon.common.configurable.ScheduledThreadPoolSupplier;
  *      .task(inv -> System.out.println("Executed every day at 9:45"))
  *      .build()
  * }</pre>
+ *
+ * Tasks built without an {@code executor} or {@code engine} are executed by the
+ * {@link SchedulingEngine#global() global scheduling engine}, shared by all such tasks.
  */
 public class Scheduling {
 
@@ -68,10 +69,13 @@ public class Scheduling {
     public static final class FixedRateBuilder implements io.helidon.common.Builder<FixedRateBuilder, Task> {
 
         private ScheduledExecutorService executorService;
+        private SchedulingEngine engine;
         private long initialDelay = 0;
         private Long delay;
         private TimeUnit timeUnit = TimeUnit.SECONDS;
+        private ConcurrentExecution concurrentExecution = ConcurrentExecution.QUEUE;
         private ScheduledConsumer<FixedRateInvocation> task;
+        private String name;
 
         private FixedRateBuilder() {
             //hidden constructor
@@ -88,6 +92,32 @@ public class Scheduling {
             return this;
         }
 
+        /**
+         * Shared {@link SchedulingEngine} used for executing scheduled task, when no
+         * {@link #executor(java.util.concurrent.ScheduledExecutorService) executor} is provided.
+         * Defaults to the {@link SchedulingEngine#global() global engine}.
+         *
+         * @param engine scheduling engine
+         * @return this builder
+         */
+        public FixedRateBuilder engine(SchedulingEngine engine) {
+            this.engine = engine;
+            return this;
+        }
+
+        /**
+         * Policy applied when the task is due while the previous execution did not finish yet.
+         * Default value is {@link ConcurrentExecution#QUEUE}, the task is executed once the previous execution
+         * finishes.
+         *
+         * @param concurrentExecution concurrent execution policy
+         * @return this builder
+         */
+        public FixedRateBuilder concurrentExecution(ConcurrentExecution concurrentExecution) {
+            this.concurrentExecution = concurrentExecution;
+            return this;
+        }
+
         /**
          * Initial delay of the first invocation. Time unit is by default {@link TimeUnit#SECONDS},
          * can be specified with {@link FixedRateBuilder#timeUnit(java.util.concurrent.TimeUnit) timeUnit()}.
@@ -123,6 +153,18 @@ public class Scheduling {
             return this;
         }
 
+        /**
+         * Name of the task. Execution statistics of a named task are reported as vendor metrics
+         * tagged with {@code task=<name>}, when Helidon metrics are used.
+         *
+         * @param name name of the task
+         * @return this builder
+         */
+        public FixedRateBuilder name(String name) {
+            this.name = name;
+            return this;
+        }
+
         /**
          * {@link TimeUnit TimeUnit} used for interpretation of values provided with {@link FixedRateBuilder#delay(long)}
          * and {@link FixedRateBuilder#initialDelay(long)}.
@@ -146,13 +188,15 @@ public class Scheduling {
             }
 
             if (executorService == null) {
-                executorService = ScheduledThreadPoolSupplier.builder()
-                        .threadNamePrefix("scheduled-")
-                        .build()
-                        .get();
+                executorService = (engine == null ? SchedulingEngine.global() : engine).executor();
             }
-            return new FixedRateTask(executorService, initialDelay, delay, timeUnit,
-                    invocation -> task.run((FixedRateInvocation) invocation));
+            FixedRateTask task = new FixedRateTask(executorService, initialDelay, delay, timeUnit, concurrentExecution,
+                    invocation -> this.task.run((FixedRateInvocation) invocation));
+
+            if (name != null) {
+                TaskMetrics.register(name, task);
+            }
+            return task;
         }
     }
 
@@ -161,12 +205,14 @@ public class Scheduling {
      */
     public static final class CronBuilder implements io.helidon.common.Builder<CronBuilder, Task> {
 
-        static final String DEFAULT_THREAD_NAME_PREFIX = "scheduled-";
+        static final String DEFAULT_THREAD_NAME_PREFIX = SchedulingEngine.DEFAULT_THREAD_NAME_PREFIX;
 
         private ScheduledExecutorService executorService;
+        private SchedulingEngine engine;
         private String cronExpression;
-        private boolean concurrentExecution = true;
+        private ConcurrentExecution concurrentExecution = ConcurrentExecution.ALLOW;
         private ScheduledConsumer<CronInvocation> task;
+        private String name;
 
         private CronBuilder() {
             //hidden constructor
@@ -183,6 +229,19 @@ public class Scheduling {
             return this;
         }
 
+        /**
+         * Shared {@link SchedulingEngine} used for executing scheduled task, when no
+         * {@link #executor(java.util.concurrent.ScheduledExecutorService) executor} is provided.
+         * Defaults to the {@link SchedulingEngine#global() global engine}.
+         *
+         * @param engine scheduling engine
+         * @return this builder
+         */
+        public CronBuilder engine(SchedulingEngine engine) {
+            this.engine = engine;
+            return this;
+        }
+
         /**
          * Cron expression for specifying period of execution.
          * <p>
@@ -209,7 +268,20 @@ public class Scheduling {
          * @return this builder
          */
         public CronBuilder concurrentExecution(boolean allowConcurrentExecution) {
-            this.concurrentExecution = allowConcurrentExecution;
+            return concurrentExecution(allowConcurrentExecution ? ConcurrentExecution.ALLOW : ConcurrentExecution.SKIP);
+        }
+
+        /**
+         * Policy applied when the task is due while the previous execution did not finish yet.
+         * Default value is {@link ConcurrentExecution#ALLOW}.
+         * With {@link ConcurrentExecution#SKIP}, the next execution time is computed once the previous execution
+         * finishes.
+         *
+         * @param concurrentExecution concurrent execution policy
+         * @return this builder
+         */
+        public CronBuilder concurrentExecution(ConcurrentExecution concurrentExecution) {
+            this.concurrentExecution = concurrentExecution;
             return this;
         }
 
@@ -224,6 +296,18 @@ public class Scheduling {
             return this;
         }
 
+        /**
+         * Name of the task. Execution statistics of a named task are reported as vendor metrics
+         * tagged with {@code task=<name>}, when Helidon metrics are used.
+         *
+         * @param name name of the task
+         * @return this builder
+         */
+        public CronBuilder name(String name) {
+            this.name = name;
+            return this;
+        }
+
         @Override
         public Task build() {
             if (task == null) {
@@ -234,15 +318,15 @@ public class Scheduling {
             }
 
             if (executorService == null) {
-                executorService = ScheduledThreadPoolSupplier.builder()
-                        .threadNamePrefix(DEFAULT_THREAD_NAME_PREFIX)
-                        .build()
-                        .get();
+                executorService = (engine == null ? SchedulingEngine.global() : engine).executor();
             }
 
             CronTask task = new CronTask(executorService, cronExpression, concurrentExecution,
                     invocation -> this.task.run((CronInvocation) invocation));
 
+            if (name != null) {
+                TaskMetrics.register(name, task);
+            }
             return task;
         }
     }
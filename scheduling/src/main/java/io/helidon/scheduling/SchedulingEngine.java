@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.scheduling;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.common.configurable.ThreadPoolSupplier;
+import io.helidon.config.Config;
+
+/**
+ * Scheduling engine shared by many scheduled tasks.
+ * <p>
+ * All tasks are timed by a single dispatcher thread using a hashed timing wheel, and executed by a shared worker
+ * executor, so a large number of mostly idle tasks does not need a large number of threads.
+ * Tasks are scheduled through {@link ScheduledExecutorService} views obtained from {@link #executor()};
+ * shutting a view down cancels only the tasks scheduled through it.
+ * <p>
+ * Tasks built with {@link Scheduling} without an explicit executor use the {@link #global() global engine}.
+ *
+ * <pre>{@code
+ * SchedulingEngine engine = SchedulingEngine.builder()
+ *      .tickDuration(5, TimeUnit.MILLISECONDS)
+ *      .workerExecutor(executor)
+ *      .build();
+ * Scheduling.fixedRateBuilder()
+ *      .engine(engine)
+ *      .delay(2)
+ *      .task(inv -> System.out.println("Executed every 2 seconds"))
+ *      .build();
+ * }</pre>
+ */
+public final class SchedulingEngine {
+
+    static final String DEFAULT_THREAD_NAME_PREFIX = "scheduled-";
+    static final long DEFAULT_TICK_DURATION_MILLIS = 10;
+    static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private final TimingWheel wheel;
+    private final ExecutorService worker;
+
+    private SchedulingEngine(Builder builder) {
+        this.worker = builder.workerExecutor == null
+                ? builder.workerPool.build().get()
+                : builder.workerExecutor;
+        this.wheel = new TimingWheel(builder.tickNanos,
+                                     builder.wheelSize,
+                                     worker,
+                                     builder.threadNamePrefix + "dispatcher-" + COUNTER.incrementAndGet());
+    }
+
+    /**
+     * Create a new engine with default configuration.
+     *
+     * @return new engine
+     */
+    public static SchedulingEngine create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new engine from configuration.
+     *
+     * @param config configuration of the engine
+     * @return new engine
+     * @see Builder#config(io.helidon.config.Config)
+     */
+    public static SchedulingEngine create(Config config) {
+        return builder().config(config).build();
+    }
+
+    /**
+     * A new builder of the engine.
+     *
+     * @return new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Engine shared by all tasks that are built without an executor or engine, created on first use.
+     * Its threads are daemon threads, the engine is never shut down.
+     *
+     * @return global engine
+     */
+    public static SchedulingEngine global() {
+        return GlobalEngine.INSTANCE;
+    }
+
+    /**
+     * A new {@link ScheduledExecutorService} view of this engine.
+     * Tasks scheduled through the view are timed by the dispatcher thread and executed by the worker executor
+     * of the engine. Shutting the view down cancels only the tasks scheduled through it.
+     *
+     * @return new executor view
+     */
+    public ScheduledExecutorService executor() {
+        return new EngineExecutorService(wheel, worker);
+    }
+
+    /**
+     * Number of scheduled tasks that are waiting for their execution time.
+     *
+     * @return number of waiting tasks
+     */
+    public int waitingTasks() {
+        return wheel.size();
+    }
+
+    /**
+     * Stop the dispatcher thread and shut down the worker executor.
+     * Waiting tasks are not executed anymore.
+     */
+    public void shutdown() {
+        wheel.stop();
+        worker.shutdown();
+    }
+
+    /**
+     * Fluent API builder for {@link SchedulingEngine}.
+     */
+    public static final class Builder implements io.helidon.common.Builder<Builder, SchedulingEngine> {
+
+        private final ThreadPoolSupplier.Builder workerPool = ThreadPoolSupplier.builder()
+                .threadNamePrefix(DEFAULT_THREAD_NAME_PREFIX);
+        private ExecutorService workerExecutor;
+        private long tickNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_TICK_DURATION_MILLIS);
+        private int wheelSize = DEFAULT_WHEEL_SIZE;
+        private String threadNamePrefix = DEFAULT_THREAD_NAME_PREFIX;
+
+        private Builder() {
+        }
+
+        @Override
+        public SchedulingEngine build() {
+            return new SchedulingEngine(this);
+        }
+
+        /**
+         * Update builder from configuration.
+         * <p>
+         * Besides the keys below, the node may contain the configuration of the worker thread pool,
+         * as supported by {@link ThreadPoolSupplier.Builder#config(io.helidon.config.Config)}, such as
+         * {@code core-pool-size} or {@code virtual-threads}.
+         * <table class="config">
+         * <caption>Optional configuration parameters</caption>
+         * <tr>
+         *     <th>key</th>
+         *     <th>default value</th>
+         *     <th>description</th>
+         * </tr>
+         * <tr>
+         *     <td>tick-duration-millis</td>
+         *     <td>{@value #DEFAULT_TICK_DURATION_MILLIS}</td>
+         *     <td>Duration of one tick of the timing wheel, the precision of execution times.</td>
+         * </tr>
+         * <tr>
+         *     <td>wheel-size</td>
+         *     <td>{@value #DEFAULT_WHEEL_SIZE}</td>
+         *     <td>Number of buckets of the timing wheel.</td>
+         * </tr>
+         * <tr>
+         *     <td>thread-name-prefix</td>
+         *     <td>{@value #DEFAULT_THREAD_NAME_PREFIX}</td>
+         *     <td>Name prefix of the dispatcher thread and the worker threads.</td>
+         * </tr>
+         * </table>
+         *
+         * @param config configuration of the engine
+         * @return updated builder
+         */
+        public Builder config(Config config) {
+            workerPool.config(config);
+            config.get("tick-duration-millis").asLong().ifPresent(it -> tickDuration(it, TimeUnit.MILLISECONDS));
+            config.get("wheel-size").asInt().ifPresent(this::wheelSize);
+            config.get("thread-name-prefix").asString().ifPresent(this::threadNamePrefix);
+            return this;
+        }
+
+        /**
+         * Duration of one tick of the timing wheel. Tasks are executed at most one tick after their execution time.
+         * Defaults to {@value #DEFAULT_TICK_DURATION_MILLIS} milliseconds.
+         *
+         * @param duration duration of a tick
+         * @param unit     time unit of the duration
+         * @return updated builder
+         */
+        public Builder tickDuration(long duration, TimeUnit unit) {
+            this.tickNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Number of buckets of the timing wheel, rounded up to a power of two.
+         * Tasks due later than one rotation of the wheel wait in their bucket for the remaining rotations.
+         * Defaults to {@value #DEFAULT_WHEEL_SIZE}.
+         *
+         * @param wheelSize number of buckets
+         * @return updated builder
+         */
+        public Builder wheelSize(int wheelSize) {
+            this.wheelSize = wheelSize;
+            return this;
+        }
+
+        /**
+         * Name prefix of the dispatcher thread and of the threads of the default worker pool.
+         * Defaults to {@value #DEFAULT_THREAD_NAME_PREFIX}.
+         *
+         * @param threadNamePrefix thread name prefix
+         * @return updated builder
+         */
+        public Builder threadNamePrefix(String threadNamePrefix) {
+            this.threadNamePrefix = threadNamePrefix;
+            this.workerPool.threadNamePrefix(threadNamePrefix);
+            return this;
+        }
+
+        /**
+         * Execute tasks on virtual threads, if available on this JVM, instead of the default worker pool.
+         *
+         * @param virtualThreads whether to use virtual threads
+         * @return updated builder
+         */
+        public Builder virtualThreads(boolean virtualThreads) {
+            this.workerPool.virtualIfAvailable(virtualThreads);
+            return this;
+        }
+
+        /**
+         * Custom executor the tasks are executed by, instead of the default worker pool.
+         * The executor is shut down with the engine.
+         *
+         * @param workerExecutor worker executor
+         * @return updated builder
+         */
+        public Builder workerExecutor(ExecutorService workerExecutor) {
+            this.workerExecutor = workerExecutor;
+            return this;
+        }
+    }
+
+    private static final class GlobalEngine {
+        private static final SchedulingEngine INSTANCE = SchedulingEngine.create();
+    }
+}
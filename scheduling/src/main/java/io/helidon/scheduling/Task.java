@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -32,9 +32,19 @@ public interface Task {
 
     /**
      * {@link java.util.concurrent.ScheduledExecutorService Executor} used for invocation of scheduled tasks.
+     * When the task is executed by a {@link SchedulingEngine}, shutting the executor down cancels only this task.
      *
      * @return used executor
      */
     ScheduledExecutorService executor();
 
+    /**
+     * Execution statistics of the task, such as the number of executions and the execution times.
+     *
+     * @return statistics of the task
+     */
+    default TaskStatistics statistics() {
+        return new TaskStatistics();
+    }
+
 }
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.scheduling;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+import io.helidon.common.OptionalDependency;
+import io.helidon.metrics.api.RegistryFactory;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+
+/**
+ * Vendor metrics of named tasks, registered when {@code helidon-metrics-api} is on the class path.
+ * <p>
+ * Tasks with the same name report to the same counters, the execution time gauges report the most recently
+ * scheduled task. The metrics of a name are removed once no task of that name is executed anymore, that is
+ * when the executors of the tasks were shut down. Only executors of a {@link SchedulingEngine} and
+ * cron tasks report this, the metrics of other fixed rate tasks stay registered.
+ */
+final class TaskMetrics {
+    /**
+     * Name of the metric reporting finished executions of a task.
+     */
+    static final String EXECUTIONS_NAME = "scheduling.task.executions";
+    /**
+     * Name of the metric reporting executions of a task that threw an exception.
+     */
+    static final String FAILURES_NAME = "scheduling.task.failures";
+    /**
+     * Name of the metric reporting skipped executions of a task.
+     */
+    static final String SKIPPED_NAME = "scheduling.task.skipped";
+    /**
+     * Name of the metric reporting duration of the last execution of a task.
+     */
+    static final String LAST_TIME_NAME = "scheduling.task.lastTime";
+    /**
+     * Name of the metric reporting the longest execution of a task.
+     */
+    static final String MAX_TIME_NAME = "scheduling.task.maxTime";
+    /**
+     * Name of the tag with the task name.
+     */
+    static final String TASK_TAG = "task";
+
+    private static final boolean METRICS_AVAILABLE =
+            OptionalDependency.isAvailable("io.helidon.metrics.api.RegistryFactory", TaskMetrics.class);
+
+    private TaskMetrics() {
+    }
+
+    /**
+     * Registers metrics of a task, tagged with the task name.
+     *
+     * @param name name of the task
+     * @param task the task
+     */
+    static void register(String name, Task task) {
+        if (!METRICS_AVAILABLE) {
+            return;
+        }
+        TaskStatistics statistics = task.statistics();
+        statistics.metrics(Registration.register(name, statistics));
+        if (task.executor() instanceof EngineExecutorService executor) {
+            executor.onShutdown(statistics::close);
+        }
+    }
+
+    /**
+     * Metrics of the executions of a task.
+     */
+    interface Recorder {
+        /**
+         * Metrics not reported, when Helidon metrics are not available or the task is not executed anymore.
+         */
+        Recorder NOOP = new Recorder() {
+            @Override
+            public void executed(boolean failed) {
+            }
+
+            @Override
+            public void skipped() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        /**
+         * An execution finished.
+         *
+         * @param failed whether the execution threw an exception
+         */
+        void executed(boolean failed);
+
+        /**
+         * An execution was skipped because the previous execution did not finish.
+         */
+        void skipped();
+
+        /**
+         * The task is not executed anymore.
+         */
+        void close();
+    }
+
+    // references to the metrics API are kept in this class, which is not loaded without it
+    private static final class Registration {
+        // statistics of the tasks executed under each name, the last one is reported by the gauges
+        private static final Map<String, List<TaskStatistics>> TASKS = new HashMap<>();
+
+        private Registration() {
+        }
+
+        private static Recorder register(String name, TaskStatistics statistics) {
+            MetricRegistry registry = RegistryFactory.getInstance().getRegistry(MetricRegistry.Type.VENDOR);
+            Tag tag = new Tag(TASK_TAG, name);
+            synchronized (TASKS) {
+                List<TaskStatistics> tasks = TASKS.get(name);
+                if (tasks == null) {
+                    List<TaskStatistics> registered = new ArrayList<>();
+                    tasks = registered;
+                    TASKS.put(name, registered);
+                    registry.gauge(metadata(LAST_TIME_NAME,
+                                            "Last task execution time",
+                                            "Duration of the last finished execution",
+                                            MetricType.GAUGE,
+                                            MetricUnits.NANOSECONDS),
+                                   () -> current(registered, it -> it.lastExecutionTime().toNanos()),
+                                   tag);
+                    registry.gauge(metadata(MAX_TIME_NAME,
+                                            "Maximal task execution time",
+                                            "Longest execution",
+                                            MetricType.GAUGE,
+                                            MetricUnits.NANOSECONDS),
+                                   () -> current(registered, it -> it.maxExecutionTime().toNanos()),
+                                   tag);
+                }
+                tasks.add(statistics);
+            }
+            // counters are looked up if already registered, so tasks of the same name report to the same counters
+            Counter executions = registry.counter(metadata(EXECUTIONS_NAME,
+                                                           "Task executions",
+                                                           "Finished executions of the task",
+                                                           MetricType.COUNTER,
+                                                           MetricUnits.NONE),
+                                                  tag);
+            Counter failures = registry.counter(metadata(FAILURES_NAME,
+                                                         "Failed task executions",
+                                                         "Executions that threw an exception",
+                                                         MetricType.COUNTER,
+                                                         MetricUnits.NONE),
+                                                tag);
+            Counter skipped = registry.counter(metadata(SKIPPED_NAME,
+                                                        "Skipped task executions",
+                                                        "Executions skipped because the previous execution did not finish",
+                                                        MetricType.COUNTER,
+                                                        MetricUnits.NONE),
+                                               tag);
+            return new Recorder() {
+                @Override
+                public void executed(boolean failed) {
+                    executions.inc();
+                    if (failed) {
+                        failures.inc();
+                    }
+                }
+
+                @Override
+                public void skipped() {
+                    skipped.inc();
+                }
+
+                @Override
+                public void close() {
+                    unregister(registry, name, statistics, tag);
+                }
+            };
+        }
+
+        private static void unregister(MetricRegistry registry, String name, TaskStatistics statistics, Tag tag) {
+            synchronized (TASKS) {
+                List<TaskStatistics> tasks = TASKS.get(name);
+                if (tasks == null || !tasks.remove(statistics) || !tasks.isEmpty()) {
+                    return;
+                }
+                TASKS.remove(name);
+                for (String metric : List.of(EXECUTIONS_NAME, FAILURES_NAME, SKIPPED_NAME, LAST_TIME_NAME, MAX_TIME_NAME)) {
+                    registry.remove(new MetricID(metric, tag));
+                }
+            }
+        }
+
+        private static long current(List<TaskStatistics> tasks, ToLongFunction<TaskStatistics> value) {
+            synchronized (TASKS) {
+                return tasks.isEmpty() ? 0 : value.applyAsLong(tasks.get(tasks.size() - 1));
+            }
+        }
+
+        private static Metadata metadata(String name, String displayName, String description, MetricType type, String unit) {
+            return Metadata.builder()
+                    .withName(name)
+                    .withDisplayName(displayName)
+                    .withDescription(description)
+                    .withType(type)
+                    .withUnit(unit)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.scheduling;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Execution statistics of a {@link Task}.
+ */
+public final class TaskStatistics {
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private volatile long lastNanos;
+    private volatile TaskMetrics.Recorder metrics = TaskMetrics.Recorder.NOOP;
+
+    TaskStatistics() {
+    }
+
+    /**
+     * Number of finished executions, including the failed ones.
+     *
+     * @return number of executions
+     */
+    public long executions() {
+        return executions.sum();
+    }
+
+    /**
+     * Number of executions that threw an exception.
+     *
+     * @return number of failed executions
+     */
+    public long failures() {
+        return failures.sum();
+    }
+
+    /**
+     * Number of executions skipped because the previous execution did not finish,
+     * see {@link ConcurrentExecution#SKIP}.
+     *
+     * @return number of skipped executions
+     */
+    public long skipped() {
+        return skipped.sum();
+    }
+
+    /**
+     * Duration of the last finished execution.
+     *
+     * @return last execution time, zero if there was no execution yet
+     */
+    public Duration lastExecutionTime() {
+        return Duration.ofNanos(lastNanos);
+    }
+
+    /**
+     * Longest execution.
+     *
+     * @return maximal execution time, zero if there was no execution yet
+     */
+    public Duration maxExecutionTime() {
+        return Duration.ofNanos(maxNanos.get());
+    }
+
+    /**
+     * Average duration of the finished executions.
+     *
+     * @return average execution time, zero if there was no execution yet
+     */
+    public Duration averageExecutionTime() {
+        long count = executions.sum();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos.sum() / count);
+    }
+
+    @Override
+    public String toString() {
+        return "TaskStatistics{"
+                + "executions=" + executions()
+                + ", failures=" + failures()
+                + ", skipped=" + skipped()
+                + ", average=" + averageExecutionTime()
+                + ", max=" + maxExecutionTime()
+                + '}';
+    }
+
+    void recordExecution(long nanos, boolean failed) {
+        metrics.executed(failed);
+        executions.increment();
+        if (failed) {
+            failures.increment();
+        }
+        totalNanos.add(nanos);
+        lastNanos = nanos;
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    void recordSkipped() {
+        metrics.skipped();
+        skipped.increment();
+    }
+
+    void metrics(TaskMetrics.Recorder metrics) {
+        this.metrics = metrics;
+    }
+
+    // the task is not executed anymore
+    synchronized void close() {
+        TaskMetrics.Recorder current = metrics;
+        metrics = TaskMetrics.Recorder.NOOP;
+        current.close();
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.scheduling;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Hashed timing wheel with a single dispatcher thread.
+ * <p>
+ * Timeouts are kept in a ring of buckets, one bucket per tick. The dispatcher thread advances one bucket each tick
+ * and hands the expired timeouts over to the worker executor, so scheduling and cancelling is constant time
+ * regardless of the number of timeouts, and timeouts fire at most one tick late.
+ * Only the dispatcher thread touches the buckets, new timeouts are passed to it through a concurrent queue.
+ * When there is no timeout, the dispatcher thread parks until one is scheduled.
+ */
+class TimingWheel {
+
+    private static final Logger LOGGER = Logger.getLogger(TimingWheel.class.getName());
+
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final Queue<Timeout>[] buckets;
+    private final int mask;
+    private final long tickNanos;
+    private final Executor worker;
+    private final Thread dispatcher;
+    private final long startTime;
+
+    private volatile boolean running = true;
+    private volatile boolean idle;
+    // accessed only by the dispatcher thread
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickNanos, int wheelSize, Executor worker, String threadName) {
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive, but is " + tickNanos + " ns");
+        }
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("Wheel size must be positive, but is " + wheelSize);
+        }
+        // power of two, so the bucket index is a mask of the tick
+        int normalized = Integer.highestOneBit(wheelSize);
+        if (normalized < wheelSize) {
+            normalized <<= 1;
+        }
+        this.buckets = new Queue[normalized];
+        for (int i = 0; i < normalized; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.mask = normalized - 1;
+        this.tickNanos = tickNanos;
+        this.worker = worker;
+        this.startTime = System.nanoTime();
+        this.dispatcher = new Thread(this::dispatch, threadName);
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    /**
+     * Schedule a task to be executed by the worker executor after the delay.
+     *
+     * @param task       task to execute
+     * @param delayNanos delay in nanoseconds
+     * @return timeout of the task, can be used to cancel it
+     */
+    Timeout schedule(Runnable task, long delayNanos) {
+        if (!running) {
+            throw new RejectedExecutionException("Scheduling engine is shut down");
+        }
+        Timeout timeout = new Timeout(task, System.nanoTime() + Math.max(0, delayNanos));
+        size.incrementAndGet();
+        pending.add(timeout);
+        if (idle) {
+            LockSupport.unpark(dispatcher);
+        }
+        return timeout;
+    }
+
+    /**
+     * Number of scheduled and not yet expired or cancelled timeouts.
+     *
+     * @return number of timeouts
+     */
+    int size() {
+        return size.get();
+    }
+
+    /**
+     * Stop the dispatcher thread, scheduled timeouts are dropped.
+     */
+    void stop() {
+        running = false;
+        LockSupport.unpark(dispatcher);
+    }
+
+    private void dispatch() {
+        while (running) {
+            if (size.get() == 0) {
+                idle = true;
+                // re-check, a timeout may have been scheduled before idle was set
+                if (size.get() == 0 && running) {
+                    LockSupport.park(this);
+                }
+                idle = false;
+                // nothing is in the wheel, skip the ticks passed while parked
+                tick = Math.max(tick, (System.nanoTime() - startTime) / tickNanos);
+                continue;
+            }
+            long deadline = startTime + (tick + 1) * tickNanos;
+            long now;
+            while ((now = System.nanoTime()) < deadline && running) {
+                LockSupport.parkNanos(this, deadline - now);
+            }
+            if (!running) {
+                break;
+            }
+            transferPending();
+            expire(buckets[(int) (tick & mask)]);
+            tick++;
+        }
+        pending.clear();
+        for (Queue<Timeout> bucket : buckets) {
+            bucket.clear();
+        }
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.state.get() != Timeout.WAITING) {
+                continue;
+            }
+            long ticks = (timeout.deadline - startTime) / tickNanos;
+            timeout.rounds = (ticks - tick) / buckets.length;
+            // already expired timeouts go to the current bucket
+            buckets[(int) (Math.max(ticks, tick) & mask)].add(timeout);
+        }
+    }
+
+    private void expire(Queue<Timeout> bucket) {
+        Iterator<Timeout> it = bucket.iterator();
+        while (it.hasNext()) {
+            Timeout timeout = it.next();
+            if (timeout.state.get() != Timeout.WAITING) {
+                it.remove();
+            } else if (timeout.rounds <= 0) {
+                it.remove();
+                timeout.expire();
+            } else {
+                timeout.rounds--;
+            }
+        }
+    }
+
+    /**
+     * Scheduled task of the wheel.
+     */
+    final class Timeout {
+        private static final int WAITING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private final Runnable task;
+        private final long deadline;
+        // accessed only by the dispatcher thread
+        private long rounds;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancel the timeout, if it did not expire yet.
+         *
+         * @return whether the timeout was cancelled
+         */
+        boolean cancel() {
+            if (state.compareAndSet(WAITING, CANCELLED)) {
+                size.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(WAITING, EXPIRED)) {
+                return;
+            }
+            size.decrementAndGet();
+            try {
+                worker.execute(task);
+            } catch (RejectedExecutionException e) {
+                LOGGER.log(Level.WARNING, e, () -> "Scheduled task rejected by the worker executor: " + task);
+            }
+        }
+    }
+}
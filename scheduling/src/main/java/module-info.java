@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ module io.helidon.scheduling {
     requires io.helidon.common.configurable;
     requires java.logging;
     requires com.cronutils;
+    requires static io.helidon.metrics.api;
 
     exports io.helidon.scheduling;
 }
\ No newline at end of file
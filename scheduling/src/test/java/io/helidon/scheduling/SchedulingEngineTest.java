@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.scheduling;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.helidon.config.Config;
+import io.helidon.config.ConfigSources;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class SchedulingEngineTest {
+
+    private SchedulingEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = SchedulingEngine.builder()
+                .tickDuration(5, TimeUnit.MILLISECONDS)
+                .wheelSize(16)
+                .workerExecutor(Executors.newFixedThreadPool(4))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    void delayedAndPeriodicTasks() throws Exception {
+        ScheduledExecutorService executor = engine.executor();
+        long start = System.nanoTime();
+        // longer than one rotation of the wheel, 16 * 5 ms
+        ScheduledFuture<String> delayed = executor.schedule(() -> "done", 200, TimeUnit.MILLISECONDS);
+        assertThat(delayed.get(5, TimeUnit.SECONDS), is("done"));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), greaterThanOrEqualTo(200L));
+
+        CountDownLatch periodic = new CountDownLatch(5);
+        ScheduledFuture<?> future = executor.scheduleAtFixedRate(periodic::countDown, 0, 20, TimeUnit.MILLISECONDS);
+        assertThat(periodic.await(5, TimeUnit.SECONDS), is(true));
+        future.cancel(false);
+        assertThat(engine.waitingTasks(), is(0));
+    }
+
+    @Test
+    void executorShutdownCancelsOnlyItsTasks() throws Exception {
+        AtomicInteger first = new AtomicInteger();
+        AtomicInteger second = new AtomicInteger();
+        ScheduledExecutorService firstExecutor = engine.executor();
+        ScheduledExecutorService secondExecutor = engine.executor();
+        firstExecutor.scheduleAtFixedRate(first::incrementAndGet, 0, 10, TimeUnit.MILLISECONDS);
+        secondExecutor.scheduleAtFixedRate(second::incrementAndGet, 0, 10, TimeUnit.MILLISECONDS);
+
+        firstExecutor.shutdown();
+        assertThat(firstExecutor.awaitTermination(5, TimeUnit.SECONDS), is(true));
+        int stopped = first.get();
+        int running = second.get();
+        Thread.sleep(200);
+        assertThat(first.get(), lessThanOrEqualTo(stopped + 1));
+        assertThat(second.get(), greaterThan(running));
+        secondExecutor.shutdownNow();
+    }
+
+    @Test
+    void manyTasksShareThreads() throws Exception {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch executed = new CountDownLatch(1000);
+        List<Task> tasks = IntStream.range(0, 1000)
+                .mapToObj(i -> Scheduling.fixedRateBuilder()
+                        .engine(engine)
+                        .delay(50)
+                        .timeUnit(TimeUnit.MILLISECONDS)
+                        .task(inv -> {
+                            threads.add(Thread.currentThread().getName());
+                            if (inv.iteration() == 1) {
+                                executed.countDown();
+                            }
+                        })
+                        .build())
+                .collect(Collectors.toList());
+
+        assertThat(executed.await(10, TimeUnit.SECONDS), is(true));
+        tasks.forEach(task -> task.executor().shutdownNow());
+        assertThat(threads.size(), lessThanOrEqualTo(4));
+    }
+
+    @Test
+    void skipConcurrentExecution() throws Exception {
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        Task task = Scheduling.fixedRateBuilder()
+                .engine(engine)
+                .delay(20)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .concurrentExecution(ConcurrentExecution.SKIP)
+                .task(inv -> measureConcurrency(concurrent, maxConcurrent, 100))
+                .build();
+
+        awaitExecutions(task, 3);
+        task.executor().shutdownNow();
+        assertThat(maxConcurrent.get(), is(1));
+        assertThat(task.statistics().skipped(), greaterThan(0L));
+        assertThat(task.statistics().maxExecutionTime().toMillis(), greaterThanOrEqualTo(100L));
+    }
+
+    @Test
+    void queueConcurrentExecution() throws Exception {
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        long start = System.nanoTime();
+        Task task = Scheduling.fixedRateBuilder()
+                .engine(engine)
+                .delay(20)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .concurrentExecution(ConcurrentExecution.QUEUE)
+                .task(inv -> measureConcurrency(concurrent, maxConcurrent, 60))
+                .build();
+
+        awaitExecutions(task, 3);
+        task.executor().shutdownNow();
+        assertThat(maxConcurrent.get(), is(1));
+        assertThat(task.statistics().skipped(), is(0L));
+        // executions are back to back, not waiting for the next execution time
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThanOrEqualTo(1000L));
+    }
+
+    @Test
+    void allowConcurrentExecution() throws Exception {
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        Task task = Scheduling.fixedRateBuilder()
+                .engine(engine)
+                .delay(20)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .concurrentExecution(ConcurrentExecution.ALLOW)
+                .task(inv -> measureConcurrency(concurrent, maxConcurrent, 100))
+                .build();
+
+        awaitExecutions(task, 3);
+        task.executor().shutdownNow();
+        assertThat(maxConcurrent.get(), greaterThan(1));
+    }
+
+    @Test
+    void cronNextExecutionPrecomputed() throws Exception {
+        CountDownLatch executed = new CountDownLatch(1);
+        CronTask task = (CronTask) Scheduling.cronBuilder()
+                .engine(engine)
+                .expression("* * * * * ? *")
+                .task(inv -> executed.countDown())
+                .build();
+
+        ZonedDateTime first = task.nextExecution().orElseThrow();
+        assertThat(executed.await(5, TimeUnit.SECONDS), is(true));
+        ZonedDateTime second = task.nextExecution().orElseThrow();
+        task.executor().shutdownNow();
+        assertThat(second.isAfter(first), is(true));
+        assertThat(second.getNano(), is(0));
+    }
+
+    @Test
+    void engineFromConfig() throws Exception {
+        Config config = Config.builder()
+                .sources(ConfigSources.create(Map.of("tick-duration-millis", "1",
+                                                    "wheel-size", "8",
+                                                    "thread-name-prefix", "engine-test-",
+                                                    "core-pool-size", "1")))
+                .disableEnvironmentVariablesSource()
+                .disableSystemPropertiesSource()
+                .build();
+        SchedulingEngine configured = SchedulingEngine.create(config);
+        try {
+            String thread = configured.executor()
+                    .schedule(() -> Thread.currentThread().getName(), 10, TimeUnit.MILLISECONDS)
+                    .get(5, TimeUnit.SECONDS);
+            assertThat(thread.startsWith("engine-test-"), is(true));
+        } finally {
+            configured.shutdown();
+        }
+    }
+
+    private static void measureConcurrency(AtomicInteger concurrent, AtomicInteger maxConcurrent, long sleepMillis)
+            throws InterruptedException {
+        maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(sleepMillis);
+        } finally {
+            concurrent.decrementAndGet();
+        }
+    }
+
+    private static void awaitExecutions(Task task, long executions) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (task.statistics().executions() < executions && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(task.statistics().executions(), greaterThanOrEqualTo(executions));
+    }
+}
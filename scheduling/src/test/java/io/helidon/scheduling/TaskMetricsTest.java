@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.scheduling;
+
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.metrics.api.RegistryFactory;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+class TaskMetricsTest {
+
+    @Test
+    void namedTaskMetrics() throws InterruptedException {
+        Task task = Scheduling.fixedRateBuilder()
+                .name("failing")
+                .delay(10)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .task(inv -> {
+                    throw new IllegalStateException("Failing on purpose");
+                })
+                .build();
+        Tag tag = new Tag(TaskMetrics.TASK_TAG, "failing");
+
+        try {
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+            while (task.statistics().failures() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(counter(TaskMetrics.EXECUTIONS_NAME, tag), greaterThanOrEqualTo(2L));
+            assertThat(counter(TaskMetrics.FAILURES_NAME, tag), greaterThanOrEqualTo(2L));
+            assertThat(counter(TaskMetrics.SKIPPED_NAME, tag), is(0L));
+            assertThat(registry().getGauges().get(new MetricID(TaskMetrics.MAX_TIME_NAME, tag)), notNullValue());
+        } finally {
+            task.executor().shutdownNow();
+        }
+
+        // metrics of a task that is not executed anymore are removed
+        assertThat(registry().getCounters().get(new MetricID(TaskMetrics.EXECUTIONS_NAME, tag)), nullValue());
+        assertThat(registry().getGauges().get(new MetricID(TaskMetrics.MAX_TIME_NAME, tag)), nullValue());
+    }
+
+    @Test
+    void sameNameTasksShareMetrics() throws InterruptedException {
+        SchedulingEngine engine = SchedulingEngine.builder().build();
+        try {
+            Task first = fixedRate(engine, "shared");
+            Task second = fixedRate(engine, "shared");
+            Tag tag = new Tag(TaskMetrics.TASK_TAG, "shared");
+
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+            while ((first.statistics().executions() < 1 || second.statistics().executions() < 1)
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            first.executor().shutdownNow();
+            long executions = first.statistics().executions() + second.statistics().executions();
+            assertThat(counter(TaskMetrics.EXECUTIONS_NAME, tag), greaterThanOrEqualTo(executions - 1));
+
+            // still reported while a task of the name is executed
+            deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+            long before = counter(TaskMetrics.EXECUTIONS_NAME, tag);
+            while (counter(TaskMetrics.EXECUTIONS_NAME, tag) == before && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(counter(TaskMetrics.EXECUTIONS_NAME, tag), greaterThan(before));
+
+            second.executor().shutdownNow();
+            assertThat(registry().getCounters().get(new MetricID(TaskMetrics.EXECUTIONS_NAME, tag)), nullValue());
+        } finally {
+            engine.shutdown();
+        }
+    }
+
+    private static Task fixedRate(SchedulingEngine engine, String name) {
+        return Scheduling.fixedRateBuilder()
+                .engine(engine)
+                .name(name)
+                .delay(10)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .task(inv -> {
+                })
+                .build();
+    }
+
+    private static long counter(String name, Tag tag) {
+        Counter counter = registry().getCounters().get(new MetricID(name, tag));
+        assertThat("Counter " + name, counter, notNullValue());
+        return counter.getCount();
+    }
+
+    private static MetricRegistry registry() {
+        return RegistryFactory.getInstance().getRegistry(MetricRegistry.Type.VENDOR);
+    }
+}
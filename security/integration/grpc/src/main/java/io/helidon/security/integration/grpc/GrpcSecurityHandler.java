@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -427,6 +427,10 @@ public class GrpcSecurityHandler
                 ? AuditEvent.AuditSeverity.SUCCESS
                 : AuditEvent.AuditSeverity.FAILURE;
 
+        if (!securityContext.auditEnabled(severity)) {
+            return;
+        }
+
         SecurityAuditEvent auditEvent = SecurityAuditEvent
                 .audit(severity,
                        auditEventType.orElse(DEFAULT_AUDIT_EVENT_TYPE),
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -262,20 +262,22 @@ public class SecurityFilter extends SecurityFilterCommon implements ContainerReq
                     auditSeverity = methodSecurity.getAuditErrorSeverity();
                 }
 
-                SecurityAuditEvent auditEvent = SecurityAuditEvent
-                        .audit(auditSeverity, methodSecurity.getAuditEventType(), methodSecurity.getAuditMessageFormat())
-                        .addParam(AuditEvent.AuditParam.plain("method", fc.getMethod()))
-                        .addParam(AuditEvent.AuditParam.plain("path", fc.getResourcePath()))
-                        .addParam(AuditEvent.AuditParam.plain("status", String.valueOf(responseContext.getStatus())))
-                        .addParam(AuditEvent.AuditParam.plain("subject",
-                                                              securityContext.user()
-                                                                      .or(securityContext::service)
-                                                                      .orElse(SecurityContext.ANONYMOUS)))
-                        .addParam(AuditEvent.AuditParam.plain("transport", "http"))
-                        .addParam(AuditEvent.AuditParam.plain("resourceType", fc.getResourceName()))
-                        .addParam(AuditEvent.AuditParam.plain("targetUri", fc.getTargetUri()));
-
-                securityContext.audit(auditEvent);
+                if (securityContext.auditEnabled(auditSeverity)) {
+                    SecurityAuditEvent auditEvent = SecurityAuditEvent
+                            .audit(auditSeverity, methodSecurity.getAuditEventType(), methodSecurity.getAuditMessageFormat())
+                            .addParam(AuditEvent.AuditParam.plain("method", fc.getMethod()))
+                            .addParam(AuditEvent.AuditParam.plain("path", fc.getResourcePath()))
+                            .addParam(AuditEvent.AuditParam.plain("status", String.valueOf(responseContext.getStatus())))
+                            .addParam(AuditEvent.AuditParam.plain("subject",
+                                                                  securityContext.user()
+                                                                          .or(securityContext::service)
+                                                                          .orElse(SecurityContext.ANONYMOUS)))
+                            .addParam(AuditEvent.AuditParam.plain("transport", "http"))
+                            .addParam(AuditEvent.AuditParam.plain("resourceType", fc.getResourceName()))
+                            .addParam(AuditEvent.AuditParam.plain("targetUri", fc.getTargetUri()));
+
+                    securityContext.audit(auditEvent);
+                }
             }
         } finally {
             responseTracing.finish();
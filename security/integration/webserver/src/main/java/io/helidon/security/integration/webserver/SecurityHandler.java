@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -421,6 +421,10 @@ public final class SecurityHandler implements Handler {
             break;
         }
 
+        if (!securityContext.auditEnabled(auditSeverity)) {
+            return;
+        }
+
         SecurityAuditEvent auditEvent = SecurityAuditEvent
                 .audit(auditSeverity,
                        auditEventType.orElse(DEFAULT_AUDIT_EVENT_TYPE),
@@ -662,6 +666,9 @@ public final class SecurityHandler implements Handler {
                                   HttpRequest.Path path,
                                   Optional<Subject> user,
                                   Set<String> rolesSet) {
+        if (!context.auditEnabled(AuditEvent.AuditSeverity.FAILURE)) {
+            return;
+        }
 
         context.audit(SecurityAuditEvent.failure(AuditEvent.AUTHZ_TYPE_PREFIX + ".authorize",
                                                  "User is not in any of the required roles: %s. Path %s. Subject %s")
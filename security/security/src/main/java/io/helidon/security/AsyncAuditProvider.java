@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.security;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.helidon.config.Config;
+import io.helidon.config.metadata.Configured;
+import io.helidon.config.metadata.ConfiguredOption;
+import io.helidon.security.spi.AuditProvider;
+
+/**
+ * Audit provider dispatching audit events to another provider asynchronously.
+ * <p>
+ * Events are placed in a bounded queue and processed by the delegate provider on a single daemon thread,
+ * so the secured request is not delayed by formatting and storing its audit events. When the queue is full, the event
+ * is dropped and counted (see {@link #droppedEvents()}), the first dropped event is logged.
+ * <p>
+ * The {@link AuditProvider.AuditSource} of an event is located on the audited thread before the event is queued,
+ * unless disabled by {@link Builder#locateSource(boolean)}. Events of severities not enabled by the delegate
+ * are neither located nor queued.
+ * <p>
+ * The dispatching thread is stopped by {@link #close()}, after the events already queued are processed.
+ * Events audited after the provider is closed are processed by the delegate on the audited thread.
+ * <p>
+ * When configured with {@code security.audit.async.enabled: true}, all audit providers of security are dispatched
+ * asynchronously.
+ */
+public final class AsyncAuditProvider implements AuditProvider, AutoCloseable {
+    /**
+     * Default capacity of the queue of audit events.
+     */
+    public static final int DEFAULT_QUEUE_SIZE = 1024;
+
+    private static final Logger LOGGER = Logger.getLogger(AsyncAuditProvider.class.getName());
+
+    private final AuditProvider delegate;
+    private final Consumer<TracedAuditEvent> delegateConsumer;
+    private final boolean locateSource;
+    private final BlockingQueue<TracedAuditEvent> queue;
+    private final Map<AuditEvent.AuditSeverity, LongAdder> dropped = new EnumMap<>(AuditEvent.AuditSeverity.class);
+    private final AtomicBoolean dropLogged = new AtomicBoolean();
+    private final LongAdder failed = new LongAdder();
+    private final Thread thread;
+
+    private volatile boolean closed;
+
+    private AsyncAuditProvider(Builder builder) {
+        this.delegate = builder.delegate;
+        this.delegateConsumer = delegate.auditConsumer();
+        this.locateSource = builder.locateSource;
+        this.queue = new ArrayBlockingQueue<>(builder.queueSize);
+        for (AuditEvent.AuditSeverity severity : AuditEvent.AuditSeverity.values()) {
+            dropped.put(severity, new LongAdder());
+        }
+
+        this.thread = new Thread(this::dispatch, builder.threadName);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * A new fluent API builder.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Dispatch audit events to the provider asynchronously, using default configuration.
+     *
+     * @param delegate provider processing the events
+     * @return a new asynchronous audit provider
+     */
+    public static AsyncAuditProvider create(AuditProvider delegate) {
+        return builder().delegate(delegate).build();
+    }
+
+    @Override
+    public Consumer<TracedAuditEvent> auditConsumer() {
+        return this::enqueue;
+    }
+
+    @Override
+    public boolean severityEnabled(AuditEvent.AuditSeverity severity) {
+        return delegate.severityEnabled(severity);
+    }
+
+    @Override
+    public boolean lazyAuditSource() {
+        // the source is not available on the dispatching thread, only skip locating it when not requested
+        return !locateSource;
+    }
+
+    /**
+     * Stop the thread dispatching audit events, once the events already queued are processed.
+     * Events audited later are processed by the delegate provider synchronously.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        thread.interrupt();
+    }
+
+    /**
+     * Number of audit events dropped as the queue was full.
+     *
+     * @return number of dropped events
+     */
+    public long droppedEvents() {
+        long result = 0;
+        for (LongAdder counter : dropped.values()) {
+            result += counter.sum();
+        }
+        return result;
+    }
+
+    /**
+     * Number of audit events of the severity dropped as the queue was full.
+     *
+     * @param severity severity of the events
+     * @return number of dropped events
+     */
+    public long droppedEvents(AuditEvent.AuditSeverity severity) {
+        return dropped.get(severity).sum();
+    }
+
+    /**
+     * Number of audit events the delegate provider failed to process.
+     *
+     * @return number of failed events
+     */
+    public long failedEvents() {
+        return failed.sum();
+    }
+
+    /**
+     * Number of audit events waiting in the queue.
+     *
+     * @return number of queued events
+     */
+    public int queuedEvents() {
+        return queue.size();
+    }
+
+    private void enqueue(TracedAuditEvent event) {
+        if (closed) {
+            process(event);
+            return;
+        }
+        if (!queue.offer(event)) {
+            dropped.get(event.severity()).increment();
+            if (dropLogged.compareAndSet(false, true)) {
+                LOGGER.warning("Audit queue of " + delegate.getClass().getName() + " is full, dropping audit events. "
+                                       + "Further dropped events are only counted.");
+            }
+        } else if (closed && queue.remove(event)) {
+            // closed concurrently, the dispatching thread may have stopped already
+            process(event);
+        }
+    }
+
+    private void dispatch() {
+        while (!closed) {
+            TracedAuditEvent event;
+            try {
+                event = queue.take();
+            } catch (InterruptedException e) {
+                if (closed) {
+                    break;
+                }
+                continue;
+            }
+            process(event);
+        }
+        // events queued before the provider was closed
+        TracedAuditEvent event;
+        while ((event = queue.poll()) != null) {
+            process(event);
+        }
+    }
+
+    private void process(TracedAuditEvent event) {
+        try {
+            delegateConsumer.accept(event);
+        } catch (Throwable e) {
+            failed.increment();
+            LOGGER.log(Level.FINEST, "Failed to process audit event " + event.eventType(), e);
+        }
+    }
+
+    /**
+     * Fluent API builder for {@link AsyncAuditProvider}.
+     */
+    @Configured
+    public static final class Builder implements io.helidon.common.Builder<Builder, AsyncAuditProvider> {
+        private AuditProvider delegate;
+        private int queueSize = DEFAULT_QUEUE_SIZE;
+        private boolean locateSource = true;
+        private String threadName = "helidon-audit";
+
+        private Builder() {
+        }
+
+        @Override
+        public AsyncAuditProvider build() {
+            Objects.requireNonNull(delegate, "Delegate audit provider must be configured");
+            if (queueSize < 1) {
+                throw new IllegalArgumentException("Audit queue size must be positive, but is " + queueSize);
+            }
+            return new AsyncAuditProvider(this);
+        }
+
+        /**
+         * Update this builder from configuration.
+         *
+         * @param config configuration on the node of asynchronous audit
+         * @return updated builder instance
+         */
+        public Builder config(Config config) {
+            config.get("queue-size").asInt().ifPresent(this::queueSize);
+            config.get("locate-source").asBoolean().ifPresent(this::locateSource);
+            config.get("thread-name").asString().ifPresent(this::threadName);
+            return this;
+        }
+
+        /**
+         * Audit provider processing the events.
+         *
+         * @param delegate provider to dispatch events to
+         * @return updated builder instance
+         */
+        public Builder delegate(AuditProvider delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * Capacity of the queue of audit events waiting to be processed. Events are dropped when the queue is full.
+         *
+         * @param queueSize queue capacity
+         * @return updated builder instance
+         */
+        @ConfiguredOption("1024")
+        public Builder queueSize(int queueSize) {
+            this.queueSize = queueSize;
+            return this;
+        }
+
+        /**
+         * Whether to locate the {@link AuditProvider.AuditSource} of events. Locating the source walks the stack
+         * of the audited thread, when disabled, the source of the events is unknown.
+         *
+         * @param locateSource set to {@code false} to skip locating the source
+         * @return updated builder instance
+         */
+        @ConfiguredOption("true")
+        public Builder locateSource(boolean locateSource) {
+            this.locateSource = locateSource;
+            return this;
+        }
+
+        /**
+         * Name of the thread dispatching the events.
+         *
+         * @param threadName thread name
+         * @return updated builder instance
+         */
+        @ConfiguredOption("helidon-audit")
+        public Builder threadName(String threadName) {
+            this.threadName = threadName;
+            return this;
+        }
+    }
+}
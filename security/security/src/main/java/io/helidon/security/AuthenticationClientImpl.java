@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -93,35 +93,41 @@ final class AuthenticationClientImpl implements SecurityClient<AuthenticationRes
                         .ifPresent(context::setService);
 
                 //Audit success
-                context.audit(SecurityAuditEvent
-                                      .success(
-                                              AuditEvent.AUTHN_TYPE_PREFIX + ".authenticate",
-                                              "Path %s. Provider %s. Subject %s")
-                                      .addParam(AuditEvent.AuditParam.plain("path", providerRequest.env().path()))
-                                      .addParam(AuditEvent.AuditParam
-                                                        .plain("provider", providerInstance.getClass().getName()))
-                                      .addParam(AuditEvent.AuditParam.plain("subject", response.user())));
+                if (context.auditEnabled(AuditEvent.AuditSeverity.SUCCESS)) {
+                    context.audit(SecurityAuditEvent
+                                          .success(
+                                                  AuditEvent.AUTHN_TYPE_PREFIX + ".authenticate",
+                                                  "Path %s. Provider %s. Subject %s")
+                                          .addParam(AuditEvent.AuditParam.plain("path", providerRequest.env().path()))
+                                          .addParam(AuditEvent.AuditParam
+                                                            .plain("provider", providerInstance.getClass().getName()))
+                                          .addParam(AuditEvent.AuditParam.plain("subject", response.user())));
+                }
                 return response;
             }
 
             //Audit failure
-            SecurityAuditEvent event = SecurityAuditEvent
-                    .failure(AuditEvent.AUTHN_TYPE_PREFIX + ".authenticate", "Provider %s. Message: %s")
-                    .addParam(AuditEvent.AuditParam.plain("provider", providerInstance.getClass().getName()))
-                    .addParam(AuditEvent.AuditParam.plain("message", response.description().orElse(null)));
-
-            response.throwable()
-                    .map(e -> event.addParam(AuditEvent.AuditParam.plain("exception", response.throwable())));
-            context.audit(event);
+            if (context.auditEnabled(AuditEvent.AuditSeverity.FAILURE)) {
+                SecurityAuditEvent event = SecurityAuditEvent
+                        .failure(AuditEvent.AUTHN_TYPE_PREFIX + ".authenticate", "Provider %s. Message: %s")
+                        .addParam(AuditEvent.AuditParam.plain("provider", providerInstance.getClass().getName()))
+                        .addParam(AuditEvent.AuditParam.plain("message", response.description().orElse(null)));
+
+                response.throwable()
+                        .map(e -> event.addParam(AuditEvent.AuditParam.plain("exception", response.throwable())));
+                context.audit(event);
+            }
             return response;
         }).exceptionally(throwable -> {
             //Audit failure
-            context.audit(SecurityAuditEvent
-                                  .error(AuditEvent.AUTHN_TYPE_PREFIX + ".authenticate", "Provider %s. Message: %s")
-                                  .addParam(AuditEvent.AuditParam
-                                                    .plain("provider", providerInstance.getClass().getName()))
-                                  .addParam(AuditEvent.AuditParam.plain("message", throwable.getMessage()))
-                                  .addParam(AuditEvent.AuditParam.plain("exception", throwable)));
+            if (context.auditEnabled(AuditEvent.AuditSeverity.ERROR)) {
+                context.audit(SecurityAuditEvent
+                                      .error(AuditEvent.AUTHN_TYPE_PREFIX + ".authenticate", "Provider %s. Message: %s")
+                                      .addParam(AuditEvent.AuditParam
+                                                        .plain("provider", providerInstance.getClass().getName()))
+                                      .addParam(AuditEvent.AuditParam.plain("message", throwable.getMessage()))
+                                      .addParam(AuditEvent.AuditParam.plain("exception", throwable)));
+            }
 
             throw new SecurityException(throwable);
         });
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -70,33 +70,32 @@ final class DefaultAuditProvider implements AuditProvider {
         return this::audit;
     }
 
+    @Override
+    public boolean severityEnabled(AuditEvent.AuditSeverity severity) {
+        return auditLogger.isLoggable(level(severity));
+    }
+
     private void audit(TracedAuditEvent event) {
-        Level level;
+        logEvent(event, level(event.severity()));
+    }
 
-        switch (event.severity()) {
+    private Level level(AuditEvent.AuditSeverity severity) {
+        switch (severity) {
         case FAILURE:
-            level = failureLevel;
-            break;
+            return failureLevel;
         case SUCCESS:
-            level = successLevel;
-            break;
+            return successLevel;
         case INFO:
-            level = infoLevel;
-            break;
+            return infoLevel;
         case WARN:
-            level = warnLevel;
-            break;
+            return warnLevel;
         case ERROR:
-            level = errorLevel;
-            break;
+            return errorLevel;
         case AUDIT_FAILURE:
         default:
             //audit failure - something wrong with auditing mechanism...
-            level = auditFailureLevel;
-            break;
+            return auditFailureLevel;
         }
-
-        logEvent(event, level);
     }
 
     private void logEvent(TracedAuditEvent event, Level level) {
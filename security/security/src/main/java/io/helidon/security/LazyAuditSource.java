@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.security;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.Stream;
+
+import io.helidon.security.spi.AuditProvider;
+
+/**
+ * Audit source located by {@link SecurityImpl#audit(String, AuditEvent)} before the event is sent to a provider,
+ * or when its information is first requested if all providers receiving the event opted in to lazy location
+ * (see {@link AuditProvider#lazyAuditSource()}).
+ * <p>
+ * The stack is walked from the frame of {@link SecurityImpl#audit(String, AuditEvent)} that created this instance,
+ * so the frames of audit providers are never considered; the located frame is the same as the one
+ * of {@link AuditProvider.AuditSource#create()} invoked from that method.
+ * The stack is only available on the thread that created this instance, when requested lazily on other threads,
+ * the source is unknown.
+ */
+final class LazyAuditSource implements AuditProvider.AuditSource {
+    private static final StackWalker WALKER = StackWalker.getInstance();
+    private static final String AUDIT_CLASS = SecurityImpl.class.getName();
+    private static final String AUDIT_METHOD = "audit";
+
+    private final Thread thread = Thread.currentThread();
+
+    private volatile boolean resolved;
+    private volatile StackWalker.StackFrame frame;
+
+    /**
+     * Locate the source now, if not yet located. Must be invoked from within
+     * {@link SecurityImpl#audit(String, AuditEvent)} for the source to be known.
+     */
+    void resolve() {
+        if (resolved) {
+            return;
+        }
+        if (Thread.currentThread() == thread) {
+            frame = WALKER.walk(LazyAuditSource::findFrame);
+        }
+        resolved = true;
+    }
+
+    @Override
+    public Optional<String> className() {
+        resolve();
+        return (frame == null) ? Optional.empty() : Optional.of(frame.getClassName());
+    }
+
+    @Override
+    public Optional<String> methodName() {
+        resolve();
+        return (frame == null) ? Optional.empty() : Optional.of(frame.getMethodName());
+    }
+
+    @Override
+    public Optional<String> fileName() {
+        resolve();
+        return (frame == null) ? Optional.empty() : Optional.ofNullable(frame.getFileName());
+    }
+
+    @Override
+    public OptionalInt lineNumber() {
+        resolve();
+        return (frame == null || frame.getLineNumber() < 0)
+                ? OptionalInt.empty()
+                : OptionalInt.of(frame.getLineNumber());
+    }
+
+    private static StackWalker.StackFrame findFrame(Stream<StackWalker.StackFrame> stack) {
+        Iterator<StackWalker.StackFrame> frames = stack
+                .dropWhile(f -> !(AUDIT_CLASS.equals(f.getClassName()) && AUDIT_METHOD.equals(f.getMethodName())))
+                .skip(1)
+                .filter(f -> !f.getClassName().startsWith("sun."))
+                .filter(f -> !f.getClassName().startsWith("java."))
+                .iterator();
+
+        StackWalker.StackFrame last = null;
+        while (frames.hasNext()) {
+            StackWalker.StackFrame next = frames.next();
+            // if this is a unit test class, return it
+            if (next.getClassName().endsWith("Test") || !AuditProvider.AuditSource.isSecurityClass(next)) {
+                return next;
+            }
+            last = next;
+        }
+        // only security classes, use the outermost one
+        return last;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -62,37 +62,43 @@ final class OutboundSecurityClientImpl implements SecurityClient<OutboundSecurit
         return providerInstance.outboundSecurity(providerRequest, outboundEnv, outboundEpConfig).thenApply(response -> {
             if (response.status().isSuccess()) {
                 //Audit success
-                context.audit(SecurityAuditEvent.success(AuditEvent.OUTBOUND_TYPE_PREFIX + ".outbound",
-                                                         "Provider %s. Request %s. Subject %s")
-                                      .addParam(AuditEvent.AuditParam
-                                                        .plain("provider", providerInstance.getClass().getName()))
-                                      .addParam(AuditEvent.AuditParam.plain("request", this))
-                                      .addParam(AuditEvent.AuditParam
-                                                        .plain("subject", context.user().orElse(SecurityContext.ANONYMOUS))));
+                if (context.auditEnabled(AuditEvent.AuditSeverity.SUCCESS)) {
+                    context.audit(SecurityAuditEvent.success(AuditEvent.OUTBOUND_TYPE_PREFIX + ".outbound",
+                                                             "Provider %s. Request %s. Subject %s")
+                                          .addParam(AuditEvent.AuditParam
+                                                            .plain("provider", providerInstance.getClass().getName()))
+                                          .addParam(AuditEvent.AuditParam.plain("request", this))
+                                          .addParam(AuditEvent.AuditParam
+                                                            .plain("subject", context.user().orElse(SecurityContext.ANONYMOUS))));
+                }
             } else {
-                context.audit(SecurityAuditEvent.failure(AuditEvent.OUTBOUND_TYPE_PREFIX + ".outbound",
-                                                         "Provider %s, Description %s, Request %s. Subject %s")
-                                      .addParam(AuditEvent.AuditParam
-                                                        .plain("provider", providerInstance.getClass().getName()))
-                                      .addParam(AuditEvent.AuditParam.plain("request", this))
-                                      .addParam(AuditEvent.AuditParam
-                                                        .plain("message", response.description().orElse(null)))
-                                      .addParam(AuditEvent.AuditParam
-                                                        .plain("exception", response.throwable().orElse(null)))
-                                      .addParam(AuditEvent.AuditParam
-                                                        .plain("subject", context.user().orElse(SecurityContext.ANONYMOUS))));
+                if (context.auditEnabled(AuditEvent.AuditSeverity.FAILURE)) {
+                    context.audit(SecurityAuditEvent.failure(AuditEvent.OUTBOUND_TYPE_PREFIX + ".outbound",
+                                                             "Provider %s, Description %s, Request %s. Subject %s")
+                                          .addParam(AuditEvent.AuditParam
+                                                            .plain("provider", providerInstance.getClass().getName()))
+                                          .addParam(AuditEvent.AuditParam.plain("request", this))
+                                          .addParam(AuditEvent.AuditParam
+                                                            .plain("message", response.description().orElse(null)))
+                                          .addParam(AuditEvent.AuditParam
+                                                            .plain("exception", response.throwable().orElse(null)))
+                                          .addParam(AuditEvent.AuditParam
+                                                            .plain("subject", context.user().orElse(SecurityContext.ANONYMOUS))));
+                }
             }
 
             return response;
         }).exceptionally(e -> {
-            context.audit(SecurityAuditEvent.error(AuditEvent.OUTBOUND_TYPE_PREFIX + ".outbound",
-                                                   "Provider %s, Description %s, Request %s. Subject %s")
-                                  .addParam(AuditEvent.AuditParam.plain("provider", providerInstance.getClass().getName()))
-                                  .addParam(AuditEvent.AuditParam.plain("request", this))
-                                  .addParam(AuditEvent.AuditParam.plain("message", e.getMessage()))
-                                  .addParam(AuditEvent.AuditParam.plain("exception", e))
-                                  .addParam(AuditEvent.AuditParam
-                                                    .plain("subject", context.user().orElse(SecurityContext.ANONYMOUS))));
+            if (context.auditEnabled(AuditEvent.AuditSeverity.ERROR)) {
+                context.audit(SecurityAuditEvent.error(AuditEvent.OUTBOUND_TYPE_PREFIX + ".outbound",
+                                                       "Provider %s, Description %s, Request %s. Subject %s")
+                                      .addParam(AuditEvent.AuditParam.plain("provider", providerInstance.getClass().getName()))
+                                      .addParam(AuditEvent.AuditParam.plain("request", this))
+                                      .addParam(AuditEvent.AuditParam.plain("message", e.getMessage()))
+                                      .addParam(AuditEvent.AuditParam.plain("exception", e))
+                                      .addParam(AuditEvent.AuditParam
+                                                        .plain("subject", context.user().orElse(SecurityContext.ANONYMOUS))));
+            }
             throw new SecurityException("Failed to process security", e);
         });
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -306,6 +306,17 @@ public interface Security {
      */
     void audit(String tracingId, AuditEvent event);
 
+    /**
+     * Whether events of the severity would be audited by any of the audit providers.
+     * This allows to skip creation of an audit event that would be ignored.
+     *
+     * @param severity severity of an audit event
+     * @return {@code true} if events of the severity are audited
+     */
+    default boolean auditEnabled(AuditEvent.AuditSeverity severity) {
+        return true;
+    }
+
     /**
      * Configured provider selection policy.
      *
@@ -884,6 +895,16 @@ public interface Security {
                 addAuditProvider(provider);
             }
 
+            Config asyncAuditConfig = config.get("audit.async");
+            if (asyncAuditConfig.get("enabled").asBoolean().orElse(false)) {
+                List<AuditProvider> providers = List.copyOf(auditProviders);
+                auditProviders.clear();
+                providers.forEach(provider -> auditProviders.add(AsyncAuditProvider.builder()
+                                                                         .config(asyncAuditConfig)
+                                                                         .delegate(provider)
+                                                                         .build()));
+            }
+
             if (atnProviders.isEmpty()) {
                 addAuthenticationProvider(context -> CompletableFuture
                         .completedFuture(AuthenticationResponse.success(SecurityContext.ANONYMOUS)), "default");
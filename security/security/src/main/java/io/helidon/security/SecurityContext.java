@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -153,6 +153,17 @@ public interface SecurityContext {
      */
     void audit(AuditEvent event);
 
+    /**
+     * Whether security events of the severity would be audited.
+     * This allows to skip creation of an audit event that would be ignored.
+     *
+     * @param severity severity of an audit event
+     * @return {@code true} if events of the severity are audited
+     */
+    default boolean auditEnabled(AuditEvent.AuditSeverity severity) {
+        return true;
+    }
+
     /**
      * Returns subject of current context (caller) service or client identity.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -179,6 +179,11 @@ final class SecurityContextImpl implements SecurityContext {
         security.audit(tracingId, event);
     }
 
+    @Override
+    public boolean auditEnabled(AuditEvent.AuditSeverity severity) {
+        return security.auditEnabled(severity);
+    }
+
     @Override
     public void runAs(Subject subject, Runnable runnable) {
         audit(SecurityAuditEvent.info(AuditEvent.SECURITY_TYPE_PREFIX + ".runAs",
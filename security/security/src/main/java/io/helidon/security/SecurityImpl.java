@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -64,7 +64,7 @@ final class SecurityImpl implements Security {
     private static final Logger LOGGER = Logger.getLogger(SecurityImpl.class.getName());
 
     private final Collection<Class<? extends Annotation>> annotations = new LinkedList<>();
-    private final List<Consumer<AuditProvider.TracedAuditEvent>> auditors = new LinkedList<>();
+    private final List<Auditor> auditors = new LinkedList<>();
     private final Optional<SubjectMappingProvider> subjectMappingProvider;
     private final String instanceUuid;
     private final ProviderSelectionPolicy providerSelectionPolicy;
@@ -105,7 +105,8 @@ final class SecurityImpl implements Security {
         atnProviders.addAll(builder.atnProviders());
         outboundProviders.addAll(builder.outboundProviders());
 
-        builder.auditProviders().forEach(auditProvider -> auditors.add(auditProvider.auditConsumer()));
+        builder.auditProviders().forEach(auditProvider -> auditors.add(new Auditor(auditProvider,
+                                                                                   auditProvider.auditConsumer())));
 
         audit(instanceUuid, SecurityAuditEvent.info(
                         AuditEvent.SECURITY_TYPE_PREFIX + ".configure",
@@ -295,12 +296,32 @@ final class SecurityImpl implements Security {
 
     @Override
     public void audit(String tracingId, AuditEvent event) {
-        // must build within scope of the audit method, as we want to send our caller...
+        AuditEvent.AuditSeverity severity = event.severity();
+        // must locate within scope of the audit method, as we want to send our caller...
+        // the stack is walked once, and only for providers processing the event
+        LazyAuditSource auditSource = null;
+        for (Auditor auditor : auditors) {
+            AuditProvider provider = auditor.provider();
+            if (provider.severityEnabled(severity)) {
+                if (auditSource == null) {
+                    auditSource = new LazyAuditSource();
+                }
+                if (!provider.lazyAuditSource()) {
+                    auditSource.resolve();
+                }
+                auditor.consumer().accept(SecurityUtil.wrapEvent(tracingId, auditSource, event));
+            }
+        }
+    }
 
-        AuditProvider.AuditSource auditSource = AuditProvider.AuditSource.create();
-        for (Consumer<AuditProvider.TracedAuditEvent> auditor : auditors) {
-            auditor.accept(SecurityUtil.wrapEvent(tracingId, auditSource, event));
+    @Override
+    public boolean auditEnabled(AuditEvent.AuditSeverity severity) {
+        for (Auditor auditor : auditors) {
+            if (auditor.provider().severityEnabled(severity)) {
+                return true;
+            }
         }
+        return false;
     }
 
     @Override
@@ -347,4 +368,6 @@ final class SecurityImpl implements Security {
                 .getSimpleName() + " expected for name \"" + providerName + "\" yet none is configured for such a name");
     }
 
+    private record Auditor(AuditProvider provider, Consumer<AuditProvider.TracedAuditEvent> consumer) {
+    }
 }
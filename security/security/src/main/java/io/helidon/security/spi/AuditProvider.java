@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -47,12 +47,41 @@ import io.helidon.security.AuditEvent;
 public interface AuditProvider extends SecurityProvider {
     /**
      * Return your subscriber for audit events. The method is invoked synchronously, so if you want to have low impact on
-     * performance, you should handle possible asynchronous processing in the provider implementation.
+     * performance, you should handle possible asynchronous processing in the provider implementation
+     * (see {@link io.helidon.security.AsyncAuditProvider}).
+     * <p>
+     * The {@link TracedAuditEvent#auditSource()} is located from the stack of the audited call before the consumer is invoked,
+     * unless the provider opts in to locating it when first used, see {@link #lazyAuditSource()}.
      *
      * @return Consumer that will receive all audit events of this security realm
      */
     Consumer<TracedAuditEvent> auditConsumer();
 
+    /**
+     * Whether events of the severity would be processed by this provider.
+     * This method is invoked for each audit event (and may be invoked before the event is created), so it should be cheap.
+     * Events of a severity that is not enabled are not sent to the {@link #auditConsumer()}.
+     *
+     * @param severity severity of an audit event
+     * @return {@code true} if events of the severity are audited, defaults to {@code true}
+     */
+    default boolean severityEnabled(AuditEvent.AuditSeverity severity) {
+        return true;
+    }
+
+    /**
+     * Whether the {@link TracedAuditEvent#auditSource()} may be located when first requested, instead of before the event
+     * is sent to the {@link #auditConsumer()}.
+     * Locating the source walks the stack of the audited thread, a provider that rarely uses the source may return
+     * {@code true} to skip it; the source must then be requested on the thread invoking the consumer, on other threads
+     * it is unknown.
+     *
+     * @return {@code true} to locate the audit source lazily, defaults to {@code false}
+     */
+    default boolean lazyAuditSource() {
+        return false;
+    }
+
     /**
      * Audit event sent to Audit provider. Wraps tracing id and AuditEvent sent by
      * a component/user.
@@ -67,6 +96,8 @@ public interface AuditProvider extends SecurityProvider {
 
         /**
          * Source of this audit event (class, method, line number etc.).
+         * The source is located before the event is sent to the provider, or when its information is first requested
+         * if the provider opted in to lazy location, see {@link AuditProvider#lazyAuditSource()}.
          *
          * @return Source of the audit event
          */
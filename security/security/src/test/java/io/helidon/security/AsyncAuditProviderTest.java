@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.security;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import io.helidon.config.Config;
+import io.helidon.config.ConfigSources;
+import io.helidon.security.internal.SecurityAuditEvent;
+import io.helidon.security.spi.AuditProvider;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit test for {@link AsyncAuditProvider} and the lazily located audit source.
+ */
+class AsyncAuditProviderTest {
+
+    @Test
+    void testSource() throws InterruptedException {
+        RecordingProvider provider = new RecordingProvider(AuditEvent.AuditSeverity.INFO);
+        SecurityContext context = Security.builder()
+                .addAuditProvider(provider)
+                .build()
+                .createContext("unit-test");
+
+        // located before the event is sent to the provider, available on other threads
+        context.audit(SecurityAuditEvent.info("unit-test", "Message"));
+        AuditProvider.TracedAuditEvent event = provider.events.poll();
+        AtomicReference<Optional<String>> className = new AtomicReference<>();
+        Thread thread = new Thread(() -> className.set(event.auditSource().className()));
+        thread.start();
+        thread.join();
+        assertThat(className.get(), is(Optional.of(AsyncAuditProviderTest.class.getName())));
+        assertAuditedFrom(event, "testSource");
+    }
+
+    @Test
+    void testLazySource() throws InterruptedException {
+        RecordingProvider provider = new RecordingProvider(AuditEvent.AuditSeverity.INFO);
+        provider.lazy = true;
+        SecurityContext context = Security.builder()
+                .addAuditProvider(provider)
+                .build()
+                .createContext("unit-test");
+
+        // consumed synchronously, the source is located on the audited thread
+        provider.locate = true;
+        context.audit(SecurityAuditEvent.info("unit-test", "Message"));
+        assertAuditedFrom(provider.events.poll(), "testLazySource");
+
+        // not located on the audited thread, source is unknown
+        provider.locate = false;
+        context.audit(SecurityAuditEvent.info("unit-test", "Message"));
+        AuditProvider.TracedAuditEvent event = provider.events.poll();
+        Thread thread = new Thread(() -> event.auditSource().className());
+        thread.start();
+        thread.join();
+        assertThat(event.auditSource().className(), is(Optional.empty()));
+    }
+
+    @Test
+    void testSeverityEnabled() {
+        RecordingProvider provider = new RecordingProvider(AuditEvent.AuditSeverity.INFO);
+        SecurityContext context = Security.builder()
+                .addAuditProvider(provider)
+                .build()
+                .createContext("unit-test");
+
+        assertThat(context.auditEnabled(AuditEvent.AuditSeverity.INFO), is(true));
+        assertThat(context.auditEnabled(AuditEvent.AuditSeverity.SUCCESS), is(false));
+
+        context.audit(SecurityAuditEvent.success("unit-test", "Message"));
+        assertThat(provider.events.isEmpty(), is(true));
+    }
+
+    @Test
+    void testAsyncDispatch() throws InterruptedException {
+        RecordingProvider provider = new RecordingProvider(AuditEvent.AuditSeverity.INFO);
+        provider.locate = true;
+        SecurityContext context = Security.builder()
+                .addAuditProvider(AsyncAuditProvider.create(provider))
+                .build()
+                .createContext("unit-test");
+
+        assertThat(context.auditEnabled(AuditEvent.AuditSeverity.SUCCESS), is(false));
+        context.audit(SecurityAuditEvent.info("unit-test", "Message"));
+
+        AuditProvider.TracedAuditEvent event = provider.events.poll(10, TimeUnit.SECONDS);
+        assertThat(provider.thread, is(not(Thread.currentThread())));
+        // located before the event was queued
+        assertAuditedFrom(event, "testAsyncDispatch");
+    }
+
+    @Test
+    void testDroppedEvents() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncAuditProvider provider = AsyncAuditProvider.builder()
+                .delegate(() -> event -> {
+                    if (!event.eventType().equals("unit-test")) {
+                        return;
+                    }
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                })
+                .queueSize(1)
+                .build();
+        SecurityContext context = Security.builder()
+                .addAuditProvider(provider)
+                .build()
+                .createContext("unit-test");
+        // wait for the events of security itself
+        while (provider.queuedEvents() > 0) {
+            Thread.sleep(10);
+        }
+
+        // the first event blocks the dispatching thread, the second is queued
+        context.audit(SecurityAuditEvent.info("unit-test", "Message"));
+        assertThat(started.await(10, TimeUnit.SECONDS), is(true));
+        context.audit(SecurityAuditEvent.info("unit-test", "Message"));
+        context.audit(SecurityAuditEvent.error("unit-test", "Message"));
+        context.audit(SecurityAuditEvent.info("unit-test", "Message"));
+        release.countDown();
+
+        assertThat(provider.droppedEvents(), is(2L));
+        assertThat(provider.droppedEvents(AuditEvent.AuditSeverity.ERROR), is(1L));
+        assertThat(provider.droppedEvents(AuditEvent.AuditSeverity.SUCCESS), is(0L));
+    }
+
+    @Test
+    void testFailedEvents() throws InterruptedException {
+        RecordingProvider recording = new RecordingProvider(AuditEvent.AuditSeverity.INFO);
+        Consumer<AuditProvider.TracedAuditEvent> consumer = recording.auditConsumer();
+        AsyncAuditProvider provider = AsyncAuditProvider.create(() -> event -> {
+            if (event.messageFormat().equals("Failure")) {
+                throw new AssertionError("Failing on purpose");
+            }
+            consumer.accept(event);
+        });
+        SecurityContext context = Security.builder()
+                .addAuditProvider(provider)
+                .build()
+                .createContext("unit-test");
+
+        context.audit(SecurityAuditEvent.info("unit-test", "Failure"));
+        context.audit(SecurityAuditEvent.info("unit-test", "Message"));
+
+        // the dispatching thread survives the failure
+        assertThat(recording.events.poll(10, TimeUnit.SECONDS), is(notNullValue()));
+        assertThat(provider.failedEvents(), is(1L));
+        provider.close();
+    }
+
+    @Test
+    void testClose() throws InterruptedException {
+        RecordingProvider recording = new RecordingProvider(AuditEvent.AuditSeverity.INFO);
+        AsyncAuditProvider provider = AsyncAuditProvider.builder()
+                .delegate(recording)
+                .threadName("unit-test-audit")
+                .build();
+        SecurityContext context = Security.builder()
+                .addAuditProvider(provider)
+                .build()
+                .createContext("unit-test");
+
+        context.audit(SecurityAuditEvent.info("unit-test", "Message"));
+        provider.close();
+
+        // queued before closed, processed by the dispatching thread
+        assertThat(recording.events.poll(10, TimeUnit.SECONDS), is(notNullValue()));
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (auditThreadAlive() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(auditThreadAlive(), is(false));
+
+        // processed on the audited thread once closed
+        context.audit(SecurityAuditEvent.info("unit-test", "Message"));
+        assertThat(recording.events.poll(), is(notNullValue()));
+        assertThat(recording.thread, is(Thread.currentThread()));
+    }
+
+    @Test
+    void testConfig() throws InterruptedException {
+        Config config = Config.builder()
+                .sources(ConfigSources.create(Map.of("security.audit.async.enabled", "true",
+                                                     "security.audit.async.queue-size", "16")))
+                .disableEnvironmentVariablesSource()
+                .disableSystemPropertiesSource()
+                .build();
+        RecordingProvider provider = new RecordingProvider(AuditEvent.AuditSeverity.INFO);
+        SecurityContext context = Security.builder(config.get("security"))
+                .addAuditProvider(provider)
+                .build()
+                .createContext("unit-test");
+
+        context.audit(SecurityAuditEvent.info("unit-test", "Message"));
+
+        assertThat(provider.events.poll(10, TimeUnit.SECONDS), is(notNullValue()));
+        assertThat(provider.thread, is(not(Thread.currentThread())));
+        assertThrows(IllegalArgumentException.class, () -> AsyncAuditProvider.builder()
+                .delegate(provider)
+                .queueSize(0)
+                .build());
+    }
+
+    private static boolean auditThreadAlive() {
+        return Thread.getAllStackTraces()
+                .keySet()
+                .stream()
+                .anyMatch(thread -> thread.getName().equals("unit-test-audit"));
+    }
+
+    private static void assertAuditedFrom(AuditProvider.TracedAuditEvent event, String methodName) {
+        assertThat(event, is(notNullValue()));
+        assertThat(event.auditSource().className(), is(Optional.of(AsyncAuditProviderTest.class.getName())));
+        assertThat(event.auditSource().methodName(), is(Optional.of(methodName)));
+    }
+
+    private static final class RecordingProvider implements AuditProvider {
+        private final BlockingQueue<TracedAuditEvent> events = new LinkedBlockingQueue<>();
+        private final AuditEvent.AuditSeverity enabled;
+        private volatile boolean locate;
+        private volatile boolean lazy;
+        private volatile Thread thread;
+
+        private RecordingProvider(AuditEvent.AuditSeverity enabled) {
+            this.enabled = enabled;
+        }
+
+        @Override
+        public Consumer<TracedAuditEvent> auditConsumer() {
+            return event -> {
+                // ignore the events of security itself
+                if (!event.eventType().equals("unit-test")) {
+                    return;
+                }
+                thread = Thread.currentThread();
+                if (locate) {
+                    event.auditSource().className();
+                }
+                events.add(event);
+            };
+        }
+
+        @Override
+        public boolean severityEnabled(AuditEvent.AuditSeverity severity) {
+            return severity == enabled;
+        }
+
+        @Override
+        public boolean lazyAuditSource() {
+            return lazy;
+        }
+    }
+}
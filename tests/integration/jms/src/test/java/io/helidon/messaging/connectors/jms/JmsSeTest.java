@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,18 +17,22 @@
 package io.helidon.messaging.connectors.jms;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
 
 import io.helidon.common.configurable.ScheduledThreadPoolSupplier;
 import io.helidon.common.reactive.Multi;
 import io.helidon.messaging.Channel;
 import io.helidon.messaging.Messaging;
 
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageProducer;
 import org.apache.activemq.jndi.ActiveMQInitialContextFactory;
 import org.eclipse.microprofile.reactive.messaging.Message;
 import org.junit.jupiter.api.Test;
@@ -130,4 +134,146 @@ public class JmsSeTest extends AbstractJmsTest {
 
         assertThat(threadNameFuture.get(2, TimeUnit.SECONDS), startsWith(testThread));
     }
+
+    @Test
+    void listenerAndProducerPoolTest() throws InterruptedException {
+        final String destination = "listener-pool-test-dest";
+        final String factoryName = "custom-connection-factory-2";
+        final int messages = 200;
+
+        JmsConnector jmsConnector = JmsConnector.builder()
+                .connectionFactory(factoryName, connectionFactory)
+                .build();
+
+        Channel<String> toJms = Channel.<String>builder()
+                .name("to-jms")
+                .subscriberConfig(JmsConnector.configBuilder()
+                        .namedFactory(factoryName)
+                        .destination(destination)
+                        .type(Type.QUEUE)
+                        .producerSessions(4)
+                        .build())
+                .build();
+
+        Channel<String> fromJms = Channel.<String>builder()
+                .name("from-jms")
+                .publisherConfig(JmsConnector.configBuilder()
+                        .namedFactory(factoryName)
+                        .destination(destination)
+                        .type(Type.QUEUE)
+                        .consumerSessions(4)
+                        .build())
+                .build();
+
+        CountDownLatch cdl = new CountDownLatch(messages);
+        List<String> result = Collections.synchronizedList(new ArrayList<>(messages));
+
+        Messaging messaging = Messaging.builder()
+                .connector(jmsConnector)
+                .publisher(toJms, Multi.range(0, messages).map(String::valueOf).map(Message::of))
+                .listener(fromJms, s -> {
+                    result.add(s);
+                    cdl.countDown();
+                })
+                .build()
+                .start();
+
+        try {
+            assertThat(cdl.await(10, TimeUnit.SECONDS), is(true));
+            assertThat(result, containsInAnyOrder(IntStream.range(0, messages).mapToObj(String::valueOf).toArray()));
+        } finally {
+            messaging.stop();
+        }
+    }
+
+    @Test
+    void listenerAndPollingDrainQueue() throws Exception {
+        final int messages = 500;
+        drainQueue("poll-drain-test-dest", messages, JmsConnector.configBuilder()
+                .periodExecutions(1));
+        drainQueue("listener-drain-test-dest", messages, JmsConnector.configBuilder()
+                .consumerSessions(4));
+    }
+
+    @Test
+    void listenerDoesNotLoseMessagesWhenCancelled() throws Exception {
+        final String destination = "listener-cancel-test-dest";
+        final String factoryName = "custom-connection-factory-3";
+        final int messages = 50;
+        final int received = 10;
+        try (MessageProducer producer = session.createProducer(session.createQueue(destination))) {
+            for (int i = 0; i < messages; i++) {
+                producer.send(session.createTextMessage(String.valueOf(i)));
+            }
+        }
+
+        Channel<String> fromJms = Channel.<String>builder()
+                .name("from-jms")
+                .publisherConfig(JmsConnector.configBuilder()
+                        .namedFactory(factoryName)
+                        .destination(destination)
+                        .type(Type.QUEUE)
+                        .consumerSessions(4)
+                        .build())
+                .build();
+
+        CountDownLatch cdl = new CountDownLatch(received);
+        Messaging messaging = Messaging.builder()
+                .connector(JmsConnector.builder()
+                        .connectionFactory(factoryName, connectionFactory)
+                        .build())
+                .subscriber(fromJms, multi -> multi.limit(received)
+                        .forEach(m -> {
+                            m.ack();
+                            cdl.countDown();
+                        }))
+                .build()
+                .start();
+        try {
+            assertThat(cdl.await(10, TimeUnit.SECONDS), is(true));
+        } finally {
+            messaging.stop();
+        }
+
+        // Messages not emitted before the channel was cancelled are left in the queue
+        int left = 0;
+        try (MessageConsumer consumer = session.createConsumer(session.createQueue(destination))) {
+            while (consumer.receive(1000) != null) {
+                left++;
+            }
+        }
+        assertThat(left, is(messages - received));
+    }
+
+    private void drainQueue(String destination, int messages, JmsConfigBuilder configBuilder) throws Exception {
+        final String factoryName = "custom-connection-factory-" + destination;
+        try (MessageProducer producer = session.createProducer(session.createQueue(destination))) {
+            for (int i = 0; i < messages; i++) {
+                producer.send(session.createTextMessage(String.valueOf(i)));
+            }
+        }
+
+        Channel<String> fromJms = Channel.<String>builder()
+                .name("from-jms")
+                .publisherConfig(configBuilder
+                        .namedFactory(factoryName)
+                        .destination(destination)
+                        .type(Type.QUEUE)
+                        .build())
+                .build();
+
+        CountDownLatch cdl = new CountDownLatch(messages);
+        Messaging messaging = Messaging.builder()
+                .connector(JmsConnector.builder()
+                        .connectionFactory(factoryName, connectionFactory)
+                        .build())
+                .listener(fromJms, s -> cdl.countDown())
+                .build()
+                .start();
+        try {
+            assertThat(cdl.await(30, TimeUnit.SECONDS), is(true));
+        } finally {
+            messaging.stop();
+        }
+    }
 }
@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.messaging.connectors.kafka;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.config.Config;
+import io.helidon.config.ConfigSources;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Tests partition-parallel consumption of {@link KafkaPublisher} with a {@link MockConsumer}.
+ */
+class KafkaPartitionParallelTest {
+
+    private static final String TOPIC = "partition-parallel-topic";
+    private static final TopicPartition PARTITION_0 = new TopicPartition(TOPIC, 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition(TOPIC, 1);
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    private MockConsumer<String, Long> consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.schedulePollTask(() -> {
+            consumer.rebalance(List.of(PARTITION_0, PARTITION_1));
+            consumer.updateBeginningOffsets(Map.of(PARTITION_0, 0L, PARTITION_1, 0L));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void slowPartitionDoesNotStallOthers() throws Exception {
+        TestSubscriber subscriber = subscribe(publisher(1, Integer.MAX_VALUE, 1000));
+        addRecords(PARTITION_0, 10);
+        addRecords(PARTITION_1, 10);
+
+        // messages of partition 0 are never acknowledged, partition 1 is processed completely
+        List<Long> partition1 = new ArrayList<>();
+        KafkaMessage<String, Long> slow = null;
+        while (partition1.size() < 10) {
+            KafkaMessage<String, Long> message = subscriber.next();
+            if (message.getPartition().get() == 0) {
+                assertThat("Only one message of the slow partition can be in flight", slow, nullValue());
+                slow = message;
+            } else {
+                partition1.add(message.getOffset().get());
+                message.ack().toCompletableFuture().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+        }
+        assertThat(partition1, contains(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L));
+        assertThat(slow, notNullValue());
+        assertThat(slow.getOffset().get(), is(0L));
+        assertThat(committed(PARTITION_1), is(10L));
+        assertThat(committed(PARTITION_0), nullValue());
+
+        // once acknowledged, the slow partition continues in order
+        slow.ack();
+        assertThat(subscriber.next().getOffset().get(), is(1L));
+    }
+
+    @Test
+    void contiguousOffsetsCommitted() throws Exception {
+        TestSubscriber subscriber = subscribe(publisher(3, Integer.MAX_VALUE, 1000));
+        addRecords(PARTITION_0, 5);
+
+        KafkaMessage<String, Long> first = subscriber.next();
+        KafkaMessage<String, Long> second = subscriber.next();
+        KafkaMessage<String, Long> third = subscriber.next();
+        assertThat(subscriber.poll(), nullValue());
+        assertThat(List.of(first.getOffset().get(), second.getOffset().get(), third.getOffset().get()),
+                   contains(0L, 1L, 2L));
+
+        // out of order acknowledgement frees a slot, but cannot be committed yet
+        second.ack();
+        assertThat(subscriber.next().getOffset().get(), is(3L));
+        assertThat(committed(PARTITION_0), nullValue());
+
+        first.ack().toCompletableFuture().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(committed(PARTITION_0), is(2L));
+    }
+
+    @Test
+    void concurrencyLimitsActivePartitions() throws Exception {
+        TestSubscriber subscriber = subscribe(publisher(1, 1, 1000));
+        addRecords(PARTITION_0, 1);
+        addRecords(PARTITION_1, 1);
+
+        KafkaMessage<String, Long> first = subscriber.next();
+        assertThat(subscriber.poll(), nullValue());
+        first.ack();
+        KafkaMessage<String, Long> second = subscriber.next();
+        assertThat(second.getPartition().get(), is(first.getPartition().get() == 0 ? 1 : 0));
+    }
+
+    @Test
+    void autoCommitLimitsInFlight() throws Exception {
+        TestSubscriber subscriber = subscribe(publisher(1, Integer.MAX_VALUE, 1000, true));
+        addRecords(PARTITION_0, 3);
+
+        KafkaMessage<String, Long> first = subscriber.next();
+        assertThat(first.getOffset().get(), is(0L));
+        assertThat("Only one message of the partition can be in flight", subscriber.poll(), nullValue());
+
+        first.ack().toCompletableFuture().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(subscriber.next().getOffset().get(), is(1L));
+        assertThat(committed(PARTITION_0), nullValue());
+    }
+
+    @Test
+    void fullPartitionPaused() throws Exception {
+        TestSubscriber subscriber = subscribe(publisher(1, Integer.MAX_VALUE, 4));
+        addRecords(PARTITION_0, 10);
+        addRecords(PARTITION_1, 2);
+
+        KafkaMessage<String, Long> message = subscriber.next();
+        awaitPaused(Set.of(PARTITION_0));
+        // each acknowledgement lets one more message of the partition through, until it is resumed
+        while (message.getPartition().get() != 0 || message.getOffset().get() < 7) {
+            message.ack();
+            message = subscriber.next();
+        }
+        awaitPaused(Set.of());
+    }
+
+    @Test
+    void logOnlyNackReleasesPartition() throws Exception {
+        Config config = Config.just(ConfigSources.create(Map.of("nack-log-only", "true")));
+        TestSubscriber subscriber = subscribe(publisher(1, Integer.MAX_VALUE, 1000, false, config));
+        addRecords(PARTITION_0, 3);
+
+        KafkaMessage<String, Long> first = subscriber.next();
+        assertThat(subscriber.poll(), nullValue());
+
+        // ignored message is processed, so it neither stalls its partition nor the commits after it
+        first.nack(new Exception("BOOM!")).toCompletableFuture().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        KafkaMessage<String, Long> second = subscriber.next();
+        assertThat(second.getOffset().get(), is(1L));
+
+        second.ack().toCompletableFuture().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(committed(PARTITION_0), is(2L));
+    }
+
+    private KafkaPublisher<String, Long> publisher(int maxInFlight, int concurrency, int bufferSize) {
+        return publisher(maxInFlight, concurrency, bufferSize, false);
+    }
+
+    private KafkaPublisher<String, Long> publisher(int maxInFlight, int concurrency, int bufferSize, boolean autoCommit) {
+        return publisher(maxInFlight, concurrency, bufferSize, autoCommit, Config.empty());
+    }
+
+    private KafkaPublisher<String, Long> publisher(int maxInFlight,
+                                                   int concurrency,
+                                                   int bufferSize,
+                                                   boolean autoCommit,
+                                                   Config config) {
+        return KafkaPublisher.<String, Long>builder()
+                .config(config)
+                .scheduler(scheduler)
+                .consumerSupplier(() -> consumer)
+                .topics(List.of(TOPIC))
+                .pollTimeout(1L)
+                .periodExecutions(5L)
+                .autoCommit(autoCommit)
+                .ackTimeout(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS))
+                .partitionParallel(true)
+                .partitionMaxInFlight(maxInFlight)
+                .partitionConcurrency(concurrency)
+                .partitionBufferSize(bufferSize)
+                .build();
+    }
+
+    private TestSubscriber subscribe(KafkaPublisher<String, Long> publisher) throws Exception {
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+        publisher.waitForPartitionAssigment(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        return subscriber;
+    }
+
+    private void addRecords(TopicPartition partition, int count) {
+        for (long i = 0; i < count; i++) {
+            consumer.addRecord(new ConsumerRecord<>(TOPIC, partition.partition(), i, "key", i));
+        }
+    }
+
+    private Long committed(TopicPartition partition) {
+        OffsetAndMetadata offset = consumer.committed(Set.of(partition)).get(partition);
+        return offset == null ? null : offset.offset();
+    }
+
+    private void awaitPaused(Set<TopicPartition> expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS);
+        while (!consumer.paused().equals(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(consumer.paused(), is(expected));
+    }
+
+    private static final class TestSubscriber implements Subscriber<KafkaMessage<String, Long>> {
+        private final BlockingQueue<KafkaMessage<String, Long>> received = new LinkedBlockingQueue<>();
+        private final Map<Integer, Long> lastOffsets = new HashMap<>();
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(KafkaMessage<String, Long> message) {
+            // records of a partition must be emitted in order
+            Long last = lastOffsets.put(message.getPartition().get(), message.getOffset().get());
+            if (last != null && last + 1 != message.getOffset().get()) {
+                throw new IllegalStateException("Out of order message " + message.getOffset().get()
+                                                        + " after " + last);
+            }
+            received.add(message);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+        }
+
+        private KafkaMessage<String, Long> next() throws InterruptedException {
+            KafkaMessage<String, Long> message = received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertThat("Message expected, received so far " + lastOffsets, message, notNullValue());
+            return message;
+        }
+
+        private KafkaMessage<String, Long> poll() throws InterruptedException {
+            return received.poll(200, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,8 +28,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.logging.Handler;
 import java.util.logging.Level;
@@ -48,6 +52,9 @@ import io.helidon.messaging.connectors.kafka.AbstractSampleBean.Channel6;
 import io.helidon.messaging.connectors.kafka.AbstractSampleBean.Channel8;
 
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.common.header.Header;
 import org.apache.kafka.common.serialization.IntegerDeserializer;
 import org.apache.kafka.common.serialization.IntegerSerializer;
@@ -59,6 +66,9 @@ import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
@@ -68,6 +78,7 @@ import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 public class KafkaSeTest extends AbstractKafkaTest {
     private static final Logger LOGGER = Logger.getLogger(KafkaSeTest.class.getName());
@@ -83,6 +94,8 @@ public class KafkaSeTest extends AbstractKafkaTest {
     private static final String TEST_SE_TOPIC_7 = "special-se-topic-7";
     private static final String TEST_SE_TOPIC_8 = "special-se-topic-8";
     private static final String TEST_SE_TOPIC_9 = "special-se-topic-9";
+    private static final String TEST_SE_TOPIC_10 = "special-se-topic-10";
+    private static final String TEST_SE_TOPIC_11 = "special-se-topic-11";
     private static final String TEST_SE_TOPIC_PATTERN_34 = "special-se-topic-[3-4]";
 
     static Logger nackHandlerLogLogger = Logger.getLogger(KafkaNackHandler.Log.class.getName());
@@ -123,6 +136,8 @@ public class KafkaSeTest extends AbstractKafkaTest {
         kafkaResource.getKafkaTestUtils().createTopic(TEST_SE_TOPIC_7, 2, (short) 1);
         kafkaResource.getKafkaTestUtils().createTopic(TEST_SE_TOPIC_8, 2, (short) 1);
         kafkaResource.getKafkaTestUtils().createTopic(TEST_SE_TOPIC_9, 2, (short) 1);
+        kafkaResource.getKafkaTestUtils().createTopic(TEST_SE_TOPIC_10, 4, (short) 1);
+        kafkaResource.getKafkaTestUtils().createTopic(TEST_SE_TOPIC_11, 4, (short) 1);
         KAFKA_SERVER = kafkaResource.getKafkaConnectString();
     }
 
@@ -674,6 +689,133 @@ public class KafkaSeTest extends AbstractKafkaTest {
         }
     }
 
+    @Test
+    void consumeKafkaPartitionParallel() throws InterruptedException {
+        final int partitions = 4;
+        final int perPartition = 100;
+        final long processingMillis = 5;
+        for (int partition = 0; partition < partitions; partition++) {
+            Map<byte[], byte[]> rawTestData = IntStream.range(0, perPartition)
+                    .mapToObj(String::valueOf)
+                    .collect(Collectors.toMap(String::getBytes, String::getBytes));
+            kafkaResource.getKafkaTestUtils().produceRecords(rawTestData, TEST_SE_TOPIC_10, partition);
+        }
+
+        CountDownLatch countDownLatch = new CountDownLatch(partitions * perPartition);
+        Map<Integer, List<Long>> processed = new ConcurrentHashMap<>();
+        AtomicInteger inProcessing = new AtomicInteger();
+        AtomicInteger maxInProcessing = new AtomicInteger();
+        ScheduledExecutorService processingExecutor = Executors.newScheduledThreadPool(partitions);
+
+        Channel<String> fromKafka = Channel.<String>builder()
+                .name("from-kafka")
+                .publisherConfig(KafkaConnector.configBuilder()
+                        .bootstrapServers(KAFKA_SERVER)
+                        .groupId("test-group-parallel")
+                        .topic(TEST_SE_TOPIC_10)
+                        .autoOffsetReset(KafkaConfigBuilder.AutoOffsetReset.EARLIEST)
+                        .enableAutoCommit(false)
+                        .partitionParallel(true)
+                        .partitionMaxInFlight(1)
+                        .keyDeserializer(StringDeserializer.class)
+                        .valueDeserializer(StringDeserializer.class)
+                        .build()
+                )
+                .build();
+
+        // slow asynchronous processing, messages of different partitions are processed concurrently
+        Messaging messaging = Messaging.builder()
+                .connector(KafkaConnector.create())
+                .subscriber(fromKafka, multi -> multi.forEach(message -> {
+                    maxInProcessing.accumulateAndGet(inProcessing.incrementAndGet(), Math::max);
+                    processingExecutor.schedule(() -> {
+                        KafkaMessage<?, ?> kafkaMessage = (KafkaMessage<?, ?>) message;
+                        processed.computeIfAbsent(kafkaMessage.getPartition().get(), it -> new ArrayList<>())
+                                .add(kafkaMessage.getOffset().get());
+                        inProcessing.decrementAndGet();
+                        message.ack();
+                        countDownLatch.countDown();
+                    }, processingMillis, TimeUnit.MILLISECONDS);
+                }))
+                .build();
+
+        try {
+            long start = System.nanoTime();
+            messaging.start();
+            assertThat(countDownLatch.await(TIMEOUT.toSeconds(), TimeUnit.SECONDS), is(true));
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            LOGGER.info(() -> String.format("Processed %d messages in %d ms, %d messages in parallel at most",
+                                            partitions * perPartition, millis, maxInProcessing.get()));
+        } finally {
+            messaging.stop();
+            processingExecutor.shutdownNow();
+        }
+
+        // each partition is processed in order, one message at a time
+        assertThat(processed.keySet(), hasSize(partitions));
+        processed.values().forEach(offsets -> assertThat(offsets, contains(LongStream.range(0, perPartition)
+                                                                                  .boxed()
+                                                                                  .toArray())));
+        assertThat(maxInProcessing.get(), greaterThan(1));
+        assertThat(maxInProcessing.get(), lessThanOrEqualTo(partitions));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sendToKafkaInFlightWindow() throws InterruptedException {
+        final int messages = 5000;
+        for (int maxInFlight : new int[] {1, 16, 256}) {
+            Config config = KafkaConnector.configBuilder()
+                    .bootstrapServers(KAFKA_SERVER)
+                    .topic(TEST_SE_TOPIC_11)
+                    .acks("all")
+                    .maxInFlightMessages(maxInFlight)
+                    .property("linger.ms", "5")
+                    .keySerializer(LongSerializer.class)
+                    .valueSerializer(IntegerSerializer.class)
+                    .build();
+
+            // counts the sends that did not complete yet
+            AtomicInteger inFlight = new AtomicInteger();
+            AtomicInteger maxSeenInFlight = new AtomicInteger();
+            Producer<Long, Integer> kafkaProducer = new KafkaProducer<>(KafkaConfig.create(config).asMap());
+            Producer<Long, Integer> producer = Mockito.mock(Producer.class, AdditionalAnswers.delegatesTo(kafkaProducer));
+            Mockito.doAnswer(invocation -> {
+                maxSeenInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                Callback callback = invocation.getArgument(1);
+                return kafkaProducer.send(invocation.getArgument(0), (metadata, exception) -> {
+                    inFlight.decrementAndGet();
+                    callback.onCompletion(metadata, exception);
+                });
+            }).when(producer).send(ArgumentMatchers.any(), ArgumentMatchers.any());
+
+            KafkaSubscriber<Long, Integer> subscriber = KafkaSubscriber.<Long, Integer>builder()
+                    .config(config)
+                    .producerSupplier(() -> producer)
+                    .build();
+
+            CountDownLatch countDownLatch = new CountDownLatch(messages);
+            List<Integer> acked = Collections.synchronizedList(new ArrayList<>());
+            ReactiveStreams.fromIterable(IntStream.range(0, messages).boxed().collect(Collectors.toList()))
+                    .map(i -> Message.of(i, () -> {
+                        acked.add(i);
+                        countDownLatch.countDown();
+                        return CompletableFuture.completedFuture(null);
+                    }))
+                    .to(subscriber)
+                    .run();
+
+            assertThat(countDownLatch.await(TIMEOUT.toSeconds(), TimeUnit.SECONDS), is(true));
+            // acknowledged in the order the messages were published
+            assertThat(acked, contains(IntStream.range(0, messages).boxed().toArray()));
+            // the window is filled, and never exceeded
+            assertThat(maxSeenInFlight.get(), lessThanOrEqualTo(maxInFlight));
+            if (maxInFlight > 1) {
+                assertThat(maxSeenInFlight.get(), greaterThan(1));
+            }
+        }
+    }
+
     List<String> consumerWithNack(Config c, String topic, String lastExpectedValue) {
         Map<String, String> testData = IntStream.rangeClosed(0, 10)
                 .boxed()
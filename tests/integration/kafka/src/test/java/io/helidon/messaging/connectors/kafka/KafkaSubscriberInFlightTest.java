@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.messaging.connectors.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.reactivestreams.Subscription;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+/**
+ * Tests the in-flight window of {@link KafkaSubscriber}.
+ */
+class KafkaSubscriberInFlightTest {
+
+    private final List<Callback> callbacks = new ArrayList<>();
+    private final List<String> acked = new ArrayList<>();
+    private final List<String> nacked = new ArrayList<>();
+    private Producer<Object, String> producer;
+    private Subscription subscription;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        producer = Mockito.mock(Producer.class);
+        Mockito.when(producer.send(ArgumentMatchers.any(ProducerRecord.class), ArgumentMatchers.any(Callback.class)))
+                .then(invocation -> {
+                    callbacks.add(invocation.getArgument(1));
+                    return new CompletableFuture<>();
+                });
+        subscription = Mockito.mock(Subscription.class);
+    }
+
+    @Test
+    void acknowledgedInOrder() {
+        KafkaSubscriber<Object, String> subscriber = subscriber(3);
+        subscriber.onSubscribe(subscription);
+        Mockito.verify(subscription).request(3);
+
+        subscriber.onNext(message("1"));
+        subscriber.onNext(message("2"));
+        subscriber.onNext(message("3"));
+        Mockito.verify(producer, Mockito.times(3))
+                .send(ArgumentMatchers.any(), ArgumentMatchers.any());
+
+        // second completes first, it waits for the first one
+        callbacks.get(1).onCompletion(null, null);
+        assertThat(acked, empty());
+        Mockito.verify(subscription, Mockito.never()).request(ArgumentMatchers.longThat(n -> n != 3));
+
+        callbacks.get(0).onCompletion(null, null);
+        assertThat(acked, contains("1", "2"));
+        Mockito.verify(subscription).request(2);
+
+        callbacks.get(2).onCompletion(null, null);
+        assertThat(acked, contains("1", "2", "3"));
+        Mockito.verify(subscription).request(1);
+    }
+
+    @Test
+    void failedSendNacked() {
+        KafkaSubscriber<Object, String> subscriber = subscriber(2);
+        subscriber.onSubscribe(subscription);
+
+        subscriber.onNext(message("1"));
+        subscriber.onNext(message("2"));
+        callbacks.get(1).onCompletion(null, null);
+        callbacks.get(0).onCompletion(null, new IllegalStateException("test error"));
+
+        Mockito.verify(subscription).cancel();
+        assertThat(nacked, contains("1"));
+        assertThat(acked, contains("2"));
+    }
+
+    private KafkaSubscriber<Object, String> subscriber(int maxInFlight) {
+        return KafkaSubscriber.<Object, String>builder()
+                .producerSupplier(() -> producer)
+                .topics(List.of("topic"))
+                .maxInFlightMessages(maxInFlight)
+                .build();
+    }
+
+    private Message<String> message(String payload) {
+        return Message.of(payload,
+                          () -> {
+                              acked.add(payload);
+                              return CompletableFuture.completedFuture(null);
+                          },
+                          throwable -> {
+                              nacked.add(payload);
+                              return CompletableFuture.completedFuture(null);
+                          });
+    }
+}
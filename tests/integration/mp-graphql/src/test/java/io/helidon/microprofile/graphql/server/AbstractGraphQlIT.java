@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -97,6 +97,9 @@ class AbstractGraphQlIT extends AbstractGraphQLTest {
     protected Schema createSchema() {
         return SchemaGenerator.builder()
                 .classes(classes)
+                .maxBatchSize(ConfigProvider.getConfig()
+                                      .getOptionalValue("graphql.max-batch-size", Integer.class)
+                                      .orElse(SchemaGenerator.DEFAULT_MAX_BATCH_SIZE))
                 .build()
                 .generateSchema();
     }
@@ -118,8 +121,16 @@ class AbstractGraphQlIT extends AbstractGraphQLTest {
                 .flatMap(Arrays::stream)
                 .forEach(builder::addBlacklistedException);
 
+        config.getOptionalValue("graphql.max-query-depth", Integer.class).ifPresent(builder::maxQueryDepth);
+        config.getOptionalValue("graphql.max-query-fields", Integer.class).ifPresent(builder::maxQueryFields);
+        config.getOptionalValue("graphql.max-query-cost", Integer.class).ifPresent(builder::maxQueryCost);
+
+        Schema schema = createSchema();
+        schema.fieldCosts().forEach((type, fields) -> fields.forEach(
+                (field, cost) -> builder.fieldCost(type, field, cost)));
+
         return builder
-                .schema(createSchema().generateGraphQLSchema())
+                .schema(schema.generateGraphQLSchema())
                 .build();
     }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.microprofile.graphql.server;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import io.helidon.graphql.server.InvocationHandler;
+import io.helidon.microprofile.graphql.server.test.db.TestDB;
+import io.helidon.microprofile.graphql.server.test.queries.SimpleQueriesWithBatchSource;
+import io.helidon.microprofile.graphql.server.test.types.SimpleContact;
+import io.helidon.microprofile.tests.junit5.AddBean;
+import io.helidon.microprofile.tests.junit5.AddConfig;
+
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link org.eclipse.microprofile.graphql.Source} methods that accept a List of sources.
+ */
+@AddBean(SimpleQueriesWithBatchSource.class)
+@AddBean(TestDB.class)
+@AddConfig(key = "graphql.max-batch-size", value = "100")
+class BatchSourceIT extends AbstractGraphQlCdiIT {
+    private static final Logger LOGGER = Logger.getLogger(BatchSourceIT.class.getName());
+    private static final int CONTACTS = 500;
+
+    @Inject
+    BatchSourceIT(GraphQlCdiExtension graphQlCdiExtension) {
+        super(graphQlCdiExtension);
+    }
+
+    @BeforeEach
+    void resetCalls() {
+        SimpleQueriesWithBatchSource.resetCalls();
+    }
+
+    @Test
+    void testBatchedSource() throws IOException {
+        setupIndex(indexFileName, SimpleQueriesWithBatchSource.class, SimpleContact.class);
+        InvocationHandler executionContext = createInvocationHandler();
+
+        long start = System.nanoTime();
+        List<Map<String, Object>> contacts = contacts(executionContext, "{ contacts(count: " + CONTACTS + ") { batchedName } }");
+        long batchedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(contacts.size(), is(CONTACTS));
+        for (int i = 0; i < CONTACTS; i++) {
+            assertThat(contacts.get(i).get("batchedName"), is("Name-" + i));
+        }
+        // one call for each 100 contacts, as configured by graphql.max-batch-size
+        assertThat(SimpleQueriesWithBatchSource.batchCalls(), is(CONTACTS / 100));
+        assertThat(SimpleQueriesWithBatchSource.singleCalls(), is(0));
+
+        start = System.nanoTime();
+        contacts = contacts(executionContext, "{ contacts(count: " + CONTACTS + ") { singleName } }");
+        long singleMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(contacts.size(), is(CONTACTS));
+        assertThat(SimpleQueriesWithBatchSource.singleCalls(), is(CONTACTS));
+
+        LOGGER.info(() -> CONTACTS + " contacts with " + SimpleQueriesWithBatchSource.BACKEND_LATENCY_MILLIS
+                + " ms backend latency: batched " + SimpleQueriesWithBatchSource.batchCalls() + " calls in "
+                + batchedMillis + " ms, single " + SimpleQueriesWithBatchSource.singleCalls() + " calls in "
+                + singleMillis + " ms");
+    }
+
+    @Test
+    void testBatchedSourceWithArguments() throws IOException {
+        setupIndex(indexFileName, SimpleQueriesWithBatchSource.class, SimpleContact.class);
+        InvocationHandler executionContext = createInvocationHandler();
+
+        List<Map<String, Object>> contacts = contacts(executionContext, "{ contacts(count: 10) "
+                + "{ hi: greeting(prefix: \"Hi\") hello: greeting(prefix: \"Hello\") } }");
+
+        assertThat(contacts.size(), is(10));
+        for (int i = 0; i < 10; i++) {
+            assertThat(contacts.get(i).get("hi"), is("Hi Name-" + i));
+            assertThat(contacts.get(i).get("hello"), is("Hello Name-" + i));
+        }
+        // sources requested with different arguments are loaded by separate calls
+        assertThat(SimpleQueriesWithBatchSource.batchCalls(), is(2));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> contacts(InvocationHandler executionContext, String query) {
+        Map<String, Object> mapResults = getAndAssertResult(executionContext.execute(query));
+        return (List<Map<String, Object>>) mapResults.get("contacts");
+    }
+}
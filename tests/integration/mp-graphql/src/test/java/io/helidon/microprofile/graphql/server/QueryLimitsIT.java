@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.microprofile.graphql.server;
+
+import java.io.IOException;
+import java.util.Map;
+
+import io.helidon.graphql.server.InvocationHandler;
+import io.helidon.metrics.api.RegistryFactory;
+import io.helidon.microprofile.graphql.server.test.queries.QueriesWithCost;
+import io.helidon.microprofile.graphql.server.test.types.SimpleContact;
+import io.helidon.microprofile.tests.junit5.AddBean;
+import io.helidon.microprofile.tests.junit5.AddConfig;
+
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.SimpleTimer;
+import org.eclipse.microprofile.metrics.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for query limits and field costs defined by {@link Cost}.
+ */
+@AddBean(QueriesWithCost.class)
+@AddConfig(key = "graphql.max-query-cost", value = "25")
+@AddConfig(key = "graphql.max-query-depth", value = "2")
+@AddConfig(key = "graphql.metrics-operations", value = "Contacts")
+class QueryLimitsIT extends AbstractGraphQlCdiIT {
+
+    @Inject
+    QueryLimitsIT(GraphQlCdiExtension graphQlCdiExtension) {
+        super(graphQlCdiExtension);
+    }
+
+    @Test
+    void testFieldCosts() throws IOException {
+        setupIndex(indexFileName, QueriesWithCost.class, SimpleContact.class);
+        Map<String, Map<String, Integer>> fieldCosts = createSchema().fieldCosts();
+
+        assertThat(fieldCosts.get("Query").get("contacts"), is(10));
+        assertThat(fieldCosts.get("Query").containsKey("contact"), is(false));
+        assertThat(fieldCosts.get("SimpleContact").get("expensiveName"), is(20));
+    }
+
+    @Test
+    void testQueryLimits() throws IOException {
+        setupIndex(indexFileName, QueriesWithCost.class, SimpleContact.class);
+        InvocationHandler executionContext = createInvocationHandler();
+
+        // 10 + 1 + 1
+        getAndAssertResult(executionContext.execute("query Contacts { contacts(count: 100) { id name } }"));
+        // 1 + 20
+        getAndAssertResult(executionContext.execute("{ contact { expensiveName } }"));
+        // 10 + 20
+        assertMessageValue("{ contacts(count: 1) { expensiveName } }",
+                           "Query exceeds the maximal cost of 25", false);
+        // limits apply to introspection queries as well
+        assertMessageValue("{ __schema { types { name } } }",
+                           "Query exceeds the maximal depth of 2", false);
+
+        MetricRegistry registry = RegistryFactory.getInstance().getRegistry(MetricRegistry.Type.VENDOR);
+        Tag operation = new Tag("operation", "Contacts");
+        SimpleTimer time = registry.getSimpleTimers().get(new MetricID("graphql.operation.time", operation));
+        Counter rejected = registry.getCounters().get(new MetricID("graphql.operation.rejected", operation));
+        assertThat(time.getCount(), is(1L));
+        assertThat(rejected.getCount(), is(0L));
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.reactive;
+
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import org.reactivestreams.tck.TestEnvironment;
+import org.reactivestreams.tck.flow.FlowPublisherVerification;
+
+public class MultiBufferWeightTckTest extends FlowPublisherVerification<List<Long>> {
+
+    public MultiBufferWeightTckTest() {
+        super(new TestEnvironment(200));
+    }
+
+    @Override
+    public Flow.Publisher<List<Long>> createFlowPublisher(long l) {
+        // every other item closes a buffer by weight
+        return Multi.rangeLong(0, l * 2).buffer(10, 2, it -> 1);
+    }
+
+    @Override
+    public Flow.Publisher<List<Long>> createFailedFlowPublisher() {
+        return null;
+    }
+
+    @Override
+    public long maxElementsFromPublisher() {
+        return 10;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.tracing;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Per operation sampler, re-computing the sampling probability of each operation every second
+ * from its observed rate, so each operation is sampled about {@code tracesPerSecond} times per second.
+ * <p>
+ * To bound memory when operation names have high cardinality (such as paths with identifiers),
+ * operations over {@code maxOperations} share a single sampler.
+ */
+final class AdaptiveSampler implements Sampler {
+    static final int DEFAULT_MAX_OPERATIONS = 1000;
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Map<String, OperationSampler> operations = new ConcurrentHashMap<>();
+    private final double tracesPerSecond;
+    private final int maxOperations;
+    private final LongSupplier clock;
+    private final OperationSampler overflow;
+
+    AdaptiveSampler(double tracesPerSecond, int maxOperations) {
+        this(tracesPerSecond, maxOperations, System::nanoTime);
+    }
+
+    AdaptiveSampler(double tracesPerSecond, int maxOperations, LongSupplier clock) {
+        if (tracesPerSecond <= 0) {
+            throw new IllegalArgumentException("Traces per second must be positive, but is " + tracesPerSecond);
+        }
+        this.tracesPerSecond = tracesPerSecond;
+        this.maxOperations = maxOperations;
+        this.clock = clock;
+        this.overflow = new OperationSampler(clock.getAsLong());
+    }
+
+    @Override
+    public boolean sample(String operation) {
+        OperationSampler sampler = operations.get(operation);
+        if (sampler == null) {
+            if (operations.size() >= maxOperations) {
+                sampler = overflow;
+            } else {
+                sampler = operations.computeIfAbsent(operation, it -> new OperationSampler(clock.getAsLong()));
+            }
+        }
+        return sampler.sample(clock.getAsLong());
+    }
+
+    @Override
+    public String toString() {
+        return "adaptive(" + tracesPerSecond + "/s per operation)";
+    }
+
+    private final class OperationSampler {
+        private final AtomicLong windowStart;
+        private final LongAdder invocations = new LongAdder();
+        private volatile double probability = 1.0;
+
+        private OperationSampler(long now) {
+            this.windowStart = new AtomicLong(now);
+        }
+
+        boolean sample(long now) {
+            long start = windowStart.get();
+            long elapsed = now - start;
+            if (elapsed >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+                double perSecond = invocations.sumThenReset() * (double) WINDOW_NANOS / elapsed;
+                probability = (perSecond <= tracesPerSecond) ? 1.0 : tracesPerSecond / perSecond;
+            }
+            invocations.increment();
+
+            double current = probability;
+            return current >= 1.0 || ThreadLocalRandom.current().nextDouble() < current;
+        }
+    }
+}
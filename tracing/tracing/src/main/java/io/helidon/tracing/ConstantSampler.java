@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.tracing;
+
+final class ConstantSampler implements Sampler {
+    static final ConstantSampler ALWAYS_ON = new ConstantSampler(true);
+    static final ConstantSampler ALWAYS_OFF = new ConstantSampler(false);
+
+    private final boolean decision;
+
+    private ConstantSampler(boolean decision) {
+        this.decision = decision;
+    }
+
+    @Override
+    public boolean sample(String operation) {
+        return decision;
+    }
+
+    @Override
+    public String toString() {
+        return decision ? "always-on" : "always-off";
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+final class ProbabilitySampler implements Sampler {
+    private final double probability;
+
+    private ProbabilitySampler(double probability) {
+        this.probability = probability;
+    }
+
+    static Sampler create(double probability) {
+        if (probability < 0 || probability > 1) {
+            throw new IllegalArgumentException("Sampling probability must be between 0 and 1, but is " + probability);
+        }
+        if (probability == 0) {
+            return ConstantSampler.ALWAYS_OFF;
+        }
+        if (probability == 1) {
+            return ConstantSampler.ALWAYS_ON;
+        }
+        return new ProbabilitySampler(probability);
+    }
+
+    @Override
+    public boolean sample(String operation) {
+        return ThreadLocalRandom.current().nextDouble() < probability;
+    }
+
+    @Override
+    public String toString() {
+        return "probability(" + probability + ")";
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.tracing;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock free rate limiter (generic cell rate algorithm), allowing bursts of up to one second worth of traces.
+ */
+final class RateLimitingSampler implements Sampler {
+    private final double tracesPerSecond;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final LongSupplier clock;
+    // theoretical arrival time of the next trace
+    private final AtomicLong nextTrace;
+
+    RateLimitingSampler(double tracesPerSecond) {
+        this(tracesPerSecond, System::nanoTime);
+    }
+
+    RateLimitingSampler(double tracesPerSecond, LongSupplier clock) {
+        if (tracesPerSecond <= 0) {
+            throw new IllegalArgumentException("Traces per second must be positive, but is " + tracesPerSecond);
+        }
+        this.tracesPerSecond = tracesPerSecond;
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / tracesPerSecond));
+        this.burstNanos = Math.max(intervalNanos, TimeUnit.SECONDS.toNanos(1));
+        this.clock = clock;
+        this.nextTrace = new AtomicLong(clock.getAsLong());
+    }
+
+    @Override
+    public boolean sample(String operation) {
+        long now = clock.getAsLong();
+        while (true) {
+            long next = nextTrace.get();
+            long arrival = Math.max(next, now);
+            if (arrival - now > burstNanos - intervalNanos) {
+                return false;
+            }
+            if (nextTrace.compareAndSet(next, arrival + intervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "rate-limiting(" + tracesPerSecond + "/s)";
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.tracing;
+
+import io.helidon.config.Config;
+import io.helidon.config.ConfigException;
+
+/**
+ * Helidon level sampler, deciding whether a new trace should be started.
+ * <p>
+ * The decision is made before any span is created, so operations that are not sampled do not pay for
+ * span allocation and reporting. Operations that continue a trace started by an upstream service
+ * (with an inbound span context) are not subject to sampling, so distributed traces are kept complete.
+ * The underlying tracer may still apply its own sampling to operations sampled by Helidon.
+ * <p>
+ * Custom implementations can be used by components that accept a sampler, such as the web server tracing configuration.
+ * Implementations must be thread safe and should be cheap, as they are invoked for every traced operation.
+ */
+@FunctionalInterface
+public interface Sampler {
+    /**
+     * Decide whether a new trace should be started for the operation.
+     *
+     * @param operation name of the operation, such as the HTTP method and path template of the route handling
+     *                  a request; samplers that sample per operation use it as a key, so it should not contain
+     *                  request specific data
+     * @return {@code true} if a trace should be recorded
+     */
+    boolean sample(String operation);
+
+    /**
+     * Sampler that samples all operations.
+     *
+     * @return sampler sampling everything
+     */
+    static Sampler alwaysOn() {
+        return ConstantSampler.ALWAYS_ON;
+    }
+
+    /**
+     * Sampler that does not sample any operation.
+     *
+     * @return sampler sampling nothing
+     */
+    static Sampler alwaysOff() {
+        return ConstantSampler.ALWAYS_OFF;
+    }
+
+    /**
+     * Sampler that samples the provided ratio of operations.
+     *
+     * @param probability probability between {@code 0} and {@code 1}
+     * @return probabilistic sampler
+     */
+    static Sampler probability(double probability) {
+        return ProbabilitySampler.create(probability);
+    }
+
+    /**
+     * Sampler that samples at most the provided number of traces per second, across all operations.
+     *
+     * @param tracesPerSecond maximal number of sampled traces per second
+     * @return rate limiting sampler
+     */
+    static Sampler rateLimiting(double tracesPerSecond) {
+        return new RateLimitingSampler(tracesPerSecond);
+    }
+
+    /**
+     * Sampler that adapts its sampling probability per operation, targeting the provided number
+     * of traces per second for each operation. Rarely invoked operations are always sampled,
+     * frequently invoked operations are sampled with decreasing probability.
+     *
+     * @param tracesPerSecond number of traces per second to target for each operation
+     * @return adaptive sampler
+     */
+    static Sampler adaptive(double tracesPerSecond) {
+        return new AdaptiveSampler(tracesPerSecond, AdaptiveSampler.DEFAULT_MAX_OPERATIONS);
+    }
+
+    /**
+     * Create a sampler from configuration.
+     * <p>
+     * Supported keys:
+     * <ul>
+     *     <li>{@code type} - one of {@code always-on} (default), {@code always-off}, {@code probability},
+     *     {@code rate-limiting} and {@code adaptive}</li>
+     *     <li>{@code probability} - probability of {@code probability} sampler</li>
+     *     <li>{@code traces-per-second} - rate of {@code rate-limiting} and {@code adaptive} samplers</li>
+     *     <li>{@code max-operations} - maximal number of operations tracked separately by {@code adaptive} sampler</li>
+     * </ul>
+     *
+     * @param config configuration on the node of the sampler
+     * @return a new sampler
+     */
+    static Sampler create(Config config) {
+        String type = config.get("type").asString().orElse("always-on");
+        switch (type) {
+        case "always-on":
+            return alwaysOn();
+        case "always-off":
+            return alwaysOff();
+        case "probability":
+            return probability(config.get("probability").asDouble().orElse(1.0));
+        case "rate-limiting":
+            return rateLimiting(config.get("traces-per-second").asDouble().orElse(1.0));
+        case "adaptive":
+            return new AdaptiveSampler(config.get("traces-per-second").asDouble().orElse(1.0),
+                                       config.get("max-operations").asInt().orElse(AdaptiveSampler.DEFAULT_MAX_OPERATIONS));
+        default:
+            throw new ConfigException("Unsupported sampler type \"" + type + "\" on key " + config.get("type").key()
+                                              + ", supported types: always-on, always-off, probability, rate-limiting, "
+                                              + "adaptive");
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.tracing;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.helidon.config.Config;
+import io.helidon.config.ConfigException;
+import io.helidon.config.ConfigSources;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit test for {@link Sampler} implementations.
+ */
+class SamplerTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void testConstant() {
+        assertThat(Sampler.alwaysOn().sample("op"), is(true));
+        assertThat(Sampler.alwaysOff().sample("op"), is(false));
+        assertThat(Sampler.probability(0), is(Sampler.alwaysOff()));
+        assertThat(Sampler.probability(1), is(Sampler.alwaysOn()));
+        assertThrows(IllegalArgumentException.class, () -> Sampler.probability(1.5));
+    }
+
+    @Test
+    void testRateLimiting() {
+        AtomicLong clock = new AtomicLong();
+        Sampler sampler = new RateLimitingSampler(10, clock::get);
+
+        assertThat(countSampled(sampler, "op", 100), is(10));
+
+        // half a second later, half of the budget is available again
+        clock.addAndGet(SECOND / 2);
+        assertThat(countSampled(sampler, "op", 100), is(5));
+
+        // after a long pause, the burst is still limited to one second worth of traces
+        clock.addAndGet(SECOND * 60);
+        assertThat(countSampled(sampler, "op", 100), is(10));
+    }
+
+    @Test
+    void testAdaptive() {
+        AtomicLong clock = new AtomicLong();
+        Sampler sampler = new AdaptiveSampler(10, 10, clock::get);
+
+        // first window samples everything, as the rate is not known yet
+        assertThat(countSampled(sampler, "busy", 1000), is(1000));
+        assertThat(countSampled(sampler, "quiet", 5), is(5));
+
+        clock.addAndGet(SECOND);
+        // busy operation now samples about 10 out of 1000 invocations, quiet operation samples everything
+        assertThat(countSampled(sampler, "busy", 1000), is(allOf(greaterThan(0), lessThan(50))));
+        assertThat(countSampled(sampler, "quiet", 5), is(5));
+    }
+
+    @Test
+    void testFromConfig() {
+        assertThat(sampler(Map.of()), is(Sampler.alwaysOn()));
+        assertThat(sampler(Map.of("type", "always-off")), is(Sampler.alwaysOff()));
+        assertThat(sampler(Map.of("type", "probability", "probability", "0.5")), instanceOf(ProbabilitySampler.class));
+        assertThat(sampler(Map.of("type", "rate-limiting", "traces-per-second", "5")), instanceOf(RateLimitingSampler.class));
+        assertThat(sampler(Map.of("type", "adaptive", "traces-per-second", "5")), instanceOf(AdaptiveSampler.class));
+        assertThrows(ConfigException.class, () -> sampler(Map.of("type", "unknown")));
+    }
+
+    private static Sampler sampler(Map<String, String> values) {
+        Config config = Config.builder()
+                .sources(ConfigSources.create(values))
+                .disableEnvironmentVariablesSource()
+                .disableSystemPropertiesSource()
+                .build();
+        return Sampler.create(config);
+    }
+
+    private static int countSampled(Sampler sampler, String operation, int invocations) {
+        int sampled = 0;
+        for (int i = 0; i < invocations; i++) {
+            if (sampler.sample(operation)) {
+                sampled++;
+            }
+        }
+        return sampled;
+    }
+}
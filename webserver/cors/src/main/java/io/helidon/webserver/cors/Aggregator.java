@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -260,12 +260,24 @@ class Aggregator {
     Optional<CrossOriginConfig> lookupCrossOrigin(String path, String method,
             Supplier<Optional<CrossOriginConfig>> secondaryLookup) {
 
-        Optional<CrossOriginConfig> result = findFirst(crossOriginConfigMatchables, path, method)
+        Optional<CrossOriginConfig> result = lookupCrossOrigin(path, method)
                 .or(secondaryLookup);
 
         return result;
     }
 
+    /**
+     * Looks for a matching CORS config entry for the specified path among the CORS configuration information of this
+     * aggregator only, without any secondary lookup.
+     *
+     * @param path the unnormalized request path to check
+     * @param method the HTTP method to check
+     * @return Optional<CrossOrigin> for the matching config, or an empty Optional if none matched
+     */
+    Optional<CrossOriginConfig> lookupCrossOrigin(String path, String method) {
+        return findFirst(crossOriginConfigMatchables, path, method);
+    }
+
     /**
      * Given a map from path expressions to matchables, finds the first map entry with a path matcher that accepts the provided
      * path and is enabled.
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver.cors;
+
+/**
+ * Statistics of the cache of CORS decisions for preflight requests of a {@link CorsSupportBase CORS support} instance.
+ * Values are live and can be exposed as gauges by the application (e.g. to monitor the hit rate).
+ */
+public interface CorsCacheStatistics {
+    /**
+     * Number of preflight requests answered with an already computed decision and response headers.
+     *
+     * @return number of cache hits
+     */
+    long hits();
+
+    /**
+     * Number of preflight requests that had to be matched and validated against the CORS configuration.
+     *
+     * @return number of cache misses
+     */
+    long misses();
+
+    /**
+     * Number of decisions currently cached.
+     *
+     * @return cache size
+     */
+    int size();
+
+    /**
+     * Ratio of preflight requests served from the cache.
+     *
+     * @return hit rate between {@code 0} and {@code 1}, {@code 0} if no preflight request was processed yet
+     */
+    default double hitRate() {
+        long hits = hits();
+        long total = hits + misses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -90,6 +90,16 @@ public abstract class CorsSupportBase<Q, R, T extends CorsSupportBase<Q, R, T, B
         helper.prepareResponse(requestAdapter, responseAdapter);
     }
 
+    /**
+     * Statistics of the cache of CORS decisions for preflight requests, if caching is enabled.
+     *
+     * @return cache statistics or empty if decisions are not cached
+     * @see Builder#cacheSize(int)
+     */
+    public Optional<CorsCacheStatistics> cacheStatistics() {
+        return helper.cacheStatistics();
+    }
+
     protected CorsSupportHelper<Q, R> helper() {
         return helper;
     }
@@ -200,6 +210,21 @@ public abstract class CorsSupportBase<Q, R, T extends CorsSupportBase<Q, R, T, B
             return me();
         }
 
+        /**
+         * Sets the maximal number of CORS decisions cached. Preflight decisions, including the response headers, are cached
+         * by the CORS configuration matching the request path, origin, requested method and requested headers.
+         * Defaults to {@value CorsSupportHelper#DEFAULT_CACHE_SIZE}.
+         * <p>
+         * The cache size can also be set using the {@code cache-size} key of the CORS config.
+         *
+         * @param cacheSize cache capacity, {@code 0} to disable caching
+         * @return updated builder
+         */
+        public B cacheSize(int cacheSize) {
+            helperBuilder.cacheSize(cacheSize);
+            return me();
+        }
+
         @Override
         public B allowOrigins(String... origins) {
             aggregatorBuilder.allowOrigins(origins);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,11 +19,14 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
@@ -67,6 +70,11 @@ class CorsSupportHelper<Q, R> {
     static final String METHOD_NOT_IN_ALLOWED_LIST = "CORS method is not in allowed list";
     static final String HEADERS_NOT_IN_ALLOWED_LIST = "CORS headers not in allowed list";
 
+    /**
+     * Default capacity of the caches of CORS decisions: {@value}.
+     */
+    static final int DEFAULT_CACHE_SIZE = 1024;
+
     static final Logger LOGGER = Logger.getLogger(CorsSupportHelper.class.getName());
 
     private static final Supplier<Optional<CrossOriginConfig>> EMPTY_SECONDARY_SUPPLIER = Optional::empty;
@@ -100,13 +108,7 @@ class CorsSupportHelper<Q, R> {
             return Collections.emptySet();
         }
         Set<String> result = new HashSet<>();
-        StringTokenizer tokenizer = new StringTokenizer(header, ",");
-        while (tokenizer.hasMoreTokens()) {
-            String value = tokenizer.nextToken().trim();
-            if (value.length() > 0) {
-                result.add(value);
-            }
-        }
+        parseHeader(header, result);
         return result;
     }
 
@@ -120,7 +122,21 @@ class CorsSupportHelper<Q, R> {
         if (headers == null) {
             return Collections.emptySet();
         }
-        return parseHeader(headers.stream().reduce("", (a, b) -> a + "," + b));
+        Set<String> result = new HashSet<>();
+        for (String header : headers) {
+            parseHeader(header, result);
+        }
+        return result;
+    }
+
+    private static void parseHeader(String header, Set<String> result) {
+        StringTokenizer tokenizer = new StringTokenizer(header, ",");
+        while (tokenizer.hasMoreTokens()) {
+            String value = tokenizer.nextToken().trim();
+            if (value.length() > 0) {
+                result.add(value);
+            }
+        }
     }
 
     /**
@@ -156,11 +172,18 @@ class CorsSupportHelper<Q, R> {
 
     private final Aggregator aggregator;
     private final Supplier<Optional<CrossOriginConfig>> secondaryCrossOriginLookup;
+    // Decisions for preflight requests, including the response headers; null if not cached
+    private final ConcurrentHashMap<PreflightKey, PreflightDecision> preflightDecisions;
+    private final int cacheSize;
+    private final LongAdder preflightHits = new LongAdder();
+    private final LongAdder preflightMisses = new LongAdder();
 
     private CorsSupportHelper(Builder<Q, R>  builder) {
         name = builder.name;
         aggregator = builder.aggregatorBuilder.build();
         secondaryCrossOriginLookup = builder.secondaryCrossOriginLookup;
+        cacheSize = builder.cacheSize;
+        preflightDecisions = cacheSize > 0 ? new ConcurrentHashMap<>() : null;
     }
 
     /**
@@ -185,6 +208,7 @@ class CorsSupportHelper<Q, R> {
         private final Aggregator.Builder aggregatorBuilder = Aggregator.builder();
         private String name;
         private boolean requestDefaultBehaviorIfNone;
+        private int cacheSize = DEFAULT_CACHE_SIZE;
 
         /**
          * Sets the supplier for the secondary lookup of CORS information (typically <em>not</em> contained in
@@ -206,6 +230,7 @@ class CorsSupportHelper<Q, R> {
          */
         public Builder<Q, R> config(Config config) {
             aggregatorBuilder.config(config);
+            config.get("cache-size").asInt().ifPresent(this::cacheSize);
             return this;
         }
 
@@ -217,6 +242,22 @@ class CorsSupportHelper<Q, R> {
          */
         public Builder<Q, R> mappedConfig(Config config) {
             aggregatorBuilder.mappedConfig(config);
+            config.get("cache-size").asInt().ifPresent(this::cacheSize);
+            return this;
+        }
+
+        /**
+         * Sets the maximal number of CORS decisions cached for preflight requests.
+         * Decisions depending on the secondary lookup are never cached.
+         *
+         * @param cacheSize cache capacity, {@code 0} to disable caching
+         * @return updated builder
+         */
+        public Builder<Q, R> cacheSize(int cacheSize) {
+            if (cacheSize < 0) {
+                throw new IllegalArgumentException("CORS cache size cannot be negative, but is " + cacheSize);
+            }
+            this.cacheSize = cacheSize;
             return this;
         }
 
@@ -321,6 +362,33 @@ class CorsSupportHelper<Q, R> {
         }
     }
 
+    /**
+     * Statistics of the cache of preflight decisions, if caching is enabled.
+     *
+     * @return cache statistics or empty if decisions are not cached
+     */
+    public Optional<CorsCacheStatistics> cacheStatistics() {
+        if (preflightDecisions == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new CorsCacheStatistics() {
+            @Override
+            public long hits() {
+                return preflightHits.sum();
+            }
+
+            @Override
+            public long misses() {
+                return preflightMisses.sum();
+            }
+
+            @Override
+            public int size() {
+                return preflightDecisions.size();
+            }
+        });
+    }
+
     @Override
     public String toString() {
         return String.format("CorsSupportHelper{name='%s', isActive=%s, crossOriginConfigs=%s, secondaryCrossOriginLookup=%s}",
@@ -500,44 +568,92 @@ class CorsSupportHelper<Q, R> {
         }
 
         // Access-Control-Request-Method had to be present in order for this to be assessed as a preflight request.
+        String origin = originOpt.get();
         String requestedMethod = requestAdapter.firstHeader(ACCESS_CONTROL_REQUEST_METHOD).get();
+        String path = requestAdapter.path();
+        List<String> allHeaders = requestAdapter.allHeaders(ACCESS_CONTROL_REQUEST_HEADERS);
+        // some adapters return null instead of an empty list if the header is absent
+        List<String> requestHeaders = allHeaders == null ? List.of() : allHeaders;
 
         // Lookup the CrossOriginConfig using the requested method, not the current method (which we know is OPTIONS).
-        Optional<CrossOriginConfig> crossOriginOpt = aggregator.lookupCrossOrigin(
-                requestAdapter.path(), requestedMethod, secondaryCrossOriginLookup);
+        Optional<CrossOriginConfig> crossOriginOpt = aggregator.lookupCrossOrigin(path, requestedMethod);
+        PreflightDecision decision;
         if (crossOriginOpt.isEmpty()) {
-            return forbid(requestAdapter, responseAdapter, ORIGIN_DENIED,
-                    () -> String.format("no matching CORS configuration for path %s and requested method %s",
-                            requestAdapter.path(), requestedMethod));
+            // the secondary lookup depends on the matched resource, so its decisions are not cached
+            decision = secondaryCrossOriginLookup.get()
+                    .map(crossOrigin -> preflightDecision(crossOrigin, origin, requestedMethod, requestHeaders))
+                    .orElseGet(() -> PreflightDecision.forbidden(ORIGIN_DENIED,
+                            () -> String.format("no matching CORS configuration for path %s and requested method %s",
+                                    path, requestedMethod)));
+        } else if (preflightDecisions == null) {
+            decision = preflightDecision(crossOriginOpt.get(), origin, requestedMethod, requestHeaders);
+        } else {
+            // keyed by the matched configuration rather than the request path, so path parameters share entries
+            CrossOriginConfig crossOrigin = crossOriginOpt.get();
+            PreflightKey key = new PreflightKey(crossOrigin, origin, requestedMethod, List.copyOf(requestHeaders));
+            decision = preflightDecisions.get(key);
+            if (decision == null) {
+                preflightMisses.increment();
+                decision = preflightDecision(crossOrigin, origin, requestedMethod, requestHeaders);
+                cache(key, decision);
+            } else {
+                preflightHits.increment();
+            }
         }
-        CrossOriginConfig crossOrigin = crossOriginOpt.get();
+
+        if (decision.forbiddenReason() != null) {
+            return forbid(requestAdapter, responseAdapter, decision.forbiddenReason(), decision.explanation());
+        }
+        decision.headers().setAndLog(responseAdapter::header, "headers set on preflight request");
+        return responseAdapter.ok();
+    }
+
+    private void cache(PreflightKey key, PreflightDecision decision) {
+        if (preflightDecisions.size() >= cacheSize) {
+            // evict any entry instead of tracking the access order, so cache hits do not need a lock
+            Iterator<PreflightKey> keys = preflightDecisions.keySet().iterator();
+            if (keys.hasNext()) {
+                preflightDecisions.remove(keys.next());
+            }
+        }
+        preflightDecisions.put(key, decision);
+    }
+
+    /**
+     * Decides a preflight request, computing the response headers if it is allowed. The decision only depends on its
+     * parameters, so it can be reused for the same parameters.
+     *
+     * @param crossOrigin the CORS configuration matching the request
+     * @param origin value of the origin header
+     * @param requestedMethod value of the requested method header
+     * @param requestHeaderValues values of the requested headers header
+     * @return the decision
+     */
+    private PreflightDecision preflightDecision(CrossOriginConfig crossOrigin,
+                                                String origin,
+                                                String requestedMethod,
+                                                List<String> requestHeaderValues) {
 
         // If enabled but not whitelisted, deny request
         List<String> allowedOrigins = Arrays.asList(crossOrigin.allowOrigins());
-        if (!allowedOrigins.contains("*") && !contains(originOpt, allowedOrigins, CorsSupportHelper::compareOrigins)) {
-            return forbid(requestAdapter,
-                    responseAdapter,
-                    ORIGIN_NOT_IN_ALLOWED_LIST,
-                    () -> "actual origin: " + originOpt.get() + ", allowedOrigins: " + allowedOrigins);
+        if (!allowedOrigins.contains("*") && !contains(origin, allowedOrigins, CorsSupportHelper::compareOrigins)) {
+            return PreflightDecision.forbidden(ORIGIN_NOT_IN_ALLOWED_LIST,
+                    () -> "actual origin: " + origin + ", allowedOrigins: " + allowedOrigins);
         }
 
         // Check if method is allowed
         List<String> allowedMethods = Arrays.asList(crossOrigin.allowMethods());
         if (!allowedMethods.contains("*")
                 && !contains(requestedMethod, allowedMethods, String::equalsIgnoreCase)) {
-            return forbid(requestAdapter,
-                    responseAdapter,
-                    METHOD_NOT_IN_ALLOWED_LIST,
+            return PreflightDecision.forbidden(METHOD_NOT_IN_ALLOWED_LIST,
                     () -> String.format("header %s requested method %s but allowedMethods is %s", ACCESS_CONTROL_REQUEST_METHOD,
                             requestedMethod, allowedMethods));
         }
         // Check if headers are allowed
-        Set<String> requestHeaders = parseHeader(requestAdapter.allHeaders(ACCESS_CONTROL_REQUEST_HEADERS));
+        Set<String> requestHeaders = parseHeader(requestHeaderValues);
         List<String> allowedHeaders = Arrays.asList(crossOrigin.allowHeaders());
         if (!allowedHeaders.contains("*") && !contains(requestHeaders, allowedHeaders)) {
-            return forbid(requestAdapter,
-                    responseAdapter,
-                    HEADERS_NOT_IN_ALLOWED_LIST,
+            return PreflightDecision.forbidden(HEADERS_NOT_IN_ALLOWED_LIST,
                     () -> String.format("requested headers %s incompatible with allowed headers %s", requestHeaders,
                             allowedHeaders));
         }
@@ -545,7 +661,7 @@ class CorsSupportHelper<Q, R> {
         // Build successful response
 
         Headers headers = new Headers()
-                .add(ACCESS_CONTROL_ALLOW_ORIGIN, originOpt.get());
+                .add(ACCESS_CONTROL_ALLOW_ORIGIN, origin);
         if (crossOrigin.allowCredentials()) {
             headers.add(ACCESS_CONTROL_ALLOW_CREDENTIALS, "true", "allowCredentials config was set");
         }
@@ -556,8 +672,7 @@ class CorsSupportHelper<Q, R> {
         if (maxAgeSeconds > 0) {
             headers.add(ACCESS_CONTROL_MAX_AGE, maxAgeSeconds, "maxAgeSeconds > 0");
         }
-        headers.setAndLog(responseAdapter::header, "headers set on preflight request");
-        return responseAdapter.ok();
+        return PreflightDecision.allowed(headers);
     }
 
     /**
@@ -786,4 +901,20 @@ class CorsSupportHelper<Q, R> {
     private void decisionLog(String message) {
         LOGGER.log(DECISION_LEVEL, () -> String.format("CORS:%s %s", name, message));
     }
+
+    private record PreflightKey(CrossOriginConfig crossOrigin,
+                                String origin,
+                                String requestedMethod,
+                                List<String> requestHeaders) {
+    }
+
+    private record PreflightDecision(String forbiddenReason, Supplier<String> explanation, Headers headers) {
+        static PreflightDecision forbidden(String reason, Supplier<String> explanation) {
+            return new PreflightDecision(reason, explanation, null);
+        }
+
+        static PreflightDecision allowed(Headers headers) {
+            return new PreflightDecision(null, null, headers);
+        }
+    }
 }
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver.cors;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.common.http.Http;
+import io.helidon.config.Config;
+import io.helidon.config.ConfigSources;
+
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.webserver.cors.CrossOriginConfig.ACCESS_CONTROL_ALLOW_HEADERS;
+import static io.helidon.webserver.cors.CrossOriginConfig.ACCESS_CONTROL_ALLOW_METHODS;
+import static io.helidon.webserver.cors.CrossOriginConfig.ACCESS_CONTROL_ALLOW_ORIGIN;
+import static io.helidon.webserver.cors.CrossOriginConfig.ACCESS_CONTROL_MAX_AGE;
+import static io.helidon.webserver.cors.CrossOriginConfig.ACCESS_CONTROL_REQUEST_HEADERS;
+import static io.helidon.webserver.cors.CrossOriginConfig.ACCESS_CONTROL_REQUEST_METHOD;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CorsDecisionCacheTest {
+
+    private static final String ORIGIN = "http://foo.bar";
+
+    @Test
+    void testPreflightCached() {
+        CorsSupportHelper<Void, Integer> helper = helper(CorsSupportHelper.DEFAULT_CACHE_SIZE);
+        CorsCacheStatistics statistics = helper.cacheStatistics().orElseThrow();
+
+        for (int i = 0; i < 3; i++) {
+            TestResponse response = new TestResponse();
+            Integer status = helper.processCorsPreFlightRequest(preflight("/greet", ORIGIN, "PUT", "X-foo, X-bar"), response);
+
+            assertThat(status, is(Http.Status.OK_200.code()));
+            assertThat(response.headers.get(ACCESS_CONTROL_ALLOW_ORIGIN), is(ORIGIN));
+            assertThat(response.headers.get(ACCESS_CONTROL_ALLOW_METHODS), is("PUT"));
+            assertThat(CorsSupportHelper.parseHeader((String) response.headers.get(ACCESS_CONTROL_ALLOW_HEADERS)),
+                       is(Set.of("X-foo", "X-bar")));
+            assertThat(response.headers.get(ACCESS_CONTROL_MAX_AGE), is(3600L));
+        }
+
+        assertThat(statistics.misses(), is(1L));
+        assertThat(statistics.hits(), is(2L));
+        assertThat(statistics.size(), is(1));
+
+        // a different origin is a different decision
+        TestResponse response = new TestResponse();
+        Integer status = helper.processCorsPreFlightRequest(preflight("/greet", "http://other.com", "PUT", null), response);
+        assertThat(status, is(Http.Status.FORBIDDEN_403.code()));
+        assertThat(response.forbidden, is(CorsSupportHelper.ORIGIN_NOT_IN_ALLOWED_LIST));
+
+        response = new TestResponse();
+        helper.processCorsPreFlightRequest(preflight("/greet", "http://other.com", "PUT", null), response);
+        assertThat(response.forbidden, is(CorsSupportHelper.ORIGIN_NOT_IN_ALLOWED_LIST));
+
+        assertThat(statistics.misses(), is(2L));
+        assertThat(statistics.hits(), is(3L));
+        assertThat(statistics.size(), is(2));
+    }
+
+    @Test
+    void testCacheBounded() {
+        CorsSupportHelper<Void, Integer> helper = helper(2);
+        CorsCacheStatistics statistics = helper.cacheStatistics().orElseThrow();
+
+        for (int i = 0; i < 10; i++) {
+            helper.processCorsPreFlightRequest(preflight("/greet", "http://foo" + i + ".bar", "PUT", null),
+                                               new TestResponse());
+        }
+
+        assertThat(statistics.size(), is(2));
+        assertThat(statistics.misses(), is(10L));
+    }
+
+    @Test
+    void testPathParametersShareEntry() {
+        CorsSupportHelper<Void, Integer> helper = helper(2);
+        CorsCacheStatistics statistics = helper.cacheStatistics().orElseThrow();
+
+        for (int i = 0; i < 10; i++) {
+            Integer status = helper.processCorsPreFlightRequest(preflight("/greet/" + i, ORIGIN, "PUT", null),
+                                                                new TestResponse());
+            assertThat(status, is(Http.Status.OK_200.code()));
+        }
+
+        // all paths match the same configuration
+        assertThat(statistics.size(), is(1));
+        assertThat(statistics.misses(), is(1L));
+        assertThat(statistics.hits(), is(9L));
+    }
+
+    @Test
+    void testCacheDisabled() {
+        CorsSupportHelper<Void, Integer> helper = helper(0);
+
+        assertThat(helper.cacheStatistics(), is(Optional.empty()));
+        TestResponse response = new TestResponse();
+        Integer status = helper.processCorsPreFlightRequest(preflight("/greet", ORIGIN, "PUT", null), response);
+        assertThat(status, is(Http.Status.OK_200.code()));
+
+        assertThrows(IllegalArgumentException.class, () -> CorsSupportHelper.builder().cacheSize(-1));
+    }
+
+    @Test
+    void testSecondaryLookupNotCached() {
+        AtomicInteger lookups = new AtomicInteger();
+        CrossOriginConfig secondary = CrossOriginConfig.builder()
+                .allowOrigins(ORIGIN)
+                .build();
+        CorsSupportHelper<Void, Integer> helper = CorsSupportHelper.<Void, Integer>builder()
+                .secondaryLookupSupplier(() -> {
+                    lookups.incrementAndGet();
+                    return Optional.of(secondary);
+                })
+                .build();
+
+        for (int i = 0; i < 3; i++) {
+            Integer status = helper.processCorsPreFlightRequest(preflight("/greet", ORIGIN, "PUT", null), new TestResponse());
+            assertThat(status, is(Http.Status.OK_200.code()));
+        }
+
+        assertThat(lookups.get(), is(3));
+        assertThat(helper.cacheStatistics().orElseThrow().size(), is(0));
+    }
+
+    @Test
+    void testConfiguredCacheSize() {
+        Config config = Config.builder()
+                .sources(ConfigSources.create(Map.of("cors.cache-size", "0",
+                                                     "cors.allow-origins", ORIGIN)))
+                .disableEnvironmentVariablesSource()
+                .disableSystemPropertiesSource()
+                .build();
+
+        CorsSupport corsSupport = CorsSupport.builder()
+                .config(config.get("cors"))
+                .build();
+        assertThat(corsSupport.cacheStatistics(), is(Optional.empty()));
+    }
+
+    private static CorsSupportHelper<Void, Integer> helper(int cacheSize) {
+        return CorsSupportHelper.<Void, Integer>builder()
+                .cacheSize(cacheSize)
+                .config(Config.builder()
+                                .sources(ConfigSources.create(Map.of("allow-origins", ORIGIN,
+                                                                     "allow-methods", "PUT",
+                                                                     "allow-headers", "X-foo,X-bar",
+                                                                     "max-age", "3600")))
+                                .disableEnvironmentVariablesSource()
+                                .disableSystemPropertiesSource()
+                                .build())
+                .build();
+    }
+
+    private static TestRequest preflight(String path, String origin, String method, String requestHeaders) {
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put(Http.Header.ORIGIN, List.of(origin));
+        headers.put(ACCESS_CONTROL_REQUEST_METHOD, List.of(method));
+        if (requestHeaders != null) {
+            headers.put(ACCESS_CONTROL_REQUEST_HEADERS, List.of(requestHeaders));
+        }
+        return new TestRequest(path, headers);
+    }
+
+    private static final class TestRequest implements CorsSupportBase.RequestAdapter<Void> {
+        private final String path;
+        private final Map<String, List<String>> headers;
+
+        private TestRequest(String path, Map<String, List<String>> headers) {
+            this.path = path;
+            this.headers = headers;
+        }
+
+        @Override
+        public String path() {
+            return path;
+        }
+
+        @Override
+        public Optional<String> firstHeader(String key) {
+            return Optional.ofNullable(headers.get(key)).flatMap(values -> values.stream().findFirst());
+        }
+
+        @Override
+        public boolean headerContainsKey(String key) {
+            return headers.containsKey(key);
+        }
+
+        // null for absent headers, same as the MP adapter
+        @Override
+        public List<String> allHeaders(String key) {
+            return headers.get(key);
+        }
+
+        @Override
+        public String method() {
+            return Http.Method.OPTIONS.name();
+        }
+
+        @Override
+        public void next() {
+        }
+
+        @Override
+        public Void request() {
+            return null;
+        }
+    }
+
+    private static final class TestResponse implements CorsSupportBase.ResponseAdapter<Integer> {
+        private final Map<String, Object> headers = new HashMap<>();
+        private String forbidden;
+
+        @Override
+        public CorsSupportBase.ResponseAdapter<Integer> header(String key, String value) {
+            headers.put(key, value);
+            return this;
+        }
+
+        @Override
+        public CorsSupportBase.ResponseAdapter<Integer> header(String key, Object value) {
+            headers.put(key, value);
+            return this;
+        }
+
+        @Override
+        public Integer forbidden(String message) {
+            forbidden = message;
+            return Http.Status.FORBIDDEN_403.code();
+        }
+
+        @Override
+        public Integer ok() {
+            return Http.Status.OK_200.code();
+        }
+
+        @Override
+        public int status() {
+            return Http.Status.OK_200.code();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver.cors;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import io.helidon.common.http.Http;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Preflight requests per second processed by CORS support with a number of configured paths, with and without
+ * the cache of CORS decisions. The request matches the last configured path.
+ */
+@State(Scope.Benchmark)
+public class CorsPreflightJMH {
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(CorsPreflightJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Param({"0", "1024"})
+    int cacheSize;
+
+    @Param({"1", "20"})
+    int paths;
+
+    private CorsSupportHelper<Void, Boolean> helper;
+    private CorsSupportBase.RequestAdapter<Void> request;
+
+    @Setup
+    public void setup() {
+        CorsSupportHelper.Builder<Void, Boolean> builder = CorsSupportHelper.<Void, Boolean>builder()
+                .cacheSize(cacheSize);
+        for (int i = paths - 1; i >= 0; i--) {
+            builder.aggregatorBuilder()
+                    .addCrossOrigin("/api/v1/resource" + i + "/{id}",
+                                    CrossOriginConfig.builder()
+                                            .allowOrigins("http://foo.bar", "http://bar.foo")
+                                            .allowMethods("PUT", "DELETE")
+                                            .allowHeaders("X-foo", "X-bar")
+                                            .maxAgeSeconds(600)
+                                            .build());
+        }
+        helper = builder.build();
+
+        Map<String, List<String>> headers = Map.of(
+                Http.Header.ORIGIN, List.of("http://bar.foo"),
+                Http.Header.HOST, List.of("localhost:8080"),
+                CrossOriginConfig.ACCESS_CONTROL_REQUEST_METHOD, List.of("PUT"),
+                CrossOriginConfig.ACCESS_CONTROL_REQUEST_HEADERS, List.of("X-foo, X-bar"));
+        request = new CorsSupportBase.RequestAdapter<>() {
+            @Override
+            public String path() {
+                return "/api/v1/resource0/42";
+            }
+
+            @Override
+            public Optional<String> firstHeader(String key) {
+                List<String> values = headers.get(key);
+                return values == null ? Optional.empty() : Optional.of(values.get(0));
+            }
+
+            @Override
+            public boolean headerContainsKey(String key) {
+                return headers.containsKey(key);
+            }
+
+            @Override
+            public List<String> allHeaders(String key) {
+                return headers.getOrDefault(key, List.of());
+            }
+
+            @Override
+            public String method() {
+                return Http.Method.OPTIONS.name();
+            }
+
+            @Override
+            public void next() {
+            }
+
+            @Override
+            public Void request() {
+                return null;
+            }
+        };
+    }
+
+    @Benchmark
+    public void preflight(Blackhole blackhole) {
+        blackhole.consume(helper.processRequest(request, new BlackholeResponse(blackhole)));
+    }
+
+    private static final class BlackholeResponse implements CorsSupportBase.ResponseAdapter<Boolean> {
+        private final Blackhole blackhole;
+
+        private BlackholeResponse(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public CorsSupportBase.ResponseAdapter<Boolean> header(String key, String value) {
+            blackhole.consume(value);
+            return this;
+        }
+
+        @Override
+        public CorsSupportBase.ResponseAdapter<Boolean> header(String key, Object value) {
+            blackhole.consume(value);
+            return this;
+        }
+
+        @Override
+        public Boolean forbidden(String message) {
+            throw new IllegalStateException("Preflight request was denied: " + message);
+        }
+
+        @Override
+        public Boolean ok() {
+            return true;
+        }
+
+        @Override
+        public int status() {
+            return Http.Status.OK_200.code();
+        }
+    }
+}
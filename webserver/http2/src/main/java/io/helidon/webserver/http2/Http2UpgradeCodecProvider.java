@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package io.helidon.webserver.http2;
 
 import java.util.Optional;
 
+import io.helidon.webserver.Http2Streaming;
 import io.helidon.webserver.Router;
 import io.helidon.webserver.spi.UpgradeCodecProvider;
 
@@ -72,4 +73,21 @@ public class Http2UpgradeCodecProvider implements UpgradeCodecProvider {
 
         return new Http2ServerUpgradeCodec(helidonHandler);
     }
+
+    @Override
+    public Optional<HttpServerUpgradeHandler.UpgradeCodec> streamingUpgradeCodec(HttpServerCodec httpServerCodec,
+                                                                                  Http2Streaming streaming,
+                                                                                  ChannelHandler streamInitializer) {
+        return Optional.of(StreamingHttp2Handlers.upgradeCodec(streaming, streamInitializer));
+    }
+
+    @Override
+    public Optional<ChannelHandler> streamingPriorKnowledgeDecoder(HttpServerCodec httpServerCodec,
+                                                                   HttpServerUpgradeHandler wrappedUpgradeHandler,
+                                                                   Http2Streaming streaming,
+                                                                   ChannelHandler streamInitializer) {
+        ChannelHandler http2Handler = StreamingHttp2Handlers.priorKnowledgeHandler(streaming, streamInitializer);
+
+        return Optional.of(new CleartextHttp2ServerUpgradeHandler(httpServerCodec, wrappedUpgradeHandler, http2Handler));
+    }
 }
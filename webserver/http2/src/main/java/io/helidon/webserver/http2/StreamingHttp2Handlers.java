@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.http2;
+
+import io.helidon.webserver.Http2Streaming;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerAdapter;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpServerUpgradeHandler;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.DefaultHttp2WindowUpdateFrame;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2FrameLogger;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2ServerUpgradeCodec;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.logging.LogLevel;
+
+/**
+ * Handlers of a streamed HTTP/2 connection.
+ * <p>
+ * Each stream of the connection is a child channel with its own pipeline, that converts HTTP/2 frames
+ * to HTTP/1 objects, so {@code DATA} frames are published to the request entity without aggregation.
+ * Stream windows are replenished by the child channel as frames are read from it, and the request processing
+ * only reads when entity chunks are requested; a stream whose entity is not consumed therefore
+ * stops its sender once its window is exhausted, without affecting the other streams of the connection.
+ */
+final class StreamingHttp2Handlers {
+
+    private static final Http2FrameLogger LOGGER = new Http2FrameLogger(LogLevel.DEBUG, StreamingHttp2Handlers.class);
+    private static final HttpVersion HTTP_2 = new HttpVersion("HTTP", 2, 0, true);
+
+    private StreamingHttp2Handlers() {
+    }
+
+    static HttpServerUpgradeHandler.UpgradeCodec upgradeCodec(Http2Streaming streaming, ChannelHandler streamInitializer) {
+        return new Http2ServerUpgradeCodec(frameCodec(streaming),
+                                           new Http2MultiplexHandler(new StreamInitializer(streamInitializer)),
+                                           new ConnectionWindowHandler(streaming.connectionWindowSize()));
+    }
+
+    static ChannelHandler priorKnowledgeHandler(Http2Streaming streaming, ChannelHandler streamInitializer) {
+        return new PriorKnowledgeHandler(streaming, streamInitializer);
+    }
+
+    private static Http2FrameCodec frameCodec(Http2Streaming streaming) {
+        return Http2FrameCodecBuilder.forServer()
+                .frameLogger(LOGGER)
+                .initialSettings(Http2Settings.defaultSettings()
+                                         .initialWindowSize(streaming.initialWindowSize())
+                                         .maxConcurrentStreams(streaming.maxConcurrentStreams()))
+                .build();
+    }
+
+    /**
+     * Replaces itself with the HTTP/2 handlers once the connection preface is detected. The handlers must
+     * take its place, as the pipeline already contains the handlers processing HTTP/1 requests.
+     */
+    private static final class PriorKnowledgeHandler extends ChannelHandlerAdapter {
+        private final Http2Streaming streaming;
+        private final ChannelHandler streamInitializer;
+
+        private PriorKnowledgeHandler(Http2Streaming streaming, ChannelHandler streamInitializer) {
+            this.streaming = streaming;
+            this.streamInitializer = streamInitializer;
+        }
+
+        @Override
+        public void handlerAdded(ChannelHandlerContext ctx) {
+            ChannelPipeline pipeline = ctx.pipeline();
+            Http2FrameCodec frameCodec = frameCodec(streaming);
+            Http2MultiplexHandler multiplexHandler = new Http2MultiplexHandler(new StreamInitializer(streamInitializer));
+
+            // the multiplex handler requires the frame codec to be already present
+            pipeline.addAfter(ctx.name(), null, frameCodec);
+            pipeline.addAfter(pipeline.context(frameCodec).name(), null, multiplexHandler);
+            pipeline.addAfter(pipeline.context(multiplexHandler).name(), null,
+                              new ConnectionWindowHandler(streaming.connectionWindowSize()));
+            pipeline.remove(this);
+        }
+    }
+
+    /**
+     * The connection window can only be enlarged by a {@code WINDOW_UPDATE} frame, sent once
+     * the frame codec and the multiplex handler are in the pipeline.
+     */
+    private static final class ConnectionWindowHandler extends ChannelInboundHandlerAdapter {
+        private final int connectionWindowSize;
+
+        private ConnectionWindowHandler(int connectionWindowSize) {
+            this.connectionWindowSize = connectionWindowSize;
+        }
+
+        @Override
+        public void handlerAdded(ChannelHandlerContext ctx) {
+            int increment = connectionWindowSize - Http2CodecUtil.DEFAULT_WINDOW_SIZE;
+            if (increment > 0) {
+                ctx.writeAndFlush(new DefaultHttp2WindowUpdateFrame(increment));
+            }
+            ctx.pipeline().remove(this);
+        }
+    }
+
+    @ChannelHandler.Sharable
+    private static final class StreamInitializer extends ChannelInitializer<Http2StreamChannel> {
+        private final ChannelHandler streamInitializer;
+
+        private StreamInitializer(ChannelHandler streamInitializer) {
+            this.streamInitializer = streamInitializer;
+        }
+
+        @Override
+        protected void initChannel(Http2StreamChannel ch) {
+            ch.pipeline().addLast(new Http2StreamFrameToHttpObjectCodec(true),
+                                  VersionAdapter.INSTANCE,
+                                  streamInitializer);
+        }
+    }
+
+    /**
+     * Requests converted from HTTP/2 frames are HTTP/1.1 messages, routing needs the actual version.
+     */
+    @ChannelHandler.Sharable
+    private static final class VersionAdapter extends ChannelInboundHandlerAdapter {
+        private static final VersionAdapter INSTANCE = new VersionAdapter();
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            if (msg instanceof HttpRequest request) {
+                request.setProtocolVersion(HTTP_2);
+            }
+            ctx.fireChannelRead(msg);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.http2.test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.helidon.common.LogConfig;
+import io.helidon.webserver.Http2Streaming;
+import io.helidon.webserver.ServerRequest;
+import io.helidon.webserver.ServerResponse;
+import io.helidon.webserver.WebServer;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class H2StreamingTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final int WINDOW_SIZE = 64 * 1024;
+
+    private static final CountDownLatch SLOW_RELEASE = new CountDownLatch(1);
+
+    private static WebServer webServer;
+    private static HttpClient httpClient;
+
+    @BeforeAll
+    static void startServer() throws Exception {
+        LogConfig.configureRuntime();
+        webServer = WebServer.builder()
+                .defaultSocket(s -> s
+                        .bindAddress("localhost")
+                        .port(0)
+                        .http2Streaming(Http2Streaming.builder()
+                                                .initialWindowSize(WINDOW_SIZE)
+                                                .build())
+                )
+                .routing(r -> r
+                        .get("/", (req, res) -> res.send("GET " + req.version()))
+                        .post("/sum", H2StreamingTest::sum)
+                        .post("/slow", (req, res) -> CompletableFuture.runAsync(() -> {
+                            try {
+                                SLOW_RELEASE.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            sum(req, res);
+                        }))
+                )
+                .build()
+                .start()
+                .await(TIMEOUT);
+
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(TIMEOUT)
+                .build();
+
+        // upgrade the connection used by the tests to HTTP/2, the upgrade request itself is aggregated
+        HttpResponse<String> upgrade = httpClient.send(HttpRequest.newBuilder(uri("/")).build(),
+                                                       HttpResponse.BodyHandlers.ofString());
+        assertThat(upgrade.body(), is("GET V2_0"));
+    }
+
+    @AfterAll
+    static void afterAll() {
+        SLOW_RELEASE.countDown();
+        webServer.shutdown().await(TIMEOUT);
+    }
+
+    @Test
+    void testLargeUpload() throws IOException, InterruptedException {
+        // larger than max upgrade content length, which limits aggregated HTTP/2 requests
+        byte[] entity = entity(5 * 1024 * 1024, 7);
+
+        HttpResponse<String> response = post("/sum", entity);
+
+        assertThat(response.version(), is(HttpClient.Version.HTTP_2));
+        assertThat(response.statusCode(), is(200));
+        assertThat(response.body(), is("V2_0 " + entity.length + " " + sum(entity)));
+    }
+
+    @Test
+    void testEmptyUpload() throws IOException, InterruptedException {
+        HttpResponse<String> response = post("/sum", new byte[0]);
+
+        assertThat(response.statusCode(), is(200));
+        assertThat(response.body(), is("V2_0 0 0"));
+    }
+
+    @Test
+    void testConcurrentUploads() throws Exception {
+        List<byte[]> entities = new ArrayList<>();
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            byte[] entity = entity(1024 * 1024 + i, i);
+            entities.add(entity);
+            responses.add(httpClient.sendAsync(HttpRequest.newBuilder(uri("/sum"))
+                                                       .POST(HttpRequest.BodyPublishers.ofByteArray(entity))
+                                                       .build(),
+                                               HttpResponse.BodyHandlers.ofString()));
+        }
+
+        for (int i = 0; i < entities.size(); i++) {
+            HttpResponse<String> response = responses.get(i).get(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+            byte[] entity = entities.get(i);
+            assertThat(response.version(), is(HttpClient.Version.HTTP_2));
+            assertThat(response.body(), is("V2_0 " + entity.length + " " + sum(entity)));
+        }
+    }
+
+    @Test
+    void testUnconsumedStreamIsFlowControlled() throws Exception {
+        byte[] slowEntity = entity(8 * 1024 * 1024, 3);
+        AtomicLong sent = new AtomicLong();
+        HttpRequest.BodyPublisher countingPublisher = HttpRequest.BodyPublishers.fromPublisher(
+                subscriber -> HttpRequest.BodyPublishers.ofByteArray(slowEntity)
+                        .subscribe(new CountingSubscriber(subscriber, sent)),
+                slowEntity.length);
+
+        CompletableFuture<HttpResponse<String>> slow =
+                httpClient.sendAsync(HttpRequest.newBuilder(uri("/slow")).POST(countingPublisher).build(),
+                                     HttpResponse.BodyHandlers.ofString());
+
+        // another stream of the same connection is not blocked by the slow one
+        byte[] entity = entity(2 * 1024 * 1024, 5);
+        HttpResponse<String> response = post("/sum", entity);
+        assertThat(response.body(), is("V2_0 " + entity.length + " " + sum(entity)));
+        assertThat(slow.isDone(), is(false));
+
+        // the client cannot send more than the stream window until the route consumes the entity
+        assertThat(sent.get(), lessThan(4L * WINDOW_SIZE));
+
+        SLOW_RELEASE.countDown();
+        HttpResponse<String> slowResponse = slow.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        assertThat(slowResponse.body(), is("V2_0 " + slowEntity.length + " " + sum(slowEntity)));
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> Http2Streaming.builder().initialWindowSize(0).build());
+        assertThrows(IllegalArgumentException.class, () -> Http2Streaming.builder().maxConcurrentStreams(0).build());
+        assertThat(Http2Streaming.builder().initialWindowSize(Integer.MAX_VALUE).build().connectionWindowSize(),
+                   is(Integer.MAX_VALUE));
+    }
+
+    private static void sum(ServerRequest req, ServerResponse res) {
+        AtomicLong length = new AtomicLong();
+        AtomicLong sum = new AtomicLong();
+        req.content()
+                .forEach(chunk -> {
+                    for (ByteBuffer buffer : chunk.data()) {
+                        length.addAndGet(buffer.remaining());
+                        while (buffer.hasRemaining()) {
+                            sum.addAndGet(buffer.get() & 0xFF);
+                        }
+                    }
+                    chunk.release();
+                })
+                .thenAccept(it -> res.send(req.version() + " " + length.get() + " " + sum.get()))
+                .exceptionally(t -> {
+                    res.send(t);
+                    return null;
+                });
+    }
+
+    private static HttpResponse<String> post(String path, byte[] entity) throws IOException, InterruptedException {
+        return httpClient.send(HttpRequest.newBuilder(uri(path))
+                                       .POST(HttpRequest.BodyPublishers.ofByteArray(entity))
+                                       .build(),
+                               HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static URI uri(String path) {
+        return URI.create("http://localhost:" + webServer.port() + path);
+    }
+
+    private static byte[] entity(int length, int seed) {
+        byte[] entity = new byte[length];
+        for (int i = 0; i < length; i++) {
+            entity[i] = (byte) (i * 31 + seed);
+        }
+        return entity;
+    }
+
+    private static long sum(byte[] entity) {
+        long sum = 0;
+        for (byte b : entity) {
+            sum += b & 0xFF;
+        }
+        return sum;
+    }
+
+    private static final class CountingSubscriber implements Flow.Subscriber<ByteBuffer> {
+        private final Flow.Subscriber<? super ByteBuffer> delegate;
+        private final AtomicLong counter;
+
+        private CountingSubscriber(Flow.Subscriber<? super ByteBuffer> delegate, AtomicLong counter) {
+            this.delegate = delegate;
+            this.counter = counter;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            delegate.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(ByteBuffer item) {
+            counter.addAndGet(item.remaining());
+            delegate.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            delegate.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            delegate.onComplete();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver.http2.test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.webserver.Http2Streaming;
+import io.helidon.webserver.WebServer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Concurrent large uploads per second over a single h2c connection, with HTTP/2 requests
+ * aggregated into full messages or streamed with {@link Http2Streaming}.
+ */
+@State(Scope.Benchmark)
+public class H2UploadJMH {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(H2UploadJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Param({"8"})
+    int uploads;
+
+    @Param({"4194304"})
+    int size;
+
+    @Param({"aggregated", "streaming"})
+    String mode;
+
+    WebServer webServer;
+    HttpClient httpClient;
+    HttpRequest request;
+
+    @Setup
+    public void setup() throws Exception {
+        webServer = WebServer.builder()
+                .defaultSocket(s -> {
+                    s.host("localhost")
+                            .port(0)
+                            // aggregated requests must fit into the upgrade content length
+                            .maxUpgradeContentLength(2 * size);
+                    if ("streaming".equals(mode)) {
+                        s.http2Streaming(Http2Streaming.create());
+                    }
+                })
+                .routing(r -> r
+                        .get("/", (req, res) -> res.send())
+                        .post("/upload", (req, res) -> req.content()
+                                .forEach(DataChunk::release)
+                                .thenAccept(it -> res.send())
+                                .exceptionally(t -> {
+                                    res.send(t);
+                                    return null;
+                                }))
+                )
+                .build()
+                .start()
+                .await(TIMEOUT);
+
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .build();
+        URI uri = URI.create("http://localhost:" + webServer.port());
+        // upgrade the connection with a request without entity
+        httpClient.send(HttpRequest.newBuilder(uri.resolve("/")).build(), HttpResponse.BodyHandlers.discarding());
+        request = HttpRequest.newBuilder(uri.resolve("/upload"))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(new byte[size]))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        webServer.shutdown().await(TIMEOUT);
+    }
+
+    @Benchmark
+    public void measure() throws Exception {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(uploads);
+        for (int i = 0; i < uploads; i++) {
+            responses.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            if (response.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS).statusCode() != 200) {
+                throw new IllegalStateException("Upload failed");
+            }
+        }
+    }
+}
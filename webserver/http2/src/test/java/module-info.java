@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,4 +22,5 @@ open module helidon.webserver.http2.test {
     requires org.junit.jupiter.api;
     requires io.helidon.webserver.http2;
     requires io.helidon.webclient;
+    requires jmh.core;
 }
\ No newline at end of file
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -150,7 +150,7 @@ class ClassPathContentHandler extends FileBasedContentHandler {
                     String requestedResource,
                     URL url,
                     ServerRequest request,
-                    ServerResponse response) {
+                    ServerResponse response) throws IOException {
 
         LOGGER.fine(() -> "Sending static content from classpath: " + url);
 
@@ -170,11 +170,7 @@ class ClassPathContentHandler extends FileBasedContentHandler {
                            request.headers(),
                            response.headers());
 
-        if (method == Http.Method.HEAD) {
-            response.send();
-        } else {
-            send(response, extrEntry.tempFile);
-        }
+        send(method, extrEntry.tempFile, extrEntry.lastModified, request, response);
 
         return true;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,7 +19,9 @@ package io.helidon.webserver.staticcontent;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.DateTimeException;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -29,6 +31,7 @@ import java.util.logging.Logger;
 import io.helidon.common.http.Http;
 import io.helidon.common.http.MediaType;
 import io.helidon.common.media.type.MediaTypes;
+import io.helidon.media.common.ByteRange;
 import io.helidon.media.common.DefaultMediaSupport;
 import io.helidon.media.common.MessageBodyWriter;
 import io.helidon.webserver.HttpException;
@@ -40,6 +43,7 @@ import io.helidon.webserver.ServerResponse;
 abstract class FileBasedContentHandler extends StaticContentHandler {
     private static final Logger LOGGER = Logger.getLogger(FileBasedContentHandler.class.getName());
     private static final MessageBodyWriter<Path> PATH_WRITER = DefaultMediaSupport.pathWriter();
+    private static final String RANGE_UNIT = "bytes";
 
     private final Map<String, MediaType> customMediaTypes;
 
@@ -157,8 +161,9 @@ abstract class FileBasedContentHandler extends StaticContentHandler {
         }
 
         // Caching headers support
+        Instant lastMod = null;
         try {
-            Instant lastMod = Files.getLastModifiedTime(path).toInstant();
+            lastMod = Files.getLastModifiedTime(path).toInstant();
             processEtag(String.valueOf(lastMod.toEpochMilli()), request.headers(), response.headers());
             processModifyHeaders(lastMod, request.headers(), response.headers());
         } catch (IOException | SecurityException e) {
@@ -166,16 +171,87 @@ abstract class FileBasedContentHandler extends StaticContentHandler {
         }
 
         processContentType(fileName(path), request.headers(), response.headers());
+        send(method, path, lastMod, request, response);
+    }
+
+    /**
+     * Send the file, honoring the {@code Range} and {@code If-Range} request headers for {@code GET} requests.
+     *
+     * @param method       GET or HEAD HTTP method
+     * @param path         file to send
+     * @param lastModified last modification time of the file, {@code null} if unknown
+     * @param request      an HTTP request
+     * @param response     an HTTP response
+     * @throws java.io.IOException if the file size cannot be obtained
+     */
+    void send(Http.RequestMethod method, Path path, Instant lastModified, ServerRequest request, ServerResponse response)
+            throws IOException {
+        response.headers().put(Http.Header.ACCEPT_RANGES, RANGE_UNIT);
         if (method == Http.Method.HEAD) {
             response.send();
-        } else {
+            return;
+        }
+
+        Optional<String> rangeHeader = request.headers().first(Http.Header.RANGE);
+        if (rangeHeader.isEmpty() || !ifRangeMatches(request.headers(), lastModified)) {
+            send(response, path);
+            return;
+        }
+
+        long size = Files.size(path);
+        Optional<List<ByteRange>> ranges = ByteRange.parse(rangeHeader.get(), size);
+        if (ranges.isEmpty()) {
+            // malformed or unsupported range unit - ignored, full content is sent
             send(response, path);
+            return;
+        }
+        if (ranges.get().isEmpty()) {
+            response.status(Http.Status.REQUESTED_RANGE_NOT_SATISFIABLE_416);
+            response.headers().put(Http.Header.CONTENT_RANGE, ByteRange.unsatisfiedContentRange(size));
+            response.send();
+            return;
         }
+
+        LOGGER.finest(() -> "Sending ranges " + ranges.get() + " of file: " + path);
+        response.status(Http.Status.PARTIAL_CONTENT_206);
+        response.send(DefaultMediaSupport.pathWriter(ranges.get()).marshall(path));
     }
 
     void send(ServerResponse response, Path path) {
         response.send(PATH_WRITER.marshall(path));
     }
 
+    /**
+     * Validates {@code If-Range} header against the validators of the file. Ranges are only served
+     * if the header is absent or matches the current ETag or Last-Modified time.
+     *
+     * @param requestHeaders an HTTP request headers
+     * @param lastModified last modification time of the file, {@code null} if unknown
+     * @return {@code true} if the requested ranges should be served
+     */
+    static boolean ifRangeMatches(RequestHeaders requestHeaders, Instant lastModified) {
+        Optional<String> ifRange = requestHeaders.first(Http.Header.IF_RANGE);
+        if (ifRange.isEmpty()) {
+            return true;
+        }
+        if (lastModified == null) {
+            return false;
+        }
+        String value = ifRange.get().trim();
+        if (value.startsWith("W/") || value.startsWith("w/")) {
+            // weak validators must not be used with If-Range
+            return false;
+        }
+        if (value.startsWith("\"")) {
+            return value.equals('"' + String.valueOf(lastModified.toEpochMilli()) + '"');
+        }
+        try {
+            Instant date = Http.DateTime.parse(value).toInstant();
+            return date.equals(lastModified.truncatedTo(ChronoUnit.SECONDS));
+        } catch (DateTimeException e) {
+            return false;
+        }
+    }
+
 
 }
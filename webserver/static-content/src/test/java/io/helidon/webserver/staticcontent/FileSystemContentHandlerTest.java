@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package io.helidon.webserver.staticcontent;
 
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -36,6 +37,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -45,6 +47,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 @ExtendWith(TemporaryFolderExtension.class)
 class FileSystemContentHandlerTest {
 
+    private static final long LARGE_SIZE = 4L * 1024 * 1024 * 1024;
+
     private TemporaryFolder folder;
 
     @BeforeEach
@@ -62,6 +66,20 @@ class FileSystemContentHandlerTest {
         Files.writeString(other.resolve("index.html"), "Index HTML");
     }
 
+    // large sparse file with markers at the start, in the middle and at the end, only created by tests that need it
+    private void createLargeFile() throws IOException {
+        Path root = folder.root().toPath();
+        try (RandomAccessFile file = new RandomAccessFile(root.resolve("large.bin").toFile(), "rw")) {
+            file.setLength(LARGE_SIZE);
+            file.seek(0);
+            file.write("START".getBytes(StandardCharsets.US_ASCII));
+            file.seek(LARGE_SIZE / 2);
+            file.write("MIDDLE".getBytes(StandardCharsets.US_ASCII));
+            file.seek(LARGE_SIZE - 3);
+            file.write("END".getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
     static String responseToString(TestResponse response)
             throws InterruptedException, ExecutionException, TimeoutException {
         return response.asBytes()
@@ -147,4 +165,97 @@ class FileSystemContentHandlerTest {
         assertThat(responseToString(response), is("A CSS"));
         assertThat(response.headers().first(Http.Header.CONTENT_TYPE).orElse(null), is(MediaType.TEXT_PLAIN.toString()));
     }
+
+    @Test
+    void serveSingleRange() throws Exception {
+        createLargeFile();
+        Routing routing = Routing.builder()
+                .register("/some", StaticContentSupport.create(folder.root().toPath()))
+                .build();
+        TestResponse response = TestClient.create(routing)
+                .path("/some/large.bin")
+                .header(Http.Header.RANGE, "bytes=" + (LARGE_SIZE / 2) + "-" + (LARGE_SIZE / 2 + 5))
+                .get();
+        assertThat(response.status(), is(Http.Status.PARTIAL_CONTENT_206));
+        assertThat(response.headers().first(Http.Header.CONTENT_RANGE).orElse(null),
+                   is("bytes " + (LARGE_SIZE / 2) + "-" + (LARGE_SIZE / 2 + 5) + "/" + LARGE_SIZE));
+        assertThat(response.headers().first(Http.Header.CONTENT_LENGTH).orElse(null), is("6"));
+        assertThat(responseToString(response), is("MIDDLE"));
+
+        // suffix range
+        response = TestClient.create(routing)
+                .path("/some/large.bin")
+                .header(Http.Header.RANGE, "bytes=-3")
+                .get();
+        assertThat(response.status(), is(Http.Status.PARTIAL_CONTENT_206));
+        assertThat(responseToString(response), is("END"));
+    }
+
+    @Test
+    void serveMultipleRanges() throws Exception {
+        createLargeFile();
+        Routing routing = Routing.builder()
+                .register("/some", StaticContentSupport.create(folder.root().toPath()))
+                .build();
+        TestResponse response = TestClient.create(routing)
+                .path("/some/large.bin")
+                .header(Http.Header.RANGE, "bytes=0-4, -3")
+                .get();
+        assertThat(response.status(), is(Http.Status.PARTIAL_CONTENT_206));
+        assertThat(response.headers().first(Http.Header.CONTENT_TYPE).orElse(""),
+                   containsString("multipart/byteranges; boundary="));
+        String body = responseToString(response);
+        assertThat(body, containsString("Content-Range: bytes 0-4/" + LARGE_SIZE + "\r\n\r\nSTART\r\n"));
+        assertThat(body, containsString("Content-Range: bytes " + (LARGE_SIZE - 3) + "-" + (LARGE_SIZE - 1)
+                                                + "/" + LARGE_SIZE + "\r\n\r\nEND\r\n"));
+        assertThat(response.headers().first(Http.Header.CONTENT_LENGTH).orElse(null),
+                   is(String.valueOf(body.getBytes(StandardCharsets.US_ASCII).length)));
+    }
+
+    @Test
+    void serveRangeValidation() throws Exception {
+        Routing routing = Routing.builder()
+                .register("/some", StaticContentSupport.create(folder.root().toPath()))
+                .build();
+        // unsatisfiable
+        TestResponse response = TestClient.create(routing)
+                .path("/some/foo.txt")
+                .header(Http.Header.RANGE, "bytes=100-200")
+                .get();
+        assertThat(response.status(), is(Http.Status.REQUESTED_RANGE_NOT_SATISFIABLE_416));
+        assertThat(response.headers().first(Http.Header.CONTENT_RANGE).orElse(null), is("bytes */7"));
+        // malformed range is ignored
+        response = TestClient.create(routing)
+                .path("/some/foo.txt")
+                .header(Http.Header.RANGE, "lines=1-2")
+                .get();
+        assertThat(response.status(), is(Http.Status.OK_200));
+        assertThat(response.headers().first(Http.Header.ACCEPT_RANGES).orElse(null), is("bytes"));
+        assertThat(responseToString(response), is("Foo TXT"));
+        // If-Range not matching the current ETag sends the full content
+        response = TestClient.create(routing)
+                .path("/some/foo.txt")
+                .header(Http.Header.RANGE, "bytes=0-2")
+                .header(Http.Header.IF_RANGE, "\"outdated\"")
+                .get();
+        assertThat(response.status(), is(Http.Status.OK_200));
+        assertThat(responseToString(response), is("Foo TXT"));
+        // overlapping ranges are coalesced
+        response = TestClient.create(routing)
+                .path("/some/foo.txt")
+                .header(Http.Header.RANGE, "bytes=0-2,1-4")
+                .get();
+        assertThat(response.status(), is(Http.Status.PARTIAL_CONTENT_206));
+        assertThat(response.headers().first(Http.Header.CONTENT_RANGE).orElse(null), is("bytes 0-4/7"));
+        assertThat(responseToString(response), is("Foo T"));
+        // If-Range matching the current ETag
+        String etag = response.headers().first(Http.Header.ETAG).orElseThrow();
+        response = TestClient.create(routing)
+                .path("/some/foo.txt")
+                .header(Http.Header.RANGE, "bytes=0-2")
+                .header(Http.Header.IF_RANGE, etag)
+                .get();
+        assertThat(response.status(), is(Http.Status.PARTIAL_CONTENT_206));
+        assertThat(responseToString(response), is("Foo"));
+    }
 }
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import io.helidon.config.Config;
+import io.helidon.config.metadata.Configured;
+import io.helidon.config.metadata.ConfiguredOption;
+
+/**
+ * Configuration of the adaptive concurrency limit of a socket.
+ * <p>
+ * The limit of concurrently processed requests starts at {@link #initialLimit()} and is adjusted
+ * using additive increase / multiplicative decrease based on observed request latency:
+ * <ul>
+ *     <li>when the latency of a completed request exceeds the lowest recently observed latency multiplied by
+ *     {@link #latencyTolerance()}, the limit is multiplied by {@link #backoffRatio()}</li>
+ *     <li>otherwise, when at least half of the limit is in use, the limit is increased by one</li>
+ * </ul>
+ * The limit always stays between {@link #minLimit()} and {@link #maxLimit()}. Requests over the limit
+ * are rejected with {@link io.helidon.common.http.Http.Status#SERVICE_UNAVAILABLE_503} before they are routed.
+ */
+public final class AdaptiveConcurrency {
+    private final boolean enabled;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final double backoffRatio;
+    private final int sampleWindow;
+
+    private AdaptiveConcurrency(Builder builder) {
+        this.enabled = builder.enabled;
+        this.initialLimit = builder.initialLimit;
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.latencyTolerance = builder.latencyTolerance;
+        this.backoffRatio = builder.backoffRatio;
+        this.sampleWindow = builder.sampleWindow;
+    }
+
+    /**
+     * A new fluent API builder.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create adaptive concurrency configuration from config.
+     *
+     * @param config configuration on the node of adaptive concurrency
+     * @return a new instance
+     */
+    public static AdaptiveConcurrency create(Config config) {
+        return builder().config(config).build();
+    }
+
+    /**
+     * Whether the adaptive limit is enabled.
+     *
+     * @return {@code true} if enabled
+     */
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * Initial limit of concurrent requests.
+     *
+     * @return initial limit
+     */
+    public int initialLimit() {
+        return initialLimit;
+    }
+
+    /**
+     * Lowest value the limit can decrease to.
+     *
+     * @return minimal limit
+     */
+    public int minLimit() {
+        return minLimit;
+    }
+
+    /**
+     * Highest value the limit can increase to.
+     *
+     * @return maximal limit
+     */
+    public int maxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * Ratio of observed latency to the lowest recent latency that is considered congestion.
+     *
+     * @return latency tolerance
+     */
+    public double latencyTolerance() {
+        return latencyTolerance;
+    }
+
+    /**
+     * Ratio the limit is multiplied with when congestion is detected.
+     *
+     * @return backoff ratio
+     */
+    public double backoffRatio() {
+        return backoffRatio;
+    }
+
+    /**
+     * Number of completed requests after which the lowest observed latency is re-sampled.
+     *
+     * @return sample window size
+     */
+    public int sampleWindow() {
+        return sampleWindow;
+    }
+
+    /**
+     * Fluent API builder for {@link AdaptiveConcurrency}.
+     */
+    @Configured
+    public static final class Builder implements io.helidon.common.Builder<Builder, AdaptiveConcurrency> {
+        private boolean enabled = true;
+        private int initialLimit = 20;
+        private int minLimit = 1;
+        private int maxLimit = 1000;
+        private double latencyTolerance = 2.0;
+        private double backoffRatio = 0.9;
+        private int sampleWindow = 1000;
+
+        private Builder() {
+        }
+
+        @Override
+        public AdaptiveConcurrency build() {
+            if (minLimit < 1 || maxLimit < minLimit) {
+                throw new IllegalArgumentException("Adaptive concurrency limits must satisfy 1 <= min-limit <= max-limit, "
+                                                           + "but min-limit is " + minLimit + " and max-limit is " + maxLimit);
+            }
+            if (backoffRatio <= 0 || backoffRatio >= 1) {
+                throw new IllegalArgumentException("Backoff ratio must be between 0 and 1 (exclusive), but is " + backoffRatio);
+            }
+            if (latencyTolerance < 1) {
+                throw new IllegalArgumentException("Latency tolerance must be at least 1, but is " + latencyTolerance);
+            }
+            initialLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+            return new AdaptiveConcurrency(this);
+        }
+
+        /**
+         * Update this builder from configuration.
+         *
+         * @param config configuration on the node of adaptive concurrency
+         * @return updated builder instance
+         */
+        public Builder config(Config config) {
+            config.get("enabled").asBoolean().ifPresent(this::enabled);
+            config.get("initial-limit").asInt().ifPresent(this::initialLimit);
+            config.get("min-limit").asInt().ifPresent(this::minLimit);
+            config.get("max-limit").asInt().ifPresent(this::maxLimit);
+            config.get("latency-tolerance").asDouble().ifPresent(this::latencyTolerance);
+            config.get("backoff-ratio").asDouble().ifPresent(this::backoffRatio);
+            config.get("sample-window").asInt().ifPresent(this::sampleWindow);
+            return this;
+        }
+
+        /**
+         * Whether the adaptive limit is enabled.
+         *
+         * @param enabled set to {@code false} to disable
+         * @return updated builder instance
+         */
+        @ConfiguredOption("true")
+        public Builder enabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Initial limit of concurrent requests.
+         *
+         * @param initialLimit initial limit
+         * @return updated builder instance
+         */
+        @ConfiguredOption("20")
+        public Builder initialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        /**
+         * Lowest value the limit can decrease to.
+         *
+         * @param minLimit minimal limit
+         * @return updated builder instance
+         */
+        @ConfiguredOption("1")
+        public Builder minLimit(int minLimit) {
+            this.minLimit = minLimit;
+            return this;
+        }
+
+        /**
+         * Highest value the limit can increase to.
+         *
+         * @param maxLimit maximal limit
+         * @return updated builder instance
+         */
+        @ConfiguredOption("1000")
+        public Builder maxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * Ratio of observed latency to the lowest recent latency that is considered congestion.
+         *
+         * @param latencyTolerance latency tolerance, must be at least {@code 1}
+         * @return updated builder instance
+         */
+        @ConfiguredOption("2.0")
+        public Builder latencyTolerance(double latencyTolerance) {
+            this.latencyTolerance = latencyTolerance;
+            return this;
+        }
+
+        /**
+         * Ratio the limit is multiplied with when congestion is detected.
+         *
+         * @param backoffRatio backoff ratio, between {@code 0} and {@code 1}
+         * @return updated builder instance
+         */
+        @ConfiguredOption("0.9")
+        public Builder backoffRatio(double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * Number of completed requests after which the lowest observed latency is re-sampled,
+         * so the limiter adapts to a changed baseline latency.
+         *
+         * @param sampleWindow sample window size
+         * @return updated builder instance
+         */
+        @ConfiguredOption("1000")
+        public Builder sampleWindow(int sampleWindow) {
+            this.sampleWindow = sampleWindow;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.IoMulti;
+import io.helidon.common.reactive.OutputStreamMulti;
+import io.helidon.media.common.DataChunkInputStream;
+
+/**
+ * A handler of {@link ServerRequest request} and {@link ServerResponse response} written in blocking style.
+ * <p>
+ * Blocking handlers are registered using {@link Routing.Rules#blocking(io.helidon.common.http.Http.RequestMethod, String,
+ * BlockingHandler)} and are executed on the blocking executor of the routing, which uses a virtual thread per request
+ * when available (see {@link Routing.Builder#blockingExecutor(java.util.function.Supplier)}), so the handler
+ * may block, for example using {@link io.helidon.common.reactive.Single#await()}, without blocking the server
+ * event loop.
+ * <p>
+ * Request entity can be read as a stream using {@link #inputStream(ServerRequest)}, response entity can be written
+ * as a stream using {@link #outputStream(ServerResponse)}. Both streams respect back-pressure of the connection:
+ * a read blocks until data is received, a write blocks until the data can be sent.
+ *
+ * <pre>{@code
+ * Routing.builder()
+ *      .blocking(Http.Method.POST, "/echo", (req, res) -> {
+ *          try (InputStream in = BlockingHandler.inputStream(req);
+ *               OutputStream out = BlockingHandler.outputStream(res)) {
+ *              in.transferTo(out);
+ *          }
+ *      })
+ * }</pre>
+ *
+ * As with {@link Handler}, the handler must either send the response or call {@link ServerRequest#next()}.
+ * Exception thrown from the handler is forwarded to the error handling ({@link ServerRequest#next(Throwable)}).
+ */
+@FunctionalInterface
+public interface BlockingHandler {
+
+    /**
+     * Handles {@link ServerRequest request} and {@link ServerResponse response}.
+     *
+     * @param req an HTTP server request
+     * @param res an HTTP server response
+     * @throws Exception to be forwarded to the error handling
+     */
+    void handle(ServerRequest req, ServerResponse res) throws Exception;
+
+    /**
+     * Blocking stream of the request entity.
+     * Each data chunk is requested only when the previous one was read.
+     *
+     * @param req an HTTP server request
+     * @return input stream of the entity
+     */
+    static InputStream inputStream(ServerRequest req) {
+        return new DataChunkInputStream(req.content());
+    }
+
+    /**
+     * Blocking stream of the response entity. The response is sent using this stream, so no other {@code send(...)}
+     * method may be called, and the stream must be closed to complete the response.
+     * Writes block until the connection requests more data. {@link OutputStream#flush()} flushes the data written
+     * so far to the connection.
+     *
+     * @param res an HTTP server response
+     * @return output stream of the entity
+     */
+    static OutputStream outputStream(ServerResponse res) {
+        OutputStreamMulti stream = IoMulti.outputStreamMulti();
+        res.send(stream.map(buffer -> DataChunk.create(!buffer.hasRemaining(), buffer)));
+        return stream;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.util.Objects;
+
+/**
+ * {@link Handler} of a route registered with a {@link BlockingHandler}.
+ * {@link RequestRouting} recognizes it and invokes it on the blocking executor instead of the event loop.
+ */
+final class BlockingHandlerAdapter implements Handler {
+
+    private final BlockingHandler handler;
+
+    BlockingHandlerAdapter(BlockingHandler handler) {
+        this.handler = Objects.requireNonNull(handler, "Parameter 'handler' is null!");
+    }
+
+    @Override
+    public void accept(ServerRequest req, ServerResponse res) {
+        try {
+            handler.handle(req, res);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            req.next(e);
+        }
+    }
+
+    BlockingHandler handler() {
+        return handler;
+    }
+
+    @Override
+    public String toString() {
+        return "Blocking(" + handler + ")";
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -119,7 +119,12 @@ public interface DirectHandler {
         /**
          * Continue (see {@link Http.Status#CONTINUE_100}).
          */
-        CONTINUE
+        CONTINUE,
+        /**
+         * Request rejected because the socket reached its limit of concurrently processed requests
+         * (see {@link Http.Status#SERVICE_UNAVAILABLE_503}).
+         */
+        SERVICE_UNAVAILABLE
     }
 
     /**
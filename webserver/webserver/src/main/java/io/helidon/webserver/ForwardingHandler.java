@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -82,6 +83,7 @@ public class ForwardingHandler extends SimpleChannelInboundHandler<Object> {
     private final Runnable clearQueues;
     private final SocketConfiguration soConfig;
     private final DirectHandlers directHandlers;
+    private final SocketLoadLimiter loadLimiter;
 
     // this field is always accessed by the very same thread; as such, it doesn't need to be
     // concurrency aware
@@ -100,7 +102,8 @@ public class ForwardingHandler extends SimpleChannelInboundHandler<Object> {
                       ReferenceQueue<Object> queues,
                       Runnable clearQueues,
                       SocketConfiguration soConfig,
-                      DirectHandlers directHandlers) {
+                      DirectHandlers directHandlers,
+                      SocketLoadLimiter loadLimiter) {
         this.routing = routing;
         this.webServer = webServer;
         this.sslEngine = sslEngine;
@@ -109,6 +112,7 @@ public class ForwardingHandler extends SimpleChannelInboundHandler<Object> {
         this.clearQueues = clearQueues;
         this.soConfig = soConfig;
         this.directHandlers = directHandlers;
+        this.loadLimiter = (loadLimiter != null && loadLimiter.limitsRequests()) ? loadLimiter : null;
     }
 
     private void reset() {
@@ -390,6 +394,25 @@ public class ForwardingHandler extends SimpleChannelInboundHandler<Object> {
             }
         }
 
+        // If the socket is overloaded, reject with 503 before the request is routed
+        long requestStartNanos = 0;
+        if (loadLimiter != null) {
+            if (!loadLimiter.tryAcquireRequest()) {
+                ignorePayload = true;
+                send503ServiceUnavailable(ctx, request);
+                return true;
+            }
+            requestStartNanos = System.nanoTime();
+        }
+        long requestStart = requestStartNanos;
+        // the permit must be released exactly once, however the request ends
+        AtomicBoolean permitReleased = new AtomicBoolean(loadLimiter == null);
+        Runnable releasePermit = () -> {
+            if (permitReleased.compareAndSet(false, true)) {
+                loadLimiter.releaseRequest(System.nanoTime() - requestStart);
+            }
+        };
+
         // If prev response is done, the next can start writing right away (HTTP pipelining)
         if (prevRequestFuture != null && prevRequestFuture.isDone()) {
             prevRequestFuture = null;
@@ -411,6 +434,9 @@ public class ForwardingHandler extends SimpleChannelInboundHandler<Object> {
                                      requestId);
         prevRequestFuture = new CompletableFuture<>();
         CompletableFuture<?> thisResp = prevRequestFuture;
+        // also when the response completes exceptionally, such as when the connection is closed
+        bareResponse.whenCompleted()
+                .whenComplete((response, throwable) -> releasePermit.run());
         bareResponse.whenCompleted()
                 .thenRun(() -> {
                     // Mark response completed in context
@@ -453,6 +479,7 @@ public class ForwardingHandler extends SimpleChannelInboundHandler<Object> {
             requestContext.runInScope(() -> routing.route(bareRequest, bareResponse));
         } catch (IllegalArgumentException e) {
             // this probably cannot happen
+            releasePermit.run();
             send400BadRequest(ctx, request, e, "Exception encountered while routing request");
             return true;
         }
@@ -573,6 +600,30 @@ public class ForwardingHandler extends SimpleChannelInboundHandler<Object> {
         failPublisher(error);
     }
 
+    /**
+     * Returns a 503 (Service Unavailable) response, used when the socket reached its limit of concurrent requests.
+     *
+     * @param ctx Channel context.
+     * @param request Netty HTTP request
+     */
+    private void send503ServiceUnavailable(ChannelHandlerContext ctx, HttpRequest request) {
+        TransportResponse transportResponse = directHandlers.handler(DirectHandler.EventType.SERVICE_UNAVAILABLE)
+                .handle(new DirectHandlerRequest(request),
+                        DirectHandler.EventType.SERVICE_UNAVAILABLE,
+                        Http.Status.SERVICE_UNAVAILABLE_503,
+                        "");
+
+        FullHttpResponse response = toNettyResponse(transportResponse);
+        // entity was not consumed -> close connection
+        response.headers().add(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+
+        ctx.writeAndFlush(response)
+                .addListener(future -> ctx.close());
+
+        LOGGER.finest(() -> formatMsg("503: Request limit reached", ctx));
+        failPublisher(new Error("503: Service unavailable"));
+    }
+
     private FullHttpResponse toNettyResponse(TransportResponse handlerResponse) {
         Optional<byte[]> entity = handlerResponse.entity();
         Http.ResponseStatus status = handlerResponse.status();
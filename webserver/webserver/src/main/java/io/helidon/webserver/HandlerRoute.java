@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -42,6 +42,8 @@ class HandlerRoute implements HttpRoute {
 
     private final Map<String, String> diagnosticEvent;
 
+    private volatile String operation;
+
     /**
      * Creates new instance.
      *
@@ -72,7 +74,10 @@ class HandlerRoute implements HttpRoute {
         // Construct diagnostic event
         Map<String, String> eventData = new HashMap<>(5);
         if (this.handler != null) {
-            eventData.put("handler.class", this.handler.getClass().getName());
+            Object actual = this.handler instanceof BlockingHandlerAdapter
+                    ? ((BlockingHandlerAdapter) this.handler).handler()
+                    : this.handler;
+            eventData.put("handler.class", actual.getClass().getName());
         }
         if (!this.serviceContext.isEmpty()) {
             eventData.put("service.context.classes", this.serviceContext.stream()
@@ -150,6 +155,34 @@ class HandlerRoute implements HttpRoute {
         return pathMatcher.match(extractPathParams(path.toString()));
     }
 
+    /**
+     * Identification of this route without request specific data, such as {@code GET /greet/{name}}.
+     * Used as the operation name of a tracing sampler, so traces are sampled per route.
+     *
+     * @return accepted methods and path template of this route, or {@code null} if it accepts any request
+     */
+    String operation() {
+        return operation;
+    }
+
+    /**
+     * Resolves {@link #operation()} of this route, once the routing is built.
+     *
+     * @param contextTemplate path template of the route lists containing this route
+     */
+    void contextTemplate(String contextTemplate) {
+        String template = contextTemplate + PathPattern.template(pathMatcher);
+        Set<Http.RequestMethod> methods = acceptedMethods();
+        if (methods.isEmpty()) {
+            this.operation = template.isEmpty() ? null : template;
+        } else {
+            this.operation = methods.stream()
+                    .map(Http.RequestMethod::name)
+                    .sorted()
+                    .collect(Collectors.joining(",", "", " " + (template.isEmpty() ? "/" : template)));
+        }
+    }
+
     @Override
     public String toString() {
         return "HandlerRoute{"
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import io.helidon.config.Config;
+import io.helidon.config.metadata.Configured;
+import io.helidon.config.metadata.ConfiguredOption;
+
+/**
+ * Configuration of streamed HTTP/2 request handling of a socket.
+ * <p>
+ * When enabled (and HTTP/2 support is on the classpath), each HTTP/2 stream is handled independently and
+ * its {@code DATA} frames are published as request entity chunks as they arrive, instead of being aggregated
+ * into a single message limited by {@link SocketConfiguration#maxUpgradeContentLength()}.
+ * Back-pressure is applied through HTTP/2 flow control: the window of a stream is only replenished
+ * as the entity chunks are requested by the route, so at most {@link #initialWindowSize()} bytes
+ * are buffered per stream.
+ * <p>
+ * The connection window is sized to {@link #initialWindowSize()} times {@link #maxConcurrentStreams()},
+ * so a stream that is not consumed does not block the other streams of the same connection.
+ */
+public final class Http2Streaming {
+    /**
+     * Default initial window size of a stream, as defined by the HTTP/2 specification.
+     */
+    public static final int DEFAULT_INITIAL_WINDOW_SIZE = 65535;
+    /**
+     * Default maximal number of concurrent streams of a connection.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_STREAMS = 100;
+
+    private static final int MAX_WINDOW_SIZE = Integer.MAX_VALUE;
+
+    private final boolean enabled;
+    private final int initialWindowSize;
+    private final int maxConcurrentStreams;
+
+    private Http2Streaming(Builder builder) {
+        this.enabled = builder.enabled;
+        this.initialWindowSize = builder.initialWindowSize;
+        this.maxConcurrentStreams = builder.maxConcurrentStreams;
+    }
+
+    /**
+     * A new fluent API builder.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create HTTP/2 streaming configuration with default values.
+     *
+     * @return a new instance
+     */
+    public static Http2Streaming create() {
+        return builder().build();
+    }
+
+    /**
+     * Create HTTP/2 streaming configuration from config.
+     *
+     * @param config configuration on the node of HTTP/2 streaming
+     * @return a new instance
+     */
+    public static Http2Streaming create(Config config) {
+        return builder().config(config).build();
+    }
+
+    /**
+     * Whether streamed HTTP/2 request handling is enabled.
+     *
+     * @return {@code true} if enabled
+     */
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * Initial flow-control window of each stream, advertised in {@code SETTINGS_INITIAL_WINDOW_SIZE}.
+     *
+     * @return initial window size in bytes
+     */
+    public int initialWindowSize() {
+        return initialWindowSize;
+    }
+
+    /**
+     * Maximal number of concurrent streams of a connection, advertised in {@code SETTINGS_MAX_CONCURRENT_STREAMS}.
+     *
+     * @return maximal number of concurrent streams
+     */
+    public int maxConcurrentStreams() {
+        return maxConcurrentStreams;
+    }
+
+    /**
+     * Flow-control window of the connection, large enough for all concurrent streams to use their whole window.
+     *
+     * @return connection window size in bytes
+     */
+    public int connectionWindowSize() {
+        return (int) Math.min(MAX_WINDOW_SIZE, (long) initialWindowSize * maxConcurrentStreams);
+    }
+
+    /**
+     * Fluent API builder for {@link Http2Streaming}.
+     */
+    @Configured
+    public static final class Builder implements io.helidon.common.Builder<Builder, Http2Streaming> {
+        private boolean enabled = true;
+        private int initialWindowSize = DEFAULT_INITIAL_WINDOW_SIZE;
+        private int maxConcurrentStreams = DEFAULT_MAX_CONCURRENT_STREAMS;
+
+        private Builder() {
+        }
+
+        @Override
+        public Http2Streaming build() {
+            if (initialWindowSize < 1) {
+                throw new IllegalArgumentException("Initial window size must be positive, but is " + initialWindowSize);
+            }
+            if (maxConcurrentStreams < 1) {
+                throw new IllegalArgumentException("Max concurrent streams must be positive, but is " + maxConcurrentStreams);
+            }
+            return new Http2Streaming(this);
+        }
+
+        /**
+         * Update this builder from configuration.
+         *
+         * @param config configuration on the node of HTTP/2 streaming
+         * @return updated builder instance
+         */
+        public Builder config(Config config) {
+            config.get("enabled").asBoolean().ifPresent(this::enabled);
+            config.get("initial-window-size").asInt().ifPresent(this::initialWindowSize);
+            config.get("max-concurrent-streams").asInt().ifPresent(this::maxConcurrentStreams);
+            return this;
+        }
+
+        /**
+         * Whether streamed HTTP/2 request handling is enabled.
+         *
+         * @param enabled set to {@code false} to aggregate HTTP/2 requests as before
+         * @return updated builder instance
+         */
+        @ConfiguredOption("true")
+        public Builder enabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Initial flow-control window of each stream. This is the maximal number of bytes of a request entity
+         * buffered by the server before the route requests them.
+         *
+         * @param initialWindowSize initial window size in bytes
+         * @return updated builder instance
+         */
+        @ConfiguredOption("65535")
+        public Builder initialWindowSize(int initialWindowSize) {
+            this.initialWindowSize = initialWindowSize;
+            return this;
+        }
+
+        /**
+         * Maximal number of concurrent streams of a connection.
+         *
+         * @param maxConcurrentStreams maximal number of concurrent streams
+         * @return updated builder instance
+         */
+        @ConfiguredOption("100")
+        public Builder maxConcurrentStreams(int maxConcurrentStreams) {
+            this.maxConcurrentStreams = maxConcurrentStreams;
+            return this;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import java.lang.ref.ReferenceQueue;
 import java.security.Principal;
 import java.security.cert.Certificate;
 import java.security.cert.X509Certificate;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -34,11 +35,11 @@ import io.helidon.webserver.ReferenceHoldingQueue.IndirectReference;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.handler.codec.http.HttpContentCompressor;
 import io.netty.handler.codec.http.HttpServerCodec;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
@@ -63,6 +64,9 @@ class HttpInitializer extends ChannelInitializer<SocketChannel> {
     private final SocketConfiguration soConfig;
     private final Router router;
     private final AtomicBoolean clearLock = new AtomicBoolean();
+    private final SocketLoadLimiter loadLimiter;
+    private final ResponseCompression compression;
+    private final Http2Streaming http2Streaming;
     private volatile SslContext sslContext;
 
     /**
@@ -89,6 +93,15 @@ class HttpInitializer extends ChannelInitializer<SocketChannel> {
         this.sslContext = sslContext;
         this.webServer = webServer;
         this.directHandlers = directHandlers;
+        this.loadLimiter = SocketLoadLimiter.create(soConfig).orElse(null);
+        this.compression = soConfig.compression()
+                .or(() -> soConfig.enableCompression() ? Optional.of(ResponseCompression.compatible()) : Optional.empty())
+                .filter(ResponseCompression::enabled)
+                .filter(it -> !it.encodings().isEmpty())
+                .orElse(null);
+        this.http2Streaming = soConfig.http2Streaming()
+                .filter(Http2Streaming::enabled)
+                .orElse(null);
     }
 
     /**
@@ -144,6 +157,10 @@ class HttpInitializer extends ChannelInitializer<SocketChannel> {
         return sslContext != null;
     }
 
+    Optional<SocketLoadLimiter> loadLimiter() {
+        return Optional.ofNullable(loadLimiter);
+    }
+
     /**
      * Initializes pipeline for new socket channel.
      *
@@ -153,6 +170,16 @@ class HttpInitializer extends ChannelInitializer<SocketChannel> {
     public void initChannel(SocketChannel ch) {
         log("Initializing channel", ch);
 
+        // Enforce connection limit before any handler is created
+        if (loadLimiter != null) {
+            if (!loadLimiter.tryAcquireConnection()) {
+                log("Connection limit reached, closing channel", ch);
+                ch.close();
+                return;
+            }
+            ch.closeFuture().addListener(future -> loadLimiter.releaseConnection());
+        }
+
         final ChannelPipeline p = ch.pipeline();
 
         SSLEngine sslEngine = null;
@@ -168,7 +195,6 @@ class HttpInitializer extends ChannelInitializer<SocketChannel> {
             p.addLast(new LoggingHandler(LogLevel.DEBUG));
         }
 
-        ServerConfiguration serverConfig = webServer.configuration();
         HttpServerCodec sourceCodec = new HttpServerCodec(
                 soConfig.maxInitialLineLength(),
                 soConfig.maxHeaderSize(),
@@ -177,25 +203,15 @@ class HttpInitializer extends ChannelInitializer<SocketChannel> {
                 soConfig.initialBufferSize()
         );
 
-        UpgradeManager.addUpgradeHandler(p, router, sourceCodec, soConfig.maxUpgradeContentLength());
-
-        // Enable compression via "Accept-Encoding" header if configured
-        if (serverConfig.enableCompression()) {
-            log("Compression negotiation enabled (gzip, deflate)", ch);
-            p.addLast(new HttpContentCompressor());
-        }
+        ChannelHandler streamInitializer = http2Streaming == null ? null : new StreamInitializer(sslEngine);
+        UpgradeManager.addUpgradeHandler(p,
+                                         router,
+                                         sourceCodec,
+                                         soConfig.maxUpgradeContentLength(),
+                                         http2Streaming,
+                                         streamInitializer);
 
-        RequestRouting requestRouting = router.routing(RequestRouting.class, null);
-        if (requestRouting != null) {
-            // Helidon's forwarding handler
-            p.addLast(new ForwardingHandler(requestRouting,
-                    webServer,
-                    sslEngine,
-                    queues,
-                    this::clearQueues,
-                    soConfig,
-                    directHandlers));
-        }
+        addRequestHandlers(p, sslEngine);
 
         // Set up idle handler to close inactive connections based on config
         int idleTimeout = soConfig.connectionIdleTimeout();
@@ -216,6 +232,34 @@ class HttpInitializer extends ChannelInitializer<SocketChannel> {
         ch.eventLoop().execute(this::clearQueues);
     }
 
+    /**
+     * Adds handlers processing HTTP requests, either to the pipeline of the socket channel,
+     * or of an HTTP/2 stream channel.
+     *
+     * @param p the pipeline
+     * @param sslEngine the SSL engine of the socket channel, may be {@code null}
+     */
+    private void addRequestHandlers(ChannelPipeline p, SSLEngine sslEngine) {
+        // Enable compression via "Accept-Encoding" header if configured
+        if (compression != null) {
+            log("Compression negotiation enabled", p.channel());
+            p.addLast(new ResponseCompressionHandler(compression));
+        }
+
+        RequestRouting requestRouting = router.routing(RequestRouting.class, null);
+        if (requestRouting != null) {
+            // Helidon's forwarding handler
+            p.addLast(new ForwardingHandler(requestRouting,
+                    webServer,
+                    sslEngine,
+                    queues,
+                    this::clearQueues,
+                    soConfig,
+                    directHandlers,
+                    loadLimiter));
+        }
+    }
+
     /**
      * Sets {@code CERTIFICATE_NAME} in socket channel.
      *
@@ -258,4 +302,31 @@ class HttpInitializer extends ChannelInitializer<SocketChannel> {
             LOGGER.finer("[Initializer: " + System.identityHashCode(this) + ", Channel: 0x" + channelId + "] " + msg);
         }
     }
+
+    /**
+     * Initializes the pipeline of each stream of a streamed HTTP/2 connection, the stream channel
+     * receives HTTP/1 objects and shares the client certificate of its connection.
+     */
+    @ChannelHandler.Sharable
+    private final class StreamInitializer extends ChannelInitializer<Channel> {
+        private final SSLEngine sslEngine;
+
+        private StreamInitializer(SSLEngine sslEngine) {
+            this.sslEngine = sslEngine;
+        }
+
+        @Override
+        protected void initChannel(Channel ch) {
+            log("Initializing HTTP/2 stream channel", ch);
+
+            Channel parent = ch.parent();
+            if (parent != null) {
+                ch.attr(CLIENT_CERTIFICATE_NAME).set(parent.attr(CLIENT_CERTIFICATE_NAME).get());
+                ch.attr(CLIENT_CERTIFICATE).set(parent.attr(CLIENT_CERTIFICATE).get());
+                ch.attr(CLIENT_CERTIFICATE_CHAIN).set(parent.attr(CLIENT_CERTIFICATE_CHAIN).get());
+            }
+
+            addRequestHandlers(ch.pipeline(), sslEngine);
+        }
+    }
 }
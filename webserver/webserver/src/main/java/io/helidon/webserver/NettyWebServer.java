@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -462,6 +462,15 @@ class NettyWebServer implements WebServer {
         return httpInitializer.hasTls();
     }
 
+    @Override
+    public Optional<SocketLoadStatistics> loadStatistics(String socketName) {
+        HttpInitializer httpInitializer = initializers.get(socketName);
+        if (httpInitializer == null) {
+            return Optional.empty();
+        }
+        return httpInitializer.loadLimiter().map(SocketLoadStatistics.class::cast);
+    }
+
     @Override
     public void updateTls(WebServerTls tls) {
         updateTls(tls, WebServer.DEFAULT_SOCKET_NAME);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -148,7 +148,7 @@ final class PathPattern {
         }
         try {
             if (isRegexp) {
-                return new RegexpPathMatcher(regexp.toString(), paramToGroupName);
+                return new RegexpPathMatcher(pattern.toString(), regexp.toString(), paramToGroupName);
             } else {
                 return new CanonicalPathMatcher(canonical.toString());
             }
@@ -157,6 +157,24 @@ final class PathPattern {
         }
     }
 
+    /**
+     * Returns the pattern a matcher was compiled from, to identify routes without request specific data.
+     *
+     * @param matcher a path matcher, may be {@code null}
+     * @return the pattern of a compiled matcher, {@code toString()} of a custom matcher, or an empty string
+     *         if the matcher accepts any path
+     */
+    static String template(PathMatcher matcher) {
+        if (matcher == null || matcher == Route.EMPTY_PATH_MATCHER) {
+            return "";
+        } else if (matcher instanceof CanonicalPathMatcher cpm) {
+            return cpm.pattern;
+        } else if (matcher instanceof RegexpPathMatcher rpm) {
+            return rpm.template;
+        }
+        return matcher.toString();
+    }
+
     private static void escapeIfNeeded(char ch, StringBuilder builder) {
         if (Arrays.binarySearch(REGEXP_META_CHARACTERS, ch) < 0) {
             builder.append(ch);
@@ -359,6 +377,7 @@ final class PathPattern {
 
         private static final String RIGHT_PART_PARAM_NAME = PARAM_PREFIX + "rightpart";
 
+        private final String template;
         private final Map<String, String> paramToGroupName;
         private final Pattern pattern;
         private final Pattern leftPattern;
@@ -366,13 +385,15 @@ final class PathPattern {
         /**
          * Creates new instance.
          *
+         * @param template a path pattern the regular expression was compiled from.
          * @param regexp an regular expression.
          * @param paramToGroupName a map of pattern parameter names and it's regexp matching group names.
          * @throws NullPointerException  In case of {@code null} regexp parameter.
          * @throws PatternSyntaxException If the expression's syntax is invalid.
          */
-        RegexpPathMatcher(String regexp, Map<String, String> paramToGroupName) {
+        RegexpPathMatcher(String template, String regexp, Map<String, String> paramToGroupName) {
             Objects.requireNonNull(regexp, "Parameter 'pattern' is null!");
+            this.template = template;
             this.pattern = Pattern.compile(regexp);
             this.leftPattern = Pattern.compile(regexp + "(?<" + RIGHT_PART_PARAM_NAME + ">/.+)?");
             if (paramToGroupName == null) {
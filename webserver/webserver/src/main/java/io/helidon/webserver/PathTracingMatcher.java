@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.helidon.common.http.Http;
+import io.helidon.tracing.config.TracingConfig;
+
+/**
+ * Path specific tracing configurations compiled into path matchers, evaluated by a single handler
+ * instead of registering a route for each configured path.
+ */
+final class PathTracingMatcher {
+    private final PathMatcher[] matchers;
+    private final Http.RequestMethod[][] methods;
+    private final TracingConfig[] configs;
+
+    private PathTracingMatcher(PathMatcher[] matchers, Http.RequestMethod[][] methods, TracingConfig[] configs) {
+        this.matchers = matchers;
+        this.methods = methods;
+        this.configs = configs;
+    }
+
+    static PathTracingMatcher create(Iterable<PathTracingConfig> pathConfigs) {
+        List<PathMatcher> matchers = new ArrayList<>();
+        List<Http.RequestMethod[]> methods = new ArrayList<>();
+        List<TracingConfig> configs = new ArrayList<>();
+
+        for (PathTracingConfig pathConfig : pathConfigs) {
+            matchers.add(PathMatcher.create(pathConfig.path()));
+            methods.add(pathConfig.methods()
+                                .stream()
+                                .map(Http.RequestMethod::create)
+                                .toArray(Http.RequestMethod[]::new));
+            configs.add(pathConfig.tracedConfig());
+        }
+
+        return new PathTracingMatcher(matchers.toArray(new PathMatcher[0]),
+                                      methods.toArray(new Http.RequestMethod[0][]),
+                                      configs.toArray(new TracingConfig[0]));
+    }
+
+    boolean isEmpty() {
+        return configs.length == 0;
+    }
+
+    /**
+     * Merge of all tracing configurations matching the request, in the order they were configured.
+     *
+     * @param method request method
+     * @param path request path
+     * @param existing tracing configuration to merge the matching configurations into, may be {@code null}
+     * @return merged configuration, or {@code existing} if no path configuration matched
+     */
+    TracingConfig match(Http.RequestMethod method, String path, TracingConfig existing) {
+        TracingConfig result = existing;
+        String matchedPath = null;
+        for (int i = 0; i < configs.length; i++) {
+            if (!methodMatches(methods[i], method)) {
+                continue;
+            }
+            if (matchedPath == null) {
+                // same as routing, path parameters are not part of the matched path
+                matchedPath = PathHelper.extractPathParams(path);
+            }
+            if (matchers[i].match(matchedPath).matches()) {
+                result = (result == null) ? configs[i] : TracingConfig.merge(result, configs[i]);
+            }
+        }
+        return result;
+    }
+
+    private static boolean methodMatches(Http.RequestMethod[] methods, Http.RequestMethod method) {
+        if (methods.length == 0) {
+            return true;
+        }
+        for (Http.RequestMethod candidate : methods) {
+            if (candidate.equals(method)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -208,6 +208,15 @@ abstract class Request implements ServerRequest {
         return requestedUri.get();
     }
 
+    /**
+     * Identification of the next route that handles this request, see {@link HandlerRoute#operation()}.
+     *
+     * @return operation of the route, or {@code null} if not known
+     */
+    String routeOperation() {
+        return null;
+    }
+
     // this method is called max once per request
     private UriInfo createRequestedUri() {
         RequestHeaders headers = headers();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package io.helidon.webserver;
 
 import java.net.URI;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
@@ -24,6 +25,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -32,6 +34,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import io.helidon.common.LazyValue;
+import io.helidon.common.configurable.ThreadPoolSupplier;
 import io.helidon.common.context.Contexts;
 import io.helidon.common.http.AlreadyCompletedException;
 import io.helidon.common.http.Http;
@@ -49,9 +52,21 @@ class RequestRouting implements Routing {
 
     private static final Logger LOGGER = Logger.getLogger(RequestRouting.class.getName());
 
+    /**
+     * Executor of blocking handlers used when not configured on the routing builder, created on first use.
+     */
+    static final LazyValue<ExecutorService> DEFAULT_BLOCKING_EXECUTOR = LazyValue.create(
+            () -> ThreadPoolSupplier.builder()
+                    .name("blocking")
+                    .threadNamePrefix("helidon-blocking-")
+                    .virtualIfAvailable(true)
+                    .build()
+                    .get());
+
     private final RouteList routes;
     private final List<ErrorHandlerRecord<?>> errorHandlers;
     private final List<Consumer<WebServer>> newWebServerCallbacks;
+    private final LazyValue<? extends ExecutorService> blockingExecutor;
 
     /**
      * Creates new instance.
@@ -59,11 +74,17 @@ class RequestRouting implements Routing {
      * @param routes                effective route
      * @param errorHandlers         a list of error handlers
      * @param newWebServerCallbacks a list of callback handlers for registration in new {@link WebServer}. It is copied.
+     * @param blockingExecutor      executor of blocking handlers
      */
-    RequestRouting(RouteList routes, List<ErrorHandlerRecord<?>> errorHandlers, List<Consumer<WebServer>> newWebServerCallbacks) {
+    RequestRouting(RouteList routes,
+                   List<ErrorHandlerRecord<?>> errorHandlers,
+                   List<Consumer<WebServer>> newWebServerCallbacks,
+                   LazyValue<? extends ExecutorService> blockingExecutor) {
         this.routes = routes;
+        resolveOperations(routes, "");
         this.errorHandlers = errorHandlers;
         this.newWebServerCallbacks = new ArrayList<>(newWebServerCallbacks);
+        this.blockingExecutor = blockingExecutor;
     }
 
     @Override
@@ -83,7 +104,7 @@ class RequestRouting implements Routing {
 
             Crawler crawler = new Crawler(routes, path, rawPath, bareRequest.method(), bareRequest.version());
             RoutedRequest nextRequests = new RoutedRequest(bareRequest, response, webServer, crawler, errorHandlers,
-                                                           requestHeaders);
+                                                           requestHeaders, blockingExecutor);
             response.request(nextRequests);
             nextRequests.next();
         } catch (Error | RuntimeException e) {
@@ -92,6 +113,16 @@ class RequestRouting implements Routing {
         }
     }
 
+    private static void resolveOperations(RouteList routes, String contextTemplate) {
+        for (Route route : routes) {
+            if (route instanceof HandlerRoute hr) {
+                hr.contextTemplate(contextTemplate);
+            } else if (route instanceof RouteList rl) {
+                resolveOperations(rl, contextTemplate + PathPattern.template(rl.pathContext()));
+            }
+        }
+    }
+
     private static String canonicalize(String p) {
         String result;
         if (p == null || p.isEmpty() || p.equals("/")) {
@@ -132,6 +163,7 @@ class RequestRouting implements Routing {
 
         private volatile int index = -1;
         private volatile Crawler subCrawler;
+        private volatile ArrayDeque<Item> lookahead;
 
         /**
          * Creates new instance.
@@ -173,6 +205,44 @@ class RequestRouting implements Routing {
          * @return a next item.
          */
         public Item next() {
+            ArrayDeque<Item> items = lookahead;
+            if (items != null && !items.isEmpty()) {
+                return items.poll();
+            }
+            return advance();
+        }
+
+        /**
+         * Returns the next {@link HandlerRoute} that identifies an operation (see {@link HandlerRoute#operation()}),
+         * without consuming it or any route before it, or {@code null} if there is no such route.
+         * Routes matched by this method are not matched again by {@link #next()}.
+         *
+         * @return a next item with an operation
+         */
+        Item nextOperation() {
+            ArrayDeque<Item> items = lookahead;
+            if (items == null) {
+                items = new ArrayDeque<>();
+            } else {
+                for (Item item : items) {
+                    if (item.handlerRoute.operation() != null) {
+                        return item;
+                    }
+                }
+            }
+            Item result = null;
+            Item item;
+            while (result == null && (item = advance()) != null) {
+                items.add(item);
+                if (item.handlerRoute.operation() != null) {
+                    result = item;
+                }
+            }
+            lookahead = items;
+            return result;
+        }
+
+        private Item advance() {
             while ((subCrawler != null) || (++index < routes.size())) {
                 if (subCrawler != null) {
                     Item result = subCrawler.next();
@@ -235,6 +305,7 @@ class RequestRouting implements Routing {
         private final LinkedList<ErrorHandlerRecord<? extends Throwable>> errorHandlers;
         private final Path path;
         private final RoutedResponse response;
+        private final LazyValue<? extends ExecutorService> blockingExecutor;
 
         private final AtomicBoolean nexted = new AtomicBoolean(false);
         private final LazyValue<URI> lazyAbsoluteUri = LazyValue.create(super::absoluteUri);
@@ -247,18 +318,22 @@ class RequestRouting implements Routing {
          * @param webServer     the relevant server
          * @param crawler       a crawler to use for {@code next} method implementation
          * @param errorHandlers a list of error handlers
+         * @param headers       request headers
+         * @param blockingExecutor executor of blocking handlers
          */
         RoutedRequest(BareRequest req,
                       RoutedResponse response,
                       WebServer webServer,
                       Crawler crawler,
                       List<ErrorHandlerRecord<?>> errorHandlers,
-                      HashRequestHeaders headers) {
+                      HashRequestHeaders headers,
+                      LazyValue<? extends ExecutorService> blockingExecutor) {
             super(req, webServer, headers);
             this.crawler = crawler;
             this.errorHandlers = new LinkedList<>(errorHandlers);
             this.path = null;
             this.response = response;
+            this.blockingExecutor = blockingExecutor;
         }
 
         /**
@@ -278,6 +353,7 @@ class RequestRouting implements Routing {
             this.response = response;
             this.path = path;
             this.errorHandlers = new LinkedList<>(errorHandlers);
+            this.blockingExecutor = request.blockingExecutor;
         }
 
         Span span() {
@@ -289,6 +365,12 @@ class RequestRouting implements Routing {
             return context().get(ServerRequest.class, SpanContext.class);
         }
 
+        @Override
+        String routeOperation() {
+            Crawler.Item item = crawler.nextOperation();
+            return item == null ? null : item.handlerRoute.operation();
+        }
+
         /**
          * Returns {@code true} if this request was nexted - call any {@code next(...)} method.
          *
@@ -321,15 +403,29 @@ class RequestRouting implements Routing {
                         }
                     }
 
-                    nextItem.handlerRoute
-                            .handler()
-                            .accept(nextRequest, nextResponse);
+                    Handler handler = nextItem.handlerRoute.handler();
+                    if (handler instanceof BlockingHandlerAdapter) {
+                        // rejection is reported as 503 by the default error handler
+                        blockingExecutor.get().execute(() -> Contexts.runInContext(
+                                nextRequest.context(),
+                                () -> acceptBlocking(handler, nextRequest, nextResponse)));
+                    } else {
+                        handler.accept(nextRequest, nextResponse);
+                    }
                 } catch (RuntimeException re) {
                     nextNoCheck(re);
                 }
             }
         }
 
+        private void acceptBlocking(Handler handler, RoutedRequest nextRequest, RoutedResponse nextResponse) {
+            try {
+                handler.accept(nextRequest, nextResponse);
+            } catch (RuntimeException re) {
+                nextNoCheck(re);
+            }
+        }
+
         private void checkNexted() {
             checkNexted(null);
         }
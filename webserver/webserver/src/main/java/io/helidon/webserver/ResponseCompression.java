@@ -0,0 +1,423 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import io.helidon.common.http.MediaType;
+import io.helidon.config.Config;
+import io.helidon.config.metadata.Configured;
+import io.helidon.config.metadata.ConfiguredOption;
+
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.compression.Zstd;
+
+/**
+ * Configuration of response compression of a socket.
+ * <p>
+ * A response is compressed only if all of the following is true:
+ * <ul>
+ *     <li>the client accepts one of the configured {@link #encodings()} (using the {@code Accept-Encoding} header)</li>
+ *     <li>the handler did not set {@code Content-Encoding} (such as when sending pre-compressed content)</li>
+ *     <li>the response is not known to be smaller than {@link #minSize()}; responses of unknown length are
+ *     compressed</li>
+ *     <li>the {@code Content-Type} matches one of {@link #includedContentTypes()} (if any is configured)
+ *     and does not match any of {@link #excludedContentTypes()}</li>
+ * </ul>
+ * Encodings {@value #BROTLI} and {@value #ZSTD} are only used when the corresponding native library
+ * ({@code com.aayushatharva.brotli4j:brotli4j}, {@code com.github.luben:zstd-jni}) is on the classpath,
+ * otherwise they are silently ignored.
+ */
+public final class ResponseCompression {
+    /**
+     * Brotli encoding.
+     */
+    public static final String BROTLI = "br";
+    /**
+     * Zstandard encoding.
+     */
+    public static final String ZSTD = "zstd";
+    /**
+     * Gzip encoding.
+     */
+    public static final String GZIP = "gzip";
+    /**
+     * Deflate encoding.
+     */
+    public static final String DEFLATE = "deflate";
+
+    private static final Logger LOGGER = Logger.getLogger(ResponseCompression.class.getName());
+    private static final List<String> DEFAULT_ENCODINGS = List.of(BROTLI, ZSTD, GZIP, DEFLATE);
+    // types that are already compressed, compressing them again only wastes CPU
+    private static final List<String> DEFAULT_EXCLUDED_TYPES = List.of("image/png",
+                                                                       "image/jpeg",
+                                                                       "image/gif",
+                                                                       "image/webp",
+                                                                       "image/avif",
+                                                                       "video/*",
+                                                                       "audio/*",
+                                                                       "font/woff",
+                                                                       "font/woff2",
+                                                                       "application/zip",
+                                                                       "application/gzip",
+                                                                       "application/x-gzip",
+                                                                       "application/zstd");
+
+    private final boolean enabled;
+    private final int minSize;
+    private final int level;
+    private final List<String> encodings;
+    private final List<MediaType> includedContentTypes;
+    private final List<MediaType> excludedContentTypes;
+    private final CompressionOptions[] compressionOptions;
+
+    private ResponseCompression(Builder builder) {
+        this.enabled = builder.enabled;
+        this.minSize = builder.minSize;
+        this.level = builder.level;
+        this.encodings = List.copyOf(availableEncodings(builder.encodings));
+        this.includedContentTypes = List.copyOf(builder.includedContentTypes);
+        this.excludedContentTypes = List.copyOf(builder.excludedContentTypes);
+        this.compressionOptions = compressionOptions(encodings, level);
+    }
+
+    /**
+     * A new fluent API builder.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create response compression with default configuration.
+     *
+     * @return a new instance
+     */
+    public static ResponseCompression create() {
+        return builder().build();
+    }
+
+    /**
+     * Create response compression from config.
+     *
+     * @param config configuration on the node of response compression
+     * @return a new instance
+     */
+    public static ResponseCompression create(Config config) {
+        return builder().config(config).build();
+    }
+
+    /**
+     * Compression used when only {@link SocketConfiguration#enableCompression()} is configured;
+     * compresses all responses using gzip or deflate, as was the behavior before compression became configurable.
+     *
+     * @return compression compatible with the {@code enable-compression} flag
+     */
+    static ResponseCompression compatible() {
+        return builder()
+                .minSize(0)
+                .encodings(List.of(GZIP, DEFLATE))
+                .excludedContentTypes(List.of())
+                .build();
+    }
+
+    /**
+     * Whether compression is enabled.
+     *
+     * @return {@code true} if enabled
+     */
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * Minimal size of response entity (in bytes) to be compressed.
+     *
+     * @return minimal size
+     */
+    public int minSize() {
+        return minSize;
+    }
+
+    /**
+     * Compression level used for gzip and deflate.
+     *
+     * @return compression level
+     */
+    public int level() {
+        return level;
+    }
+
+    /**
+     * Encodings offered to clients, limited to encodings available at runtime.
+     *
+     * @return encodings
+     */
+    public List<String> encodings() {
+        return encodings;
+    }
+
+    /**
+     * Content types to compress, empty means all content types that are not excluded.
+     *
+     * @return included content types
+     */
+    public List<MediaType> includedContentTypes() {
+        return includedContentTypes;
+    }
+
+    /**
+     * Content types never to compress.
+     *
+     * @return excluded content types
+     */
+    public List<MediaType> excludedContentTypes() {
+        return excludedContentTypes;
+    }
+
+    /**
+     * Whether a response of the content type should be compressed.
+     *
+     * @param contentType value of the {@code Content-Type} header, may be {@code null}
+     * @return {@code true} if the content type is compressible according to this configuration
+     */
+    boolean compressible(String contentType) {
+        if (contentType == null) {
+            return includedContentTypes.isEmpty();
+        }
+        MediaType mediaType;
+        try {
+            mediaType = MediaType.parse(contentType);
+        } catch (IllegalArgumentException e) {
+            return includedContentTypes.isEmpty();
+        }
+        for (MediaType excluded : excludedContentTypes) {
+            if (excluded.test(mediaType)) {
+                return false;
+            }
+        }
+        if (includedContentTypes.isEmpty()) {
+            return true;
+        }
+        for (MediaType included : includedContentTypes) {
+            if (included.test(mediaType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    CompressionOptions[] compressionOptions() {
+        return compressionOptions;
+    }
+
+    private static Set<String> availableEncodings(List<String> configured) {
+        Set<String> result = new LinkedHashSet<>();
+        for (String encoding : configured) {
+            String normalized = encoding.trim().toLowerCase(Locale.ROOT);
+            switch (normalized) {
+            case BROTLI:
+                if (Brotli.isAvailable()) {
+                    result.add(BROTLI);
+                } else {
+                    LOGGER.fine(() -> "Brotli compression is not available: " + Brotli.cause());
+                }
+                break;
+            case ZSTD:
+                if (Zstd.isAvailable()) {
+                    result.add(ZSTD);
+                } else {
+                    LOGGER.fine(() -> "Zstd compression is not available: " + Zstd.cause());
+                }
+                break;
+            case GZIP:
+            case DEFLATE:
+                result.add(normalized);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported compression encoding: " + encoding
+                                                           + ", supported encodings: " + DEFAULT_ENCODINGS);
+            }
+        }
+        return result;
+    }
+
+    private static CompressionOptions[] compressionOptions(List<String> encodings, int level) {
+        List<CompressionOptions> result = new ArrayList<>(encodings.size());
+        for (String encoding : encodings) {
+            switch (encoding) {
+            case BROTLI:
+                result.add(StandardCompressionOptions.brotli());
+                break;
+            case ZSTD:
+                result.add(StandardCompressionOptions.zstd());
+                break;
+            case GZIP:
+                result.add(StandardCompressionOptions.gzip(level, 15, 8));
+                break;
+            case DEFLATE:
+                result.add(StandardCompressionOptions.deflate(level, 15, 8));
+                break;
+            default:
+                // validated in availableEncodings
+                break;
+            }
+        }
+        return result.toArray(new CompressionOptions[0]);
+    }
+
+    /**
+     * Fluent API builder for {@link ResponseCompression}.
+     */
+    @Configured
+    public static final class Builder implements io.helidon.common.Builder<Builder, ResponseCompression> {
+        private final List<String> encodings = new ArrayList<>(DEFAULT_ENCODINGS);
+        private final List<MediaType> includedContentTypes = new ArrayList<>();
+        private final List<MediaType> excludedContentTypes = new ArrayList<>();
+        private boolean enabled = true;
+        private int minSize = 1024;
+        private int level = 6;
+
+        private Builder() {
+            DEFAULT_EXCLUDED_TYPES.stream()
+                    .map(MediaType::parse)
+                    .forEach(excludedContentTypes::add);
+        }
+
+        @Override
+        public ResponseCompression build() {
+            if (level < 0 || level > 9) {
+                throw new IllegalArgumentException("Compression level must be between 0 and 9, but is " + level);
+            }
+            return new ResponseCompression(this);
+        }
+
+        /**
+         * Update this builder from configuration.
+         *
+         * @param config configuration on the node of response compression
+         * @return updated builder instance
+         */
+        public Builder config(Config config) {
+            config.get("enabled").asBoolean().ifPresent(this::enabled);
+            config.get("min-size").asInt().ifPresent(this::minSize);
+            config.get("level").asInt().ifPresent(this::level);
+            config.get("encodings").asList(String.class).ifPresent(this::encodings);
+            config.get("included-content-types").asList(String.class)
+                    .ifPresent(it -> includedContentTypes(mediaTypes(it)));
+            config.get("excluded-content-types").asList(String.class)
+                    .ifPresent(it -> excludedContentTypes(mediaTypes(it)));
+            return this;
+        }
+
+        /**
+         * Whether response compression is enabled.
+         *
+         * @param enabled set to {@code false} to disable
+         * @return updated builder instance
+         */
+        @ConfiguredOption("true")
+        public Builder enabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Minimal size of response entity (in bytes) to be compressed. Only applied to responses with
+         * known content length; compressing small entities costs more CPU than it saves on the wire.
+         *
+         * @param minSize minimal size in bytes
+         * @return updated builder instance
+         */
+        @ConfiguredOption("1024")
+        public Builder minSize(int minSize) {
+            this.minSize = minSize;
+            return this;
+        }
+
+        /**
+         * Compression level of gzip and deflate encodings, from {@code 0} (no compression)
+         * to {@code 9} (best compression). Brotli and zstd use their default levels.
+         *
+         * @param level compression level
+         * @return updated builder instance
+         */
+        @ConfiguredOption("6")
+        public Builder level(int level) {
+            this.level = level;
+            return this;
+        }
+
+        /**
+         * Encodings to offer, supported values are {@value #BROTLI}, {@value #ZSTD}, {@value #GZIP}
+         * and {@value #DEFLATE}. Encodings that require a library that is not on the classpath are ignored.
+         *
+         * @param encodings encodings to use
+         * @return updated builder instance
+         */
+        @ConfiguredOption("br,zstd,gzip,deflate")
+        public Builder encodings(List<String> encodings) {
+            this.encodings.clear();
+            this.encodings.addAll(encodings);
+            return this;
+        }
+
+        /**
+         * Content types to compress. If empty, all content types that are not excluded are compressed.
+         *
+         * @param contentTypes content types, may contain wildcards such as {@code text/*}
+         * @return updated builder instance
+         */
+        @ConfiguredOption
+        public Builder includedContentTypes(List<MediaType> contentTypes) {
+            this.includedContentTypes.clear();
+            this.includedContentTypes.addAll(contentTypes);
+            return this;
+        }
+
+        /**
+         * Content types never to compress. Defaults to common already compressed formats, such as
+         * {@code image/png}, {@code video/*} or {@code application/zip}.
+         *
+         * @param contentTypes content types, may contain wildcards such as {@code video/*}
+         * @return updated builder instance
+         */
+        @ConfiguredOption
+        public Builder excludedContentTypes(List<MediaType> contentTypes) {
+            this.excludedContentTypes.clear();
+            this.excludedContentTypes.addAll(contentTypes);
+            return this;
+        }
+
+        private static List<MediaType> mediaTypes(List<String> contentTypes) {
+            List<MediaType> result = new ArrayList<>(contentTypes.size());
+            for (String contentType : contentTypes) {
+                result.add(MediaType.parse(contentType));
+            }
+            return result;
+        }
+    }
+}
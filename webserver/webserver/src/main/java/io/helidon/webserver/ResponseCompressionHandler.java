@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import io.netty.handler.codec.http.HttpContentCompressor;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpUtil;
+
+/**
+ * Compresses responses according to {@link ResponseCompression} configuration of the socket.
+ * The decision is done once per response, based on its headers, before any content is encoded.
+ */
+class ResponseCompressionHandler extends HttpContentCompressor {
+    private final ResponseCompression compression;
+
+    ResponseCompressionHandler(ResponseCompression compression) {
+        super(compression.minSize(), compression.compressionOptions());
+        this.compression = compression;
+    }
+
+    @Override
+    protected Result beginEncode(HttpResponse httpResponse, String acceptEncoding) throws Exception {
+        HttpHeaders headers = httpResponse.headers();
+        if (headers.contains(HttpHeaderNames.CONTENT_ENCODING)) {
+            // pre-compressed content (or an explicit "identity"), never encode twice
+            return null;
+        }
+        long contentLength = HttpUtil.getContentLength(httpResponse, -1L);
+        if (contentLength >= 0 && contentLength < compression.minSize()) {
+            return null;
+        }
+        if (!compression.compressible(headers.get(HttpHeaderNames.CONTENT_TYPE))) {
+            return null;
+        }
+        return super.beginEncode(httpResponse, acceptEncoding);
+    }
+}
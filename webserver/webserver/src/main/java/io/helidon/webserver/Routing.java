@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,9 +18,12 @@ package io.helidon.webserver;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import io.helidon.common.LazyValue;
 import io.helidon.common.http.Http;
 
 /**
@@ -403,6 +406,36 @@ public interface Routing extends ServerLifecycle {
          */
         Rules anyOf(Iterable<Http.RequestMethod> methods, PathMatcher pathMatcher, Handler... requestHandlers);
 
+        /**
+         * Routes requests with the method and corresponding path to a blocking handler.
+         * The handler is executed on the blocking executor of the routing (a virtual thread per request when
+         * available), so it may block while reading the request or writing the response.
+         *
+         * @param method      HTTP method
+         * @param pathPattern a URI path pattern. See {@link PathMatcher} for pattern syntax reference.
+         * @param handler     blocking handler to process HTTP request
+         * @return an updated routing configuration
+         * @see Builder#blockingExecutor(Supplier)
+         */
+        default Rules blocking(Http.RequestMethod method, String pathPattern, BlockingHandler handler) {
+            return anyOf(List.of(method), pathPattern, new BlockingHandlerAdapter(handler));
+        }
+
+        /**
+         * Routes requests with the method and corresponding path to a blocking handler.
+         * The handler is executed on the blocking executor of the routing (a virtual thread per request when
+         * available), so it may block while reading the request or writing the response.
+         *
+         * @param method      HTTP method
+         * @param pathMatcher define path for registered router
+         * @param handler     blocking handler to process HTTP request
+         * @return an updated routing configuration
+         * @see Builder#blockingExecutor(Supplier)
+         */
+        default Rules blocking(Http.RequestMethod method, PathMatcher pathMatcher, BlockingHandler handler) {
+            return anyOf(List.of(method), pathMatcher, new BlockingHandlerAdapter(handler));
+        }
+
         /**
          * Registers callback on created new {@link WebServer} instance with this routing.
          *
@@ -419,6 +452,7 @@ public interface Routing extends ServerLifecycle {
 
         private final RouteListRoutingRules delegate = new RouteListRoutingRules();
         private final List<RequestRouting.ErrorHandlerRecord<?>> errorHandlerRecords = new ArrayList<>();
+        private Supplier<? extends ExecutorService> blockingExecutor = RequestRouting.DEFAULT_BLOCKING_EXECUTOR;
         private boolean tracingRegistered;
 
         /**
@@ -652,6 +686,18 @@ public interface Routing extends ServerLifecycle {
             return this;
         }
 
+        @Override
+        public Builder blocking(Http.RequestMethod method, String pathPattern, BlockingHandler handler) {
+            delegate.blocking(method, pathPattern, handler);
+            return this;
+        }
+
+        @Override
+        public Builder blocking(Http.RequestMethod method, PathMatcher pathMatcher, BlockingHandler handler) {
+            delegate.blocking(method, pathMatcher, handler);
+            return this;
+        }
+
         @Override
         public Builder onNewWebServer(Consumer<WebServer> webServerConsumer) {
             delegate.onNewWebServer(webServerConsumer);
@@ -676,6 +722,23 @@ public interface Routing extends ServerLifecycle {
             return this;
         }
 
+        // --------------- BLOCKING API
+
+        /**
+         * Executor of {@link BlockingHandler blocking handlers}, including the ones registered by services.
+         * Each request routed to a blocking handler is submitted to the executor as a new task.
+         * <p>
+         * Defaults to an executor shared by all routings, that uses a new virtual thread for each task if virtual
+         * threads are available, or a pool of platform threads named {@code helidon-blocking-} otherwise.
+         *
+         * @param executorSupplier supplier of the executor, obtained when the routing is built
+         * @return an updated builder
+         */
+        public Builder blockingExecutor(Supplier<? extends ExecutorService> executorSupplier) {
+            this.blockingExecutor = Objects.requireNonNull(executorSupplier, "Parameter 'executorSupplier' is null!");
+            return this;
+        }
+
         // --------------- BUILD API
 
         /**
@@ -688,7 +751,10 @@ public interface Routing extends ServerLifecycle {
                 register(WebTracingConfig.create());
             }
             RouteListRoutingRules.Aggregation aggregate = delegate.aggregate();
-            return new RequestRouting(aggregate.routeList(), errorHandlerRecords, aggregate.newWebServerCallbacks());
+            return new RequestRouting(aggregate.routeList(),
+                                      errorHandlerRecords,
+                                      aggregate.newWebServerCallbacks(),
+                                      LazyValue.create(blockingExecutor));
         }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -213,6 +213,31 @@ class ServerBasicConfig implements ServerConfiguration {
         return socketConfig.connectionIdleTimeout();
     }
 
+    @Override
+    public int maxConcurrentConnections() {
+        return socketConfig.maxConcurrentConnections();
+    }
+
+    @Override
+    public int maxConcurrentRequests() {
+        return socketConfig.maxConcurrentRequests();
+    }
+
+    @Override
+    public Optional<AdaptiveConcurrency> adaptiveConcurrency() {
+        return socketConfig.adaptiveConcurrency();
+    }
+
+    @Override
+    public Optional<ResponseCompression> compression() {
+        return socketConfig.compression();
+    }
+
+    @Override
+    public Optional<Http2Streaming> http2Streaming() {
+        return socketConfig.http2Streaming();
+    }
+
     static class SocketConfig implements SocketConfiguration {
 
         private final int port;
@@ -238,6 +263,11 @@ class ServerBasicConfig implements ServerConfiguration {
         private final AllowList trustedProxies;
         private final boolean isRequestedUriDiscoveryEnabled;
         private final int connectionIdleTimeout;
+        private final int maxConcurrentConnections;
+        private final int maxConcurrentRequests;
+        private final AdaptiveConcurrency adaptiveConcurrency;
+        private final ResponseCompression compression;
+        private final Http2Streaming http2Streaming;
 
         /**
          * Creates new instance.
@@ -267,6 +297,11 @@ class ServerBasicConfig implements ServerConfiguration {
             this.trustedProxies = builder.trustedProxies();
             this.isRequestedUriDiscoveryEnabled = builder.requestedUriDiscoveryEnabled();
             this.connectionIdleTimeout = builder.connectionIdleTimeout();
+            this.maxConcurrentConnections = builder.maxConcurrentConnections();
+            this.maxConcurrentRequests = builder.maxConcurrentRequests();
+            this.adaptiveConcurrency = builder.adaptiveConcurrency().orElse(null);
+            this.compression = builder.compression().orElse(null);
+            this.http2Streaming = builder.http2Streaming().orElse(null);
         }
 
         @Override
@@ -407,5 +442,30 @@ class ServerBasicConfig implements ServerConfiguration {
         public int connectionIdleTimeout() {
             return connectionIdleTimeout;
         }
+
+        @Override
+        public int maxConcurrentConnections() {
+            return maxConcurrentConnections;
+        }
+
+        @Override
+        public int maxConcurrentRequests() {
+            return maxConcurrentRequests;
+        }
+
+        @Override
+        public Optional<AdaptiveConcurrency> adaptiveConcurrency() {
+            return Optional.ofNullable(adaptiveConcurrency);
+        }
+
+        @Override
+        public Optional<ResponseCompression> compression() {
+            return Optional.ofNullable(compression);
+        }
+
+        @Override
+        public Optional<Http2Streaming> http2Streaming() {
+            return Optional.ofNullable(http2Streaming);
+        }
     }
 }
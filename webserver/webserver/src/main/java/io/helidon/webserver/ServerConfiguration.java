@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -612,6 +612,30 @@ public interface ServerConfiguration extends SocketConfiguration {
             return this;
         }
 
+        @Override
+        public Builder maxConcurrentConnections(int max) {
+            defaultSocketBuilder().maxConcurrentConnections(max);
+            return this;
+        }
+
+        @Override
+        public Builder maxConcurrentRequests(int max) {
+            defaultSocketBuilder().maxConcurrentRequests(max);
+            return this;
+        }
+
+        @Override
+        public Builder adaptiveConcurrency(AdaptiveConcurrency adaptiveConcurrency) {
+            defaultSocketBuilder().adaptiveConcurrency(adaptiveConcurrency);
+            return this;
+        }
+
+        @Override
+        public Builder http2Streaming(Http2Streaming http2Streaming) {
+            defaultSocketBuilder().http2Streaming(http2Streaming);
+            return this;
+        }
+
         /**
          * Configure the maximum amount of time that the server will wait to shut
          * down regardless of the value of any additionally requested
@@ -849,5 +873,11 @@ public interface ServerConfiguration extends SocketConfiguration {
             defaultSocketBuilder().enableCompression(value);
             return this;
         }
+
+        @Override
+        public Builder compression(ResponseCompression compression) {
+            defaultSocketBuilder().compression(compression);
+            return this;
+        }
     }
 }
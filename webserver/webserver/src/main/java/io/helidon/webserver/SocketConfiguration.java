@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -218,6 +218,15 @@ public interface SocketConfiguration {
         return false;
     }
 
+    /**
+     * Response compression configuration. When configured, it takes precedence over {@link #enableCompression()}.
+     *
+     * @return response compression, empty if not configured
+     */
+    default Optional<ResponseCompression> compression() {
+        return Optional.empty();
+    }
+
     /**
      * Maximum size allowed for an HTTP payload in a client request. A negative
      * value indicates that there is no maximum set.
@@ -306,6 +315,48 @@ public interface SocketConfiguration {
         return 0;
     }
 
+    /**
+     * Maximum number of concurrently open connections. When reached, new connections are closed
+     * immediately after being accepted. A negative value indicates no limit.
+     *
+     * @return maximum number of concurrent connections
+     */
+    default int maxConcurrentConnections() {
+        return -1;
+    }
+
+    /**
+     * Maximum number of requests processed concurrently. Requests over the limit are rejected with
+     * {@link io.helidon.common.http.Http.Status#SERVICE_UNAVAILABLE_503} before they are routed.
+     * A negative value indicates no limit.
+     *
+     * @return maximum number of concurrent requests
+     */
+    default int maxConcurrentRequests() {
+        return -1;
+    }
+
+    /**
+     * Adaptive limit of concurrently processed requests. When enabled, {@link #maxConcurrentRequests()}
+     * (if set) is used as the upper bound of the adaptive limit.
+     *
+     * @return adaptive concurrency configuration, empty if not configured
+     */
+    default Optional<AdaptiveConcurrency> adaptiveConcurrency() {
+        return Optional.empty();
+    }
+
+    /**
+     * Streamed handling of HTTP/2 requests. When enabled, entities of HTTP/2 requests are not aggregated
+     * (and limited by {@link #maxUpgradeContentLength()}), but published as they arrive, with back-pressure
+     * applied through HTTP/2 flow control.
+     *
+     * @return HTTP/2 streaming configuration, empty if not configured
+     */
+    default Optional<Http2Streaming> http2Streaming() {
+        return Optional.empty();
+    }
+
     /**
      * Types of discovery of frontend uri. Defaults to {@link #HOST} when frontend uri discovery is disabled (uses only Host
      * header and information about current request to determine scheme, host, port, and path).
@@ -492,6 +543,16 @@ public interface SocketConfiguration {
         @ConfiguredOption("false")
         B enableCompression(boolean value);
 
+        /**
+         * Configure response compression with minimal entity size, content types to compress, compression level
+         * and encodings to offer. Takes precedence over {@link #enableCompression(boolean)}.
+         *
+         * @param compression response compression configuration
+         * @return this builder
+         */
+        @ConfiguredOption
+        B compression(ResponseCompression compression);
+
         /**
          * Set a maximum payload size for a client request. Can prevent DoS
          * attacks.
@@ -606,6 +667,45 @@ public interface SocketConfiguration {
          */
         B connectionIdleTimeout(int seconds);
 
+        /**
+         * Maximum number of concurrently open connections. When reached, new connections are closed
+         * immediately after being accepted.
+         *
+         * @param max maximum number of connections, negative value for no limit
+         * @return updated builder
+         */
+        @ConfiguredOption("-1")
+        B maxConcurrentConnections(int max);
+
+        /**
+         * Maximum number of requests processed concurrently. Requests over the limit are rejected with
+         * {@link io.helidon.common.http.Http.Status#SERVICE_UNAVAILABLE_503} before they are routed.
+         *
+         * @param max maximum number of requests, negative value for no limit
+         * @return updated builder
+         */
+        @ConfiguredOption("-1")
+        B maxConcurrentRequests(int max);
+
+        /**
+         * Configure an adaptive limit of concurrently processed requests, adjusted based on observed latency.
+         *
+         * @param adaptiveConcurrency adaptive concurrency configuration
+         * @return updated builder
+         */
+        @ConfiguredOption
+        B adaptiveConcurrency(AdaptiveConcurrency adaptiveConcurrency);
+
+        /**
+         * Configure streamed handling of HTTP/2 requests, publishing request entities as {@code DATA} frames arrive
+         * instead of aggregating them. Requires HTTP/2 support on the classpath.
+         *
+         * @param http2Streaming HTTP/2 streaming configuration
+         * @return updated builder
+         */
+        @ConfiguredOption
+        B http2Streaming(Http2Streaming http2Streaming);
+
         /**
          * Update this socket configuration from a {@link io.helidon.config.Config}.
          *
@@ -648,6 +748,7 @@ public interface SocketConfiguration {
 
             // compression
             config.get("enable-compression").asBoolean().ifPresent(this::enableCompression);
+            config.get("compression").as(ResponseCompression::create).ifPresent(this::compression);
             config.get("backpressure-buffer-size").asLong().ifPresent(this::backpressureBufferSize);
             config.get("backpressure-strategy").as(BackpressureStrategy.class).ifPresent(this::backpressureStrategy);
 
@@ -661,6 +762,14 @@ public interface SocketConfiguration {
             // idle connections
             config.get("connection-idle-timeout").asInt().ifPresent(this::connectionIdleTimeout);
 
+            // overload protection
+            config.get("max-concurrent-connections").asInt().ifPresent(this::maxConcurrentConnections);
+            config.get("max-concurrent-requests").asInt().ifPresent(this::maxConcurrentRequests);
+            config.get("adaptive-concurrency").as(AdaptiveConcurrency::create).ifPresent(this::adaptiveConcurrency);
+
+            // HTTP/2
+            config.get("http2-streaming").as(Http2Streaming::create).ifPresent(this::http2Streaming);
+
             return (B) this;
         }
     }
@@ -706,6 +815,11 @@ public interface SocketConfiguration {
         private Boolean requestedUriDiscoveryEnabled;
         private AllowList trustedProxies;
         private int connectionIdleTimeout;
+        private int maxConcurrentConnections = -1;
+        private int maxConcurrentRequests = -1;
+        private AdaptiveConcurrency adaptiveConcurrency;
+        private ResponseCompression compression;
+        private Http2Streaming http2Streaming;
 
         private Builder() {
         }
@@ -975,6 +1089,12 @@ public interface SocketConfiguration {
             return this;
         }
 
+        @Override
+        public Builder compression(ResponseCompression compression) {
+            this.compression = compression;
+            return this;
+        }
+
         /**
          * Configure the trusted proxy settings.
          *
@@ -1030,6 +1150,30 @@ public interface SocketConfiguration {
             return this;
         }
 
+        @Override
+        public Builder maxConcurrentConnections(int max) {
+            this.maxConcurrentConnections = max;
+            return this;
+        }
+
+        @Override
+        public Builder maxConcurrentRequests(int max) {
+            this.maxConcurrentRequests = max;
+            return this;
+        }
+
+        @Override
+        public Builder adaptiveConcurrency(AdaptiveConcurrency adaptiveConcurrency) {
+            this.adaptiveConcurrency = adaptiveConcurrency;
+            return this;
+        }
+
+        @Override
+        public Builder http2Streaming(Http2Streaming http2Streaming) {
+            this.http2Streaming = http2Streaming;
+            return this;
+        }
+
         int port() {
             return port;
         }
@@ -1125,6 +1269,26 @@ public interface SocketConfiguration {
             return connectionIdleTimeout;
         }
 
+        int maxConcurrentConnections() {
+            return maxConcurrentConnections;
+        }
+
+        int maxConcurrentRequests() {
+            return maxConcurrentRequests;
+        }
+
+        Optional<AdaptiveConcurrency> adaptiveConcurrency() {
+            return Optional.ofNullable(adaptiveConcurrency);
+        }
+
+        Optional<ResponseCompression> compression() {
+            return Optional.ofNullable(compression);
+        }
+
+        Optional<Http2Streaming> http2Streaming() {
+            return Optional.ofNullable(http2Streaming);
+        }
+
         /**
          * Checks validity of requested URI settings and supplies defaults for omitted settings.
          * <p>The behavior of `requested-uri-discovery` settings can be summarized as follows:
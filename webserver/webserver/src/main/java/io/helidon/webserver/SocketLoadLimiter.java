@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Overload protection of a single server socket: limits concurrent connections and concurrently
+ * processed requests, optionally adapting the request limit to observed latency.
+ * <p>
+ * All operations are lock free, so rejection is cheap even under heavy load.
+ */
+class SocketLoadLimiter implements SocketLoadStatistics {
+    private final int maxConnections;
+    private final AtomicInteger connections = new AtomicInteger();
+    private final LongAdder rejectedConnections = new LongAdder();
+
+    private final boolean limitRequests;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger limit;
+    private final LongAdder rejectedRequests = new LongAdder();
+
+    // adaptive limit, null if disabled
+    private final AdaptiveConcurrency adaptive;
+    private final int adaptiveMaxLimit;
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong lastDecrease = new AtomicLong();
+    private final AtomicLong minLatencyNanos = new AtomicLong(Long.MAX_VALUE);
+
+    private SocketLoadLimiter(int maxConnections, int maxRequests, AdaptiveConcurrency adaptive) {
+        this.maxConnections = maxConnections;
+        this.adaptive = adaptive;
+        if (adaptive == null) {
+            this.limitRequests = maxRequests >= 0;
+            this.adaptiveMaxLimit = maxRequests;
+            this.limit = new AtomicInteger(maxRequests);
+        } else {
+            this.limitRequests = true;
+            this.adaptiveMaxLimit = maxRequests >= 0 ? Math.min(maxRequests, adaptive.maxLimit()) : adaptive.maxLimit();
+            this.limit = new AtomicInteger(Math.min(adaptive.initialLimit(), adaptiveMaxLimit));
+        }
+    }
+
+    /**
+     * Create a limiter for the socket, if any limit is configured.
+     *
+     * @param soConfig socket configuration
+     * @return limiter or empty if the socket is not limited
+     */
+    static Optional<SocketLoadLimiter> create(SocketConfiguration soConfig) {
+        AdaptiveConcurrency adaptive = soConfig.adaptiveConcurrency()
+                .filter(AdaptiveConcurrency::enabled)
+                .orElse(null);
+        int maxConnections = soConfig.maxConcurrentConnections();
+        int maxRequests = soConfig.maxConcurrentRequests();
+        if (maxConnections < 0 && maxRequests < 0 && adaptive == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new SocketLoadLimiter(maxConnections, maxRequests, adaptive));
+    }
+
+    /**
+     * Try to register a new connection.
+     *
+     * @return {@code true} if the connection is accepted and {@link #releaseConnection()} must be called when it closes
+     */
+    boolean tryAcquireConnection() {
+        if (maxConnections < 0) {
+            connections.incrementAndGet();
+            return true;
+        }
+        if (tryIncrement(connections, maxConnections)) {
+            return true;
+        }
+        rejectedConnections.increment();
+        return false;
+    }
+
+    void releaseConnection() {
+        connections.decrementAndGet();
+    }
+
+    /**
+     * Whether requests are limited, if not, there is no need to call {@link #tryAcquireRequest()}.
+     *
+     * @return {@code true} if requests are limited
+     */
+    boolean limitsRequests() {
+        return limitRequests;
+    }
+
+    /**
+     * Try to start processing of a request.
+     *
+     * @return {@code true} if the request can be processed and {@link #releaseRequest(long)} must be called
+     *          once it completes
+     */
+    boolean tryAcquireRequest() {
+        if (tryIncrement(inFlight, limit.get())) {
+            return true;
+        }
+        rejectedRequests.increment();
+        return false;
+    }
+
+    /**
+     * Request processing has completed.
+     *
+     * @param latencyNanos time from acquiring the request until its response completed
+     */
+    void releaseRequest(long latencyNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (adaptive != null) {
+            adapt(latencyNanos, inFlightBefore);
+        }
+    }
+
+    @Override
+    public int activeConnections() {
+        return connections.get();
+    }
+
+    @Override
+    public long rejectedConnections() {
+        return rejectedConnections.sum();
+    }
+
+    @Override
+    public int inFlightRequests() {
+        return inFlight.get();
+    }
+
+    @Override
+    public int requestLimit() {
+        return limitRequests ? limit.get() : -1;
+    }
+
+    @Override
+    public long rejectedRequests() {
+        return rejectedRequests.sum();
+    }
+
+    private void adapt(long latencyNanos, int inFlightBefore) {
+        long sample = completed.incrementAndGet();
+        long minLatency;
+        if (sample % adaptive.sampleWindow() == 0) {
+            // re-sample the baseline so the limiter follows a changed latency profile
+            minLatencyNanos.set(latencyNanos);
+            minLatency = latencyNanos;
+        } else {
+            minLatency = minLatencyNanos.accumulateAndGet(latencyNanos, Math::min);
+        }
+
+        int current = limit.get();
+        if (latencyNanos > minLatency * adaptive.latencyTolerance()) {
+            // decrease at most once per "limit" completed requests, so a burst of slow responses
+            // does not collapse the limit to its minimum
+            long last = lastDecrease.get();
+            if (sample - last >= current && lastDecrease.compareAndSet(last, sample)) {
+                limit.compareAndSet(current, Math.max(adaptive.minLimit(), (int) (current * adaptive.backoffRatio())));
+            }
+        } else if (inFlightBefore * 2 >= current && current < adaptiveMaxLimit) {
+            limit.compareAndSet(current, current + 1);
+        }
+    }
+
+    private static boolean tryIncrement(AtomicInteger counter, int max) {
+        while (true) {
+            int current = counter.get();
+            if (current >= max) {
+                return false;
+            }
+            if (counter.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+/**
+ * Load statistics of a server socket that has overload protection configured,
+ * see {@link SocketConfiguration#maxConcurrentConnections()}, {@link SocketConfiguration#maxConcurrentRequests()}
+ * and {@link SocketConfiguration#adaptiveConcurrency()}.
+ */
+public interface SocketLoadStatistics {
+    /**
+     * Number of currently open connections.
+     *
+     * @return active connections
+     */
+    int activeConnections();
+
+    /**
+     * Total number of connections closed immediately because the connection limit was reached.
+     *
+     * @return rejected connections
+     */
+    long rejectedConnections();
+
+    /**
+     * Number of requests currently being processed.
+     *
+     * @return in-flight requests
+     */
+    int inFlightRequests();
+
+    /**
+     * Current limit of concurrently processed requests. This value changes over time when
+     * adaptive concurrency is enabled.
+     *
+     * @return current request limit, or {@code -1} if requests are not limited
+     */
+    int requestLimit();
+
+    /**
+     * Total number of requests rejected with {@code 503} because the request limit was reached.
+     *
+     * @return rejected requests
+     */
+    long rejectedRequests();
+}
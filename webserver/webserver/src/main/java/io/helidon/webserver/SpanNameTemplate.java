@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Span name template compiled once into literal and argument segments.
+ * <p>
+ * Supports the subset of {@link String#format(String, Object...)} syntax used for span names:
+ * {@code %s}, {@code %1$s} (explicit argument index), {@code %%} and {@code %n}. The arguments are
+ * HTTP method, path and query, in this order. Templates using any other syntax fall back to
+ * {@link String#format(String, Object...)}, so the result is always the same.
+ */
+final class SpanNameTemplate {
+    private static final int ARGUMENTS = 3;
+
+    // a segment is either a literal (String) or an argument index (Integer)
+    private final Object[] segments;
+    private final int literalLength;
+    private final String fallback;
+
+    private SpanNameTemplate(Object[] segments, int literalLength, String fallback) {
+        this.segments = segments;
+        this.literalLength = literalLength;
+        this.fallback = fallback;
+    }
+
+    static SpanNameTemplate compile(String template) {
+        List<Object> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int literalLength = 0;
+        int nextArgument = 0;
+        int length = template.length();
+        int i = 0;
+        while (i < length) {
+            char c = template.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+                i++;
+                continue;
+            }
+            if (i + 1 >= length) {
+                return fallback(template);
+            }
+            char next = template.charAt(i + 1);
+            if (next == '%') {
+                literal.append('%');
+                i += 2;
+                continue;
+            }
+            if (next == 'n') {
+                literal.append(System.lineSeparator());
+                i += 2;
+                continue;
+            }
+            int argument;
+            if (next == 's') {
+                argument = nextArgument++;
+                i += 2;
+            } else {
+                // explicit index: %N$s
+                int end = i + 1;
+                while (end < length && Character.isDigit(template.charAt(end))) {
+                    end++;
+                }
+                if (end == i + 1 || end + 1 >= length || template.charAt(end) != '$' || template.charAt(end + 1) != 's') {
+                    return fallback(template);
+                }
+                argument = Integer.parseInt(template.substring(i + 1, end)) - 1;
+                i = end + 2;
+            }
+            if (argument < 0 || argument >= ARGUMENTS) {
+                return fallback(template);
+            }
+            if (literal.length() > 0) {
+                segments.add(literal.toString());
+                literalLength += literal.length();
+                literal.setLength(0);
+            }
+            segments.add(argument);
+        }
+        if (literal.length() > 0) {
+            segments.add(literal.toString());
+            literalLength += literal.length();
+        }
+        return new SpanNameTemplate(segments.toArray(), literalLength, null);
+    }
+
+    String format(String method, String path, String query) {
+        if (fallback != null) {
+            return String.format(fallback, method, path, query);
+        }
+        StringBuilder result = new StringBuilder(literalLength + method.length() + path.length() + 16);
+        for (Object segment : segments) {
+            if (segment instanceof String) {
+                result.append((String) segment);
+            } else {
+                switch ((Integer) segment) {
+                case 0:
+                    result.append(method);
+                    break;
+                case 1:
+                    result.append(path);
+                    break;
+                default:
+                    result.append(query);
+                    break;
+                }
+            }
+        }
+        return result.toString();
+    }
+
+    private static SpanNameTemplate fallback(String template) {
+        return new SpanNameTemplate(null, 0, template);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -71,18 +71,35 @@ class UpgradeManager {
     // Used in case HTTP/2 for prior knowledge
     static Optional<ChannelHandler> priorKnowledgeWrapper(HttpServerCodec httpServerCodec,
                                                           HttpServerUpgradeHandler wrappedUpgradeHandler,
-                                                          int maxContentLength) {
+                                                          int maxContentLength,
+                                                          Http2Streaming streaming,
+                                                          ChannelHandler streamInitializer) {
         return UPGRADE_HANDLERS.values().stream()
-                .map(uhs -> uhs.priorKnowledgeDecoder(httpServerCodec, wrappedUpgradeHandler, maxContentLength))
+                .map(uhs -> {
+                    if (streaming != null) {
+                        Optional<ChannelHandler> streamingDecoder = uhs.streamingPriorKnowledgeDecoder(httpServerCodec,
+                                                                                                      wrappedUpgradeHandler,
+                                                                                                      streaming,
+                                                                                                      streamInitializer);
+                        if (streamingDecoder.isPresent()) {
+                            return streamingDecoder;
+                        }
+                    }
+                    return uhs.priorKnowledgeDecoder(httpServerCodec, wrappedUpgradeHandler, maxContentLength);
+                })
                 .filter(Optional::isPresent)
                 .findFirst()
                 .flatMap(Function.identity());
     }
 
+    // Streamed HTTP/2 handling is used when configured (streaming is not null) and supported by the provider,
+    // each stream channel is then initialized with streamInitializer
     static void addUpgradeHandler(ChannelPipeline p,
                                   Router router,
                                   HttpServerCodec sourceCodec,
-                                  int maxContentLength) {
+                                  int maxContentLength,
+                                  Http2Streaming streaming,
+                                  ChannelHandler streamInitializer) {
         if (NO_UPGRADES) {
             p.addLast(sourceCodec);
             return;
@@ -95,11 +112,22 @@ class UpgradeManager {
                     if (upgradeCodecProvider == null) {
                         return null;
                     }
+                    if (streaming != null) {
+                        Optional<HttpServerUpgradeHandler.UpgradeCodec> streamingCodec =
+                                upgradeCodecProvider.streamingUpgradeCodec(sourceCodec, streaming, streamInitializer);
+                        if (streamingCodec.isPresent()) {
+                            return streamingCodec.get();
+                        }
+                    }
                     return upgradeCodecProvider.upgradeCodec(sourceCodec, router, maxContentLength);
                 }, maxContentLength);
 
         // Prior-knowledge decoder needs to wrap upgrade handler
-        Optional<ChannelHandler> priorKnowledgeWrapper = priorKnowledgeWrapper(sourceCodec, upgradeHandler, maxContentLength);
+        Optional<ChannelHandler> priorKnowledgeWrapper = priorKnowledgeWrapper(sourceCodec,
+                                                                               upgradeHandler,
+                                                                               maxContentLength,
+                                                                               streaming,
+                                                                               streamInitializer);
 
         if (priorKnowledgeWrapper.isEmpty()) {
             // PriorKnowledgeWrapper adds this codec on its own
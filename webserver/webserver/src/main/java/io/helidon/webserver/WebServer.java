@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -183,6 +184,17 @@ public interface WebServer {
      */
     void updateTls(WebServerTls tls, String socketName);
 
+    /**
+     * Load statistics of the named socket, available only if the socket has any overload protection configured
+     * (connection or request limit, or adaptive concurrency).
+     *
+     * @param socketName specific named socket name
+     * @return load statistics, or empty if the socket does not exist or is not limited
+     */
+    default Optional<SocketLoadStatistics> loadStatistics(String socketName) {
+        return Optional.empty();
+    }
+
     /**
      * Creates new instance from provided routing and default configuration.
      *
@@ -585,6 +597,12 @@ public interface WebServer {
             return this;
         }
 
+        @Override
+        public Builder compression(ResponseCompression compression) {
+            configurationBuilder.compression(compression);
+            return this;
+        }
+
         @Override
         public Builder maxPayloadSize(long size) {
             configurationBuilder.maxPayloadSize(size);
@@ -645,6 +663,30 @@ public interface WebServer {
             return this;
         }
 
+        @Override
+        public Builder maxConcurrentConnections(int max) {
+            defaultSocket(it -> it.maxConcurrentConnections(max));
+            return this;
+        }
+
+        @Override
+        public Builder maxConcurrentRequests(int max) {
+            defaultSocket(it -> it.maxConcurrentRequests(max));
+            return this;
+        }
+
+        @Override
+        public Builder adaptiveConcurrency(AdaptiveConcurrency adaptiveConcurrency) {
+            defaultSocket(it -> it.adaptiveConcurrency(adaptiveConcurrency));
+            return this;
+        }
+
+        @Override
+        public Builder http2Streaming(Http2Streaming http2Streaming) {
+            defaultSocket(it -> it.http2Streaming(http2Streaming));
+            return this;
+        }
+
         /**
          * A helper method to support fluentAPI when invoking another method.
          * <p>
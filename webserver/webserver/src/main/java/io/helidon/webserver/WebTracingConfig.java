@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,15 +18,17 @@ package io.helidon.webserver;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Collectors;
 
 import io.helidon.common.context.Context;
 import io.helidon.common.context.Contexts;
 import io.helidon.common.http.Http;
 import io.helidon.config.Config;
 import io.helidon.tracing.HeaderProvider;
+import io.helidon.tracing.Sampler;
 import io.helidon.tracing.Span;
 import io.helidon.tracing.SpanContext;
 import io.helidon.tracing.Tag;
@@ -57,6 +59,15 @@ public abstract class WebTracingConfig {
      */
     abstract Iterable<PathTracingConfig> pathConfigs();
 
+    /**
+     * Sampler deciding whether a request without an inbound span context starts a new trace.
+     *
+     * @return sampler of requests
+     */
+    Sampler sampler() {
+        return Sampler.alwaysOn();
+    }
+
     /**
      * Create a tracing configuration that is enabled for all paths and spans (that are enabled by default).
      *
@@ -110,21 +121,13 @@ public abstract class WebTracingConfig {
 
     Service service() {
         return rules -> {
-            pathConfigs().forEach(path -> {
-                List<Http.RequestMethod> methods = path.methods()
-                        .stream()
-                        .map(Http.RequestMethod::create)
-                        .collect(Collectors.toList());
-
-                TracingConfig wrappedPath = path.tracedConfig();
-                if (methods.isEmpty()) {
-                    rules.any(path.path(), new TracingConfigHandler(wrappedPath));
-                } else {
-                    rules.anyOf(methods, path.path(), new TracingConfigHandler(wrappedPath));
-                }
-            });
+            // all path configurations are evaluated by a single handler, rather than a route per path
+            PathTracingMatcher pathMatcher = PathTracingMatcher.create(pathConfigs());
+            if (!pathMatcher.isEmpty()) {
+                rules.any(new TracingConfigHandler(pathMatcher));
+            }
             // and now register the tracing of requests
-            rules.any(new RequestSpanHandler());
+            rules.any(new RequestSpanHandler(sampler()));
         };
     }
 
@@ -134,6 +137,7 @@ public abstract class WebTracingConfig {
     public static class Builder implements io.helidon.common.Builder<Builder, WebTracingConfig> {
         private final List<PathTracingConfig> pathTracingConfigs = new LinkedList<>();
         private TracingConfig tracedConfig = TracingConfig.ENABLED;
+        private Sampler sampler = Sampler.alwaysOn();
 
         /**
          * OpenTracing spec states that certain MP paths need to be disabled by default.
@@ -172,6 +176,7 @@ public abstract class WebTracingConfig {
         public WebTracingConfig build() {
             final TracingConfig envConfig = this.tracedConfig;
             final List<PathTracingConfig> pathConfigs = new LinkedList<>(this.pathTracingConfigs);
+            final Sampler sampler = this.sampler;
 
             return new WebTracingConfig() {
                 @Override
@@ -183,6 +188,11 @@ public abstract class WebTracingConfig {
                 public Iterable<PathTracingConfig> pathConfigs() {
                     return pathConfigs;
                 }
+
+                @Override
+                Sampler sampler() {
+                    return sampler;
+                }
             };
         }
 
@@ -208,6 +218,24 @@ public abstract class WebTracingConfig {
             return this;
         }
 
+        /**
+         * Sampler deciding whether a request starts a new trace. Requests that continue a trace of an upstream
+         * service (with an inbound span context) are always traced, so distributed traces are complete.
+         * The sampling decision is made before any span is created, so requests that are not sampled
+         * do not pay for span allocation. No span context is registered for requests that are not sampled.
+         * <p>
+         * Defaults to {@link io.helidon.tracing.Sampler#alwaysOn()}.
+         *
+         * @param sampler sampler to use, invoked with the methods and path template of the route handling the request
+         *                (such as {@code GET /greet/{name}}) as the operation name, or with the configured span name
+         *                if no such route exists
+         * @return updated builder instance
+         */
+        public Builder sampler(Sampler sampler) {
+            this.sampler = Objects.requireNonNull(sampler);
+            return this;
+        }
+
         /**
          * Update builder from {@link io.helidon.config.Config}.
          *
@@ -217,6 +245,7 @@ public abstract class WebTracingConfig {
         public Builder config(Config config) {
             // read the overall configuration
             envConfig(TracingConfig.create(config));
+            config.get("sampler").as(Sampler::create).ifPresent(this::sampler);
 
             // and then the paths
             Config allPaths = config.get("paths");
@@ -233,19 +262,18 @@ public abstract class WebTracingConfig {
 
     // this class exists so tracing of handler in webserver shows nice class name and not a lambda
     private static final class TracingConfigHandler implements Handler {
-        private final TracingConfig pathSpecific;
+        private final PathTracingMatcher pathMatcher;
 
-        private TracingConfigHandler(TracingConfig pathSpecific) {
-            this.pathSpecific = pathSpecific;
+        private TracingConfigHandler(PathTracingMatcher pathMatcher) {
+            this.pathMatcher = pathMatcher;
         }
 
         @Override
         public void accept(ServerRequest req, ServerResponse res) {
-            Optional<TracingConfig> existing = req.context().get(TracingConfig.class);
-            if (existing.isPresent()) {
-                req.context().register(TracingConfig.merge(existing.get(), pathSpecific));
-            } else {
-                req.context().register(pathSpecific);
+            TracingConfig existing = req.context().get(TracingConfig.class).orElse(null);
+            TracingConfig merged = pathMatcher.match(req.method(), req.path().toString(), existing);
+            if (merged != existing) {
+                req.context().register(merged);
             }
             req.next();
         }
@@ -254,9 +282,12 @@ public abstract class WebTracingConfig {
     static final class RequestSpanHandler implements Handler {
         private static final String TRACING_SPAN_HTTP_REQUEST = "HTTP Request";
         private final AtomicBoolean checkedIfShouldTrace = new AtomicBoolean();
+        private final Map<String, SpanNameTemplate> spanNameTemplates = new ConcurrentHashMap<>();
+        private final Sampler sampler;
         private volatile boolean shouldTrace = true;
 
-        RequestSpanHandler() {
+        RequestSpanHandler(Sampler sampler) {
+            this.sampler = sampler;
         }
 
         @Override
@@ -296,8 +327,18 @@ public abstract class WebTracingConfig {
             }
 
             String spanName = spanConfig.newName().orElse(TRACING_SPAN_HTTP_REQUEST);
+
+            // continue traces of upstream services, sample only new traces, before creating anything span related
+            // (the route is not looked up if all requests are sampled)
+            if (inboundSpanContext == null
+                    && sampler != Sampler.alwaysOn()
+                    && !sampler.sample(operation(req, spanName))) {
+                return;
+            }
+
             if (spanName.indexOf('%') > -1) {
-                spanName = String.format(spanName, req.method().name(), req.path(), req.query());
+                spanName = spanNameTemplates.computeIfAbsent(spanName, SpanNameTemplate::compile)
+                        .format(req.method().name(), String.valueOf(req.path()), String.valueOf(req.query()));
             }
             // tracing is enabled, so we replace the parent span with web server parent span
             Span.Builder<?> spanBuilder = tracer.spanBuilder(spanName)
@@ -339,6 +380,12 @@ public abstract class WebTracingConfig {
                     });
         }
 
+        // the sampler is keyed by the route handling the request, as paths may have unbounded cardinality
+        private static String operation(ServerRequest req, String spanName) {
+            String operation = (req instanceof Request request) ? request.routeOperation() : null;
+            return operation == null ? spanName : operation;
+        }
+
         private static class TracingHeaderProvider implements HeaderProvider {
 
             private final Map<String, List<String>> headers;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@ package io.helidon.webserver.spi;
 
 import java.util.Optional;
 
+import io.helidon.webserver.Http2Streaming;
 import io.helidon.webserver.Router;
 
 import io.netty.channel.ChannelHandler;
@@ -76,4 +77,43 @@ public interface UpgradeCodecProvider {
                                                            int maxContentLength) {
         return Optional.empty();
     }
+
+    /**
+     * Codec used by the {@link io.netty.handler.codec.http.HttpServerUpgradeHandler HttpServerUpgradeHandler}
+     * when {@link UpgradeCodecProvider#clearTextProtocol() clearTextProtocol()} matches and streamed request handling
+     * is configured for the socket.
+     * Each stream of the upgraded connection is expected to be handled by its own child channel,
+     * initialized with {@code streamInitializer} to process HTTP/1 objects.
+     *
+     * @param sourceCodec       For replacing HttpResponseEncoder and HttpRequestDecoder when using
+     *                          {@link io.netty.handler.codec.http.HttpServerUpgradeHandler HttpServerUpgradeHandler}
+     * @param streaming         streaming configuration of the socket
+     * @param streamInitializer sharable handler initializing the pipeline of each stream channel
+     * @return upgrade codec, or empty optional if streaming is not supported by this provider,
+     *         in which case {@link #upgradeCodec(HttpServerCodec, Router, int)} is used
+     */
+    default Optional<HttpServerUpgradeHandler.UpgradeCodec> streamingUpgradeCodec(HttpServerCodec sourceCodec,
+                                                                                   Http2Streaming streaming,
+                                                                                   ChannelHandler streamInitializer) {
+        return Optional.empty();
+    }
+
+    /**
+     * Prior-knowledge decoder used when streamed request handling is configured for the socket,
+     * see {@link #priorKnowledgeDecoder(HttpServerCodec, HttpServerUpgradeHandler, int)}
+     * and {@link #streamingUpgradeCodec(HttpServerCodec, Http2Streaming, ChannelHandler)}.
+     *
+     * @param sourceCodec           For replacing HttpResponseEncoder and HttpRequestDecoder when using
+     *                              {@link io.netty.handler.codec.http.HttpServerUpgradeHandler HttpServerUpgradeHandler}
+     * @param wrappedUpgradeHandler Actual upgrade handler used when prior-knowledge doesn't kick in
+     * @param streaming             streaming configuration of the socket
+     * @param streamInitializer     sharable handler initializing the pipeline of each stream channel
+     * @return prior-knowledge decoder, or empty optional if streaming is not supported by this provider
+     */
+    default Optional<ChannelHandler> streamingPriorKnowledgeDecoder(HttpServerCodec sourceCodec,
+                                                                    HttpServerUpgradeHandler wrappedUpgradeHandler,
+                                                                    Http2Streaming streaming,
+                                                                    ChannelHandler streamInitializer) {
+        return Optional.empty();
+    }
 }
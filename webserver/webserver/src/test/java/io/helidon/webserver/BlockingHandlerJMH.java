@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.http.Http;
+import io.helidon.common.reactive.Single;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Throughput of handlers that wait for a simulated remote call of {@code latency} milliseconds, with many concurrent
+ * clients: a reactive handler completing on a timer, a {@link BlockingHandler} on the default blocking executor
+ * (virtual threads when the JVM supports them), and a handler offloading to a fixed pool of platform threads,
+ * as was needed before blocking handlers.
+ * <p>
+ * Increase the number of client threads ({@code -t}) to see the platform pool saturate, while the reactive
+ * and virtual thread handlers keep up.
+ */
+@State(Scope.Benchmark)
+@Threads(64)
+public class BlockingHandlerJMH {
+
+    private static final int PLATFORM_POOL_SIZE = 32;
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(BlockingHandlerJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(2))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Param({"reactive", "blocking", "platform-pool"})
+    String handler;
+
+    @Param({"0", "10"})
+    int latency;
+
+    WebServer server;
+    HttpClient client;
+    HttpRequest request;
+    ScheduledExecutorService timer;
+    ExecutorService platformPool;
+
+    @Setup
+    public void setup() {
+        timer = Executors.newSingleThreadScheduledExecutor();
+        platformPool = Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+        server = WebServer.builder()
+                .defaultSocket(s -> s.host("localhost"))
+                .routing(r -> r
+                        .get("/reactive", (req, res) -> Single.timer(latency, TimeUnit.MILLISECONDS, timer)
+                                .thenAccept(it -> res.send("ok")))
+                        .blocking(Http.Method.GET, "/blocking", (req, res) -> {
+                            remoteCall();
+                            res.send("ok");
+                        })
+                        .get("/platform-pool", (req, res) -> platformPool.submit(() -> {
+                            remoteCall();
+                            res.send("ok");
+                            return null;
+                        })))
+                .build()
+                .start()
+                .await(Duration.ofSeconds(10));
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.port() + "/" + handler))
+                .GET()
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.shutdown().await(Duration.ofSeconds(10));
+        timer.shutdownNow();
+        platformPool.shutdownNow();
+    }
+
+    @Benchmark
+    public String request() throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    private void remoteCall() throws InterruptedException {
+        if (latency > 0) {
+            Thread.sleep(latency);
+        }
+    }
+}
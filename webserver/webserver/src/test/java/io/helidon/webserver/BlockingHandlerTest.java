@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import io.helidon.common.context.Contexts;
+import io.helidon.common.http.Http;
+import io.helidon.webserver.utils.SocketHttpClient;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.webserver.utils.SocketHttpClient.entityFromResponse;
+import static io.helidon.webserver.utils.SocketHttpClient.statusFromResponse;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Tests {@link BlockingHandler} registered on routing.
+ */
+public class BlockingHandlerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private static ExecutorService executor;
+    private static WebServer webServer;
+
+    @BeforeAll
+    static void startServer() {
+        executor = Executors.newCachedThreadPool(r -> new Thread(r, "test-blocking"));
+        webServer = WebServer.builder()
+                .defaultSocket(s -> s.host("localhost"))
+                .routing(r -> r
+                        .blockingExecutor(() -> executor)
+                        .blocking(Http.Method.GET, "/thread", (req, res) -> {
+                            res.send(Thread.currentThread().getName()
+                                             + " " + Contexts.context().map(it -> "context").orElse("no-context"));
+                        })
+                        .blocking(Http.Method.POST, "/echo", (req, res) -> {
+                            try (InputStream in = BlockingHandler.inputStream(req);
+                                    OutputStream out = BlockingHandler.outputStream(res)) {
+                                in.transferTo(out);
+                            }
+                        })
+                        .blocking(Http.Method.GET, "/await", (req, res) -> {
+                            res.send("awaited " + req.content().as(String.class).await(TIMEOUT).length());
+                        })
+                        .blocking(Http.Method.GET, "/checked", (req, res) -> {
+                            throw new IOException("checked failure");
+                        })
+                        .blocking(Http.Method.GET, "/next", (req, res) -> req.next())
+                        .get("/next", (req, res) -> res.send("next reactive"))
+                        .register("/service", rules -> rules
+                                .blocking(Http.Method.GET, "/hello", (req, res) -> res.send("service "
+                                        + Thread.currentThread().getName())))
+                        .error(IOException.class, (req, res, ex) -> res.status(Http.Status.BAD_REQUEST_400)
+                                .send(ex.getMessage())))
+                .build()
+                .start()
+                .await(TIMEOUT);
+    }
+
+    @AfterAll
+    static void close() {
+        if (webServer != null) {
+            webServer.shutdown()
+                    .await(TIMEOUT);
+        }
+        executor.shutdownNow();
+    }
+
+    @Test
+    void executedOnBlockingExecutorInContext() throws Exception {
+        String response = SocketHttpClient.sendAndReceive("/thread", Http.Method.GET, null, webServer);
+        assertThat(statusFromResponse(response), is(Http.Status.OK_200));
+        assertThat(entityFromResponse(response, false), containsString("test-blocking context"));
+    }
+
+    @Test
+    void streamsEcho() throws Exception {
+        String payload = SocketHttpClient.longData(100_000).toString();
+        HttpResponse<String> response = HttpClient.newHttpClient()
+                .send(HttpRequest.newBuilder(URI.create("http://localhost:" + webServer.port() + "/echo"))
+                              .POST(HttpRequest.BodyPublishers.ofString(payload))
+                              .build(),
+                      HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode(), is(200));
+        assertThat(response.body(), is(payload));
+    }
+
+    @Test
+    void awaitRequestEntity() throws Exception {
+        String response = SocketHttpClient.sendAndReceive("/await", Http.Method.GET, "hello", webServer);
+        assertThat(entityFromResponse(response, false), containsString("awaited 5"));
+    }
+
+    @Test
+    void checkedExceptionToErrorHandler() throws Exception {
+        String response = SocketHttpClient.sendAndReceive("/checked", Http.Method.GET, null, webServer);
+        assertThat(statusFromResponse(response), is(Http.Status.BAD_REQUEST_400));
+        assertThat(entityFromResponse(response, false), containsString("checked failure"));
+    }
+
+    @Test
+    void nextToReactiveHandler() throws Exception {
+        String response = SocketHttpClient.sendAndReceive("/next", Http.Method.GET, null, webServer);
+        assertThat(entityFromResponse(response, false), containsString("next reactive"));
+    }
+
+    @Test
+    void serviceRulesUseRoutingExecutor() throws Exception {
+        String response = SocketHttpClient.sendAndReceive("/service/hello", Http.Method.GET, null, webServer);
+        assertThat(entityFromResponse(response, false), containsString("service test-blocking"));
+    }
+}
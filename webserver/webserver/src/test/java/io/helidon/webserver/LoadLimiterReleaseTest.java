@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.time.Duration;
+
+import io.helidon.common.http.Http;
+import io.helidon.webserver.utils.SocketHttpClient;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Request permits of a limited socket must be released when a response does not complete normally.
+ */
+class LoadLimiterReleaseTest {
+
+    private static final Duration TIME_OUT = Duration.ofSeconds(10);
+
+    private WebServer webServer;
+
+    @BeforeEach
+    void setUp() {
+        webServer = WebServer.builder()
+                .host("localhost")
+                .maxConcurrentRequests(1)
+                .routing(Routing.builder()
+                                 .get("/close", (req, res) -> req.closeConnection())
+                                 .get("/ok", (req, res) -> res.send("ok"))
+                                 .build())
+                .build()
+                .start()
+                .await(TIME_OUT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        webServer.shutdown().await(TIME_OUT);
+    }
+
+    @Test
+    void permitReleasedOnClosedConnection() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            try (SocketHttpClient client = new SocketHttpClient(webServer)) {
+                client.request(Http.Method.GET, "/close", null);
+                client.receive();
+            }
+        }
+
+        SocketLoadStatistics statistics = webServer.loadStatistics(WebServer.DEFAULT_SOCKET_NAME).orElseThrow();
+        long deadline = System.currentTimeMillis() + TIME_OUT.toMillis();
+        while (statistics.inFlightRequests() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(statistics.inFlightRequests(), is(0));
+
+        String response = SocketHttpClient.sendAndReceive("/ok", Http.Method.GET, null, webServer);
+        assertThat(response, containsString("200 OK"));
+    }
+}
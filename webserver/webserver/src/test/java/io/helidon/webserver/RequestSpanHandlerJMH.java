@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import io.helidon.common.context.Context;
+import io.helidon.common.http.Http;
+import io.helidon.common.reactive.Single;
+import io.helidon.tracing.HeaderConsumer;
+import io.helidon.tracing.HeaderProvider;
+import io.helidon.tracing.Sampler;
+import io.helidon.tracing.Span;
+import io.helidon.tracing.SpanContext;
+import io.helidon.tracing.Tracer;
+import io.helidon.tracing.config.ComponentTracingConfig;
+import io.helidon.tracing.config.SpanTracingConfig;
+import io.helidon.tracing.config.TracingConfig;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+
+/**
+ * Overhead of {@link WebTracingConfig.RequestSpanHandler} per request at different sampling probabilities,
+ * with the default span name and with a span name template, using a tracer that allocates spans similarly
+ * to real tracers (but does not report them).
+ */
+@State(org.openjdk.jmh.annotations.Scope.Thread)
+public class RequestSpanHandlerJMH {
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(RequestSpanHandlerJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Param({"0", "0.01", "1"})
+    double probability;
+
+    @Param({"", "%1$s %2$s"})
+    String spanName;
+
+    WebTracingConfig.RequestSpanHandler handler;
+    ServerRequest request;
+    ServerResponse response;
+
+    @Setup
+    public void setup() {
+        handler = new WebTracingConfig.RequestSpanHandler(Sampler.probability(probability));
+
+        Tracer tracer = new AllocatingTracer();
+        Map<String, List<String>> headers = Map.of("Accept", List.of("application/json"));
+        ServerRequest.Path path = stub(ServerRequest.Path.class, Map.of("toString", () -> "/greet/World"));
+        RequestHeaders requestHeaders = stub(RequestHeaders.class, Map.of("toMap", () -> headers));
+        URI uri = URI.create("/greet/World");
+
+        TracingConfig tracingConfig = spanName.isEmpty()
+                ? TracingConfig.ENABLED
+                : TracingConfig.builder()
+                        .addComponent(ComponentTracingConfig.builder(NettyWebServer.TRACING_COMPONENT)
+                                              .addSpan(SpanTracingConfig.builder("HTTP Request")
+                                                               .newName(spanName)
+                                                               .build())
+                                              .build())
+                        .build();
+
+        request = stub(ServerRequest.class, Map.of(
+                "tracer", () -> tracer,
+                "headers", () -> requestHeaders,
+                "path", () -> path,
+                "method", () -> Http.Method.GET,
+                "uri", () -> uri,
+                "version", () -> Http.Version.V1_1,
+                "query", () -> "",
+                // a new context is used per request, as in the web server
+                "context", () -> {
+                    Context context = Context.create();
+                    context.register(tracingConfig);
+                    return context;
+                }));
+
+        Map<String, Supplier<Object>> responseMethods = new HashMap<>();
+        responseMethods.put("status", () -> Http.Status.OK_200);
+        responseMethods.put("whenSent", () -> Single.just(response));
+        response = stub(ServerResponse.class, responseMethods);
+    }
+
+    // dynamic proxies are used instead of mocks, as mocking frameworks would dominate the measured time
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Map<String, Supplier<Object>> methods) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            Supplier<Object> supplier = methods.get(method.getName());
+            if (supplier != null) {
+                return supplier.get();
+            }
+            if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            }
+            return null;
+        });
+    }
+
+    @Benchmark
+    public void accept() {
+        handler.accept(request, response);
+    }
+
+    private static final class AllocatingTracer implements Tracer {
+        @Override
+        public boolean enabled() {
+            return true;
+        }
+
+        @Override
+        public Span.Builder<?> spanBuilder(String name) {
+            return new AllocatingSpanBuilder(name);
+        }
+
+        @Override
+        public Optional<SpanContext> extract(HeaderProvider headersProvider) {
+            return headersProvider.get("traceparent").map(it -> new AllocatingSpanContext(it, it));
+        }
+
+        @Override
+        public void inject(SpanContext spanContext,
+                           HeaderProvider inboundHeadersProvider,
+                           HeaderConsumer outboundHeadersConsumer) {
+        }
+    }
+
+    private static final class AllocatingSpanBuilder implements Span.Builder<AllocatingSpanBuilder> {
+        private final Map<String, Object> tags = new HashMap<>();
+        private final String name;
+
+        private AllocatingSpanBuilder(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public AllocatingSpanBuilder parent(SpanContext spanContext) {
+            return this;
+        }
+
+        @Override
+        public AllocatingSpanBuilder kind(Span.Kind kind) {
+            return this;
+        }
+
+        @Override
+        public AllocatingSpanBuilder tag(String key, String value) {
+            tags.put(key, value);
+            return this;
+        }
+
+        @Override
+        public AllocatingSpanBuilder tag(String key, Boolean value) {
+            tags.put(key, value);
+            return this;
+        }
+
+        @Override
+        public AllocatingSpanBuilder tag(String key, Number value) {
+            tags.put(key, value);
+            return this;
+        }
+
+        @Override
+        public Span start(Instant instant) {
+            return new AllocatingSpan(name, tags);
+        }
+
+        @Override
+        public Span build() {
+            return start();
+        }
+    }
+
+    private static final class AllocatingSpan implements Span {
+        private final Map<String, Object> tags;
+        private final SpanContext context;
+
+        private AllocatingSpan(String name, Map<String, Object> tags) {
+            this.tags = new HashMap<>(tags);
+            this.context = new AllocatingSpanContext(Long.toHexString(System.nanoTime()), name);
+        }
+
+        @Override
+        public Span tag(String key, String value) {
+            tags.put(key, value);
+            return this;
+        }
+
+        @Override
+        public Span tag(String key, Boolean value) {
+            tags.put(key, value);
+            return this;
+        }
+
+        @Override
+        public Span tag(String key, Number value) {
+            tags.put(key, value);
+            return this;
+        }
+
+        @Override
+        public void status(Status status) {
+        }
+
+        @Override
+        public SpanContext context() {
+            return context;
+        }
+
+        @Override
+        public void addEvent(String name, Map<String, ?> attributes) {
+        }
+
+        @Override
+        public void end() {
+        }
+
+        @Override
+        public void end(Throwable t) {
+        }
+
+        @Override
+        public io.helidon.tracing.Scope activate() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Span baggage(String key, String value) {
+            return this;
+        }
+
+        @Override
+        public Optional<String> baggage(String key) {
+            return Optional.empty();
+        }
+    }
+
+    private static final class AllocatingSpanContext implements SpanContext {
+        private final String traceId;
+        private final String spanId;
+
+        private AllocatingSpanContext(String traceId, String spanId) {
+            this.traceId = traceId;
+            this.spanId = spanId;
+        }
+
+        @Override
+        public String traceId() {
+            return traceId;
+        }
+
+        @Override
+        public String spanId() {
+            return spanId;
+        }
+
+        @Override
+        public void asParent(Span.Builder<?> spanBuilder) {
+            spanBuilder.parent(this);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContentCompressor;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.ReferenceCountUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * CPU cost of a single compressed response across payload sizes and content types,
+ * comparing the plain Netty compressor (used before compression became configurable)
+ * with {@link ResponseCompressionHandler}.
+ */
+@State(Scope.Thread)
+public class ResponseCompressionJMH {
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(ResponseCompressionJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Param({"64", "1024", "16384", "262144"})
+    int size;
+
+    @Param({"application/json", "image/png"})
+    String contentType;
+
+    @Param({"netty", "helidon-default", "helidon-level-1"})
+    String compressor;
+
+    byte[] entity;
+    ResponseCompression compression;
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder(size);
+        int i = 0;
+        while (sb.length() < size) {
+            sb.append("{\"id\":").append(i++).append(",\"name\":\"item\"},");
+        }
+        entity = sb.substring(0, size).getBytes(StandardCharsets.UTF_8);
+        switch (compressor) {
+        case "helidon-default":
+            compression = ResponseCompression.builder()
+                    .encodings(List.of(ResponseCompression.GZIP, ResponseCompression.DEFLATE))
+                    .build();
+            break;
+        case "helidon-level-1":
+            compression = ResponseCompression.builder()
+                    .encodings(List.of(ResponseCompression.GZIP, ResponseCompression.DEFLATE))
+                    .level(1)
+                    .build();
+            break;
+        default:
+            compression = null;
+        }
+    }
+
+    @Benchmark
+    public void response(Blackhole bh) {
+        EmbeddedChannel channel = new EmbeddedChannel(compression == null
+                                                              ? new HttpContentCompressor()
+                                                              : new ResponseCompressionHandler(compression));
+        DefaultFullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/");
+        request.headers().set(HttpHeaderNames.ACCEPT_ENCODING, "gzip, deflate");
+        channel.writeInbound(request);
+        ReferenceCountUtil.release(channel.readInbound());
+
+        HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+        response.headers().set(HttpHeaderNames.CONTENT_TYPE, contentType);
+        response.headers().set(HttpHeaderNames.CONTENT_LENGTH, entity.length);
+        channel.writeOutbound(response, new DefaultLastHttpContent(Unpooled.wrappedBuffer(entity)));
+
+        Object out;
+        while ((out = channel.readOutbound()) != null) {
+            bh.consume(out);
+            ReferenceCountUtil.release(out);
+        }
+        channel.finishAndReleaseAll();
+    }
+}
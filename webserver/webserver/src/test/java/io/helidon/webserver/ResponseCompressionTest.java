@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import io.helidon.common.http.MediaType;
+import io.helidon.config.Config;
+import io.helidon.config.ConfigSources;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.ReferenceCountUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests {@link ResponseCompression} and {@link ResponseCompressionHandler}.
+ */
+class ResponseCompressionTest {
+    private static final String LARGE_TEXT = "Hello World! ".repeat(200);
+
+    @Test
+    void compressesLargeText() {
+        HttpResponse response = exchange(ResponseCompression.create(), "text/plain", LARGE_TEXT, null);
+        assertThat(response.headers().get(HttpHeaderNames.CONTENT_ENCODING), is("gzip"));
+    }
+
+    @Test
+    void skipsSmallEntity() {
+        HttpResponse response = exchange(ResponseCompression.create(), "text/plain", "It works!", null);
+        assertThat(response.headers().get(HttpHeaderNames.CONTENT_ENCODING), is(nullValue()));
+    }
+
+    @Test
+    void compatibleCompressesSmallEntity() {
+        HttpResponse response = exchange(ResponseCompression.compatible(), "text/plain", "It works!", null);
+        assertThat(response.headers().get(HttpHeaderNames.CONTENT_ENCODING), is("gzip"));
+    }
+
+    @Test
+    void skipsExcludedContentType() {
+        HttpResponse response = exchange(ResponseCompression.create(), "image/png", LARGE_TEXT, null);
+        assertThat(response.headers().get(HttpHeaderNames.CONTENT_ENCODING), is(nullValue()));
+    }
+
+    @Test
+    void skipsNotIncludedContentType() {
+        ResponseCompression compression = ResponseCompression.builder()
+                .includedContentTypes(List.of(MediaType.parse("application/json")))
+                .build();
+        HttpResponse response = exchange(compression, "text/plain", LARGE_TEXT, null);
+        assertThat(response.headers().get(HttpHeaderNames.CONTENT_ENCODING), is(nullValue()));
+
+        response = exchange(compression, "application/json; charset=UTF-8", LARGE_TEXT, null);
+        assertThat(response.headers().get(HttpHeaderNames.CONTENT_ENCODING), is("gzip"));
+    }
+
+    @Test
+    void keepsExistingContentEncoding() {
+        HttpResponse response = exchange(ResponseCompression.create(), "text/plain", LARGE_TEXT, "br");
+        assertThat(response.headers().get(HttpHeaderNames.CONTENT_ENCODING), is("br"));
+        assertThat(response.headers().get(HttpHeaderNames.CONTENT_LENGTH), is(String.valueOf(LARGE_TEXT.length())));
+    }
+
+    @Test
+    void configuration() {
+        Config config = Config.builder()
+                .sources(ConfigSources.create(Map.of("compression.min-size", "2048",
+                                                     "compression.level", "1",
+                                                     "compression.encodings.0", "gzip",
+                                                     "compression.included-content-types.0", "text/*")))
+                .disableEnvironmentVariablesSource()
+                .disableSystemPropertiesSource()
+                .build();
+
+        SocketConfiguration socket = SocketConfiguration.builder()
+                .config(config)
+                .build();
+
+        ResponseCompression compression = socket.compression().orElseThrow();
+        assertThat(compression.minSize(), is(2048));
+        assertThat(compression.level(), is(1));
+        assertThat(compression.encodings(), contains("gzip"));
+        assertThat(compression.compressible("text/html"), is(true));
+        assertThat(compression.compressible("application/json"), is(false));
+    }
+
+    @Test
+    void unsupportedEncoding() {
+        assertThrows(IllegalArgumentException.class, () -> ResponseCompression.builder()
+                .encodings(List.of("lzma"))
+                .build());
+    }
+
+    private static HttpResponse exchange(ResponseCompression compression,
+                                         String contentType,
+                                         String entity,
+                                         String contentEncoding) {
+        EmbeddedChannel channel = new EmbeddedChannel(new ResponseCompressionHandler(compression));
+        try {
+            DefaultFullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/");
+            request.headers().set(HttpHeaderNames.ACCEPT_ENCODING, "gzip, deflate");
+            channel.writeInbound(request);
+            ReferenceCountUtil.release(channel.readInbound());
+
+            byte[] bytes = entity.getBytes(StandardCharsets.UTF_8);
+            HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+            response.headers().set(HttpHeaderNames.CONTENT_TYPE, contentType);
+            response.headers().set(HttpHeaderNames.CONTENT_LENGTH, bytes.length);
+            if (contentEncoding != null) {
+                response.headers().set(HttpHeaderNames.CONTENT_ENCODING, contentEncoding);
+            }
+            channel.writeOutbound(response, new DefaultLastHttpContent(Unpooled.wrappedBuffer(bytes)));
+            HttpResponse written = channel.readOutbound();
+            Object next;
+            while ((next = channel.readOutbound()) != null) {
+                ReferenceCountUtil.release(next);
+            }
+            return written;
+        } finally {
+            channel.finishAndReleaseAll();
+        }
+    }
+}
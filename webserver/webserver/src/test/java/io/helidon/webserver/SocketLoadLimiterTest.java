@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.util.Map;
+
+import io.helidon.config.Config;
+import io.helidon.config.ConfigSources;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests {@link SocketLoadLimiter}.
+ */
+class SocketLoadLimiterTest {
+
+    @Test
+    void noLimitsConfigured() {
+        SocketConfiguration config = SocketConfiguration.builder().build();
+        assertThat(SocketLoadLimiter.create(config).isPresent(), is(false));
+    }
+
+    @Test
+    void connectionLimit() {
+        SocketLoadLimiter limiter = SocketLoadLimiter.create(SocketConfiguration.builder()
+                                                                     .maxConcurrentConnections(2)
+                                                                     .build())
+                .orElseThrow();
+
+        assertThat(limiter.limitsRequests(), is(false));
+        assertThat(limiter.requestLimit(), is(-1));
+        assertThat(limiter.tryAcquireConnection(), is(true));
+        assertThat(limiter.tryAcquireConnection(), is(true));
+        assertThat(limiter.tryAcquireConnection(), is(false));
+        assertThat(limiter.activeConnections(), is(2));
+        assertThat(limiter.rejectedConnections(), is(1L));
+
+        limiter.releaseConnection();
+        assertThat(limiter.tryAcquireConnection(), is(true));
+    }
+
+    @Test
+    void requestLimit() {
+        SocketLoadLimiter limiter = SocketLoadLimiter.create(SocketConfiguration.builder()
+                                                                     .maxConcurrentRequests(1)
+                                                                     .build())
+                .orElseThrow();
+
+        assertThat(limiter.limitsRequests(), is(true));
+        assertThat(limiter.tryAcquireRequest(), is(true));
+        assertThat(limiter.tryAcquireRequest(), is(false));
+        assertThat(limiter.inFlightRequests(), is(1));
+        assertThat(limiter.rejectedRequests(), is(1L));
+
+        limiter.releaseRequest(1000);
+        assertThat(limiter.inFlightRequests(), is(0));
+        assertThat(limiter.tryAcquireRequest(), is(true));
+    }
+
+    @Test
+    void adaptiveLimitIncreasesWhenLatencyIsStable() {
+        SocketLoadLimiter limiter = SocketLoadLimiter.create(SocketConfiguration.builder()
+                                                                     .adaptiveConcurrency(AdaptiveConcurrency.builder()
+                                                                                                  .initialLimit(4)
+                                                                                                  .maxLimit(10)
+                                                                                                  .build())
+                                                                     .build())
+                .orElseThrow();
+
+        assertThat(limiter.requestLimit(), is(4));
+        for (int i = 0; i < 100; i++) {
+            fillAndRelease(limiter, 1_000);
+        }
+        assertThat(limiter.requestLimit(), is(10));
+    }
+
+    @Test
+    void adaptiveLimitDecreasesWhenLatencyGrows() {
+        SocketLoadLimiter limiter = SocketLoadLimiter.create(SocketConfiguration.builder()
+                                                                     .adaptiveConcurrency(AdaptiveConcurrency.builder()
+                                                                                                  .initialLimit(50)
+                                                                                                  .minLimit(5)
+                                                                                                  .build())
+                                                                     .build())
+                .orElseThrow();
+
+        // establish the baseline latency
+        limiter.tryAcquireRequest();
+        limiter.releaseRequest(1_000);
+
+        int before = limiter.requestLimit();
+        for (int i = 0; i < 1_000; i++) {
+            limiter.tryAcquireRequest();
+            limiter.releaseRequest(10_000);
+        }
+        int after = limiter.requestLimit();
+        assertThat(after, lessThan(before));
+        assertThat(after, greaterThan(4));
+    }
+
+    @Test
+    void configuration() {
+        Config config = Config.builder()
+                .sources(ConfigSources.create(Map.of("max-concurrent-connections", "100",
+                                                     "max-concurrent-requests", "200",
+                                                     "adaptive-concurrency.initial-limit", "30",
+                                                     "adaptive-concurrency.max-limit", "150")))
+                .disableEnvironmentVariablesSource()
+                .disableSystemPropertiesSource()
+                .build();
+
+        SocketConfiguration socket = SocketConfiguration.builder()
+                .config(config)
+                .build();
+
+        assertThat(socket.maxConcurrentConnections(), is(100));
+        assertThat(socket.maxConcurrentRequests(), is(200));
+        AdaptiveConcurrency adaptive = socket.adaptiveConcurrency().orElseThrow();
+        assertThat(adaptive.initialLimit(), is(30));
+        assertThat(adaptive.maxLimit(), is(150));
+    }
+
+    @Test
+    void invalidAdaptiveConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> AdaptiveConcurrency.builder()
+                .minLimit(10)
+                .maxLimit(5)
+                .build());
+        assertThrows(IllegalArgumentException.class, () -> AdaptiveConcurrency.builder()
+                .backoffRatio(1.5)
+                .build());
+    }
+
+    private static void fillAndRelease(SocketLoadLimiter limiter, long latencyNanos) {
+        int acquired = 0;
+        while (limiter.tryAcquireRequest()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.releaseRequest(latencyNanos);
+        }
+    }
+}
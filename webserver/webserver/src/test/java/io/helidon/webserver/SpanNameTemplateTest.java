@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.util.List;
+
+import io.helidon.common.http.Http;
+import io.helidon.tracing.config.ComponentTracingConfig;
+import io.helidon.tracing.config.SpanTracingConfig;
+import io.helidon.tracing.config.TracingConfig;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests {@link SpanNameTemplate} and {@link PathTracingMatcher}.
+ */
+class SpanNameTemplateTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "HTTP %s %s",
+            "%1$s %2$s?%3$s",
+            "%2$s (%1$s)",
+            "100%% %s",
+            "%s%n%s",
+            "%s %s %s %s",
+            "%-10s|",
+            "%d",
+            "trailing %"
+    })
+    void sameAsStringFormat(String template) {
+        String expected;
+        try {
+            expected = String.format(template, "GET", "/greet/World", "name=value");
+        } catch (RuntimeException e) {
+            expected = e.getClass().getName();
+        }
+        String actual;
+        try {
+            actual = SpanNameTemplate.compile(template).format("GET", "/greet/World", "name=value");
+        } catch (RuntimeException e) {
+            actual = e.getClass().getName();
+        }
+        assertThat(actual, is(expected));
+    }
+
+    @Test
+    void pathMatcher() {
+        TracingConfig disabled = TracingConfig.DISABLED;
+        TracingConfig renamed = TracingConfig.builder()
+                .addComponent(ComponentTracingConfig.builder("web-server")
+                                      .addSpan(SpanTracingConfig.builder("HTTP Request")
+                                                       .newName("%1$s %2$s")
+                                                       .build())
+                                      .build())
+                .build();
+        PathTracingMatcher matcher = PathTracingMatcher.create(List.of(
+                PathTracingConfig.builder().path("/health").tracingConfig(disabled).build(),
+                PathTracingConfig.builder().path("/health/{+}").tracingConfig(disabled).build(),
+                PathTracingConfig.builder().path("/greet/{name}").addMethod("PUT").tracingConfig(renamed).build()));
+
+        assertThat(matcher.match(Http.Method.GET, "/health", null), sameInstance(disabled));
+        assertThat(matcher.match(Http.Method.GET, "/health/live", null), sameInstance(disabled));
+        assertThat(matcher.match(Http.Method.GET, "/healthy", null), is(nullValue()));
+        assertThat(matcher.match(Http.Method.GET, "/greet/World", null), is(nullValue()));
+        assertThat(matcher.match(Http.Method.PUT, "/greet/World", null), sameInstance(renamed));
+        assertThat(matcher.match(Http.Method.PUT, "/greet/World;param=value", null), sameInstance(renamed));
+        assertThat(matcher.match(Http.Method.GET, "/other", TracingConfig.ENABLED), sameInstance(TracingConfig.ENABLED));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,14 +18,27 @@ package io.helidon.webserver;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import io.helidon.common.http.Http;
+import io.helidon.config.Config;
+import io.helidon.config.ConfigSources;
+import io.helidon.tracing.Sampler;
+import io.helidon.tracing.SpanContext;
+import io.helidon.tracing.Tracer;
 import io.helidon.tracing.config.TracingConfig;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class WebTracingConfigTest {
 
@@ -78,4 +91,51 @@ class WebTracingConfigTest {
         assertThat(healthPathConfigs.get(1).path(), is("/openapi"));
         assertThat(healthPathConfigs.get(1).tracedConfig(), is(TracingConfig.ENABLED));
     }
+
+    @Test
+    void testSamplerFromConfig() {
+        Config config = Config.builder()
+                .sources(ConfigSources.create(Map.of("sampler.type", "always-off")))
+                .disableEnvironmentVariablesSource()
+                .disableSystemPropertiesSource()
+                .build();
+        WebTracingConfig tracingConfig = WebTracingConfig.create(config);
+
+        assertThat(tracingConfig.sampler(), is(Sampler.alwaysOff()));
+        assertThat(WebTracingConfig.create().sampler(), is(Sampler.alwaysOn()));
+    }
+
+    @Test
+    void testNotSampledRequest() {
+        Set<String> operations = ConcurrentHashMap.newKeySet();
+        List<Optional<SpanContext>> spanContexts = new ArrayList<>();
+        Routing routing = Routing.builder()
+                .register(WebTracingConfig.builder()
+                                  .sampler(operation -> {
+                                      operations.add(operation);
+                                      return false;
+                                  })
+                                  .build())
+                .any((req, res) -> req.next())
+                .register("/greet", rules -> rules.get("/{name}", (req, res) -> spanContexts.add(req.spanContext())))
+                .any((req, res) -> spanContexts.add(req.spanContext()))
+                .build();
+
+        Tracer tracer = mock(Tracer.class);
+        when(tracer.enabled()).thenReturn(true);
+        when(tracer.extract(any())).thenReturn(Optional.empty());
+        ServerConfiguration configuration = mock(ServerConfiguration.class);
+        when(configuration.tracer()).thenReturn(tracer);
+
+        for (String path : List.of("/greet/1", "/greet/2", "/other")) {
+            BareRequest request = RoutingTest.mockRequest(path, Http.Method.GET);
+            when(request.webServer().configuration()).thenReturn(configuration);
+            routing.route(request, RoutingTest.mockResponse());
+        }
+
+        // no span context is registered for requests that are not sampled
+        assertThat(spanContexts, is(List.of(Optional.empty(), Optional.empty(), Optional.empty())));
+        // decision is keyed by the route, not by the request path, and by the span name if there is no route
+        assertThat(operations, is(Set.of("GET /greet/{name}", "HTTP Request")));
+    }
 }
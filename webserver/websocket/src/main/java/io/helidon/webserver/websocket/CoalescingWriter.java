@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver.websocket;
+
+import java.nio.ByteBuffer;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.concurrent.EventExecutor;
+import org.glassfish.tyrus.spi.CompletionHandler;
+import org.glassfish.tyrus.spi.Writer;
+
+/**
+ * Tyrus writer coalescing outgoing frames into fewer socket writes.
+ * <p>
+ * Frames written from outside the event loop are handed to the event loop, written without flushing,
+ * and the channel is flushed by a task queued behind them, so that all frames queued in the meantime
+ * leave in a single flush. The channel is also flushed as soon as the threshold of pending bytes is reached.
+ * <p>
+ * Frames written from the event loop are flushed immediately, as the endpoint may be blocking the event loop
+ * until the write completes.
+ */
+final class CoalescingWriter extends Writer {
+
+    private final FrameSequencer sequencer;
+    private final ChannelHandlerContext ctx;
+    private final int threshold;
+    private final Runnable flushTask = this::flush;
+
+    // accessed from the event loop only
+    private int pendingBytes;
+    private boolean flushScheduled;
+
+    CoalescingWriter(FrameSequencer sequencer, int threshold) {
+        this.sequencer = sequencer;
+        this.ctx = sequencer.ctx();
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void write(ByteBuffer byteBuffer, CompletionHandler<ByteBuffer> completionHandler) {
+        EventExecutor executor = ctx.executor();
+        if (executor.inEventLoop()) {
+            write(Unpooled.wrappedBuffer(byteBuffer), byteBuffer, completionHandler);
+            flush();
+        } else {
+            executor.execute(() -> {
+                write(Unpooled.wrappedBuffer(byteBuffer), byteBuffer, completionHandler);
+                if (pendingBytes >= threshold) {
+                    flush();
+                } else if (!flushScheduled) {
+                    flushScheduled = true;
+                    executor.execute(flushTask);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void close() {
+        EventExecutor executor = ctx.executor();
+        if (executor.inEventLoop()) {
+            flushAndClose();
+        } else {
+            executor.execute(this::flushAndClose);
+        }
+    }
+
+    private void write(ByteBuf byteBuf, ByteBuffer byteBuffer, CompletionHandler<ByteBuffer> completionHandler) {
+        pendingBytes += byteBuf.readableBytes();
+        sequencer.write(byteBuf)
+                .addListener(f -> {
+                    if (f.isSuccess()) {
+                        completionHandler.completed(byteBuffer);
+                    } else {
+                        completionHandler.failed(f.cause());
+                    }
+                });
+    }
+
+    private void flush() {
+        flushScheduled = false;
+        if (pendingBytes > 0) {
+            pendingBytes = 0;
+            ctx.flush();
+        }
+    }
+
+    private void flushAndClose() {
+        flushScheduled = false;
+        pendingBytes = 0;
+        ctx.writeAndFlush(Unpooled.EMPTY_BUFFER).addListener(ChannelFutureListener.CLOSE);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver.websocket;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.concurrent.EventExecutor;
+
+/**
+ * Orders the frames written by Tyrus and the frames of {@link WebSocketBroadcaster} on a single connection.
+ * <p>
+ * The frames of a message sent in parts must not be interleaved with the frames of other messages
+ * (RFC 6455, section 5.4). Frames written by Tyrus are inspected as they are written to the channel,
+ * and broadcast frames arriving while the endpoint is in the middle of a partial message are queued
+ * until its final frame was written.
+ * <p>
+ * Frames are written on the event loop only, so the order of inspection is the order of the frames on the wire.
+ */
+final class FrameSequencer {
+
+    private static final int FIN = 0x80;
+    private static final int OPCODE_MASK = 0x0F;
+    private static final int OPCODE_CONTINUATION = 0x00;
+    private static final int OPCODE_TEXT = 0x01;
+    private static final int OPCODE_BINARY = 0x02;
+
+    private final ChannelHandlerContext ctx;
+    // read by broadcasting threads to account for the queued frames
+    private final AtomicLong deferredBytes = new AtomicLong();
+
+    // accessed from the event loop only
+    private final Queue<ByteBuf> deferred = new ArrayDeque<>();
+    private boolean partial;
+
+    FrameSequencer(ChannelHandlerContext ctx) {
+        this.ctx = ctx;
+    }
+
+    ChannelHandlerContext ctx() {
+        return ctx;
+    }
+
+    /**
+     * Write a frame produced by Tyrus, without flushing. Must be called on the event loop.
+     *
+     * @param frame a single complete frame
+     * @return write future
+     */
+    ChannelFuture write(ByteBuf frame) {
+        boolean wasPartial = partial;
+        if (frame.isReadable()) {
+            int header = frame.getUnsignedByte(frame.readerIndex());
+            int opcode = header & OPCODE_MASK;
+            boolean fin = (header & FIN) != 0;
+            if (opcode == OPCODE_TEXT || opcode == OPCODE_BINARY) {
+                partial = !fin;
+            } else if (opcode == OPCODE_CONTINUATION && fin) {
+                partial = false;
+            }
+        }
+        ChannelFuture future = ctx.write(frame);
+        if (wasPartial && !partial) {
+            ByteBuf next;
+            while ((next = deferred.poll()) != null) {
+                deferredBytes.addAndGet(-next.readableBytes());
+                ctx.write(next, ctx.voidPromise());
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Write and flush a broadcast frame once the endpoint is not in the middle of a partial message.
+     *
+     * @param frame a single complete frame, released by this method
+     */
+    void broadcast(ByteBuf frame) {
+        EventExecutor executor = ctx.executor();
+        if (executor.inEventLoop()) {
+            writeBroadcast(frame);
+        } else {
+            executor.execute(() -> writeBroadcast(frame));
+        }
+    }
+
+    /**
+     * Number of bytes of the broadcast frames waiting for the end of a partial message.
+     *
+     * @return number of deferred bytes
+     */
+    long deferredBytes() {
+        return deferredBytes.get();
+    }
+
+    /**
+     * Release the deferred frames once the connection is closed. Must be called on the event loop.
+     */
+    void release() {
+        ByteBuf next;
+        while ((next = deferred.poll()) != null) {
+            deferredBytes.addAndGet(-next.readableBytes());
+            next.release();
+        }
+    }
+
+    private void writeBroadcast(ByteBuf frame) {
+        if (!ctx.channel().isActive()) {
+            frame.release();
+        } else if (partial) {
+            deferredBytes.addAndGet(frame.readableBytes());
+            deferred.add(frame);
+        } else {
+            ctx.writeAndFlush(frame, ctx.voidPromise());
+        }
+    }
+}
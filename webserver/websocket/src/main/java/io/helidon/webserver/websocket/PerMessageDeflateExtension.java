@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver.websocket;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import jakarta.websocket.CloseReason;
+import org.glassfish.tyrus.core.TyrusWebSocketEngine;
+import org.glassfish.tyrus.core.extension.ExtendedExtension;
+import org.glassfish.tyrus.core.frame.Frame;
+
+/**
+ * The {@code permessage-deflate} extension as specified by
+ * <a href="https://www.rfc-editor.org/rfc/rfc7692">RFC 7692</a>.
+ * <p>
+ * Each connection keeps its compression contexts across messages, unless the client asks for
+ * {@code server_no_context_takeover} or {@code client_no_context_takeover}. As {@link Deflater} always
+ * uses a window of 32KB, messages to a client restricting {@code server_max_window_bits} to a smaller window
+ * are sent uncompressed, which the specification permits.
+ * <p>
+ * An inflated message larger than the maximal message size fails the connection with close code {@code 1009},
+ * as does a message of that size received uncompressed.
+ */
+final class PerMessageDeflateExtension implements ExtendedExtension {
+
+    static final String NAME = "permessage-deflate";
+    // the largest message Tyrus accepts uncompressed
+    static final int DEFAULT_MAX_MESSAGE_SIZE = TyrusWebSocketEngine.DEFAULT_INCOMING_BUFFER_SIZE;
+
+    private static final String SERVER_NO_CONTEXT_TAKEOVER = "server_no_context_takeover";
+    private static final String CLIENT_NO_CONTEXT_TAKEOVER = "client_no_context_takeover";
+    private static final String SERVER_MAX_WINDOW_BITS = "server_max_window_bits";
+    private static final String STATE_PROPERTY = PerMessageDeflateExtension.class.getName();
+    private static final String MAX_WINDOW_BITS = "15";
+    private static final byte OPCODE_CONTINUATION = 0x00;
+    private static final byte OPCODE_CLOSE = 0x08;
+    // empty stored block terminating the payload of each message, omitted on the wire
+    private static final byte[] TAIL = {0x00, 0x00, (byte) 0xff, (byte) 0xff};
+
+    private final int compressionLevel;
+    private final int maxMessageSize;
+
+    PerMessageDeflateExtension(int compressionLevel, int maxMessageSize) {
+        this.compressionLevel = compressionLevel;
+        this.maxMessageSize = maxMessageSize;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public List<Parameter> getParameters() {
+        return List.of();
+    }
+
+    @Override
+    public List<Parameter> onExtensionNegotiation(ExtensionContext context, List<Parameter> requestedParameters) {
+        List<Parameter> responseParameters = new ArrayList<>();
+        boolean serverNoContextTakeover = false;
+        boolean clientNoContextTakeover = false;
+        boolean compress = true;
+        for (Parameter parameter : requestedParameters) {
+            switch (parameter.getName()) {
+            case SERVER_NO_CONTEXT_TAKEOVER:
+                serverNoContextTakeover = true;
+                responseParameters.add(parameter);
+                break;
+            case CLIENT_NO_CONTEXT_TAKEOVER:
+                clientNoContextTakeover = true;
+                responseParameters.add(parameter);
+                break;
+            case SERVER_MAX_WINDOW_BITS:
+                compress = MAX_WINDOW_BITS.equals(parameter.getValue());
+                responseParameters.add(parameter);
+                break;
+            default:
+                // client_max_window_bits is a mere hint, the inflater accepts any window size
+                break;
+            }
+        }
+        context.getProperties().put(STATE_PROPERTY,
+                                    new State(compressionLevel,
+                                              maxMessageSize,
+                                              compress,
+                                              serverNoContextTakeover,
+                                              clientNoContextTakeover));
+        return responseParameters;
+    }
+
+    @Override
+    public void onHandshakeResponse(ExtensionContext context, List<Parameter> responseParameters) {
+        // client side only
+    }
+
+    @Override
+    public Frame processIncoming(ExtensionContext context, Frame frame) {
+        State state = (State) context.getProperties().get(STATE_PROPERTY);
+        if (state == null || isControlFrame(frame)) {
+            return frame;
+        }
+        if (frame.getOpcode() != OPCODE_CONTINUATION) {
+            state.inflating = frame.isRsv1();
+        }
+        if (!state.inflating) {
+            return frame;
+        }
+        byte[] payload;
+        try {
+            payload = state.inflate(frame.getPayloadData(), frame.isFin());
+        } catch (DataFormatException e) {
+            state.resetInflater();
+            return closeFrame(CloseReason.CloseCodes.PROTOCOL_ERROR, "Invalid compressed message");
+        } catch (MessageTooBigException e) {
+            state.resetInflater();
+            return closeFrame(CloseReason.CloseCodes.TOO_BIG, "Message larger than " + maxMessageSize + " bytes");
+        }
+        return Frame.builder(frame)
+                .rsv1(false)
+                .payloadData(payload)
+                .build();
+    }
+
+    @Override
+    public Frame processOutgoing(ExtensionContext context, Frame frame) {
+        State state = (State) context.getProperties().get(STATE_PROPERTY);
+        if (state == null || !state.compress || isControlFrame(frame)) {
+            return frame;
+        }
+        byte[] payload = state.deflate(frame.getPayloadData(), frame.isFin());
+        return Frame.builder(frame)
+                // only the first frame of a message is marked as compressed
+                .rsv1(frame.getOpcode() != OPCODE_CONTINUATION)
+                .payloadData(payload)
+                .build();
+    }
+
+    @Override
+    public void destroy(ExtensionContext context) {
+        State state = (State) context.getProperties().remove(STATE_PROPERTY);
+        if (state != null) {
+            state.destroy();
+        }
+    }
+
+    private static boolean isControlFrame(Frame frame) {
+        return (frame.getOpcode() & 0x08) != 0;
+    }
+
+    // the close frame replaces the received one, so the connection is failed by the regular close handshake
+    private static Frame closeFrame(CloseReason.CloseCode code, String reason) {
+        byte[] reasonBytes = reason.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer payload = ByteBuffer.allocate(2 + reasonBytes.length)
+                .putShort((short) code.getCode())
+                .put(reasonBytes);
+        return Frame.builder()
+                .fin(true)
+                .opcode(OPCODE_CLOSE)
+                .payloadData(payload.array())
+                .build();
+    }
+
+    /**
+     * Inflated message exceeds the maximal message size.
+     */
+    static final class MessageTooBigException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        MessageTooBigException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Compression contexts of a single connection.
+     */
+    static final class State {
+
+        private static final int BUFFER_SIZE = 8192;
+
+        private final Deflater deflater;
+        private final Inflater inflater = new Inflater(true);
+        private final int maxMessageSize;
+        private final boolean compress;
+        private final boolean serverNoContextTakeover;
+        private final boolean clientNoContextTakeover;
+        private final byte[] inflateBuffer = new byte[BUFFER_SIZE];
+        private final byte[] deflateBuffer = new byte[BUFFER_SIZE];
+
+        // accessed by the thread reading the connection only
+        private boolean inflating;
+        private int inflatedSize;
+
+        State(int compressionLevel,
+              int maxMessageSize,
+              boolean compress,
+              boolean serverNoContextTakeover,
+              boolean clientNoContextTakeover) {
+            this.deflater = new Deflater(compressionLevel, true);
+            this.maxMessageSize = maxMessageSize;
+            this.compress = compress;
+            this.serverNoContextTakeover = serverNoContextTakeover;
+            this.clientNoContextTakeover = clientNoContextTakeover;
+        }
+
+        byte[] inflate(byte[] data, boolean fin) throws DataFormatException, MessageTooBigException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 2);
+            inflate(data, out);
+            if (fin) {
+                inflate(TAIL, out);
+                inflating = false;
+                inflatedSize = 0;
+                if (clientNoContextTakeover || inflater.finished()) {
+                    inflater.reset();
+                }
+            }
+            return out.toByteArray();
+        }
+
+        void resetInflater() {
+            inflating = false;
+            inflatedSize = 0;
+            inflater.reset();
+        }
+
+        synchronized byte[] deflate(byte[] data, boolean fin) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + TAIL.length);
+            deflater.setInput(data);
+            int n;
+            do {
+                n = deflater.deflate(deflateBuffer, 0, deflateBuffer.length, Deflater.SYNC_FLUSH);
+                out.write(deflateBuffer, 0, n);
+            } while (n == deflateBuffer.length);
+            byte[] result = out.toByteArray();
+            if (!fin) {
+                return result;
+            }
+            if (serverNoContextTakeover) {
+                deflater.reset();
+            }
+            if (result.length == 0) {
+                // nothing left to flush for an empty message, send a single empty block
+                return new byte[] {0x00};
+            }
+            return Arrays.copyOf(result, result.length - TAIL.length);
+        }
+
+        synchronized void destroy() {
+            deflater.end();
+            inflater.end();
+        }
+
+        private void inflate(byte[] data, ByteArrayOutputStream out) throws DataFormatException, MessageTooBigException {
+            inflater.setInput(data);
+            int n;
+            do {
+                n = inflater.inflate(inflateBuffer);
+                // fail before the message is inflated completely, it may be orders of magnitude larger
+                inflatedSize += n;
+                if (inflatedSize > maxMessageSize) {
+                    throw new MessageTooBigException();
+                }
+                out.write(inflateBuffer, 0, n);
+            } while (n == inflateBuffer.length);
+        }
+    }
+}
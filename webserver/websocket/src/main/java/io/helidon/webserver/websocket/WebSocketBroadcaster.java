@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver.websocket;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.helidon.config.Config;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundBuffer;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.Session;
+
+/**
+ * Sends the same message to a group of WebSocket sessions.
+ * <p>
+ * A message is encoded into a single frame once per broadcast, and the frame buffer is shared
+ * by all the connections it is written to, instead of encoding and copying the message for each session
+ * as {@link jakarta.websocket.RemoteEndpoint} does. Sessions are typically added in
+ * {@link jakarta.websocket.OnOpen} methods, and are removed automatically once their connection is closed.
+ * <p>
+ * Connections that do not keep up with the broadcast messages are handled according to
+ * the {@link SlowConsumerPolicy}.
+ * <p>
+ * Broadcast messages are sent uncompressed. A broadcast message is not interleaved with a partial message
+ * the endpoint of a session is in the middle of sending, it is sent once the final part of the partial message
+ * was sent.
+ */
+public final class WebSocketBroadcaster {
+
+    /**
+     * Default limit of bytes queued for a session, see {@link Builder#bufferLimit(long)}.
+     */
+    public static final long DEFAULT_BUFFER_LIMIT = 1024 * 1024;
+
+    private static final Logger LOGGER = Logger.getLogger(WebSocketBroadcaster.class.getName());
+    private static final int OPCODE_TEXT = 0x01;
+    private static final int OPCODE_BINARY = 0x02;
+    private static final int FIN = 0x80;
+    // time given to a disconnected slow session to receive the queued messages and the close frame
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    private final Map<Session, FrameSequencer> sessions = new ConcurrentHashMap<>();
+    private final SlowConsumerPolicy slowConsumerPolicy;
+    private final long bufferLimit;
+
+    private WebSocketBroadcaster(Builder builder) {
+        this.slowConsumerPolicy = builder.slowConsumerPolicy;
+        this.bufferLimit = builder.bufferLimit;
+    }
+
+    /**
+     * Create a new broadcaster with the default configuration.
+     *
+     * @return new broadcaster
+     */
+    public static WebSocketBroadcaster create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new broadcaster from configuration.
+     *
+     * @param config configuration of the broadcaster
+     * @return new broadcaster
+     * @see Builder#config(Config)
+     */
+    public static WebSocketBroadcaster create(Config config) {
+        return builder().config(config).build();
+    }
+
+    /**
+     * Fluent API builder for {@link WebSocketBroadcaster}.
+     *
+     * @return new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Add a session to this broadcaster.
+     *
+     * @param session session served by Helidon WebServer
+     * @return {@code true} if the session was added, {@code false} if it was already present
+     * @throws IllegalArgumentException if the session is not open, or not served by Helidon WebServer
+     */
+    public boolean add(Session session) {
+        FrameSequencer sequencer = WebSocketHandler.frameSequencer(session)
+                .orElseThrow(() -> new IllegalArgumentException("Session " + session.getId()
+                                                                        + " is not served by Helidon WebServer"));
+        if (!session.isOpen()) {
+            throw new IllegalArgumentException("Session " + session.getId() + " is not open");
+        }
+        if (sessions.putIfAbsent(session, sequencer) != null) {
+            return false;
+        }
+        sequencer.ctx().channel().closeFuture().addListener(future -> sessions.remove(session));
+        return true;
+    }
+
+    /**
+     * Remove a session from this broadcaster.
+     *
+     * @param session session to remove
+     * @return {@code true} if the session was present
+     */
+    public boolean remove(Session session) {
+        return sessions.remove(session) != null;
+    }
+
+    /**
+     * Number of sessions of this broadcaster.
+     *
+     * @return number of sessions
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * Send a text message to all the sessions of this broadcaster.
+     *
+     * @param text message
+     * @return number of sessions the message was written to
+     */
+    public int broadcast(String text) {
+        Objects.requireNonNull(text, "text is null");
+        return broadcast(OPCODE_TEXT, ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Send a binary message to all the sessions of this broadcaster.
+     *
+     * @param data message, its content between position and limit is sent
+     * @return number of sessions the message was written to
+     */
+    public int broadcast(ByteBuffer data) {
+        Objects.requireNonNull(data, "data is null");
+        return broadcast(OPCODE_BINARY, data.duplicate());
+    }
+
+    private int broadcast(int opcode, ByteBuffer payload) {
+        ByteBuf frame = frame(opcode, payload);
+        int frameSize = frame.readableBytes();
+        int written = 0;
+        try {
+            for (Map.Entry<Session, FrameSequencer> entry : sessions.entrySet()) {
+                Session session = entry.getKey();
+                FrameSequencer sequencer = entry.getValue();
+                // a closing session must not send data frames after its close frame
+                if (!session.isOpen() || !sequencer.ctx().channel().isActive()) {
+                    continue;
+                }
+                if (isSlow(sequencer, frameSize)) {
+                    if (slowConsumerPolicy == SlowConsumerPolicy.DISCONNECT) {
+                        disconnect(session, sequencer.ctx());
+                    }
+                    continue;
+                }
+                sequencer.broadcast(frame.retainedDuplicate());
+                written++;
+            }
+        } finally {
+            frame.release();
+        }
+        return written;
+    }
+
+    private boolean isSlow(FrameSequencer sequencer, int frameSize) {
+        Channel channel = sequencer.ctx().channel();
+        if (slowConsumerPolicy == SlowConsumerPolicy.DROP) {
+            return !channel.isWritable();
+        }
+        ChannelOutboundBuffer outboundBuffer = channel.unsafe().outboundBuffer();
+        long pending = (outboundBuffer == null ? 0 : outboundBuffer.totalPendingWriteBytes()) + sequencer.deferredBytes();
+        // a connection with nothing pending accepts any message
+        return pending > 0 && pending + frameSize > bufferLimit;
+    }
+
+    private static void disconnect(Session session, ChannelHandlerContext ctx) {
+        LOGGER.log(Level.FINE, () -> "Disconnecting slow session " + session.getId());
+        try {
+            // the close frame is queued behind the messages not yet read by the session
+            session.close(new CloseReason(CloseReason.CloseCodes.VIOLATED_POLICY, "Slow consumer"));
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, e, () -> "Failed to close slow session " + session.getId());
+            ctx.close();
+            return;
+        }
+        // the close handshake does not complete while the session does not read
+        ctx.executor().schedule(() -> {
+            ctx.close();
+        }, CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    // unmasked single frame as sent by a server, RFC 6455 section 5.2
+    private static ByteBuf frame(int opcode, ByteBuffer payload) {
+        int length = payload.remaining();
+        ByteBuf frame;
+        if (length < 126) {
+            frame = Unpooled.directBuffer(2 + length);
+            frame.writeByte(FIN | opcode);
+            frame.writeByte(length);
+        } else if (length <= 0xFFFF) {
+            frame = Unpooled.directBuffer(4 + length);
+            frame.writeByte(FIN | opcode);
+            frame.writeByte(126);
+            frame.writeShort(length);
+        } else {
+            frame = Unpooled.directBuffer(10 + length);
+            frame.writeByte(FIN | opcode);
+            frame.writeByte(127);
+            frame.writeLong(length);
+        }
+        frame.writeBytes(payload);
+        return frame;
+    }
+
+    /**
+     * How to treat sessions that do not read the broadcast messages as fast as they are sent.
+     */
+    public enum SlowConsumerPolicy {
+        /**
+         * Skip the sessions whose connection is not writable, that is, whose pending outgoing bytes
+         * exceed the write buffer high water mark of the connection.
+         */
+        DROP,
+        /**
+         * Queue the messages for each session up to the {@link Builder#bufferLimit(long) buffer limit},
+         * and skip the sessions exceeding it.
+         */
+        BUFFER,
+        /**
+         * Close the sessions that would exceed the {@link Builder#bufferLimit(long) buffer limit}
+         * with the {@link CloseReason.CloseCodes#VIOLATED_POLICY} close code. The connection is closed once the client
+         * completes the close handshake, or after a timeout when it does not.
+         */
+        DISCONNECT
+    }
+
+    /**
+     * Fluent API builder for {@link WebSocketBroadcaster}.
+     */
+    public static final class Builder implements io.helidon.common.Builder<Builder, WebSocketBroadcaster> {
+
+        private SlowConsumerPolicy slowConsumerPolicy = SlowConsumerPolicy.BUFFER;
+        private long bufferLimit = DEFAULT_BUFFER_LIMIT;
+
+        private Builder() {
+        }
+
+        @Override
+        public WebSocketBroadcaster build() {
+            return new WebSocketBroadcaster(this);
+        }
+
+        /**
+         * Update this builder from configuration.
+         * <table class="config">
+         * <caption>Optional configuration parameters</caption>
+         * <tr>
+         *     <th>key</th>
+         *     <th>default value</th>
+         *     <th>description</th>
+         * </tr>
+         * <tr>
+         *     <td>slow-consumer-policy</td>
+         *     <td>{@code BUFFER}</td>
+         *     <td>{@link #slowConsumerPolicy(SlowConsumerPolicy)}</td>
+         * </tr>
+         * <tr>
+         *     <td>buffer-limit</td>
+         *     <td>{@value WebSocketBroadcaster#DEFAULT_BUFFER_LIMIT}</td>
+         *     <td>{@link #bufferLimit(long)}</td>
+         * </tr>
+         * </table>
+         *
+         * @param config config on the node of the broadcaster
+         * @return updated builder
+         */
+        public Builder config(Config config) {
+            config.get("slow-consumer-policy").asString()
+                    .map(it -> SlowConsumerPolicy.valueOf(it.toUpperCase(Locale.ROOT)))
+                    .ifPresent(this::slowConsumerPolicy);
+            config.get("buffer-limit").asLong().ifPresent(this::bufferLimit);
+            return this;
+        }
+
+        /**
+         * How to treat sessions that do not read the broadcast messages as fast as they are sent.
+         * Defaults to {@link SlowConsumerPolicy#BUFFER}.
+         *
+         * @param slowConsumerPolicy slow consumer policy
+         * @return updated builder
+         */
+        public Builder slowConsumerPolicy(SlowConsumerPolicy slowConsumerPolicy) {
+            this.slowConsumerPolicy = Objects.requireNonNull(slowConsumerPolicy, "slowConsumerPolicy is null");
+            return this;
+        }
+
+        /**
+         * Maximal number of bytes queued for a session, including the messages sent by the session
+         * itself, with the {@link SlowConsumerPolicy#BUFFER} and {@link SlowConsumerPolicy#DISCONNECT} policies.
+         * Defaults to {@value WebSocketBroadcaster#DEFAULT_BUFFER_LIMIT}.
+         *
+         * @param bufferLimit number of bytes, must be positive
+         * @return updated builder
+         */
+        public Builder bufferLimit(long bufferLimit) {
+            if (bufferLimit <= 0) {
+                throw new IllegalArgumentException("Buffer limit must be positive: " + bufferLimit);
+            }
+            this.bufferLimit = bufferLimit;
+            return this;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
@@ -42,6 +43,7 @@ import io.netty.handler.codec.http.HttpHeaders;
 import jakarta.websocket.CloseReason;
 import jakarta.websocket.DeploymentException;
 import jakarta.websocket.Extension;
+import jakarta.websocket.Session;
 import jakarta.websocket.server.ServerEndpointConfig;
 import org.glassfish.tyrus.core.RequestContext;
 import org.glassfish.tyrus.core.TyrusUpgradeResponse;
@@ -71,6 +73,7 @@ class WebSocketHandler extends SimpleChannelInboundHandler<Object> {
     private final WebSocketEngine.UpgradeInfo upgradeInfo;
     private final BufferedEmittingPublisher<ByteBuf> emitter;
     private final TyrusUpgradeResponse upgradeResponse = new TyrusUpgradeResponse();
+    private volatile FrameSequencer frameSequencer;
 
     WebSocketHandler(ChannelHandlerContext ctx, String path,
                             FullHttpRequest upgradeRequest,
@@ -88,35 +91,14 @@ class WebSocketHandler extends SimpleChannelInboundHandler<Object> {
         this.upgradeResponseHeaders = upgradeResponseHeaders;
         this.webSocketRouting = webSocketRouting;
         this.emitter = BufferedEmittingPublisher.create();
+        // release the buffers not handed to Tyrus once the connection is gone
+        this.emitter.onCleanup(ByteBuf::release);
 
         // Create container and WebSocket engine
         Set<Class<?>> allEndpointClasses = webSocketRouting.getRoutes().stream()
                 .map(WebSocketRoute::endpointClass)
                 .collect(Collectors.toSet());
-        tyrusServerContainer = new TyrusServerContainer(allEndpointClasses) {
-            private final WebSocketEngine engine =
-                    TyrusWebSocketEngine.builder(this).build();
-
-            @Override
-            public void register(Class<?> endpointClass) {
-                throw new UnsupportedOperationException("Use TyrusWebSocketEngine for registration");
-            }
-
-            @Override
-            public void register(ServerEndpointConfig serverEndpointConfig) {
-                throw new UnsupportedOperationException("Use TyrusWebSocketEngine for registration");
-            }
-
-            @Override
-            public Set<Extension> getInstalledExtensions() {
-                return webSocketRouting.getExtensions();
-            }
-
-            @Override
-            public WebSocketEngine getWebSocketEngine() {
-                return engine;
-            }
-        };
+        tyrusServerContainer = new ConnectionContainer(allEndpointClasses);
 
         // Register classes with context path "/"
         WebSocketEngine engine = tyrusServerContainer.getWebSocketEngine();
@@ -145,6 +127,19 @@ class WebSocketHandler extends SimpleChannelInboundHandler<Object> {
         return upgradeResponse;
     }
 
+    /**
+     * Sequencer of the frames written to the connection of the given session.
+     *
+     * @param session session
+     * @return frame sequencer, empty if the session is not served by this module or not open yet
+     */
+    static Optional<FrameSequencer> frameSequencer(Session session) {
+        if (session.getContainer() instanceof ConnectionContainer container) {
+            return Optional.ofNullable(container.handler().frameSequencer);
+        }
+        return Optional.empty();
+    }
+
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
         LOGGER.log(Level.SEVERE, "WS handler ERROR ", cause);
@@ -156,6 +151,10 @@ class WebSocketHandler extends SimpleChannelInboundHandler<Object> {
             connection.close(new CloseReason(CloseReason.CloseCodes.CLOSED_ABNORMALLY, "Client connection closed"));
         }
 
+        emitter.completeNow();
+        if (frameSequencer != null) {
+            frameSequencer.release();
+        }
         tyrusServerContainer.shutdown();
         super.channelUnregistered(ctx);
     }
@@ -163,21 +162,28 @@ class WebSocketHandler extends SimpleChannelInboundHandler<Object> {
     @Override
     protected void channelRead0(ChannelHandlerContext ctx, Object msg) throws Exception {
         if (msg instanceof ByteBuf byteBuf) {
-            emitter.emit(byteBuf.copy());
+            // keep the buffer past the auto release, it is released once Tyrus consumed it
+            emitter.emit(byteBuf.retain());
         }
     }
 
     private void sendBytesToTyrus(ChannelHandlerContext ctx, ByteBuf byteBuf) {
-        // Pass all data to Tyrus spi
-        ByteBuffer nioBuffer = byteBuf.nioBuffer();
-        int retries = MAX_RETRIES;
-        while (nioBuffer.remaining() > 0 && retries-- > 0) {
-            connection.getReadHandler().handle(nioBuffer);
+        // Pass all data to Tyrus spi, component by component to avoid merging composite buffers
+        boolean consumed = true;
+        for (ByteBuffer nioBuffer : byteBuf.nioBuffers()) {
+            int retries = MAX_RETRIES;
+            while (nioBuffer.remaining() > 0 && retries-- > 0) {
+                connection.getReadHandler().handle(nioBuffer);
+            }
+            if (nioBuffer.remaining() > 0) {
+                consumed = false;
+                break;
+            }
         }
         byteBuf.release();
 
         // If we can't push all data to Tyrus, cancel and report problem
-        if (retries == 0) {
+        if (!consumed) {
             ctx.close();
             connection.close(
                     new CloseReason(UNEXPECTED_CONDITION, "Tyrus did not consume all data after " + MAX_RETRIES + " retries")
@@ -206,7 +212,34 @@ class WebSocketHandler extends SimpleChannelInboundHandler<Object> {
     }
 
     void open(ChannelHandlerContext ctx) {
-        Writer writer = new Writer() {
+        FrameSequencer sequencer = new FrameSequencer(ctx);
+        this.frameSequencer = sequencer;
+        Writer writer = webSocketRouting.isWriteCoalescing()
+                ? new CoalescingWriter(sequencer, webSocketRouting.getWriteCoalescingThreshold())
+                : flushingWriter(sequencer);
+
+        if (webSocketRouting.getExecutorService() != null) {
+            CompletableFuture.supplyAsync(() -> {
+                this.connection = upgradeInfo.createConnection(writer, WebSocketHandler::close);
+                return ctx;
+            }, webSocketRouting.getExecutorService()).thenAccept(c -> Multi.create(emitter)
+                    .observeOn(webSocketRouting.getExecutorService())
+                    .forEach(byteBuf -> sendBytesToTyrus(c, byteBuf))
+                    .onError(this::logError)
+            );
+        } else {
+            this.connection = upgradeInfo.createConnection(writer, WebSocketHandler::close);
+            Multi.create(emitter)
+                    .forEach(byteBuf -> sendBytesToTyrus(ctx, byteBuf))
+                    .onError(this::logError);
+        }
+
+        ctx.channel().config().setAutoRead(true);
+    }
+
+    private static Writer flushingWriter(FrameSequencer sequencer) {
+        ChannelHandlerContext ctx = sequencer.ctx();
+        return new Writer() {
 
             @Override
             public void close() throws IOException {
@@ -215,7 +248,16 @@ class WebSocketHandler extends SimpleChannelInboundHandler<Object> {
 
             @Override
             public void write(ByteBuffer byteBuffer, CompletionHandler<ByteBuffer> completionHandler) {
-                ctx.writeAndFlush(Unpooled.wrappedBuffer(byteBuffer))
+                // frames are inspected by the sequencer in the order they are written to the channel
+                if (ctx.executor().inEventLoop()) {
+                    writeAndFlush(byteBuffer, completionHandler);
+                } else {
+                    ctx.executor().execute(() -> writeAndFlush(byteBuffer, completionHandler));
+                }
+            }
+
+            private void writeAndFlush(ByteBuffer byteBuffer, CompletionHandler<ByteBuffer> completionHandler) {
+                sequencer.write(Unpooled.wrappedBuffer(byteBuffer))
                         .addListener(f -> {
                             if (f.isSuccess()) {
                                 completionHandler.completed(byteBuffer);
@@ -223,26 +265,45 @@ class WebSocketHandler extends SimpleChannelInboundHandler<Object> {
                                 completionHandler.failed(f.cause());
                             }
                         });
+                ctx.flush();
             }
         };
+    }
 
-        if (webSocketRouting.getExecutorService() != null) {
-            CompletableFuture.supplyAsync(() -> {
-                this.connection = upgradeInfo.createConnection(writer, WebSocketHandler::close);
-                return ctx;
-            }, webSocketRouting.getExecutorService()).thenAccept(c -> Multi.create(emitter)
-                    .observeOn(webSocketRouting.getExecutorService())
-                    .forEach(byteBuf -> sendBytesToTyrus(c, byteBuf))
-                    .onError(this::logError)
-            );
-        } else {
-            this.connection = upgradeInfo.createConnection(writer, WebSocketHandler::close);
-            Multi.create(emitter)
-                    .forEach(byteBuf -> sendBytesToTyrus(ctx, byteBuf))
-                    .onError(this::logError);
+    /**
+     * Container of the endpoints of a single connection, exposed to the endpoints as {@link Session#getContainer()}.
+     */
+    private final class ConnectionContainer extends TyrusServerContainer {
+
+        private final WebSocketEngine engine = TyrusWebSocketEngine.builder(this).build();
+
+        private ConnectionContainer(Set<Class<?>> endpointClasses) {
+            super(endpointClasses);
         }
 
-        ctx.channel().config().setAutoRead(true);
+        @Override
+        public void register(Class<?> endpointClass) {
+            throw new UnsupportedOperationException("Use TyrusWebSocketEngine for registration");
+        }
+
+        @Override
+        public void register(ServerEndpointConfig serverEndpointConfig) {
+            throw new UnsupportedOperationException("Use TyrusWebSocketEngine for registration");
+        }
+
+        @Override
+        public Set<Extension> getInstalledExtensions() {
+            return webSocketRouting.getExtensions();
+        }
+
+        @Override
+        public WebSocketEngine getWebSocketEngine() {
+            return engine;
+        }
+
+        WebSocketHandler handler() {
+            return WebSocketHandler.this;
+        }
     }
 
     private void logError(Throwable throwable){
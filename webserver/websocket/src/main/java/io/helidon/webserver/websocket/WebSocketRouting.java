@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
+import java.util.zip.Deflater;
 
 import io.helidon.webserver.BareRequest;
 import io.helidon.webserver.BareResponse;
@@ -36,11 +37,15 @@ public class WebSocketRouting implements Routing {
     private final Set<Extension> extensions;
     private final List<WebSocketRoute> routes;
     private final ExecutorService executorService;
+    private final boolean writeCoalescing;
+    private final int writeCoalescingThreshold;
 
     private WebSocketRouting(Builder builder) {
         this.routes = builder.routes;
         this.extensions = builder.extensions;
         this.executorService = builder.executorService;
+        this.writeCoalescing = builder.writeCoalescing;
+        this.writeCoalescingThreshold = builder.writeCoalescingThreshold;
     }
 
     /**
@@ -69,16 +74,31 @@ public class WebSocketRouting implements Routing {
         return executorService;
     }
 
+    boolean isWriteCoalescing() {
+        return writeCoalescing;
+    }
+
+    int getWriteCoalescingThreshold() {
+        return writeCoalescingThreshold;
+    }
+
     /**
      * Fluent API builder for {@link io.helidon.webserver.websocket.WebSocketRouting}.
      */
     public static class Builder implements io.helidon.common.Builder<Builder, Routing> {
 
+        /**
+         * Default number of bytes written without flushing when write coalescing is enabled.
+         */
+        public static final int DEFAULT_WRITE_COALESCING_THRESHOLD = 16 * 1024;
+
         private final List<WebSocketRoute> routes = new ArrayList<>();
         // a purposefully mutable extensions
 
         private final Set<Extension> extensions = new HashSet<>();
         private ExecutorService executorService;
+        private boolean writeCoalescing;
+        private int writeCoalescingThreshold = DEFAULT_WRITE_COALESCING_THRESHOLD;
 
         private Builder() {
         }
@@ -150,6 +170,86 @@ public class WebSocketRouting implements Routing {
             return this;
         }
 
+        /**
+         * Whether to coalesce outgoing frames into fewer socket writes. When enabled, frames sent
+         * from threads other than the connection's event loop are written without flushing, and
+         * the connection is flushed once the event loop has processed the already queued writes,
+         * or once {@link #writeCoalescingThreshold(int)} bytes are pending, whichever comes first.
+         * Frames sent from the event loop itself are always flushed immediately.
+         * <p>
+         * Coalescing pays off for endpoints sending bursts of small messages, such as the ones
+         * using {@link jakarta.websocket.RemoteEndpoint.Async} or running on an
+         * {@link #executor(ExecutorService) executor}. Disabled by default.
+         *
+         * @param writeCoalescing whether to coalesce outgoing frames
+         * @return updated builder
+         */
+        public Builder writeCoalescing(boolean writeCoalescing) {
+            this.writeCoalescing = writeCoalescing;
+            return this;
+        }
+
+        /**
+         * Number of pending bytes that triggers a flush when {@link #writeCoalescing(boolean) write coalescing}
+         * is enabled. Defaults to {@value #DEFAULT_WRITE_COALESCING_THRESHOLD}.
+         *
+         * @param writeCoalescingThreshold number of bytes, must be positive
+         * @return updated builder
+         */
+        public Builder writeCoalescingThreshold(int writeCoalescingThreshold) {
+            if (writeCoalescingThreshold <= 0) {
+                throw new IllegalArgumentException("Write coalescing threshold must be positive: "
+                                                           + writeCoalescingThreshold);
+            }
+            this.writeCoalescingThreshold = writeCoalescingThreshold;
+            return this;
+        }
+
+        /**
+         * Support the {@code permessage-deflate} extension (RFC 7692), compressing the messages
+         * exchanged with the clients that offer it.
+         *
+         * @return updated builder
+         */
+        public Builder perMessageDeflate() {
+            return perMessageDeflate(Deflater.DEFAULT_COMPRESSION);
+        }
+
+        /**
+         * Support the {@code permessage-deflate} extension (RFC 7692) with the given compression level,
+         * compressing the messages exchanged with the clients that offer it.
+         *
+         * @param compressionLevel compression level from {@code 0} to {@code 9},
+         *                         or {@link Deflater#DEFAULT_COMPRESSION}
+         * @return updated builder
+         */
+        public Builder perMessageDeflate(int compressionLevel) {
+            return perMessageDeflate(compressionLevel, PerMessageDeflateExtension.DEFAULT_MAX_MESSAGE_SIZE);
+        }
+
+        /**
+         * Support the {@code permessage-deflate} extension (RFC 7692) with the given compression level,
+         * compressing the messages exchanged with the clients that offer it. A compressed message that inflates
+         * to more than {@code maxMessageSize} bytes closes the connection with code {@code 1009}.
+         * Defaults to the size of the Tyrus incoming buffer, the largest message accepted uncompressed.
+         *
+         * @param compressionLevel compression level from {@code 0} to {@code 9},
+         *                         or {@link Deflater#DEFAULT_COMPRESSION}
+         * @param maxMessageSize   maximal size of an inflated message in bytes, must be positive
+         * @return updated builder
+         */
+        public Builder perMessageDeflate(int compressionLevel, int maxMessageSize) {
+            if ((compressionLevel < 0 || compressionLevel > 9) && compressionLevel != Deflater.DEFAULT_COMPRESSION) {
+                throw new IllegalArgumentException("Invalid compression level: " + compressionLevel);
+            }
+            if (maxMessageSize <= 0) {
+                throw new IllegalArgumentException("Maximal message size must be positive: " + maxMessageSize);
+            }
+            this.extensions.removeIf(extension -> PerMessageDeflateExtension.NAME.equals(extension.getName()));
+            this.extensions.add(new PerMessageDeflateExtension(compressionLevel, maxMessageSize));
+            return this;
+        }
+
         @Override
         public WebSocketRouting build() {
             return new WebSocketRouting(this);
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver.websocket.test;
+
+import io.helidon.webserver.websocket.WebSocketBroadcaster;
+
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.OnOpen;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.ServerEndpoint;
+
+/**
+ * Endpoint broadcasting each received message to all its sessions.
+ */
+@ServerEndpoint("/broadcast")
+public class BroadcastEndpoint {
+
+    static final WebSocketBroadcaster BROADCASTER = WebSocketBroadcaster.create();
+
+    @OnOpen
+    public void onOpen(Session session) {
+        BROADCASTER.add(session);
+    }
+
+    @OnMessage
+    public void onMessage(String message) {
+        BROADCASTER.broadcast(message);
+    }
+}
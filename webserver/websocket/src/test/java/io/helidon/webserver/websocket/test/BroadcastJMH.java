@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver.websocket.test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.websocket.WebSocketBroadcaster;
+import io.helidon.webserver.websocket.WebSocketRouting;
+
+import jakarta.websocket.OnClose;
+import jakarta.websocket.OnOpen;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.ServerEndpoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Broadcasts per second of a message to local sessions, using {@link WebSocketBroadcaster}
+ * or sending the message to each session with {@link jakarta.websocket.RemoteEndpoint.Async}.
+ */
+@State(Scope.Benchmark)
+public class BroadcastJMH {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final String MESSAGE = "{\"symbol\":\"ORCL\",\"price\":123.45,\"volume\":1000}";
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(BroadcastJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Param({"10000"})
+    int sessions;
+
+    @Param({"broadcaster", "async-remote"})
+    String mode;
+
+    WebServer webServer;
+    List<WebSocket> webSockets;
+    final AtomicInteger received = new AtomicInteger();
+    final AtomicReference<CompletableFuture<Void>> delivered = new AtomicReference<>();
+
+    @Setup
+    public void setup() {
+        webServer = WebServer.builder()
+                .defaultSocket(s -> s
+                        .host("localhost")
+                        .port(0)
+                )
+                .addRouting(WebSocketRouting.builder()
+                                    .endpoint("/jmh", BroadcastingEndpoint.class)
+                                    .build())
+                .build()
+                .start()
+                .await(TIMEOUT);
+
+        HttpClient client = HttpClient.newHttpClient();
+        URI uri = URI.create("ws://localhost:" + webServer.port() + "/jmh/broadcast");
+        WebSocket.Listener listener = new WebSocket.Listener() {
+            @Override
+            public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+                webSocket.request(1);
+                if (received.incrementAndGet() == sessions) {
+                    received.set(0);
+                    delivered.get().complete(null);
+                }
+                return null;
+            }
+        };
+        webSockets = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) {
+            webSockets.add(client.newWebSocketBuilder().buildAsync(uri, listener).join());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        webSockets.forEach(WebSocket::abort);
+        webServer.shutdown().await(TIMEOUT);
+    }
+
+    @Benchmark
+    public void measure() throws Exception {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        delivered.set(future);
+        if ("broadcaster".equals(mode)) {
+            BroadcastingEndpoint.BROADCASTER.broadcast(MESSAGE);
+        } else {
+            for (Session session : BroadcastingEndpoint.SESSIONS) {
+                session.getAsyncRemote().sendText(MESSAGE);
+            }
+        }
+        future.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Endpoint registering its sessions.
+     */
+    @ServerEndpoint("/broadcast")
+    public static class BroadcastingEndpoint {
+
+        static final WebSocketBroadcaster BROADCASTER = WebSocketBroadcaster.create();
+        static final Set<Session> SESSIONS = ConcurrentHashMap.newKeySet();
+
+        @OnOpen
+        public void onOpen(Session session) {
+            BROADCASTER.add(session);
+            SESSIONS.add(session);
+        }
+
+        @OnClose
+        public void onClose(Session session) {
+            SESSIONS.remove(session);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver.websocket.test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import io.helidon.common.LogConfig;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.websocket.WebSocketRouting;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The {@code permessage-deflate} extension, exercised over a raw socket.
+ */
+public class PerMessageDeflateTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final String ON_OPEN = "Hello this is server calling on open!";
+    private static final byte[] TAIL = {0x00, 0x00, (byte) 0xff, (byte) 0xff};
+    private static final int FIN = 0x80;
+    private static final int RSV1 = 0x40;
+    private static final int TEXT = 0x01;
+    private static final int CLOSE = 0x08;
+
+    private static WebServer webServer;
+
+    @BeforeAll
+    static void startServer() {
+        LogConfig.configureRuntime();
+        webServer = WebServer.builder()
+                .defaultSocket(s -> s
+                        .host("localhost")
+                        .port(0)
+                )
+                .addRouting(WebSocketRouting.builder()
+                                    .endpoint("/ws-deflate", AnnotatedEndpoint.class)
+                                    .perMessageDeflate()
+                                    .build())
+                .build()
+                .start()
+                .await(TIMEOUT);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        webServer.shutdown().await(TIMEOUT);
+    }
+
+    @Test
+    void testCompressedEcho() throws Exception {
+        try (Socket socket = new Socket("localhost", webServer.port())) {
+            socket.setSoTimeout((int) TIMEOUT.toMillis());
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+
+            String response = upgrade(in, out, "permessage-deflate; client_max_window_bits");
+            assertThat(response, startsWith("HTTP/1.1 101"));
+            assertThat(response.toLowerCase(), containsString("sec-websocket-extensions: permessage-deflate"));
+
+            Inflater inflater = new Inflater(true);
+            Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+            assertThat(readCompressedText(in, inflater), is(ON_OPEN));
+
+            // context takeover: the second message refers to the first one
+            for (String message : new String[] {"Compress me, compress me!", "Compress me, compress me!", ""}) {
+                writeFrame(out, FIN | RSV1 | TEXT, deflate(deflater, message));
+                assertThat(readCompressedText(in, inflater), is(message));
+            }
+
+            // uncompressed messages are still accepted
+            writeFrame(out, FIN | TEXT, "Plain".getBytes(StandardCharsets.UTF_8));
+            assertThat(readCompressedText(in, inflater), is("Plain"));
+        }
+    }
+
+    @Test
+    void testNotOffered() throws Exception {
+        try (Socket socket = new Socket("localhost", webServer.port())) {
+            socket.setSoTimeout((int) TIMEOUT.toMillis());
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+
+            String response = upgrade(in, out, null);
+            assertThat(response, startsWith("HTTP/1.1 101"));
+            assertThat(response.toLowerCase(), not(containsString("permessage-deflate")));
+
+            int header = in.readUnsignedByte();
+            assertThat(header, is(FIN | TEXT));
+            assertThat(new String(readPayload(in), StandardCharsets.UTF_8), is(ON_OPEN));
+        }
+    }
+
+    @Test
+    void testInflatedMessageTooBig() throws Exception {
+        WebServer limitedServer = WebServer.builder()
+                .defaultSocket(s -> s
+                        .host("localhost")
+                        .port(0)
+                )
+                .addRouting(WebSocketRouting.builder()
+                                    .endpoint("/ws-deflate", AnnotatedEndpoint.class)
+                                    .perMessageDeflate(Deflater.DEFAULT_COMPRESSION, 1024)
+                                    .build())
+                .build()
+                .start()
+                .await(TIMEOUT);
+        try (Socket socket = new Socket("localhost", limitedServer.port())) {
+            socket.setSoTimeout((int) TIMEOUT.toMillis());
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+
+            String response = upgrade(in, out, "permessage-deflate");
+            assertThat(response, startsWith("HTTP/1.1 101"));
+            assertThat(readCompressedText(in, new Inflater(true)), is(ON_OPEN));
+
+            // a few bytes on the wire, 64KB once inflated
+            byte[] payload = deflate(new Deflater(Deflater.DEFAULT_COMPRESSION, true), "a".repeat(64 * 1024));
+            writeFrame(out, FIN | RSV1 | TEXT, payload);
+
+            assertThat(in.readUnsignedByte(), is(FIN | CLOSE));
+            byte[] close = readPayload(in);
+            assertThat(((close[0] & 0xFF) << 8) | (close[1] & 0xFF), is(1009));
+        } finally {
+            limitedServer.shutdown().await(TIMEOUT);
+        }
+    }
+
+    @Test
+    void testInvalidMaxMessageSize() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> WebSocketRouting.builder().perMessageDeflate(Deflater.DEFAULT_COMPRESSION, 0));
+    }
+
+    @Test
+    void testInvalidCompressionLevel() {
+        assertThrows(IllegalArgumentException.class, () -> WebSocketRouting.builder().perMessageDeflate(10));
+    }
+
+    private static String upgrade(DataInputStream in, OutputStream out, String extensions) throws IOException {
+        StringBuilder request = new StringBuilder()
+                .append("GET /ws-deflate/echo HTTP/1.1\r\n")
+                .append("Host: localhost\r\n")
+                .append("Upgrade: websocket\r\n")
+                .append("Connection: Upgrade\r\n")
+                .append("Sec-WebSocket-Key: dGhlIHNhbXBsZSBub25jZQ==\r\n")
+                .append("Sec-WebSocket-Version: 13\r\n");
+        if (extensions != null) {
+            request.append("Sec-WebSocket-Extensions: ").append(extensions).append("\r\n");
+        }
+        request.append("\r\n");
+        out.write(request.toString().getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+        int matched = 0;
+        while (matched < 4) {
+            int b = in.readUnsignedByte();
+            response.write(b);
+            matched = (b == (matched % 2 == 0 ? '\r' : '\n')) ? matched + 1 : (b == '\r' ? 1 : 0);
+        }
+        return response.toString(StandardCharsets.US_ASCII);
+    }
+
+    private static String readCompressedText(DataInputStream in, Inflater inflater) throws Exception {
+        int header = in.readUnsignedByte();
+        byte[] payload = readPayload(in);
+        if (header == (FIN | TEXT)) {
+            return new String(payload, StandardCharsets.UTF_8);
+        }
+        assertThat(header, is(FIN | RSV1 | TEXT));
+
+        byte[] input = Arrays.copyOf(payload, payload.length + TAIL.length);
+        System.arraycopy(TAIL, 0, input, payload.length, TAIL.length);
+        inflater.setInput(input);
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int n;
+        do {
+            n = inflater.inflate(buffer);
+            result.write(buffer, 0, n);
+        } while (n == buffer.length);
+        return result.toString(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readPayload(DataInputStream in) throws IOException {
+        int length = in.readUnsignedByte() & 0x7F;
+        if (length == 126) {
+            length = in.readUnsignedShort();
+        }
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+        return payload;
+    }
+
+    private static byte[] deflate(Deflater deflater, String message) {
+        deflater.setInput(message.getBytes(StandardCharsets.UTF_8));
+        byte[] buffer = new byte[1024];
+        int n = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+        return n > TAIL.length ? Arrays.copyOf(buffer, n - TAIL.length) : new byte[] {0x00};
+    }
+
+    private static void writeFrame(OutputStream out, int header, byte[] payload) throws IOException {
+        byte[] mask = {0x12, 0x34, 0x56, 0x78};
+        out.write(header);
+        out.write(0x80 | payload.length);
+        out.write(mask);
+        for (int i = 0; i < payload.length; i++) {
+            out.write(payload[i] ^ mask[i % 4]);
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver.websocket.test;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import io.helidon.common.LogConfig;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.websocket.WebSocketBroadcaster;
+import io.helidon.webserver.websocket.WebSocketRouting;
+
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.OnOpen;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.ServerEndpoint;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Broadcast of messages to several sessions.
+ */
+public class WebSocketBroadcasterTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private static WebServer webServer;
+    private static HttpClient httpClient;
+
+    @BeforeAll
+    static void startServer() {
+        LogConfig.configureRuntime();
+        webServer = WebServer.builder()
+                .defaultSocket(s -> s
+                        .host("localhost")
+                        .port(0)
+                )
+                .addRouting(WebSocketRouting.builder()
+                                    .endpoint("/ws", BroadcastEndpoint.class)
+                                    .endpoint("/ws", DisconnectingEndpoint.class)
+                                    .endpoint("/ws", PartialEndpoint.class)
+                                    .build())
+                .build()
+                .start()
+                .await(TIMEOUT);
+        httpClient = HttpClient.newHttpClient();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        webServer.shutdown().await(TIMEOUT);
+    }
+
+    @Test
+    void testBroadcast() throws Exception {
+        int initial = BroadcastEndpoint.BROADCASTER.size();
+        List<Client> clients = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            clients.add(new Client("/ws/broadcast"));
+        }
+        await(() -> BroadcastEndpoint.BROADCASTER.size() == initial + 3);
+
+        clients.get(0).webSocket.sendText("Hello all!", true).join();
+        for (Client client : clients) {
+            assertThat(client.next(), is("Hello all!"));
+        }
+
+        // extended payload lengths
+        for (String message : new String[] {"a".repeat(200), "b".repeat(70_000)}) {
+            assertThat(BroadcastEndpoint.BROADCASTER.broadcast(message), is(initial + 3));
+            for (Client client : clients) {
+                assertThat(client.next(), is(message));
+            }
+        }
+
+        BroadcastEndpoint.BROADCASTER.broadcast(ByteBuffer.wrap("binary".getBytes(StandardCharsets.UTF_8)));
+        for (Client client : clients) {
+            assertThat(client.next(), is("binary:binary"));
+        }
+
+        // closed sessions are removed
+        clients.get(0).webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "").join();
+        await(() -> BroadcastEndpoint.BROADCASTER.size() == initial + 2);
+        clients.get(1).webSocket.sendText("Hello remaining!", true).join();
+        for (Client client : clients.subList(1, 3)) {
+            assertThat(client.next(), is("Hello remaining!"));
+        }
+        clients.subList(1, 3).forEach(client -> client.webSocket.abort());
+    }
+
+    @Test
+    void testDisconnectSlowConsumer() throws Exception {
+        try (Socket socket = new Socket()) {
+            socket.setReceiveBufferSize(4096);
+            socket.connect(new InetSocketAddress("localhost", webServer.port()));
+            socket.setSoTimeout((int) TIMEOUT.toMillis());
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET /ws/disconnecting HTTP/1.1\r\n"
+                               + "Host: localhost\r\n"
+                               + "Upgrade: websocket\r\n"
+                               + "Connection: Upgrade\r\n"
+                               + "Sec-WebSocket-Key: dGhlIHNhbXBsZSBub25jZQ==\r\n"
+                               + "Sec-WebSocket-Version: 13\r\n"
+                               + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            await(() -> DisconnectingEndpoint.BROADCASTER.size() == 1);
+
+            // never read, the broadcaster disconnects the session once its buffer limit is exceeded
+            String message = "c".repeat(4 * 1024);
+            long deadline = System.nanoTime() + TIMEOUT.toNanos();
+            while (DisconnectingEndpoint.BROADCASTER.size() > 0 && System.nanoTime() < deadline) {
+                DisconnectingEndpoint.BROADCASTER.broadcast(message);
+            }
+            assertThat(DisconnectingEndpoint.BROADCASTER.size(), is(0));
+
+            // the data queued before the disconnection are followed by a close frame
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            readUpgradeResponse(in);
+            int opcode;
+            byte[] payload;
+            do {
+                opcode = in.readUnsignedByte() & 0x0F;
+                payload = readPayload(in);
+            } while (opcode != 0x08);
+            int closeCode = ((payload[0] & 0xFF) << 8) | (payload[1] & 0xFF);
+            assertThat(closeCode, is((int) CloseReason.CloseCodes.VIOLATED_POLICY.getCode()));
+
+            // complete the close handshake with a masked close frame, the server then closes the connection
+            out.write(new byte[] {(byte) 0x88, (byte) 0x82, 0, 0, 0, 0, payload[0], payload[1]});
+            out.flush();
+            assertThat(in.read(), is(-1));
+        }
+    }
+
+    @Test
+    void testBroadcastDuringPartialMessage() throws Exception {
+        Client client = new Client("/ws/partial");
+        await(() -> PartialEndpoint.BROADCASTER.size() == 1);
+
+        client.webSocket.sendText("go", true).join();
+        // the broadcast message is sent after the final part of the partial message
+        assertThat(client.next(), is("first-second"));
+        assertThat(client.next(), is("broadcast"));
+        client.webSocket.abort();
+    }
+
+    @Test
+    void testForeignSession() {
+        Session session = (Session) Proxy.newProxyInstance(
+                Session.class.getClassLoader(),
+                new Class<?>[] {Session.class},
+                (proxy, method, args) -> method.getName().equals("getId") ? "foreign" : null);
+        assertThrows(IllegalArgumentException.class, () -> WebSocketBroadcaster.create().add(session));
+    }
+
+    @Test
+    void testInvalidBufferLimit() {
+        assertThrows(IllegalArgumentException.class, () -> WebSocketBroadcaster.builder().bufferLimit(0));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within " + TIMEOUT);
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static void readUpgradeResponse(DataInputStream in) throws IOException {
+        int matched = 0;
+        byte[] end = "\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
+        while (matched < end.length) {
+            matched = in.readByte() == end[matched] ? matched + 1 : 0;
+        }
+    }
+
+    // unmasked frame sent by the server, RFC 6455 section 5.2
+    private static byte[] readPayload(DataInputStream in) throws IOException {
+        long length = in.readUnsignedByte() & 0x7F;
+        if (length == 126) {
+            length = in.readUnsignedShort();
+        } else if (length == 127) {
+            length = in.readLong();
+        }
+        byte[] payload = new byte[(int) length];
+        in.readFully(payload);
+        return payload;
+    }
+
+    /**
+     * Endpoint sending a partial message and broadcasting a message in the middle of it.
+     */
+    @ServerEndpoint("/partial")
+    public static class PartialEndpoint {
+
+        static final WebSocketBroadcaster BROADCASTER = WebSocketBroadcaster.create();
+
+        @OnOpen
+        public void onOpen(Session session) {
+            BROADCASTER.add(session);
+        }
+
+        @OnMessage
+        public void onMessage(String message, Session session) throws IOException {
+            session.getBasicRemote().sendText("first-", false);
+            BROADCASTER.broadcast("broadcast");
+            session.getBasicRemote().sendText("second", true);
+        }
+    }
+
+    /**
+     * Endpoint disconnecting the sessions that do not read the broadcast messages.
+     */
+    @ServerEndpoint("/disconnecting")
+    public static class DisconnectingEndpoint {
+
+        static final WebSocketBroadcaster BROADCASTER = WebSocketBroadcaster.builder()
+                .slowConsumerPolicy(WebSocketBroadcaster.SlowConsumerPolicy.DISCONNECT)
+                .bufferLimit(16 * 1024)
+                .build();
+
+        @OnOpen
+        public void onOpen(Session session) {
+            BROADCASTER.add(session);
+        }
+    }
+
+    private static final class Client {
+
+        private final BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        private final WebSocket webSocket;
+
+        private Client(String path) {
+            StringBuilder text = new StringBuilder();
+            this.webSocket = httpClient.newWebSocketBuilder()
+                    .buildAsync(URI.create("ws://localhost:" + webServer.port() + path), new WebSocket.Listener() {
+                        @Override
+                        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+                            webSocket.request(1);
+                            text.append(data);
+                            if (last) {
+                                messages.add(text.toString());
+                                text.setLength(0);
+                            }
+                            return CompletableFuture.completedFuture(null);
+                        }
+
+                        @Override
+                        public CompletionStage<?> onBinary(WebSocket webSocket, ByteBuffer data, boolean last) {
+                            webSocket.request(1);
+                            messages.add("binary:" + StandardCharsets.UTF_8.decode(data));
+                            return CompletableFuture.completedFuture(null);
+                        }
+                    })
+                    .join();
+        }
+
+        private String next() throws InterruptedException {
+            String message = messages.poll(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            if (message == null) {
+                throw new AssertionError("No message received within " + TIMEOUT);
+            }
+            return message;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver.websocket.test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.websocket.WebSocketRouting;
+
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.ServerEndpoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Messages per second sent by an endpoint over a single connection, flushing each frame
+ * or coalescing the frames.
+ */
+@State(Scope.Benchmark)
+public class WebSocketMessagesJMH {
+
+    private static final int BURST = 1000;
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(WebSocketMessagesJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Param({"flush", "coalescing"})
+    String writes;
+
+    ExecutorService executor;
+    WebServer webServer;
+    WebSocket webSocket;
+    final AtomicReference<CompletableFuture<Void>> burst = new AtomicReference<>();
+
+    @Setup
+    public void setup() {
+        executor = Executors.newSingleThreadExecutor();
+        WebSocketRouting routing = WebSocketRouting.builder()
+                .endpoint("/jmh", BurstEndpoint.class)
+                .executor(executor)
+                .writeCoalescing("coalescing".equals(writes))
+                .build();
+        webServer = WebServer.builder()
+                .defaultSocket(s -> s
+                        .host("localhost")
+                        .port(0)
+                )
+                .addRouting(routing)
+                .build()
+                .start()
+                .await(TIMEOUT);
+
+        webSocket = HttpClient.newHttpClient()
+                .newWebSocketBuilder()
+                .buildAsync(URI.create("ws://localhost:" + webServer.port() + "/jmh/burst"), new WebSocket.Listener() {
+                    private int received;
+
+                    @Override
+                    public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+                        webSocket.request(1);
+                        if (last && ++received == BURST) {
+                            received = 0;
+                            burst.get().complete(null);
+                        }
+                        return null;
+                    }
+                })
+                .join();
+    }
+
+    @TearDown
+    public void tearDown() {
+        webSocket.abort();
+        webServer.shutdown().await(TIMEOUT);
+        executor.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public void measure() throws Exception {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        burst.set(future);
+        webSocket.sendText(String.valueOf(BURST), true).join();
+        future.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Endpoint answering a message with the requested number of messages.
+     */
+    @ServerEndpoint("/burst")
+    public static class BurstEndpoint {
+
+        @OnMessage
+        public void onMessage(Session session, String count) {
+            for (int i = 0, n = Integer.parseInt(count); i < n; i++) {
+                session.getAsyncRemote().sendText("{\"sequence\":" + i + ",\"payload\":\"Hello from Helidon\"}");
+            }
+        }
+    }
+}
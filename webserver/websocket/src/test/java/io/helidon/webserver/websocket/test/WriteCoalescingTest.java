@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver.websocket.test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.LogConfig;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.websocket.WebSocketRouting;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Echo over connections coalescing their outgoing frames.
+ */
+public class WriteCoalescingTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final int MESSAGES = 200;
+
+    private static ExecutorService executor;
+    private static WebServer webServer;
+
+    @BeforeAll
+    static void startServer() {
+        LogConfig.configureRuntime();
+        executor = Executors.newFixedThreadPool(2);
+        webServer = WebServer.builder()
+                .defaultSocket(s -> s
+                        .host("localhost")
+                        .port(0)
+                )
+                .addRouting(WebSocketRouting.builder()
+                                    .endpoint("/ws-coalescing", AnnotatedEndpoint.class)
+                                    .executor(executor)
+                                    .writeCoalescing(true)
+                                    .writeCoalescingThreshold(64)
+                                    .build())
+                .build()
+                .start()
+                .await(TIMEOUT);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        webServer.shutdown().await(TIMEOUT);
+        executor.shutdown();
+    }
+
+    @Test
+    void testEchoInOrder() throws Exception {
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(MESSAGES + 1);
+        WebSocket ws = HttpClient.newHttpClient()
+                .newWebSocketBuilder()
+                .buildAsync(URI.create("ws://localhost:" + webServer.port() + "/ws-coalescing/echo"),
+                            new WebSocket.Listener() {
+                                @Override
+                                public void onOpen(WebSocket webSocket) {
+                                    webSocket.request(Long.MAX_VALUE);
+                                }
+
+                                @Override
+                                public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+                                    received.add(String.valueOf(data));
+                                    latch.countDown();
+                                    return CompletableFuture.completedFuture(null);
+                                }
+                            })
+                .join();
+
+        List<String> expected = new ArrayList<>();
+        expected.add("Hello this is server calling on open!");
+        for (int i = 0; i < MESSAGES; i++) {
+            String message = "Message " + i;
+            expected.add(message);
+            ws.sendText(message, true).join();
+        }
+
+        assertThat(latch.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS), is(true));
+        assertThat(received, contains(expected.toArray()));
+        ws.sendClose(WebSocket.NORMAL_CLOSURE, "").join();
+    }
+
+    @Test
+    void testInvalidThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> WebSocketRouting.builder().writeCoalescingThreshold(0));
+    }
+}
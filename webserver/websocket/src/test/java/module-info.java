@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,7 @@ open module helidon.webserver.websocket.test {
     requires hamcrest.all;
     requires org.junit.jupiter.api;
     requires org.junit.jupiter.params;
+    requires jmh.core;
 
     requires org.glassfish.tyrus.client;
     requires org.glassfish.tyrus.container.jdk.client;